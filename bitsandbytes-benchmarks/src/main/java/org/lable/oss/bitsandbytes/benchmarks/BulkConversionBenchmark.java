@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.ByteConversion;
+import org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk conversion of a long array with {@link ByteConversion#fromLongs(long[], int, int, byte[], int)} and its
+ * siblings, compared to converting the values one by one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BulkConversionBenchmark {
+    @Param({"16", "1024"})
+    public int length;
+
+    long[] values;
+    byte[] bytes;
+    long[] output;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextLong();
+        }
+        bytes = new byte[length * 8];
+        ByteConversion.fromLongs(values, 0, length, bytes, 0);
+        output = new long[length];
+    }
+
+    @Benchmark
+    public byte[] fromLongsLoop() {
+        for (int i = 0; i < length; i++) {
+            ByteConversion.putLong(bytes, i * 8, values[i]);
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] fromLongsBigEndian() {
+        ByteConversion.fromLongs(values, 0, length, bytes, 0);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] fromLongsLittleEndian() {
+        ByteConversion.fromLongs(values, 0, length, bytes, 0, ByteOrder.LITTLE_ENDIAN);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] fromLongsSortable() {
+        ByteConversion.fromLongs(values, 0, length, bytes, 0, NumberRepresentation.LEXICOGRAPHIC_SORT);
+        return bytes;
+    }
+
+    @Benchmark
+    public long[] toLongsLoop() {
+        for (int i = 0; i < length; i++) {
+            output[i] = ByteConversion.getLong(bytes, i * 8);
+        }
+        return output;
+    }
+
+    @Benchmark
+    public long[] toLongsBigEndian() {
+        ByteConversion.toLongs(bytes, 0, length, output, 0);
+        return output;
+    }
+
+    @Benchmark
+    public long[] toLongsLittleEndian() {
+        ByteConversion.toLongs(bytes, 0, length, output, 0, ByteOrder.LITTLE_ENDIAN);
+        return output;
+    }
+}
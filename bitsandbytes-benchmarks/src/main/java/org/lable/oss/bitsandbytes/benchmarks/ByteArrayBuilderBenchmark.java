@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.ByteArray;
+import org.lable.oss.bitsandbytes.ByteArrayBuilder;
+import org.lable.oss.bitsandbytes.ByteConversion;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building byte arrays with {@link ByteArrayBuilder}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ByteArrayBuilderBenchmark {
+    String tenant = "tenant-0042";
+    long id = 1234567890L;
+    int shard = 17;
+    Instant instant = Instant.ofEpochSecond(1456759960L, 123456789);
+
+    /**
+     * A typical composite row key.
+     */
+    @Benchmark
+    public byte[] compositeKey() {
+        return ByteArray.of(tenant)
+                .appendZeroByte()
+                .appendLong(id, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT)
+                .appendInt(shard)
+                .append(instant)
+                .toArray();
+    }
+
+    /**
+     * The same composite row key, with a capacity hint.
+     */
+    @Benchmark
+    public byte[] compositeKeyPresized() {
+        return ByteArray.startWithCapacity(40)
+                .append(tenant)
+                .appendZeroByte()
+                .appendLong(id, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT)
+                .appendInt(shard)
+                .append(instant)
+                .toArray();
+    }
+
+    /**
+     * Append the payload byte by byte.
+     */
+    @Benchmark
+    public byte[] appendBytes(Payload payload) {
+        ByteArrayBuilder builder = ByteArray.startWithEmpty();
+        for (byte b : payload.bytes) {
+            builder.appendByte(b);
+        }
+        return builder.toArray();
+    }
+
+    /**
+     * Append the payload in one go, twice.
+     */
+    @Benchmark
+    public byte[] appendArray(Payload payload) {
+        return ByteArray.of(payload.bytes).append(payload.bytes).toArray();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.ByteComparison;
+import org.lable.oss.bitsandbytes.BytePattern;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparisons of {@link ByteComparison}. The payload is compared to an identical copy of itself, and searched for its
+ * own last sixteen bytes. For most shapes this forces each method to look at the whole payload.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ByteComparisonBenchmark {
+    byte[] copy;
+    byte[] prefix;
+    byte[] suffix;
+    BytePattern suffixPattern;
+
+    @Setup(Level.Trial)
+    public void setUp(Payload payload) {
+        copy = payload.bytes.clone();
+        int length = Math.min(16, payload.bytes.length);
+        prefix = new byte[length];
+        suffix = new byte[length];
+        System.arraycopy(payload.bytes, 0, prefix, 0, length);
+        System.arraycopy(payload.bytes, payload.bytes.length - length, suffix, 0, length);
+        suffixPattern = BytePattern.compile(suffix);
+    }
+
+    @Benchmark
+    public boolean startsWith(Payload payload) {
+        return ByteComparison.startsWith(payload.bytes, prefix);
+    }
+
+    @Benchmark
+    public boolean endsWith(Payload payload) {
+        return ByteComparison.endsWith(payload.bytes, suffix);
+    }
+
+    @Benchmark
+    public boolean contains(Payload payload) {
+        return ByteComparison.contains(payload.bytes, suffix);
+    }
+
+    @Benchmark
+    public int indexOfPattern(Payload payload) {
+        return suffixPattern.indexOf(payload.bytes);
+    }
+
+    @Benchmark
+    public int lastIndexOf(Payload payload) {
+        return ByteComparison.lastIndexOf(payload.bytes, prefix);
+    }
+
+    @Benchmark
+    public boolean equals(Payload payload) {
+        return ByteComparison.equals(payload.bytes, copy);
+    }
+
+    @Benchmark
+    public int compare(Payload payload) {
+        return ByteComparison.compare(payload.bytes, copy);
+    }
+}
@@ -0,0 +1,498 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.ByteConversion;
+import org.lable.oss.bitsandbytes.ByteConversion.ConversionException;
+import org.lable.oss.bitsandbytes.ByteConversion.InstantFormat;
+import org.lable.oss.bitsandbytes.ByteConversion.UUIDFormat;
+import org.lable.oss.bitsandbytes.ByteConversion.ZoneFormat;
+import org.lable.oss.bitsandbytes.IPAddress;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.*;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.lable.oss.bitsandbytes.ByteConversion.ISO8601DateFormat.BASIC;
+import static org.lable.oss.bitsandbytes.ByteConversion.ISO8601DateFormat.EPOCH_DAY;
+import static org.lable.oss.bitsandbytes.ByteConversion.ISO8601DateFormat.EXTENDED;
+import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT;
+
+/**
+ * Every from/to pair of {@link ByteConversion}. Fixed-width conversions use a fixed input; string conversions use a
+ * {@link Payload} of variable size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ByteConversionBenchmark {
+    int intValue = 0x12345678;
+    long longValue = 0x123456789ABCDEF0L;
+    float floatValue = 3.1415f;
+    double doubleValue = 2.718281828459045d;
+    BigInteger bigInteger = new BigInteger("123456789012345678901234567890");
+    BigDecimal bigDecimal = new BigDecimal("1234567890.0987654321");
+    BigDecimal amount = new BigDecimal("1299.95");
+    Instant instant = Instant.ofEpochSecond(1456759960L, 123456789);
+    UUID uuid = UUID.fromString("c232ab00-9414-11ec-b3c8-9f6bdeced846");
+    OffsetDateTime offsetDateTime = OffsetDateTime.ofInstant(instant, ZoneOffset.ofHours(2));
+    ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(instant, ZoneId.of("Europe/Amsterdam"));
+    LocalDate localDate = LocalDate.of(1999, Month.DECEMBER, 31);
+    IPAddress ipAddress4 = IPAddress.parse("192.168.10.1");
+    IPAddress ipAddress6 = IPAddress.parse("fe80::b336:6660:c18a:6903");
+
+    byte[] intBytes;
+    byte[] longBytes;
+    ByteBuffer heapBuffer;
+    ByteBuffer directBuffer;
+    byte[] floatBytes;
+    byte[] doubleBytes;
+    byte[] bigIntegerBytes;
+    byte[] bigDecimalBytes;
+    byte[] bigDecimalSortableBytes;
+    byte[] amountSortableBytes;
+    byte[] instantBytes;
+    byte[] instantMillisBytes;
+    byte[] instantSortableBytes;
+    byte[] offsetDateTimeBytes;
+    byte[] zonedDateTimeBytes;
+    byte[] zonedDateTimeCompactBytes;
+    byte[] localDateBasicBytes;
+    byte[] localDateExtendedBytes;
+    byte[] localDateEpochDayBytes;
+    byte[] ipAddress4Bytes;
+    byte[] ipAddress6Bytes;
+    byte[] uuidTimeOrderedBytes;
+
+    byte[] buffer = new byte[64];
+
+    @Setup(Level.Trial)
+    public void setUp() throws ConversionException {
+        intBytes = ByteConversion.fromInt(intValue);
+        longBytes = ByteConversion.fromLong(longValue);
+        heapBuffer = ByteBuffer.allocate(16);
+        directBuffer = ByteBuffer.allocateDirect(16);
+        ByteConversion.putLong(heapBuffer, 3, longValue);
+        ByteConversion.putLong(directBuffer, 3, longValue);
+        floatBytes = ByteConversion.fromFloat(floatValue);
+        doubleBytes = ByteConversion.fromDouble(doubleValue);
+        bigIntegerBytes = ByteConversion.fromBigInteger(bigInteger);
+        bigDecimalBytes = ByteConversion.fromBigDecimal(bigDecimal);
+        bigDecimalSortableBytes = ByteConversion.fromBigDecimal(bigDecimal, LEXICOGRAPHIC_SORT);
+        amountSortableBytes = ByteConversion.fromBigDecimal(amount, LEXICOGRAPHIC_SORT);
+        instantBytes = ByteConversion.fromInstant(instant);
+        instantMillisBytes = ByteConversion.fromInstant(instant, InstantFormat.EPOCH_MILLIS_8);
+        instantSortableBytes = ByteConversion.fromInstant(instant, InstantFormat.SORTABLE_12);
+        offsetDateTimeBytes = ByteConversion.fromOffsetDateTime(offsetDateTime);
+        zonedDateTimeBytes = ByteConversion.fromZonedDateTime(zonedDateTime);
+        zonedDateTimeCompactBytes = ByteConversion.fromZonedDateTime(zonedDateTime, ZoneFormat.COMPACT);
+        localDateBasicBytes = ByteConversion.fromLocalDate(localDate, BASIC);
+        localDateExtendedBytes = ByteConversion.fromLocalDate(localDate, EXTENDED);
+        localDateEpochDayBytes = ByteConversion.fromLocalDate(localDate, EPOCH_DAY);
+        ipAddress4Bytes = ByteConversion.fromIPAddress(ipAddress4);
+        ipAddress6Bytes = ByteConversion.fromIPAddress(ipAddress6);
+        uuidTimeOrderedBytes = ByteConversion.fromUUID(uuid, UUIDFormat.TIME_ORDERED);
+    }
+
+    /* String conversions, depending on the payload size. */
+
+    @State(Scope.Benchmark)
+    public static class Text {
+        @Param({"8", "64", "1024", "65536", "1048576", "16777216"})
+        public int size;
+
+        public String string;
+        public byte[] utf8;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            utf8 = Shape.TEXT.generate(size);
+            string = ByteConversion.toString(utf8);
+        }
+    }
+
+    @Benchmark
+    public byte[] fromString(Text text) {
+        return ByteConversion.fromString(text.string);
+    }
+
+    @Benchmark
+    public String toString(Text text) {
+        return ByteConversion.toString(text.utf8);
+    }
+
+    /* Fixed-width conversions. */
+
+    @Benchmark
+    public byte[] fromInt() {
+        return ByteConversion.fromInt(intValue);
+    }
+
+    @Benchmark
+    public byte[] fromIntSortable() {
+        return ByteConversion.fromInt(intValue, LEXICOGRAPHIC_SORT);
+    }
+
+    @Benchmark
+    public int toInt() throws ConversionException {
+        return ByteConversion.toInt(intBytes);
+    }
+
+    @Benchmark
+    public int toIntSortable() throws ConversionException {
+        return ByteConversion.toInt(intBytes, LEXICOGRAPHIC_SORT);
+    }
+
+    @Benchmark
+    public byte[] putInt() {
+        ByteConversion.putInt(buffer, 3, intValue);
+        return buffer;
+    }
+
+    @Benchmark
+    public int getInt() {
+        return ByteConversion.getInt(intBytes, 0);
+    }
+
+    @Benchmark
+    public byte[] fromLong() {
+        return ByteConversion.fromLong(longValue);
+    }
+
+    @Benchmark
+    public byte[] fromLongSortable() {
+        return ByteConversion.fromLong(longValue, LEXICOGRAPHIC_SORT);
+    }
+
+    @Benchmark
+    public long toLong() throws ConversionException {
+        return ByteConversion.toLong(longBytes);
+    }
+
+    @Benchmark
+    public long toLongSortable() throws ConversionException {
+        return ByteConversion.toLong(longBytes, LEXICOGRAPHIC_SORT);
+    }
+
+    @Benchmark
+    public byte[] putLong() {
+        ByteConversion.putLong(buffer, 3, longValue);
+        return buffer;
+    }
+
+    @Benchmark
+    public long getLong() {
+        return ByteConversion.getLong(longBytes, 0);
+    }
+
+    @Benchmark
+    public byte[] putSigned6() {
+        ByteConversion.putSigned(buffer, 3, 6, instant.toEpochMilli(), LEXICOGRAPHIC_SORT);
+        return buffer;
+    }
+
+    @Benchmark
+    public long getSigned6() {
+        return ByteConversion.getSigned(longBytes, 1, 6, LEXICOGRAPHIC_SORT);
+    }
+
+    @Benchmark
+    public long getSigned3() {
+        return ByteConversion.getSigned(longBytes, 1, 3);
+    }
+
+    @Benchmark
+    public byte[] putUUID() {
+        ByteConversion.putUUID(buffer, 3, uuid);
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] putUUIDTimeOrdered() {
+        ByteConversion.putUUID(buffer, 3, uuid, UUIDFormat.TIME_ORDERED);
+        return buffer;
+    }
+
+    @Benchmark
+    public UUID getUUIDTimeOrdered() {
+        return ByteConversion.getUUID(uuidTimeOrderedBytes, 0, UUIDFormat.TIME_ORDERED);
+    }
+
+    @Benchmark
+    public ByteBuffer putLongHeapBuffer() {
+        ByteConversion.putLong(heapBuffer, 3, longValue);
+        return heapBuffer;
+    }
+
+    @Benchmark
+    public long getLongHeapBuffer() {
+        return ByteConversion.getLong(heapBuffer, 3);
+    }
+
+    @Benchmark
+    public ByteBuffer putLongDirectBuffer() {
+        ByteConversion.putLong(directBuffer, 3, longValue);
+        return directBuffer;
+    }
+
+    @Benchmark
+    public long getLongDirectBuffer() {
+        return ByteConversion.getLong(directBuffer, 3);
+    }
+
+    @Benchmark
+    public long getLongDirectBufferSwapped() {
+        return Long.reverseBytes(ByteConversion.getLong(directBuffer, 3));
+    }
+
+    @Benchmark
+    public long getLongDirectBufferLittleEndian() {
+        return ByteConversion.getLong(directBuffer, 3, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Benchmark
+    public byte[] fromFloat() {
+        return ByteConversion.fromFloat(floatValue);
+    }
+
+    @Benchmark
+    public float toFloat() throws ConversionException {
+        return ByteConversion.toFloat(floatBytes);
+    }
+
+    @Benchmark
+    public byte[] fromDouble() {
+        return ByteConversion.fromDouble(doubleValue);
+    }
+
+    @Benchmark
+    public double toDouble() throws ConversionException {
+        return ByteConversion.toDouble(doubleBytes);
+    }
+
+    /* Variable-length integers. */
+
+    @State(Scope.Benchmark)
+    public static class Packed {
+        @Param({"64", "1024", "65536", "1048576"})
+        public int count;
+
+        public long[] values;
+        public byte[] zigZag;
+        public long[] decoded;
+
+        @Setup(Level.Trial)
+        public void setUp() throws ConversionException {
+            // Mostly small deltas, as in packed event payloads, with the odd large value.
+            Random random = new Random(count);
+            values = new long[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = i % 64 == 0 ? random.nextLong() : random.nextInt(2000) - 1000;
+            }
+            zigZag = ByteConversion.encodeAllZigZag(values);
+            decoded = new long[count];
+        }
+    }
+
+    @Benchmark
+    public byte[] putVarLong() {
+        ByteConversion.putVarLong(buffer, 3, intValue);
+        return buffer;
+    }
+
+    @Benchmark
+    public long getVarLong() {
+        ByteConversion.putVarLong(buffer, 0, intValue);
+        return ByteConversion.getVarLong(buffer, 0);
+    }
+
+    @Benchmark
+    public byte[] putZigZag() {
+        ByteConversion.putZigZag(buffer, 3, intValue);
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] encodeAllZigZag(Packed packed) throws ConversionException {
+        return ByteConversion.encodeAllZigZag(packed.values);
+    }
+
+    @Benchmark
+    public long[] decodeAllZigZag(Packed packed) {
+        ByteConversion.getAllZigZag(packed.zigZag, 0, packed.decoded, 0, packed.count);
+        return packed.decoded;
+    }
+
+    @Benchmark
+    public byte[] fromBigInteger() throws ConversionException {
+        return ByteConversion.fromBigInteger(bigInteger);
+    }
+
+    @Benchmark
+    public BigInteger toBigInteger() throws ConversionException {
+        return ByteConversion.toBigInteger(bigIntegerBytes);
+    }
+
+    @Benchmark
+    public byte[] fromBigDecimal() throws ConversionException {
+        return ByteConversion.fromBigDecimal(bigDecimal);
+    }
+
+    @Benchmark
+    public BigDecimal toBigDecimal() throws ConversionException {
+        return ByteConversion.toBigDecimal(bigDecimalBytes);
+    }
+
+    @Benchmark
+    public byte[] fromBigDecimalSortable() throws ConversionException {
+        return ByteConversion.fromBigDecimal(bigDecimal, LEXICOGRAPHIC_SORT);
+    }
+
+    @Benchmark
+    public BigDecimal toBigDecimalSortable() throws ConversionException {
+        return ByteConversion.toBigDecimal(bigDecimalSortableBytes, LEXICOGRAPHIC_SORT);
+    }
+
+    @Benchmark
+    public byte[] fromAmountSortable() throws ConversionException {
+        return ByteConversion.fromBigDecimal(amount, LEXICOGRAPHIC_SORT);
+    }
+
+    @Benchmark
+    public BigDecimal toAmountSortable() throws ConversionException {
+        return ByteConversion.toBigDecimal(amountSortableBytes, LEXICOGRAPHIC_SORT);
+    }
+
+    @Benchmark
+    public byte[] fromInstant() throws ConversionException {
+        return ByteConversion.fromInstant(instant);
+    }
+
+    @Benchmark
+    public Instant toInstant() throws ConversionException {
+        return ByteConversion.toInstant(instantBytes);
+    }
+
+    @Benchmark
+    public byte[] putInstantMillis() {
+        ByteConversion.putInstant(buffer, 3, instant, InstantFormat.EPOCH_MILLIS_8);
+        return buffer;
+    }
+
+    @Benchmark
+    public Instant getInstantMillis() {
+        return ByteConversion.getInstant(instantMillisBytes, 0, InstantFormat.EPOCH_MILLIS_8);
+    }
+
+    @Benchmark
+    public Instant getInstantSortable() {
+        return ByteConversion.getInstant(instantSortableBytes, 0, InstantFormat.SORTABLE_12);
+    }
+
+    @Benchmark
+    public byte[] fromOffsetDateTime() throws ConversionException {
+        return ByteConversion.fromOffsetDateTime(offsetDateTime);
+    }
+
+    @Benchmark
+    public OffsetDateTime toOffsetDateTime() throws ConversionException {
+        return ByteConversion.toOffsetDateTime(offsetDateTimeBytes);
+    }
+
+    @Benchmark
+    public byte[] fromZonedDateTime() throws ConversionException {
+        return ByteConversion.fromZonedDateTime(zonedDateTime);
+    }
+
+    @Benchmark
+    public ZonedDateTime toZonedDateTime() throws ConversionException {
+        return ByteConversion.toZonedDateTime(zonedDateTimeBytes);
+    }
+
+    @Benchmark
+    public byte[] fromZonedDateTimeCompact() throws ConversionException {
+        return ByteConversion.fromZonedDateTime(zonedDateTime, ZoneFormat.COMPACT);
+    }
+
+    @Benchmark
+    public ZonedDateTime toZonedDateTimeCompact() throws ConversionException {
+        return ByteConversion.toZonedDateTime(zonedDateTimeCompactBytes, ZoneFormat.COMPACT);
+    }
+
+    @Benchmark
+    public byte[] fromLocalDateBasic() throws ConversionException {
+        return ByteConversion.fromLocalDate(localDate, BASIC);
+    }
+
+    @Benchmark
+    public byte[] fromLocalDateExtended() throws ConversionException {
+        return ByteConversion.fromLocalDate(localDate, EXTENDED);
+    }
+
+    @Benchmark
+    public LocalDate toLocalDateBasic() throws ConversionException {
+        return ByteConversion.toLocalDate(localDateBasicBytes);
+    }
+
+    @Benchmark
+    public LocalDate toLocalDateExtended() throws ConversionException {
+        return ByteConversion.toLocalDate(localDateExtendedBytes);
+    }
+
+    @Benchmark
+    public byte[] fromLocalDateEpochDay() throws ConversionException {
+        return ByteConversion.fromLocalDate(localDate, EPOCH_DAY);
+    }
+
+    @Benchmark
+    public LocalDate toLocalDateEpochDay() throws ConversionException {
+        return ByteConversion.toLocalDate(localDateEpochDayBytes);
+    }
+
+    @Benchmark
+    public LocalDate getLocalDateBasic() {
+        return ByteConversion.getLocalDate(localDateBasicBytes, 0, BASIC);
+    }
+
+    @Benchmark
+    public byte[] fromIPAddress4() throws ConversionException {
+        return ByteConversion.fromIPAddress(ipAddress4);
+    }
+
+    @Benchmark
+    public IPAddress toIPAddress4() throws ConversionException {
+        return ByteConversion.toIPAddress(ipAddress4Bytes);
+    }
+
+    @Benchmark
+    public byte[] fromIPAddress6() throws ConversionException {
+        return ByteConversion.fromIPAddress(ipAddress6);
+    }
+
+    @Benchmark
+    public IPAddress toIPAddress6() throws ConversionException {
+        return ByteConversion.toIPAddress(ipAddress6Bytes);
+    }
+}
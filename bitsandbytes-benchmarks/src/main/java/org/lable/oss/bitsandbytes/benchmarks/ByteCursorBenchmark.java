@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.ByteConversion;
+import org.lable.oss.bitsandbytes.ByteConversion.ConversionException;
+import org.lable.oss.bitsandbytes.ByteCursor;
+import org.lable.oss.bitsandbytes.ByteMangler;
+import org.lable.oss.bitsandbytes.ByteWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential decoding of a record of longs with {@link ByteCursor}, compared to splitting it up with
+ * {@link ByteMangler#shrink(int, byte[])} and {@link ByteMangler#chomp(int, byte[])}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ByteCursorBenchmark {
+    @Param({"4", "64"})
+    public int fieldCount;
+
+    byte[] record;
+    ByteBuffer directRecord;
+    byte[] output;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        record = new byte[fieldCount * 8];
+        ByteWriter writer = new ByteWriter(record);
+        for (int i = 0; i < fieldCount; i++) {
+            writer.writeLong(i * 0x0101010101010101L);
+        }
+        directRecord = ByteBuffer.allocateDirect(record.length);
+        directRecord.put(record).flip();
+        output = new byte[record.length];
+    }
+
+    @Benchmark
+    public long readChomp() throws ConversionException {
+        long sum = 0;
+        byte[] rest = record;
+        while (rest.length > 0) {
+            sum += ByteConversion.toLong(ByteMangler.shrink(8, rest));
+            rest = ByteMangler.chomp(8, rest);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long readCursor() {
+        long sum = 0;
+        ByteCursor cursor = new ByteCursor(record);
+        while (cursor.hasRemaining()) {
+            sum += cursor.readLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long readCursorDirectBuffer() {
+        long sum = 0;
+        ByteCursor cursor = new ByteCursor(directRecord);
+        while (cursor.hasRemaining()) {
+            sum += cursor.readLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public byte[] writeWriter() {
+        ByteWriter writer = new ByteWriter(output);
+        for (int i = 0; i < fieldCount; i++) {
+            writer.writeLong(i);
+        }
+        return output;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.ByteMangler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Byte array manipulations of {@link ByteMangler}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ByteManglerBenchmark {
+    /**
+     * Delimiter (or replacement target) for the split and replace benchmarks, taken from the middle of the payload so
+     * that it occurs at least once.
+     */
+    @State(Scope.Benchmark)
+    public static class Delimiter {
+        @Param({"1", "4", "16"})
+        public int delimiterLength;
+
+        public byte[] delimiter;
+        public byte[] replacement;
+
+        @Setup(Level.Trial)
+        public void setUp(Payload payload) {
+            int length = Math.min(delimiterLength, payload.bytes.length);
+            int start = (payload.bytes.length - length) / 2;
+            delimiter = new byte[length];
+            System.arraycopy(payload.bytes, start, delimiter, 0, length);
+            replacement = new byte[]{'-', '-'};
+        }
+    }
+
+    @Benchmark
+    public byte[] reverse(Payload payload) {
+        return ByteMangler.reverse(payload.bytes);
+    }
+
+    @Benchmark
+    public byte[] flip(Payload payload) {
+        return ByteMangler.flip(payload.bytes);
+    }
+
+    @Benchmark
+    public byte[] add(Payload payload) {
+        return ByteMangler.add(payload.bytes, payload.bytes, payload.bytes);
+    }
+
+    @Benchmark
+    public byte[] plusOne(Payload payload) {
+        return ByteMangler.plusOne(payload.bytes);
+    }
+
+    @Benchmark
+    public List<byte[]> split(Payload payload, Delimiter delimiter) {
+        return ByteMangler.split(payload.bytes, delimiter.delimiter);
+    }
+
+    @Benchmark
+    public List<byte[]> splitReverse(Payload payload, Delimiter delimiter) {
+        return ByteMangler.split(payload.bytes, delimiter.delimiter, -3);
+    }
+
+    @Benchmark
+    public byte[] replace(Payload payload, Delimiter delimiter) {
+        return ByteMangler.replace(payload.bytes, delimiter.delimiter, delimiter.replacement);
+    }
+}
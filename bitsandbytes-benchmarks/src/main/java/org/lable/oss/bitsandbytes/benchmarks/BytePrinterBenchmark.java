@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.BytePrinter;
+import org.lable.oss.bitsandbytes.ByteReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Printing byte arrays with escape sequences ({@link BytePrinter}), and reading them back ({@link ByteReader}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BytePrinterBenchmark {
+    @State(Scope.Benchmark)
+    public static class Escaped {
+        public String allEscaped;
+        public String nonBasicsEscaped;
+
+        @Setup(Level.Trial)
+        public void setUp(Payload payload) {
+            allEscaped = BytePrinter.allEscaped(payload.bytes);
+            nonBasicsEscaped = BytePrinter.nonBasicsEscaped(payload.bytes);
+        }
+    }
+
+    @Benchmark
+    public String allEscaped(Payload payload) {
+        return BytePrinter.allEscaped(payload.bytes);
+    }
+
+    @Benchmark
+    public String nonBasicsEscaped(Payload payload) {
+        return BytePrinter.nonBasicsEscaped(payload.bytes);
+    }
+
+    @Benchmark
+    public String utf8Escaped(Payload payload) {
+        return BytePrinter.utf8Escaped(payload.bytes);
+    }
+
+    @Benchmark
+    public byte[] unescapeAllEscaped(Escaped escaped) {
+        return ByteReader.unescape(escaped.allEscaped);
+    }
+
+    @Benchmark
+    public byte[] unescapeNonBasicsEscaped(Escaped escaped) {
+        return ByteReader.unescape(escaped.nonBasicsEscaped);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.ByteConversion;
+import org.lable.oss.bitsandbytes.ByteConversion.ConversionException;
+import org.lable.oss.bitsandbytes.ByteConversion.ISO8601DateFormat;
+import org.lable.oss.bitsandbytes.DecodeResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding rows of which some are malformed, with the throwing {@code toX} methods of {@link ByteConversion} compared
+ * to their {@code tryToX} counterparts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class DecodeResultBenchmark {
+    @Param({"true", "false"})
+    public boolean valid;
+
+    byte[] longBytes;
+    byte[] dateBytes;
+    DecodeResult<LocalDate> result = new DecodeResult<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        longBytes = valid ? new byte[8] : new byte[7];
+        dateBytes = (valid ? "2016-02-29" : "2015-02-29").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public long toLong() {
+        try {
+            return ByteConversion.toLong(longBytes);
+        } catch (ConversionException e) {
+            return -1L;
+        }
+    }
+
+    @Benchmark
+    public long tryToLong() {
+        return ByteConversion.tryToLong(longBytes, result) ? result.getLong() : -1L;
+    }
+
+    @Benchmark
+    public LocalDate toLocalDate() {
+        try {
+            return ByteConversion.toLocalDate(dateBytes, ISO8601DateFormat.EXTENDED);
+        } catch (ConversionException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public LocalDate tryToLocalDate() {
+        return ByteConversion.tryToLocalDate(dateBytes, ISO8601DateFormat.EXTENDED, result) ? result.getValue() : null;
+    }
+}
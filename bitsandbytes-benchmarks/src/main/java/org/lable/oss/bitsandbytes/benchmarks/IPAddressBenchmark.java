@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.IPAddress;
+import org.lable.oss.bitsandbytes.IPAddress4;
+import org.lable.oss.bitsandbytes.IPAddress6;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and formatting of {@link IPAddress4} and {@link IPAddress6}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IPAddressBenchmark {
+    @State(Scope.Benchmark)
+    public static class V4 {
+        @Param({"10.0.0.1", "192.168.100.254"})
+        public String text;
+
+        public IPAddress4 address;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            address = IPAddress4.parse(text);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class V6 {
+        @Param({"::1", "fe80::b336:6660:c18a:6903", "2001:db8:85a3:8d3:1319:8a2e:370:7348"})
+        public String text;
+
+        public IPAddress6 address;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            address = IPAddress6.parse(text);
+        }
+    }
+
+    @Benchmark
+    public IPAddress4 parse4(V4 v4) {
+        return IPAddress4.parse(v4.text);
+    }
+
+    @Benchmark
+    public IPAddress6 parse6(V6 v6) {
+        return IPAddress6.parse(v6.text);
+    }
+
+    @Benchmark
+    public IPAddress parseEither(V6 v6) {
+        return IPAddress.parse(v6.text);
+    }
+
+    @Benchmark
+    public String format4(V4 v4) {
+        return v4.address.toString();
+    }
+
+    @Benchmark
+    public String format6(V6 v6) {
+        return v6.address.toString();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark state holding a generated payload, parameterised by size (from 8 bytes up to 16 MiB) and {@link Shape}.
+ */
+@State(Scope.Benchmark)
+public class Payload {
+    @Param({"8", "64", "1024", "65536", "1048576", "16777216"})
+    public int size;
+
+    @Param({"RANDOM", "ZEROES", "TEXT"})
+    public Shape shape;
+
+    public byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bytes = shape.generate(size);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Shapes of the byte array payloads fed to the benchmarks. The shape of the input matters for operations that branch
+ * on content, such as searching, splitting, escaping, and incrementing.
+ */
+public enum Shape {
+    /**
+     * Uniformly distributed random bytes.
+     */
+    RANDOM {
+        @Override
+        void fill(byte[] target, Random random) {
+            random.nextBytes(target);
+        }
+    },
+    /**
+     * Only zero bytes.
+     */
+    ZEROES {
+        @Override
+        void fill(byte[] target, Random random) {
+            // Arrays are zeroed on creation.
+        }
+    },
+    /**
+     * Only bytes with all bits set. This is the worst case for {@code ByteMangler.plusOne}. Not part of the default
+     * parameter set; select it with {@code -p shape=FULL}.
+     */
+    FULL {
+        @Override
+        void fill(byte[] target, Random random) {
+            Arrays.fill(target, (byte) 0xFF);
+        }
+    },
+    /**
+     * Printable ASCII text consisting of random words separated by spaces and the occasional comma.
+     */
+    TEXT {
+        @Override
+        void fill(byte[] target, Random random) {
+            byte[] alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789"
+                    .getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < target.length; i++) {
+                int dice = random.nextInt(64);
+                if (dice < 6) {
+                    target[i] = ' ';
+                } else if (dice == 6) {
+                    target[i] = ',';
+                } else {
+                    target[i] = alphabet[random.nextInt(alphabet.length)];
+                }
+            }
+        }
+    };
+
+    /**
+     * Seed used for all generated payloads, so runs are comparable.
+     */
+    static final long SEED = 0xB175L;
+
+    abstract void fill(byte[] target, Random random);
+
+    /**
+     * Generate a payload of this shape.
+     *
+     * @param size Length of the payload.
+     * @return A new byte array.
+     */
+    public byte[] generate(int size) {
+        byte[] payload = new byte[size];
+        fill(payload, new Random(SEED));
+        return payload;
+    }
+}
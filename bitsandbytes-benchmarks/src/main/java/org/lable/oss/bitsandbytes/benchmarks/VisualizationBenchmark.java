@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes.benchmarks;
+
+import org.lable.oss.bitsandbytes.Binary;
+import org.lable.oss.bitsandbytes.ByteVisualization;
+import org.lable.oss.bitsandbytes.Hex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text encodings of byte arrays: {@link Hex}, {@link Binary}, and the other {@link ByteVisualization} methods.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class VisualizationBenchmark {
+    @State(Scope.Benchmark)
+    public static class Encoded {
+        public String hex;
+        public String binary;
+
+        @Setup(Level.Trial)
+        public void setUp(Payload payload) {
+            hex = Hex.encode(payload.bytes);
+            binary = Binary.encode(payload.bytes);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Visualized {
+        @Param({"BRAILLE", "SQUARES"})
+        public ByteVisualization visualization;
+
+        public String visualized;
+
+        @Setup(Level.Trial)
+        public void setUp(Payload payload) {
+            visualized = visualization.visualize(payload.bytes);
+        }
+    }
+
+    @Benchmark
+    public String hexEncode(Payload payload) {
+        return Hex.encode(payload.bytes);
+    }
+
+    @Benchmark
+    public String hexEncodeLowerCase(Payload payload) {
+        return Hex.encode(payload.bytes, true);
+    }
+
+    @Benchmark
+    public byte[] hexDecode(Encoded encoded) {
+        return Hex.decode(encoded.hex);
+    }
+
+    @Benchmark
+    public String binaryEncode(Payload payload) {
+        return Binary.encode(payload.bytes);
+    }
+
+    @Benchmark
+    public byte[] binaryDecode(Encoded encoded) {
+        return Binary.decode(encoded.binary);
+    }
+
+    @Benchmark
+    public String visualize(Payload payload, Visualized visualized) {
+        return visualized.visualization.visualize(payload.bytes);
+    }
+
+    @Benchmark
+    public byte[] parse(Visualized visualized) {
+        return visualized.visualization.parse(visualized.visualized);
+    }
+}
@@ -21,13 +21,20 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.UUID;
 
 /**
  * Wrapper around {@code byte[]} for use in {@link java.util.Set} and {@link java.util.Map}.
+ * <p>
+ * A {@link ByteArray} may also wrap a range of a larger byte array (a slice), without copying it. Equality, hash code,
+ * and ordering only consider the bytes within that range. Instances are ordered by the unsigned lexicographic value of
+ * their bytes (see {@link ByteComparison#compare(byte[], byte[])}).
  */
-public class ByteArray {
+public class ByteArray implements Comparable<ByteArray> {
     transient Integer hash;
     final byte[] bytes;
+    final int offset;
+    final int length;
 
     /**
      * Construct a new {@link ByteArray} with a specific payload.
@@ -38,6 +45,29 @@ public class ByteArray {
         if (bytes == null) throw new IllegalArgumentException("Byte array cannot be null.");
 
         this.bytes = bytes;
+        this.offset = 0;
+        this.length = bytes.length;
+    }
+
+    /**
+     * Construct a new {@link ByteArray} wrapping a range of a byte array. The byte array is not copied, so changes
+     * made to it afterwards are visible through this {@link ByteArray}.
+     *
+     * @param bytes  Byte array to wrap, must not be {@code null}.
+     * @param offset Start of the range.
+     * @param length Length of the range.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code bytes}.
+     */
+    public ByteArray(byte[] bytes, int offset, int length) {
+        if (bytes == null) throw new IllegalArgumentException("Byte array cannot be null.");
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length +
+                    ") out of bounds for length " + bytes.length + ".");
+        }
+
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
     }
 
     /**
@@ -49,6 +79,19 @@ public class ByteArray {
         return new ByteArrayBuilder();
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder. The builder reserves
+     * room for {@code capacity} bytes up front, so if the final length is known (or can be estimated), the builder
+     * does not have to grow its buffer while appending.
+     *
+     * @param capacity Expected length of the byte array.
+     * @return A builder for a byte array.
+     * @throws IllegalArgumentException Thrown when {@code capacity} is negative.
+     */
+    public static ByteArrayBuilder startWithCapacity(int capacity) {
+        return new ByteArrayBuilder(capacity);
+    }
+
     /**
      * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
      *
@@ -92,6 +135,16 @@ public class ByteArray {
         return new ByteArrayBuilder().append(i);
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param i Start with this integer.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder ofInt(int i) {
+        return new ByteArrayBuilder().appendInt(i);
+    }
+
     /**
      * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
      *
@@ -103,6 +156,17 @@ public class ByteArray {
         return new ByteArrayBuilder().append(i, numberRepresentation);
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param i Start with this integer.
+     * @param numberRepresentation Byte representation of the integer.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder ofInt(int i, ByteConversion.NumberRepresentation numberRepresentation) {
+        return new ByteArrayBuilder().appendInt(i, numberRepresentation);
+    }
+
     /**
      * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
      *
@@ -113,6 +177,17 @@ public class ByteArray {
         return new ByteArrayBuilder().append(f);
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param f Start with this float.
+     * @param numberRepresentation Byte representation of the float.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder of(Float f, ByteConversion.NumberRepresentation numberRepresentation) {
+        return new ByteArrayBuilder().append(f, numberRepresentation);
+    }
+
     /**
      * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
      *
@@ -123,6 +198,17 @@ public class ByteArray {
         return new ByteArrayBuilder().append(d);
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param d Start with this double.
+     * @param numberRepresentation Byte representation of the double.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder of(Double d, ByteConversion.NumberRepresentation numberRepresentation) {
+        return new ByteArrayBuilder().append(d, numberRepresentation);
+    }
+
     /**
      * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
      *
@@ -133,6 +219,16 @@ public class ByteArray {
         return new ByteArrayBuilder().append(l);
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param l Start with this long.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder ofLong(long l) {
+        return new ByteArrayBuilder().appendLong(l);
+    }
+
     /**
      * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
      *
@@ -144,6 +240,17 @@ public class ByteArray {
         return new ByteArrayBuilder().append(l, numberRepresentation);
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param l Start with this long.
+     * @param numberRepresentation Byte representation of the long.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder ofLong(long l, ByteConversion.NumberRepresentation numberRepresentation) {
+        return new ByteArrayBuilder().appendLong(l, numberRepresentation);
+    }
+
     /**
      * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
      *
@@ -164,6 +271,17 @@ public class ByteArray {
         return new ByteArrayBuilder().append(bd);
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param bd Start with this {@link BigDecimal}.
+     * @param numberRepresentation Byte representation of the decimal.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder of(BigDecimal bd, ByteConversion.NumberRepresentation numberRepresentation) {
+        return new ByteArrayBuilder().append(bd, numberRepresentation);
+    }
+
     /**
      * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
      *
@@ -174,6 +292,17 @@ public class ByteArray {
         return new ByteArrayBuilder().append(instant);
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param instant Start with this {@link Instant}.
+     * @param numberRepresentation Byte representation of the seconds and nanoseconds of the {@link Instant}.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder of(Instant instant, ByteConversion.NumberRepresentation numberRepresentation) {
+        return new ByteArrayBuilder().append(instant, numberRepresentation);
+    }
+
     /**
      * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
      *
@@ -205,6 +334,27 @@ public class ByteArray {
         return new ByteArrayBuilder().append(localDate, iso8601DateFormat);
     }
 
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param uuid Start with this {@link UUID}.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder of(UUID uuid) {
+        return new ByteArrayBuilder().append(uuid);
+    }
+
+    /**
+     * Start defining a byte array (either {@code byte[]} or {@link ByteArray}) using a builder.
+     *
+     * @param uuid       Start with this {@link UUID}.
+     * @param uuidFormat Byte representation of the {@link UUID}.
+     * @return A builder for a byte array.
+     */
+    public static ByteArrayBuilder of(UUID uuid, ByteConversion.UUIDFormat uuidFormat) {
+        return new ByteArrayBuilder().append(uuid, uuidFormat);
+    }
+
     /**
      * Create an empty {@link ByteArray}.
      *
@@ -216,11 +366,74 @@ public class ByteArray {
 
     /**
      * Get the wrapped byte array.
+     * <p>
+     * If this {@link ByteArray} covers its whole backing array, that array is returned as-is. For a slice of a larger
+     * array, a copy of the range is returned. Use {@link #getBackingArray()} to access the bytes without copying.
      *
      * @return A {@code byte[]}.
      */
     public byte[] get() {
-        return this.bytes;
+        if (offset == 0 && length == bytes.length) return this.bytes;
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    /**
+     * Get the backing byte array. Only the range starting at {@link #getOffset()} of {@link #length()} bytes belongs
+     * to this {@link ByteArray}.
+     *
+     * @return The backing {@code byte[]}.
+     */
+    public byte[] getBackingArray() {
+        return bytes;
+    }
+
+    /**
+     * Get the position of the first byte of this {@link ByteArray} in its backing array.
+     *
+     * @return The offset.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get the number of bytes in this {@link ByteArray}.
+     *
+     * @return The length.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Create a {@link ByteArray} for a range of this one, without copying any bytes.
+     *
+     * @param from Start of the range (inclusive), relative to this {@link ByteArray}.
+     * @param to   End of the range (exclusive), relative to this {@link ByteArray}.
+     * @return A new {@link ByteArray} sharing the backing array of this one.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of this {@link ByteArray}.
+     */
+    public ByteArray slice(int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " +
+                    length + ".");
+        }
+        return new ByteArray(bytes, offset + from, to - from);
+    }
+
+    /**
+     * Create a {@link ByteArray} with a private copy of the bytes of this one. This is useful to release a large
+     * backing array when only a small slice of it is still needed.
+     *
+     * @return A new {@link ByteArray}.
+     */
+    public ByteArray copy() {
+        return new ByteArray(Arrays.copyOfRange(bytes, offset, offset + length));
+    }
+
+    @Override
+    public int compareTo(ByteArray other) {
+        return ByteComparison.compare(bytes, offset, length, other.bytes, other.offset, other.length);
     }
 
     @Override
@@ -229,14 +442,22 @@ public class ByteArray {
         if (other == null || getClass() != other.getClass()) return false;
 
         ByteArray that = (ByteArray) other;
-        return Arrays.equals(this.bytes, that.bytes);
+        return Arrays.equals(
+                this.bytes, this.offset, this.offset + this.length,
+                that.bytes, that.offset, that.offset + that.length
+        );
     }
 
     @Override
     public int hashCode() {
         if (hash == null) {
             // Cache the hashCode. For larger byte arrays this can safe some time when used repeatedly.
-            hash = Arrays.hashCode(bytes);
+            // This yields the same value as Arrays#hashCode(byte[]) would for a copy of the range.
+            int result = 1;
+            for (int i = offset; i < offset + length; i++) {
+                result = 31 * result + bytes[i];
+            }
+            hash = result;
         }
         return hash;
     }
@@ -17,11 +17,12 @@ package org.lable.oss.bitsandbytes;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteOrder;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.UUID;
 
 /**
  * Builder for byte arrays, either {@code byte[]} or {@link ByteArray}.
@@ -29,10 +30,34 @@ import java.util.List;
  * Use {@code ByteArray.of(…)} to initiate a new builder.
  */
 public class ByteArrayBuilder {
-    List<Byte> bytes;
+    static final int DEFAULT_CAPACITY = 16;
+
+    byte[] bytes;
+    int size;
 
     ByteArrayBuilder() {
-        bytes = new ArrayList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    ByteArrayBuilder(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity cannot be negative.");
+        bytes = new byte[capacity];
+        size = 0;
+    }
+
+    /**
+     * Make sure the buffer has room for at least {@code additional} more bytes. The buffer grows by at least half its
+     * current size, so the cost of appending is amortised.
+     *
+     * @param additional Number of bytes about to be appended.
+     */
+    void ensureCapacity(int additional) {
+        int required = size + additional;
+        if (required < 0) throw new OutOfMemoryError("Required byte array size too large.");
+        if (required <= bytes.length) return;
+
+        int grown = bytes.length + (bytes.length >> 1) + 1;
+        bytes = Arrays.copyOf(bytes, Math.max(grown < 0 ? Integer.MAX_VALUE : grown, required));
     }
 
     /**
@@ -44,8 +69,11 @@ public class ByteArrayBuilder {
     public ByteArrayBuilder appendByte(byte b) {
         // This method does not overload #append because to act as byte the input must be cast to (byte). With
         // overloading both append(65) and append((byte) 65) work, with different results. To avoid this error-prone
-        // invocation, this method is named separately forcing the cast to be added.
-        bytes.add(b);
+        // invocation, this method is named separately forcing the cast to be added. For the same reason the
+        // primitive number methods are named appendInt, appendLong, and so on: a primitive overload of #append would
+        // silently widen a byte or short argument.
+        ensureCapacity(1);
+        bytes[size++] = b;
         return this;
     }
 
@@ -57,9 +85,23 @@ public class ByteArrayBuilder {
      */
     public ByteArrayBuilder append(byte[] byteArray) {
         if (byteArray == null) return this;
-        for (byte b : byteArray) {
-            bytes.add(b);
-        }
+        return append(byteArray, 0, byteArray.length);
+    }
+
+    /**
+     * Append part of a byte array to the byte array.
+     *
+     * @param byteArray Byte array containing the value to append.
+     * @param offset    Start of the range to append.
+     * @param length    Number of bytes to append.
+     * @return This builder.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code byteArray}.
+     */
+    public ByteArrayBuilder append(byte[] byteArray, int offset, int length) {
+        if (byteArray == null) return this;
+        ensureCapacity(length);
+        System.arraycopy(byteArray, offset, bytes, size, length);
+        size += length;
         return this;
     }
 
@@ -70,8 +112,7 @@ public class ByteArrayBuilder {
      * @return This builder.
      */
     public ByteArrayBuilder append(char c) {
-        bytes.add((byte) c);
-        return this;
+        return appendByte((byte) c);
     }
 
     /**
@@ -82,10 +123,7 @@ public class ByteArrayBuilder {
      */
     public ByteArrayBuilder append(String text) {
         if (text == null) return this;
-        for (byte b : ByteConversion.fromString(text)) {
-            bytes.add(b);
-        }
-        return this;
+        return append(ByteConversion.fromString(text));
     }
 
     /**
@@ -96,9 +134,19 @@ public class ByteArrayBuilder {
      */
     public ByteArrayBuilder append(Integer i) {
         if (i == null) return this;
-        for (byte b : ByteConversion.fromInt(i.intValue())) {
-            bytes.add(b);
-        }
+        return appendInt(i.intValue());
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param i Value to append.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendInt(int i) {
+        ensureCapacity(4);
+        ByteConversion.putInt(bytes, size, i);
+        size += 4;
         return this;
     }
 
@@ -111,9 +159,34 @@ public class ByteArrayBuilder {
      */
     public ByteArrayBuilder append(Integer i, ByteConversion.NumberRepresentation numberRepresentation) {
         if (i == null) return this;
-        for (byte b : ByteConversion.fromInt(i.intValue(), numberRepresentation)) {
-            bytes.add(b);
-        }
+        return appendInt(i.intValue(), numberRepresentation);
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param i Value to append.
+     * @param numberRepresentation Byte representation of the integer.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendInt(int i, ByteConversion.NumberRepresentation numberRepresentation) {
+        ensureCapacity(4);
+        ByteConversion.putInt(bytes, size, i, numberRepresentation);
+        size += 4;
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param i Value to append.
+     * @param byteOrder Byte order of the integer.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendInt(int i, ByteOrder byteOrder) {
+        ensureCapacity(4);
+        ByteConversion.putInt(bytes, size, i, byteOrder);
+        size += 4;
         return this;
     }
 
@@ -125,9 +198,59 @@ public class ByteArrayBuilder {
      */
     public ByteArrayBuilder append(Float f) {
         if (f == null) return this;
-        for (byte b : ByteConversion.fromFloat(f.floatValue())) {
-            bytes.add(b);
-        }
+        return appendFloat(f.floatValue());
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param f Value to append.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendFloat(float f) {
+        ensureCapacity(4);
+        ByteConversion.putFloat(bytes, size, f);
+        size += 4;
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param f Value to append.
+     * @param numberRepresentation Byte representation of the float.
+     * @return This builder.
+     */
+    public ByteArrayBuilder append(Float f, ByteConversion.NumberRepresentation numberRepresentation) {
+        if (f == null) return this;
+        return appendFloat(f.floatValue(), numberRepresentation);
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param f Value to append.
+     * @param numberRepresentation Byte representation of the float.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendFloat(float f, ByteConversion.NumberRepresentation numberRepresentation) {
+        ensureCapacity(4);
+        ByteConversion.putFloat(bytes, size, f, numberRepresentation);
+        size += 4;
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param f Value to append.
+     * @param byteOrder Byte order of the float.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendFloat(float f, ByteOrder byteOrder) {
+        ensureCapacity(4);
+        ByteConversion.putFloat(bytes, size, f, byteOrder);
+        size += 4;
         return this;
     }
 
@@ -139,9 +262,59 @@ public class ByteArrayBuilder {
      */
     public ByteArrayBuilder append(Double d) {
         if (d == null) return this;
-        for (byte b : ByteConversion.fromDouble(d.doubleValue())) {
-            bytes.add(b);
-        }
+        return appendDouble(d.doubleValue());
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param d Value to append.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendDouble(double d) {
+        ensureCapacity(8);
+        ByteConversion.putDouble(bytes, size, d);
+        size += 8;
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param d Value to append.
+     * @param numberRepresentation Byte representation of the double.
+     * @return This builder.
+     */
+    public ByteArrayBuilder append(Double d, ByteConversion.NumberRepresentation numberRepresentation) {
+        if (d == null) return this;
+        return appendDouble(d.doubleValue(), numberRepresentation);
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param d Value to append.
+     * @param numberRepresentation Byte representation of the double.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendDouble(double d, ByteConversion.NumberRepresentation numberRepresentation) {
+        ensureCapacity(8);
+        ByteConversion.putDouble(bytes, size, d, numberRepresentation);
+        size += 8;
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param d Value to append.
+     * @param byteOrder Byte order of the double.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendDouble(double d, ByteOrder byteOrder) {
+        ensureCapacity(8);
+        ByteConversion.putDouble(bytes, size, d, byteOrder);
+        size += 8;
         return this;
     }
 
@@ -153,9 +326,19 @@ public class ByteArrayBuilder {
      */
     public ByteArrayBuilder append(Long l) {
         if (l == null) return this;
-        for (byte b : ByteConversion.fromLong(l.longValue())) {
-            bytes.add(b);
-        }
+        return appendLong(l.longValue());
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param l Value to append.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendLong(long l) {
+        ensureCapacity(8);
+        ByteConversion.putLong(bytes, size, l);
+        size += 8;
         return this;
     }
 
@@ -168,9 +351,185 @@ public class ByteArrayBuilder {
      */
     public ByteArrayBuilder append(Long l, ByteConversion.NumberRepresentation numberRepresentation) {
         if (l == null) return this;
-        for (byte b : ByteConversion.fromLong(l.longValue(), numberRepresentation)) {
-            bytes.add(b);
-        }
+        return appendLong(l.longValue(), numberRepresentation);
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param l Value to append.
+     * @param numberRepresentation Byte representation of the long.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendLong(long l, ByteConversion.NumberRepresentation numberRepresentation) {
+        ensureCapacity(8);
+        ByteConversion.putLong(bytes, size, l, numberRepresentation);
+        size += 8;
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param l Value to append.
+     * @param byteOrder Byte order of the long.
+     * @return This builder.
+     */
+    public ByteArrayBuilder appendLong(long l, ByteOrder byteOrder) {
+        ensureCapacity(8);
+        ByteConversion.putLong(bytes, size, l, byteOrder);
+        size += 8;
+        return this;
+    }
+
+    /**
+     * Append a byte array to the byte array in its ascending terminated encoding.
+     *
+     * @param byteArray Value to append.
+     * @return This builder.
+     * @see ByteConversion#fromTerminated(byte[], ByteConversion.SortOrder)
+     */
+    public ByteArrayBuilder appendTerminated(byte[] byteArray) {
+        return appendTerminated(byteArray, ByteConversion.SortOrder.ASCENDING);
+    }
+
+    /**
+     * Append a byte array to the byte array in its terminated encoding.
+     *
+     * @param byteArray Value to append.
+     * @param sortOrder Sort order of the encoded field.
+     * @return This builder.
+     * @see ByteConversion#fromTerminated(byte[], ByteConversion.SortOrder)
+     */
+    public ByteArrayBuilder appendTerminated(byte[] byteArray, ByteConversion.SortOrder sortOrder) {
+        if (byteArray == null) return this;
+        int length = ByteConversion.terminatedSize(byteArray);
+        ensureCapacity(length);
+        size += ByteConversion.putTerminated(bytes, size, byteArray, sortOrder);
+        return this;
+    }
+
+    /**
+     * Append a string to the byte array as the ascending terminated encoding of its UTF-8 bytes.
+     *
+     * @param text Value to append.
+     * @return This builder.
+     * @see ByteConversion#fromTerminatedString(String, ByteConversion.SortOrder)
+     */
+    public ByteArrayBuilder appendTerminated(String text) {
+        return appendTerminated(text, ByteConversion.SortOrder.ASCENDING);
+    }
+
+    /**
+     * Append a string to the byte array as the terminated encoding of its UTF-8 bytes.
+     *
+     * @param text      Value to append.
+     * @param sortOrder Sort order of the encoded field.
+     * @return This builder.
+     * @see ByteConversion#fromTerminatedString(String, ByteConversion.SortOrder)
+     */
+    public ByteArrayBuilder appendTerminated(String text, ByteConversion.SortOrder sortOrder) {
+        if (text == null) return this;
+        int length = ByteConversion.terminatedStringSize(text);
+        ensureCapacity(length);
+        size += ByteConversion.putTerminatedString(bytes, size, text, sortOrder);
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array in its order-preserving variable-length encoding.
+     *
+     * @param l Value to append.
+     * @return This builder.
+     * @see ByteConversion#fromVarLong(long)
+     */
+    public ByteArrayBuilder appendVarLong(long l) {
+        ensureCapacity(9);
+        size += ByteConversion.putVarLong(bytes, size, l);
+        return this;
+    }
+
+    /**
+     * Append a value, interpreted as an unsigned 64-bit number, to the byte array in its order-preserving
+     * variable-length encoding.
+     *
+     * @param l Value to append.
+     * @return This builder.
+     * @see ByteConversion#fromUnsignedVarLong(long)
+     */
+    public ByteArrayBuilder appendUnsignedVarLong(long l) {
+        ensureCapacity(9);
+        size += ByteConversion.putUnsignedVarLong(bytes, size, l);
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array as {@code width} bytes of two's complement.
+     *
+     * @param l Value to append.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return This builder.
+     * @see ByteConversion#fromSigned(long, int)
+     */
+    public ByteArrayBuilder appendSigned(long l, int width) {
+        return appendSigned(l, width, ByteConversion.NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * Append a value to the byte array as {@code width} bytes.
+     *
+     * @param l Value to append.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @param numberRepresentation Byte representation of the value.
+     * @return This builder.
+     * @see ByteConversion#fromSigned(long, int, ByteConversion.NumberRepresentation)
+     */
+    public ByteArrayBuilder appendSigned(long l, int width,
+                                         ByteConversion.NumberRepresentation numberRepresentation) {
+        ensureCapacity(ByteConversion.checkWidth(width));
+        ByteConversion.putSigned(bytes, size, width, l, numberRepresentation);
+        size += width;
+        return this;
+    }
+
+    /**
+     * Append a value, interpreted as an unsigned number, to the byte array as {@code width} bytes.
+     *
+     * @param l Value to append.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return This builder.
+     * @see ByteConversion#fromUnsigned(long, int)
+     */
+    public ByteArrayBuilder appendUnsigned(long l, int width) {
+        ensureCapacity(ByteConversion.checkWidth(width));
+        ByteConversion.putUnsigned(bytes, size, width, l);
+        size += width;
+        return this;
+    }
+
+    /**
+     * Append a value, interpreted as an unsigned 64-bit number, to the byte array in its unsigned LEB128 encoding.
+     *
+     * @param l Value to append.
+     * @return This builder.
+     * @see ByteConversion#fromLeb128(long)
+     */
+    public ByteArrayBuilder appendLeb128(long l) {
+        ensureCapacity(10);
+        size += ByteConversion.putLeb128(bytes, size, l);
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array in its ZigZag encoding.
+     *
+     * @param l Value to append.
+     * @return This builder.
+     * @see ByteConversion#fromZigZag(long)
+     */
+    public ByteArrayBuilder appendZigZag(long l) {
+        ensureCapacity(10);
+        size += ByteConversion.putZigZag(bytes, size, l);
         return this;
     }
 
@@ -183,9 +542,24 @@ public class ByteArrayBuilder {
     public ByteArrayBuilder append(BigInteger bi) {
         if (bi == null) return this;
         try {
-            for (byte b : ByteConversion.fromBigInteger(bi)) {
-                bytes.add(b);
-            }
+            append(ByteConversion.fromBigInteger(bi));
+        } catch (ByteConversion.ConversionException e) {
+            // Ignore. This is only thrown for null inputs, which we guard against.
+        }
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param bi Value to append.
+     * @param numberRepresentation Byte representation of the integer.
+     * @return This builder.
+     */
+    public ByteArrayBuilder append(BigInteger bi, ByteConversion.NumberRepresentation numberRepresentation) {
+        if (bi == null) return this;
+        try {
+            append(ByteConversion.fromBigInteger(bi, numberRepresentation));
         } catch (ByteConversion.ConversionException e) {
             // Ignore. This is only thrown for null inputs, which we guard against.
         }
@@ -201,15 +575,34 @@ public class ByteArrayBuilder {
     public ByteArrayBuilder append(BigDecimal bd) {
         if (bd == null) return this;
         try {
-            for (byte b : ByteConversion.fromBigDecimal(bd)) {
-                bytes.add(b);
-            }
+            append(ByteConversion.fromBigDecimal(bd));
         } catch (ByteConversion.ConversionException e) {
             // Ignore. This is only thrown for null inputs, which we guard against.
         }
         return this;
     }
 
+    /**
+     * Append a value to the byte array.
+     *
+     * @param bd Value to append.
+     * @param numberRepresentation Byte representation of the decimal.
+     * @return This builder.
+     */
+    public ByteArrayBuilder append(BigDecimal bd, ByteConversion.NumberRepresentation numberRepresentation) {
+        if (bd == null) return this;
+        if (numberRepresentation == null
+                || numberRepresentation == ByteConversion.NumberRepresentation.TWOS_COMPLEMENT) {
+            return append(bd);
+        }
+        ensureCapacity(ByteConversion.bigDecimalSize(bd));
+        size += ByteConversion.putBigDecimal(bytes, size, bd,
+                numberRepresentation == ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING
+                        ? ByteConversion.SortOrder.DESCENDING
+                        : ByteConversion.SortOrder.ASCENDING);
+        return this;
+    }
+
     /**
      * Append a value to the byte array.
      *
@@ -219,15 +612,68 @@ public class ByteArrayBuilder {
     public ByteArrayBuilder append(Instant instant) {
         if (instant == null) return this;
         try {
-            for (byte b : ByteConversion.fromInstant(instant)) {
-                bytes.add(b);
-            }
+            append(ByteConversion.fromInstant(instant));
         } catch (ByteConversion.ConversionException e) {
             // Ignore. This is only thrown for null inputs, which we guard against.
         }
         return this;
     }
 
+    /**
+     * Append a value to the byte array.
+     *
+     * @param instant Value to append.
+     * @param numberRepresentation Byte representation of the seconds and nanoseconds of the {@link Instant}.
+     * @return This builder.
+     */
+    public ByteArrayBuilder append(Instant instant, ByteConversion.NumberRepresentation numberRepresentation) {
+        if (instant == null) return this;
+        ensureCapacity(12);
+        ByteConversion.putInstant(bytes, size, instant, numberRepresentation);
+        size += 12;
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param instant       Value to append.
+     * @param instantFormat Byte representation of the {@link Instant}.
+     * @return This builder.
+     * @throws ArithmeticException Thrown when the value is out of range for an eight-byte format.
+     */
+    public ByteArrayBuilder append(Instant instant, ByteConversion.InstantFormat instantFormat) {
+        if (instant == null) return this;
+        ensureCapacity(instantFormat.byteLength());
+        size += ByteConversion.putInstant(bytes, size, instant, instantFormat);
+        return this;
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param uuid Value to append.
+     * @return This builder.
+     */
+    public ByteArrayBuilder append(UUID uuid) {
+        return append(uuid, ByteConversion.UUIDFormat.STANDARD);
+    }
+
+    /**
+     * Append a value to the byte array.
+     *
+     * @param uuid       Value to append.
+     * @param uuidFormat Byte representation of the {@link UUID}.
+     * @return This builder.
+     */
+    public ByteArrayBuilder append(UUID uuid, ByteConversion.UUIDFormat uuidFormat) {
+        if (uuid == null) return this;
+        ensureCapacity(16);
+        ByteConversion.putUUID(bytes, size, uuid, uuidFormat);
+        size += 16;
+        return this;
+    }
+
     /**
      * Append a value to the byte array.
      *
@@ -237,15 +683,35 @@ public class ByteArrayBuilder {
     public ByteArrayBuilder append(ZonedDateTime zonedDateTime) {
         if (zonedDateTime == null) return this;
         try {
-            for (byte b : ByteConversion.fromZonedDateTime(zonedDateTime)) {
-                bytes.add(b);
-            }
+            append(ByteConversion.fromZonedDateTime(zonedDateTime));
         } catch (ByteConversion.ConversionException e) {
             // Ignore. This is only thrown for null inputs, which we guard against.
         }
         return this;
     }
 
+    /**
+     * Append a value to the byte array, storing its time-zone according to the specified
+     * {@link ByteConversion.ZoneFormat}.
+     *
+     * @param zonedDateTime Value to append.
+     * @param zoneFormat    How to represent the time-zone in bytes.
+     * @return This builder.
+     * @throws IllegalArgumentException Thrown when the time-zone does not fit the compact representation of
+     *                                  {@link ByteConversion#fromZoneId(java.time.ZoneId)}.
+     */
+    public ByteArrayBuilder append(ZonedDateTime zonedDateTime, ByteConversion.ZoneFormat zoneFormat) {
+        if (zonedDateTime == null) return this;
+        if (zoneFormat == ByteConversion.ZoneFormat.COMPACT) {
+            ensureCapacity(12 + ByteConversion.zoneIdSize(zonedDateTime.getZone()));
+            size += ByteConversion.putInstant(
+                    bytes, size, zonedDateTime.toInstant(), ByteConversion.InstantFormat.SECONDS_NANOS_12);
+            size += ByteConversion.putZoneId(bytes, size, zonedDateTime.getZone());
+            return this;
+        }
+        return append(zonedDateTime);
+    }
+
     /**
      * Append a value to the byte array.
      *
@@ -262,15 +728,20 @@ public class ByteArrayBuilder {
      * @param localDate Value to append.
      * @param iso8601DateFormat Byte representation of the {@link LocalDate}.
      * @return This builder.
+     * @throws IllegalArgumentException Thrown when the epoch day of the date does not fit in an int, for
+     *                                  {@link ByteConversion.ISO8601DateFormat#EPOCH_DAY}.
      */
     public ByteArrayBuilder append(LocalDate localDate, ByteConversion.ISO8601DateFormat iso8601DateFormat) {
         if (localDate == null) return this;
+        if (iso8601DateFormat == ByteConversion.ISO8601DateFormat.EPOCH_DAY) {
+            ensureCapacity(4);
+            size += ByteConversion.putLocalDate(bytes, size, localDate, iso8601DateFormat);
+            return this;
+        }
         try {
-            for (byte b : ByteConversion.fromLocalDate(localDate, iso8601DateFormat)) {
-                bytes.add(b);
-            }
+            append(ByteConversion.fromLocalDate(localDate, iso8601DateFormat));
         } catch (ByteConversion.ConversionException e) {
-            // Ignore. This is only thrown for null inputs, which we guard against.
+            // Ignore. For the ISO-8601 notations this is only thrown for null inputs, which we guard against.
         }
         return this;
     }
@@ -329,13 +800,7 @@ public class ByteArrayBuilder {
      * @return A byte array.
      */
     public byte[] toArray() {
-        byte[] out = new byte[bytes.size()];
-        int i = 0;
-        for (Byte aByte : bytes) {
-            out[i] = aByte;
-            i++;
-        }
-        return out;
+        return Arrays.copyOf(bytes, size);
     }
 
     /**
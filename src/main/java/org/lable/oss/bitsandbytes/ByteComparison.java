@@ -16,11 +16,18 @@
 package org.lable.oss.bitsandbytes;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
 
 /**
  * Compare {@code byte[]} instances.
  */
 public class ByteComparison {
+    /**
+     * Orders byte arrays by their unsigned lexicographic value, see {@link #compare(byte[], byte[])}. This is the same
+     * order as used by HBase (and most other key-value stores) for row keys.
+     */
+    public static final Comparator<byte[]> COMPARATOR = ByteComparison::compare;
 
     ByteComparison() {
         // Static utility class.
@@ -75,26 +82,110 @@ public class ByteComparison {
      * @param input Input byte array.
      * @param sub   Byte array that the input may contain.
      * @return True if {@code sub} is present in its entirety within {@code input}.
+     * @see BytePattern
      */
     public static boolean contains(byte[] input, byte[] sub) {
         if (input == null || sub == null || sub.length > input.length) {
             return false;
         }
 
-        if (input == sub || input.length == 0) return true;
-
-        for (int i = 0; i <= input.length - sub.length; i++) {
-            test:
-            {
-                for (int j = 0; j < sub.length; j++) {
-                    if (input[i + j] != sub[j]) {
-                        break test;
-                    }
-                }
-                return true;
-            }
-        }
-        return false;
+        if (input == sub || sub.length == 0) return true;
+
+        return new BytePattern(sub).indexOf(input, 0) >= 0;
+    }
+
+    /**
+     * Find the first occurrence of a byte sequence in a byte array.
+     * <p>
+     * When searching for the same byte sequence in many inputs, use {@link BytePattern#compile(byte[])} once, and
+     * {@link BytePattern#indexOf(byte[])} on each input instead.
+     *
+     * @param input Input byte array.
+     * @param sub   Byte sequence to search for.
+     * @return Index of the first occurrence of {@code sub} in {@code input}, or {@code -1} if it does not occur or if
+     * either argument is {@code null}.
+     */
+    public static int indexOf(byte[] input, byte[] sub) {
+        return indexOf(input, sub, 0);
+    }
+
+    /**
+     * Find the first occurrence of a byte sequence in a byte array, starting the search at a specific index.
+     *
+     * @param input Input byte array.
+     * @param sub   Byte sequence to search for.
+     * @param from  Index to start the search at. Negative values are treated as {@code 0}.
+     * @return Index of the first occurrence of {@code sub} in {@code input} at or after {@code from}, or {@code -1}
+     * if there is none or if either array is {@code null}.
+     */
+    public static int indexOf(byte[] input, byte[] sub, int from) {
+        if (input == null || sub == null) return -1;
+        return new BytePattern(sub).indexOf(input, from);
+    }
+
+    /**
+     * Find the last occurrence of a byte sequence in a byte array.
+     *
+     * @param input Input byte array.
+     * @param sub   Byte sequence to search for.
+     * @return Index of the last occurrence of {@code sub} in {@code input}, or {@code -1} if it does not occur or if
+     * either argument is {@code null}.
+     */
+    public static int lastIndexOf(byte[] input, byte[] sub) {
+        if (input == null) return -1;
+        return lastIndexOf(input, sub, input.length);
+    }
+
+    /**
+     * Find the last occurrence of a byte sequence in a byte array, searching backwards from a specific index.
+     *
+     * @param input Input byte array.
+     * @param sub   Byte sequence to search for.
+     * @param from  Highest index at which an occurrence may start.
+     * @return Index of the last occurrence of {@code sub} in {@code input} at or before {@code from}, or {@code -1}
+     * if there is none or if either array is {@code null}.
+     */
+    public static int lastIndexOf(byte[] input, byte[] sub, int from) {
+        if (input == null || sub == null) return -1;
+        return new BytePattern(sub).lastIndexOf(input, from);
+    }
+
+    /**
+     * Compare two byte arrays lexicographically, treating each byte as an unsigned value. When one array is a prefix
+     * of the other, the shorter array sorts first. A {@code null} array sorts before any non-null array.
+     * <p>
+     * This comparison does not look at one byte at a time, but compares eight bytes or more per step, so it remains
+     * fast for long keys with a shared prefix.
+     *
+     * @param a One byte array.
+     * @param b Another byte array.
+     * @return A negative value if {@code a} sorts before {@code b}, a positive value if it sorts after, and {@code 0}
+     * if both are equal.
+     */
+    public static int compare(byte[] a, byte[] b) {
+        if (a == b) return 0;
+        return Arrays.compareUnsigned(a, b);
+    }
+
+    /**
+     * Compare two byte array ranges lexicographically, treating each byte as an unsigned value. When one range is a
+     * prefix of the other, the shorter range sorts first.
+     *
+     * @param a    One byte array.
+     * @param aOff Start of the range in {@code a}.
+     * @param aLen Length of the range in {@code a}.
+     * @param b    Another byte array.
+     * @param bOff Start of the range in {@code b}.
+     * @param bLen Length of the range in {@code b}.
+     * @return A negative value if the range of {@code a} sorts before that of {@code b}, a positive value if it sorts
+     * after, and {@code 0} if both are equal.
+     * @throws IndexOutOfBoundsException Thrown when a range lies outside its array.
+     */
+    public static int compare(byte[] a, int aOff, int aLen, byte[] b, int bOff, int bLen) {
+        Objects.checkFromIndexSize(aOff, aLen, a.length);
+        Objects.checkFromIndexSize(bOff, bLen, b.length);
+        if (a == b && aOff == bOff && aLen == bLen) return 0;
+        return Arrays.compareUnsigned(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
     }
 
     /**
@@ -15,22 +15,60 @@
  */
 package org.lable.oss.bitsandbytes;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.time.*;
-import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.UUID;
 
 import static org.lable.oss.bitsandbytes.ByteMangler.*;
 
 /**
  * Convert Java primitives to and from byte arrays for storage. These methods are useful when such operations happen a
- * lot in your code. Most of them are little more than wrappers around {@link ByteBuffer}.
+ * lot in your code.
  * <p>
- * For all operations the Big-Endian byte order is maintained. For strings the desired encoding is assumed to be UTF-8.
+ * For all operations the Big-Endian byte order is maintained, unless a {@link ByteOrder} is passed. Little-endian
+ * matches the native layout of x86 and ARM, and of formats such as Parquet and Arrow. The lexicographic
+ * representations are only available big-endian, because only then does byte order follow numerical order. For
+ * strings the desired encoding is assumed to be UTF-8.
+ * <p>
+ * Besides the {@code fromX}/{@code toX} methods that return or consume a byte array of the exact size, the primitive
+ * types can also be written to and read from a caller-owned byte array at an offset via the {@code putX}/{@code getX}
+ * methods. These do not allocate anything, which makes them suitable for tight loops. Most of these also accept a
+ * {@link ByteBuffer}, heap or direct, read from and written to at an absolute index without changing its position.
  */
 public class ByteConversion {
+    static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle FLOAT = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle DOUBLE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle FLOAT_LE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle DOUBLE_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+    // Views of heap and direct buffers alike; they use absolute indices and ignore the byte order set on the buffer.
+    static final VarHandle BUFFER_SHORT = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle BUFFER_INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle BUFFER_LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle BUFFER_FLOAT = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle BUFFER_DOUBLE =
+            MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle BUFFER_SHORT_LE =
+            MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle BUFFER_INT_LE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle BUFFER_LONG_LE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle BUFFER_FLOAT_LE =
+            MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle BUFFER_DOUBLE_LE =
+            MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
 
     ByteConversion() {
         // Static utility class.
@@ -60,556 +98,5971 @@ public class ByteConversion {
 
 
     /**
-     * Convert an {@link Integer} to bytes.
+     * Convert a short primitive to bytes.
      *
      * @param input Input value.
      * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
      */
-    public static byte[] fromInt(Integer input) throws ConversionException {
-        assertNotNull(input);
-        return fromInt(input.intValue());
+    public static byte[] fromShort(short input) {
+        byte[] out = new byte[2];
+        putShort(out, 0, input);
+        return out;
     }
 
     /**
-     * Convert an {@link Integer} to bytes, according to the specified {@link NumberRepresentation}.
+     * Convert a short primitive to bytes, according to the specified {@link NumberRepresentation}.
      *
      * @param input                Input value.
      * @param numberRepresentation How to represent the number in bytes.
      * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
      */
-    public static byte[] fromInt(Integer input, NumberRepresentation numberRepresentation) throws ConversionException {
-        return numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT
-                ? flipTheFirstBit(fromInt(input))
-                : fromInt(input);
+    public static byte[] fromShort(short input, NumberRepresentation numberRepresentation) {
+        byte[] out = new byte[2];
+        putShort(out, 0, input, numberRepresentation);
+        return out;
     }
 
     /**
-     * Convert an int primitive to bytes, according to the specified {@link NumberRepresentation}.
+     * Convert a short primitive to bytes in the specified byte order.
      *
-     * @param input                Input value.
-     * @param numberRepresentation How to represent the number in bytes.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes returned.
      * @return Bytes.
      */
-    public static byte[] fromInt(int input, NumberRepresentation numberRepresentation) {
-        return numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT
-                ? flipTheFirstBit(fromInt(input))
-                : fromInt(input);
+    public static byte[] fromShort(short input, ByteOrder byteOrder) {
+        byte[] out = new byte[2];
+        putShort(out, 0, input, byteOrder);
+        return out;
     }
 
     /**
-     * Convert an int primitive to bytes.
+     * Convert a byte array to a short.
      *
-     * @param input Input value.
-     * @return Bytes.
+     * @param bytes Byte array.
+     * @return A short.
      */
-    public static byte[] fromInt(int input) {
-        return ByteBuffer.allocate(4).putInt(input).array();
+    public static short toShort(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 2);
+        return getShort(bytes, 0);
     }
 
     /**
-     * Convert a byte array to an int.
+     * Convert a byte array to a short, according to the specified {@link NumberRepresentation}.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A short.
+     */
+    public static short toShort(byte[] bytes, NumberRepresentation numberRepresentation) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 2);
+        return getShort(bytes, 0, numberRepresentation);
+    }
+
+    /**
+     * Convert a byte array in the specified byte order to a short.
+     *
+     * @param bytes     Byte array.
+     * @param byteOrder Byte order of the bytes.
+     * @return A short.
+     */
+    public static short toShort(byte[] bytes, ByteOrder byteOrder) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 2);
+        return getShort(bytes, 0, byteOrder);
+    }
+
+    /**
+     * Convert a byte array to an unsigned 16-bit number, such as a {@code char} or a port number.
      *
      * @param bytes Byte array.
-     * @return An int.
+     * @return An int between {@code 0} and {@code 65535}.
      */
-    public static int toInt(byte[] bytes) throws ConversionException {
+    public static int toUnsignedShort(byte[] bytes) throws ConversionException {
         assertNotNull(bytes);
-        assertNumBytes(bytes, 4);
-        return ByteBuffer.allocate(4).put(bytes).getInt(0);
+        assertNumBytes(bytes, 2);
+        return getUnsignedShort(bytes, 0);
     }
 
     /**
-     * Convert a byte array to an int, according to the specified {@link NumberRepresentation}.
+     * Read an unsigned 16-bit number from two bytes of a byte array.
      *
-     * @param bytes                Byte array.
-     * @param numberRepresentation How the bytes represent the number.
-     * @return An int.
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return An int between {@code 0} and {@code 65535}.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain two bytes at {@code offset}.
      */
-    public static int toInt(byte[] bytes, NumberRepresentation numberRepresentation) throws ConversionException {
-        return numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT
-                ? toInt(flipTheFirstBit(bytes))
-                : toInt(bytes);
+    public static int getUnsignedShort(byte[] src, int offset) {
+        return Short.toUnsignedInt(getShort(src, offset));
     }
 
+    /**
+     * Write a short primitive as two bytes into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for two bytes at {@code offset}.
+     */
+    public static void putShort(byte[] dst, int offset, short input) {
+        SHORT.set(dst, offset, input);
+    }
 
     /**
-     * Convert a {@link Float} to bytes.
+     * Write a short primitive as two bytes into an existing byte array, according to the specified
+     * {@link NumberRepresentation}.
      *
-     * @param input Input value.
-     * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
+     * @param dst                  Destination byte array.
+     * @param offset               Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for two bytes at {@code offset}.
      */
-    public static byte[] fromFloat(Float input) throws ConversionException {
-        assertNotNull(input);
-        return fromFloat(input.floatValue());
+    public static void putShort(byte[] dst, int offset, short input, NumberRepresentation numberRepresentation) {
+        putShort(dst, offset, (short) (input ^ shortMask(numberRepresentation)));
     }
 
     /**
-     * Convert a float primitive to bytes.
+     * Read a short primitive from two bytes of a byte array.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A short.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain two bytes at {@code offset}.
+     */
+    public static short getShort(byte[] src, int offset) {
+        return (short) SHORT.get(src, offset);
+    }
+
+    /**
+     * Read a short primitive from two bytes of a byte array, according to the specified {@link NumberRepresentation}.
+     *
+     * @param src                  Source byte array.
+     * @param offset               Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A short.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain two bytes at {@code offset}.
+     */
+    public static short getShort(byte[] src, int offset, NumberRepresentation numberRepresentation) {
+        return (short) (getShort(src, offset) ^ shortMask(numberRepresentation));
+    }
+
+    /**
+     * Write a short primitive as two bytes into a {@link ByteBuffer}.
+     * <p>
+     * The bytes are written big-endian at an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
      *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
      * @param input Input value.
-     * @return Bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for two bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
      */
-    public static byte[] fromFloat(float input) {
-        return ByteBuffer.allocate(4).putFloat(input).array();
+    public static void putShort(ByteBuffer dst, int index, short input) {
+        BUFFER_SHORT.set(dst, index, input);
     }
 
     /**
-     * Convert a byte array to a float.
+     * Write a short primitive as two bytes into a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
      *
-     * @param bytes Byte array.
-     * @return A float.
+     * @param dst                  Destination buffer.
+     * @param index                Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for two bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     * @see #putShort(ByteBuffer, int, short)
      */
-    public static float toFloat(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
-        assertNumBytes(bytes, 4);
-        return ByteBuffer.allocate(4).put(bytes).getFloat(0);
+    public static void putShort(ByteBuffer dst, int index, short input, NumberRepresentation numberRepresentation) {
+        putShort(dst, index, (short) (input ^ shortMask(numberRepresentation)));
     }
 
+    /**
+     * Read a short primitive from two bytes of a {@link ByteBuffer}.
+     * <p>
+     * The bytes are read big-endian from an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @return A short.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain two bytes at {@code index}.
+     */
+    public static short getShort(ByteBuffer src, int index) {
+        return (short) BUFFER_SHORT.get(src, index);
+    }
 
     /**
-     * Convert a {@link Double} to bytes.
+     * Read a short primitive from two bytes of a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
      *
-     * @param input Input value.
-     * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
+     * @param src                  Source buffer.
+     * @param index                Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A short.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain two bytes at {@code index}.
+     * @see #getShort(ByteBuffer, int)
      */
-    public static byte[] fromDouble(Double input) throws ConversionException {
-        assertNotNull(input);
-        return fromDouble(input.doubleValue());
+    public static short getShort(ByteBuffer src, int index, NumberRepresentation numberRepresentation) {
+        return (short) (getShort(src, index) ^ shortMask(numberRepresentation));
     }
 
     /**
-     * Convert a double primitive to bytes.
+     * Write a short primitive as two bytes in the specified byte order into an existing byte array.
      *
-     * @param input Input value.
-     * @return Bytes.
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for two bytes at {@code offset}.
      */
-    public static byte[] fromDouble(double input) {
-        return ByteBuffer.allocate(8).putDouble(input).array();
+    public static void putShort(byte[] dst, int offset, short input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            SHORT_LE.set(dst, offset, input);
+        } else {
+            SHORT.set(dst, offset, input);
+        }
     }
 
     /**
-     * Convert a byte array to a double.
+     * Read a short primitive from two bytes in the specified byte order of a byte array.
      *
-     * @param bytes Byte array.
-     * @return A double.
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return A short.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain two bytes at {@code offset}.
      */
-    public static double toDouble(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
-        assertNumBytes(bytes, 8);
-        return ByteBuffer.allocate(8).put(bytes).getDouble(0);
+    public static short getShort(byte[] src, int offset, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (short) SHORT_LE.get(src, offset)
+                : (short) SHORT.get(src, offset);
     }
 
+    /**
+     * Write a short primitive as two bytes in the specified byte order into a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param dst       Destination buffer.
+     * @param index     Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for two bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     */
+    public static void putShort(ByteBuffer dst, int index, short input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            BUFFER_SHORT_LE.set(dst, index, input);
+        } else {
+            BUFFER_SHORT.set(dst, index, input);
+        }
+    }
 
     /**
-     * Convert a {@link Long} to bytes.
+     * Read a short primitive from two bytes in the specified byte order of a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param src       Source buffer.
+     * @param index     Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return A short.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain two bytes at {@code index}.
+     */
+    public static short getShort(ByteBuffer src, int index, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (short) BUFFER_SHORT_LE.get(src, index)
+                : (short) BUFFER_SHORT.get(src, index);
+    }
+
+    // Integral representations differ from two's complement only by a constant XOR mask; applying it twice is a no-op.
+
+    static short shortMask(NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) return Short.MIN_VALUE;
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) return Short.MAX_VALUE;
+        return 0;
+    }
+
+    static int intMask(NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) return Integer.MIN_VALUE;
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) return Integer.MAX_VALUE;
+        return 0;
+    }
+
+    static long longMask(NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) return Long.MIN_VALUE;
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) return Long.MAX_VALUE;
+        return 0L;
+    }
+
+
+    /**
+     * Convert an {@link Integer} to bytes.
      *
      * @param input Input value.
      * @return Bytes.
      * @throws ConversionException Thrown when the input is null.
      */
-    public static byte[] fromLong(Long input) throws ConversionException {
+    public static byte[] fromInt(Integer input) throws ConversionException {
         assertNotNull(input);
-        return fromLong(input.longValue());
+        return fromInt(input.intValue());
     }
 
     /**
-     * Convert a {@link Long} to bytes, according to the specified {@link NumberRepresentation}.
+     * Convert an {@link Integer} to bytes, according to the specified {@link NumberRepresentation}.
      *
      * @param input                Input value.
      * @param numberRepresentation How to represent the number in bytes.
      * @return Bytes.
      * @throws ConversionException Thrown when the input is null.
      */
-    public static byte[] fromLong(Long input, NumberRepresentation numberRepresentation) throws ConversionException {
-        return numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT
-                ? flipTheFirstBit(fromLong(input))
-                : fromLong(input);
+    public static byte[] fromInt(Integer input, NumberRepresentation numberRepresentation) throws ConversionException {
+        assertNotNull(input);
+        return fromInt(input.intValue(), numberRepresentation);
     }
 
     /**
-     * Convert a long primitive to bytes, according to the specified {@link NumberRepresentation}.
+     * Convert an int primitive to bytes, according to the specified {@link NumberRepresentation}.
      *
      * @param input                Input value.
      * @param numberRepresentation How to represent the number in bytes.
      * @return Bytes.
      */
-    public static byte[] fromLong(long input, NumberRepresentation numberRepresentation) {
-        return numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT
-                ? flipTheFirstBit(fromLong(input))
-                : fromLong(input);
+    public static byte[] fromInt(int input, NumberRepresentation numberRepresentation) {
+        byte[] out = new byte[4];
+        putInt(out, 0, input, numberRepresentation);
+        return out;
     }
 
     /**
-     * Convert a long primitive to bytes.
+     * Convert an int primitive to bytes.
      *
      * @param input Input value.
      * @return Bytes.
      */
-    public static byte[] fromLong(long input) {
-        return ByteBuffer.allocate(8).putLong(input).array();
+    public static byte[] fromInt(int input) {
+        byte[] out = new byte[4];
+        putInt(out, 0, input);
+        return out;
     }
 
     /**
-     * Convert a byte array to a long.
+     * Convert a byte array to an int.
      *
      * @param bytes Byte array.
-     * @return A long.
+     * @return An int.
      */
-    public static long toLong(byte[] bytes) throws ConversionException {
+    public static int toInt(byte[] bytes) throws ConversionException {
         assertNotNull(bytes);
-        assertNumBytes(bytes, 8);
-        return ByteBuffer.allocate(8).put(bytes).getLong(0);
+        assertNumBytes(bytes, 4);
+        return getInt(bytes, 0);
     }
 
     /**
-     * Convert a byte array to a long, according to the specified {@link NumberRepresentation}.
+     * Convert a byte array to an int, according to the specified {@link NumberRepresentation}.
      *
      * @param bytes                Byte array.
      * @param numberRepresentation How the bytes represent the number.
-     * @return A long.
+     * @return An int.
      */
-    public static long toLong(byte[] bytes, NumberRepresentation numberRepresentation) throws ConversionException {
-        return numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT
-                ? toLong(flipTheFirstBit(bytes))
-                : toLong(bytes);
+    public static int toInt(byte[] bytes, NumberRepresentation numberRepresentation) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 4);
+        return getInt(bytes, 0, numberRepresentation);
     }
 
-
     /**
-     * Convert a {@link BigInteger} to bytes.
+     * Convert a byte array to an unsigned 32-bit number.
      *
-     * @param input Input value.
-     * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
+     * @param bytes Byte array.
+     * @return A long between {@code 0} and {@code 4294967295}.
      */
-    public static byte[] fromBigInteger(BigInteger input) throws ConversionException {
-        assertNotNull(input);
-        return input.toByteArray();
+    public static long toUnsignedInt(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 4);
+        return getUnsignedInt(bytes, 0);
     }
 
     /**
-     * Convert a byte array to a {@link BigInteger}.
+     * Write an int primitive as four bytes into an existing byte array.
      *
-     * @param bytes Byte array.
-     * @return A {@link BigInteger}.
-     * @throws ConversionException Thrown when the input lacks enough bytes for a successful conversion or is null.
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code offset}.
      */
-    public static BigInteger toBigInteger(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
-        assertAtLeastNumBytes(bytes, 1);
-        return new BigInteger(bytes);
+    public static void putInt(byte[] dst, int offset, int input) {
+        INT.set(dst, offset, input);
     }
 
-
     /**
-     * Convert a {@link BigDecimal} to bytes.
+     * Write an int primitive as four bytes into an existing byte array, according to the specified
+     * {@link NumberRepresentation}.
      *
-     * @param input Input value.
-     * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
+     * @param dst                  Destination byte array.
+     * @param offset               Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code offset}.
      */
-    public static byte[] fromBigDecimal(BigDecimal input) throws ConversionException {
-        assertNotNull(input);
-        byte[] value = input.unscaledValue().toByteArray();
-        int scale = input.scale();
-        return ByteBuffer.allocate(4 + value.length).putInt(scale).put(value).array();
+    public static void putInt(byte[] dst, int offset, int input, NumberRepresentation numberRepresentation) {
+        putInt(dst, offset, input ^ intMask(numberRepresentation));
     }
 
     /**
-     * Convert a byte array to a {@link BigDecimal}.
+     * Read an int primitive from four bytes of a byte array.
      *
-     * @param bytes Byte array.
-     * @return A {@link BigDecimal}.
-     * @throws ConversionException Thrown when the input lacks enough bytes for a successful conversion or is null.
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return An int.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code offset}.
      */
-    public static BigDecimal toBigDecimal(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
-        // 8 bytes for the scale (int) and at least 1 byte for the value.
-        assertAtLeastNumBytes(bytes, 5);
-        int scale = toInt(shrink(4, bytes));
-
-        return new BigDecimal(new BigInteger(chomp(4, bytes)), scale);
+    public static int getInt(byte[] src, int offset) {
+        return (int) INT.get(src, offset);
     }
 
-
     /**
-     * Convert an {@link Instant} to bytes.
-     * <p>
-     * The first eight bytes represent the seconds since the epoch, the remaining four bytes are the nanosecond
-     * adjustment.
+     * Read an int primitive from four bytes of a byte array, according to the specified {@link NumberRepresentation}.
      *
-     * @param input Input value.
-     * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
+     * @param src                  Source byte array.
+     * @param offset               Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return An int.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code offset}.
      */
-    public static byte[] fromInstant(Instant input) throws ConversionException {
-        assertNotNull(input);
-        long seconds = input.getEpochSecond();
-        int nano = input.getNano();
-        return ByteBuffer.allocate(12).putLong(seconds).putInt(nano).array();
+    public static int getInt(byte[] src, int offset, NumberRepresentation numberRepresentation) {
+        return getInt(src, offset) ^ intMask(numberRepresentation);
     }
 
     /**
-     * Convert a byte array to an {@link Instant}.
+     * Read an unsigned 32-bit number from four bytes of a byte array.
      *
-     * @param bytes Byte array.
-     * @return An {@link Instant}.
-     * @throws ConversionException Thrown when the input is not 12 bytes or is null.
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A long between {@code 0} and {@code 4294967295}.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code offset}.
      */
-    public static Instant toInstant(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
-        // 8 bytes for seconds since the Unix epoch, and 4 bytes for the nano-seconds part.
-        assertNumBytes(bytes, 12);
-        long seconds = toLong(shrink(8, bytes));
-        int nano = toInt(chomp(8, bytes));
-
-        return Instant.ofEpochSecond(seconds, nano);
+    public static long getUnsignedInt(byte[] src, int offset) {
+        return Integer.toUnsignedLong(getInt(src, offset));
     }
 
-
     /**
-     * Convert an {@link OffsetDateTime} to bytes.
+     * Write an int primitive as four bytes into a {@link ByteBuffer}.
      * <p>
-     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
-     * The remaining bytes are a string representing the time-zone offset ({@link ZoneOffset}).
+     * The bytes are written big-endian at an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
      *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
      * @param input Input value.
-     * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
      */
-    public static byte[] fromOffsetDateTime(OffsetDateTime input) throws ConversionException {
-        assertNotNull(input);
-        Instant instant = input.toInstant();
-        String id = input.getOffset().getId();
-        return ByteMangler.add(fromInstant(instant), fromString(id));
+    public static void putInt(ByteBuffer dst, int index, int input) {
+        BUFFER_INT.set(dst, index, input);
     }
 
     /**
-     * Convert a byte array to an {@link OffsetDateTime}.
-     * <p>
-     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
-     * The remaining bytes are a string representing the time-zone offset ({@link ZoneOffset}).
+     * Write an int primitive as four bytes into a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
      *
-     * @param bytes Byte array.
-     * @return An {@link OffsetDateTime}.
-     * @throws ConversionException Thrown when the input is not at least 13 bytes or is null, and when the time-zone
-     *                             offset found is invalid.
+     * @param dst                  Destination buffer.
+     * @param index                Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     * @see #putInt(ByteBuffer, int, int)
      */
-    public static OffsetDateTime toOffsetDateTime(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
-        // 12 bytes for the instant, at least 1 byte (i.e., 'Z') for the time-zone.
-        assertAtLeastNumBytes(bytes, 13);
-        Instant instant = toInstant(shrink(12, bytes));
-        String id = toString(chomp(12, bytes));
-
-        ZoneOffset zoneOffset;
-        try {
-            zoneOffset = ZoneOffset.of(id);
-        } catch (DateTimeException e) {
-            throw new ConversionException("Time-zone offset identifier could not be parsed or found: " + id);
-        }
-
-        return OffsetDateTime.ofInstant(instant, zoneOffset);
+    public static void putInt(ByteBuffer dst, int index, int input, NumberRepresentation numberRepresentation) {
+        putInt(dst, index, input ^ intMask(numberRepresentation));
     }
 
-
     /**
-     * Convert a {@link ZonedDateTime} to bytes.
+     * Read an int primitive from four bytes of a {@link ByteBuffer}.
      * <p>
-     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
-     * The remaining bytes are a string representing the time-zone identifier ({@link ZoneId}).
+     * The bytes are read big-endian from an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
      *
-     * @param input Input value.
-     * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @return An int.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code index}.
      */
-    public static byte[] fromZonedDateTime(ZonedDateTime input) throws ConversionException {
-        assertNotNull(input);
-        Instant instant = input.toInstant();
-        String id = input.getZone().getId();
-        return ByteMangler.add(fromInstant(instant), fromString(id));
+    public static int getInt(ByteBuffer src, int index) {
+        return (int) BUFFER_INT.get(src, index);
+    }
+
+    /**
+     * Read an int primitive from four bytes of a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param src                  Source buffer.
+     * @param index                Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return An int.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code index}.
+     * @see #getInt(ByteBuffer, int)
+     */
+    public static int getInt(ByteBuffer src, int index, NumberRepresentation numberRepresentation) {
+        return getInt(src, index) ^ intMask(numberRepresentation);
+    }
+
+    /**
+     * Convert an int primitive to bytes in the specified byte order.
+     *
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes returned.
+     * @return Bytes.
+     */
+    public static byte[] fromInt(int input, ByteOrder byteOrder) {
+        byte[] out = new byte[4];
+        putInt(out, 0, input, byteOrder);
+        return out;
+    }
+
+    /**
+     * Convert a byte array in the specified byte order to an int.
+     *
+     * @param bytes     Byte array.
+     * @param byteOrder Byte order of the bytes.
+     * @return An int.
+     */
+    public static int toInt(byte[] bytes, ByteOrder byteOrder) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 4);
+        return getInt(bytes, 0, byteOrder);
+    }
+
+    /**
+     * Write an int primitive as four bytes in the specified byte order into an existing byte array.
+     *
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code offset}.
+     */
+    public static void putInt(byte[] dst, int offset, int input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            INT_LE.set(dst, offset, input);
+        } else {
+            INT.set(dst, offset, input);
+        }
+    }
+
+    /**
+     * Read an int primitive from four bytes in the specified byte order of a byte array.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return An int.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code offset}.
+     */
+    public static int getInt(byte[] src, int offset, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (int) INT_LE.get(src, offset)
+                : (int) INT.get(src, offset);
+    }
+
+    /**
+     * Write an int primitive as four bytes in the specified byte order into a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param dst       Destination buffer.
+     * @param index     Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     */
+    public static void putInt(ByteBuffer dst, int index, int input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            BUFFER_INT_LE.set(dst, index, input);
+        } else {
+            BUFFER_INT.set(dst, index, input);
+        }
+    }
+
+    /**
+     * Read an int primitive from four bytes in the specified byte order of a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param src       Source buffer.
+     * @param index     Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return An int.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code index}.
+     */
+    public static int getInt(ByteBuffer src, int index, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (int) BUFFER_INT_LE.get(src, index)
+                : (int) BUFFER_INT.get(src, index);
+    }
+
+
+    /**
+     * Convert a {@link Float} to bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromFloat(Float input) throws ConversionException {
+        assertNotNull(input);
+        return fromFloat(input.floatValue());
+    }
+
+    /**
+     * Convert a float primitive to bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     */
+    public static byte[] fromFloat(float input) {
+        byte[] out = new byte[4];
+        putFloat(out, 0, input);
+        return out;
+    }
+
+    /**
+     * Convert a {@link Float} to bytes, according to the specified {@link NumberRepresentation}.
+     *
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromFloat(Float input, NumberRepresentation numberRepresentation) throws ConversionException {
+        assertNotNull(input);
+        return fromFloat(input.floatValue(), numberRepresentation);
+    }
+
+    /**
+     * Convert a float primitive to bytes, according to the specified {@link NumberRepresentation}.
+     *
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return Bytes.
+     */
+    public static byte[] fromFloat(float input, NumberRepresentation numberRepresentation) {
+        byte[] out = new byte[4];
+        putFloat(out, 0, input, numberRepresentation);
+        return out;
+    }
+
+    /**
+     * Convert a byte array to a float.
+     *
+     * @param bytes Byte array.
+     * @return A float.
+     */
+    public static float toFloat(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 4);
+        return getFloat(bytes, 0);
+    }
+
+    /**
+     * Convert a byte array to a float, according to the specified {@link NumberRepresentation}.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A float.
+     * @throws ConversionException Thrown when the input is not 4 bytes or is null.
+     */
+    public static float toFloat(byte[] bytes, NumberRepresentation numberRepresentation) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 4);
+        return getFloat(bytes, 0, numberRepresentation);
+    }
+
+    /**
+     * Write a float primitive as four bytes into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code offset}.
+     */
+    public static void putFloat(byte[] dst, int offset, float input) {
+        FLOAT.set(dst, offset, input);
+    }
+
+    /**
+     * Write a float primitive as four bytes into an existing byte array, according to the specified
+     * {@link NumberRepresentation}.
+     * <p>
+     * With {@link NumberRepresentation#LEXICOGRAPHIC_SORT}, the byte order matches {@link Float#compare(float, float)}:
+     * negative infinity sorts first, {@code -0.0} sorts right before {@code 0.0}, and NaN sorts after positive
+     * infinity. All NaN values are written as the canonical NaN.
+     * {@link NumberRepresentation#LEXICOGRAPHIC_SORT_DESCENDING} reverses that order.
+     *
+     * @param dst                  Destination byte array.
+     * @param offset               Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code offset}.
+     */
+    public static void putFloat(byte[] dst, int offset, float input, NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) {
+            putInt(dst, offset, sortableFloatBits(input));
+        } else if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            putInt(dst, offset, ~sortableFloatBits(input));
+        } else {
+            putFloat(dst, offset, input);
+        }
+    }
+
+    /**
+     * Read a float primitive from four bytes of a byte array.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A float.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code offset}.
+     */
+    public static float getFloat(byte[] src, int offset) {
+        return (float) FLOAT.get(src, offset);
+    }
+
+    /**
+     * Read a float primitive from four bytes of a byte array, according to the specified {@link NumberRepresentation}.
+     *
+     * @param src                  Source byte array.
+     * @param offset               Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A float.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code offset}.
+     */
+    public static float getFloat(byte[] src, int offset, NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) {
+            return fromSortableFloatBits(getInt(src, offset));
+        } else if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            return fromSortableFloatBits(~getInt(src, offset));
+        }
+        return getFloat(src, offset);
+    }
+
+    /**
+     * Write a float primitive as four bytes into a {@link ByteBuffer}.
+     * <p>
+     * The bytes are written big-endian at an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
+     *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
+     * @param input Input value.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     */
+    public static void putFloat(ByteBuffer dst, int index, float input) {
+        BUFFER_FLOAT.set(dst, index, input);
+    }
+
+    /**
+     * Write a float primitive as four bytes into a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param dst                  Destination buffer.
+     * @param index                Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     * @see #putFloat(ByteBuffer, int, float)
+     */
+    public static void putFloat(ByteBuffer dst, int index, float input, NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) {
+            putInt(dst, index, sortableFloatBits(input));
+        } else if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            putInt(dst, index, ~sortableFloatBits(input));
+        } else {
+            putFloat(dst, index, input);
+        }
+    }
+
+    /**
+     * Read a float primitive from four bytes of a {@link ByteBuffer}.
+     * <p>
+     * The bytes are read big-endian from an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @return A float.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code index}.
+     */
+    public static float getFloat(ByteBuffer src, int index) {
+        return (float) BUFFER_FLOAT.get(src, index);
+    }
+
+    /**
+     * Read a float primitive from four bytes of a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param src                  Source buffer.
+     * @param index                Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A float.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code index}.
+     * @see #getFloat(ByteBuffer, int)
+     */
+    public static float getFloat(ByteBuffer src, int index, NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) {
+            return fromSortableFloatBits(getInt(src, index));
+        } else if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            return fromSortableFloatBits(~getInt(src, index));
+        }
+        return getFloat(src, index);
+    }
+
+    /**
+     * Convert a float primitive to bytes in the specified byte order.
+     *
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes returned.
+     * @return Bytes.
+     */
+    public static byte[] fromFloat(float input, ByteOrder byteOrder) {
+        byte[] out = new byte[4];
+        putFloat(out, 0, input, byteOrder);
+        return out;
+    }
+
+    /**
+     * Convert a byte array in the specified byte order to a float.
+     *
+     * @param bytes     Byte array.
+     * @param byteOrder Byte order of the bytes.
+     * @return A float.
+     */
+    public static float toFloat(byte[] bytes, ByteOrder byteOrder) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 4);
+        return getFloat(bytes, 0, byteOrder);
+    }
+
+    /**
+     * Write a float primitive as four bytes in the specified byte order into an existing byte array.
+     *
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code offset}.
+     */
+    public static void putFloat(byte[] dst, int offset, float input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            FLOAT_LE.set(dst, offset, input);
+        } else {
+            FLOAT.set(dst, offset, input);
+        }
+    }
+
+    /**
+     * Read a float primitive from four bytes in the specified byte order of a byte array.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return A float.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code offset}.
+     */
+    public static float getFloat(byte[] src, int offset, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (float) FLOAT_LE.get(src, offset)
+                : (float) FLOAT.get(src, offset);
+    }
+
+    /**
+     * Write a float primitive as four bytes in the specified byte order into a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param dst       Destination buffer.
+     * @param index     Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for four bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     */
+    public static void putFloat(ByteBuffer dst, int index, float input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            BUFFER_FLOAT_LE.set(dst, index, input);
+        } else {
+            BUFFER_FLOAT.set(dst, index, input);
+        }
+    }
+
+    /**
+     * Read a float primitive from four bytes in the specified byte order of a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param src       Source buffer.
+     * @param index     Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return A float.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain four bytes at {@code index}.
+     */
+    public static float getFloat(ByteBuffer src, int index, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (float) BUFFER_FLOAT_LE.get(src, index)
+                : (float) BUFFER_FLOAT.get(src, index);
+    }
+
+    static int sortableFloatBits(float input) {
+        int bits = Float.floatToIntBits(input);
+        // Flip all bits of negative numbers to reverse their order, and only the sign bit of positive numbers.
+        return bits ^ (bits >> 31 | Integer.MIN_VALUE);
+    }
+
+    static float fromSortableFloatBits(int sortable) {
+        // The sign bit is set for positive numbers; for negative numbers all bits were flipped.
+        return Float.intBitsToFloat(sortable ^ (~sortable >> 31 | Integer.MIN_VALUE));
+    }
+
+
+    /**
+     * Convert a {@link Double} to bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromDouble(Double input) throws ConversionException {
+        assertNotNull(input);
+        return fromDouble(input.doubleValue());
+    }
+
+    /**
+     * Convert a double primitive to bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     */
+    public static byte[] fromDouble(double input) {
+        byte[] out = new byte[8];
+        putDouble(out, 0, input);
+        return out;
+    }
+
+    /**
+     * Convert a {@link Double} to bytes, according to the specified {@link NumberRepresentation}.
+     *
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromDouble(Double input, NumberRepresentation numberRepresentation)
+            throws ConversionException {
+        assertNotNull(input);
+        return fromDouble(input.doubleValue(), numberRepresentation);
+    }
+
+    /**
+     * Convert a double primitive to bytes, according to the specified {@link NumberRepresentation}.
+     *
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return Bytes.
+     */
+    public static byte[] fromDouble(double input, NumberRepresentation numberRepresentation) {
+        byte[] out = new byte[8];
+        putDouble(out, 0, input, numberRepresentation);
+        return out;
+    }
+
+    /**
+     * Convert a byte array to a double.
+     *
+     * @param bytes Byte array.
+     * @return A double.
+     */
+    public static double toDouble(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 8);
+        return getDouble(bytes, 0);
+    }
+
+    /**
+     * Convert a byte array to a double, according to the specified {@link NumberRepresentation}.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A double.
+     * @throws ConversionException Thrown when the input is not 8 bytes or is null.
+     */
+    public static double toDouble(byte[] bytes, NumberRepresentation numberRepresentation)
+            throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 8);
+        return getDouble(bytes, 0, numberRepresentation);
+    }
+
+    /**
+     * Write a double primitive as eight bytes into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code offset}.
+     */
+    public static void putDouble(byte[] dst, int offset, double input) {
+        DOUBLE.set(dst, offset, input);
+    }
+
+    /**
+     * Write a double primitive as eight bytes into an existing byte array, according to the specified
+     * {@link NumberRepresentation}.
+     * <p>
+     * With {@link NumberRepresentation#LEXICOGRAPHIC_SORT}, the byte order matches
+     * {@link Double#compare(double, double)}: negative infinity sorts first, {@code -0.0} sorts right before
+     * {@code 0.0}, and NaN sorts after positive infinity. All NaN values are written as the canonical NaN.
+     * {@link NumberRepresentation#LEXICOGRAPHIC_SORT_DESCENDING} reverses that order.
+     *
+     * @param dst                  Destination byte array.
+     * @param offset               Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code offset}.
+     */
+    public static void putDouble(byte[] dst, int offset, double input, NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) {
+            putLong(dst, offset, sortableDoubleBits(input));
+        } else if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            putLong(dst, offset, ~sortableDoubleBits(input));
+        } else {
+            putDouble(dst, offset, input);
+        }
+    }
+
+    /**
+     * Read a double primitive from eight bytes of a byte array.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A double.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code offset}.
+     */
+    public static double getDouble(byte[] src, int offset) {
+        return (double) DOUBLE.get(src, offset);
+    }
+
+    /**
+     * Read a double primitive from eight bytes of a byte array, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param src                  Source byte array.
+     * @param offset               Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A double.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code offset}.
+     */
+    public static double getDouble(byte[] src, int offset, NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) {
+            return fromSortableDoubleBits(getLong(src, offset));
+        } else if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            return fromSortableDoubleBits(~getLong(src, offset));
+        }
+        return getDouble(src, offset);
+    }
+
+    /**
+     * Write a double primitive as eight bytes into a {@link ByteBuffer}.
+     * <p>
+     * The bytes are written big-endian at an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
+     *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
+     * @param input Input value.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     */
+    public static void putDouble(ByteBuffer dst, int index, double input) {
+        BUFFER_DOUBLE.set(dst, index, input);
+    }
+
+    /**
+     * Write a double primitive as eight bytes into a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param dst                  Destination buffer.
+     * @param index                Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     * @see #putDouble(ByteBuffer, int, double)
+     */
+    public static void putDouble(ByteBuffer dst, int index, double input, NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) {
+            putLong(dst, index, sortableDoubleBits(input));
+        } else if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            putLong(dst, index, ~sortableDoubleBits(input));
+        } else {
+            putDouble(dst, index, input);
+        }
+    }
+
+    /**
+     * Read a double primitive from eight bytes of a {@link ByteBuffer}.
+     * <p>
+     * The bytes are read big-endian from an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @return A double.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code index}.
+     */
+    public static double getDouble(ByteBuffer src, int index) {
+        return (double) BUFFER_DOUBLE.get(src, index);
+    }
+
+    /**
+     * Read a double primitive from eight bytes of a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param src                  Source buffer.
+     * @param index                Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A double.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code index}.
+     * @see #getDouble(ByteBuffer, int)
+     */
+    public static double getDouble(ByteBuffer src, int index, NumberRepresentation numberRepresentation) {
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) {
+            return fromSortableDoubleBits(getLong(src, index));
+        } else if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            return fromSortableDoubleBits(~getLong(src, index));
+        }
+        return getDouble(src, index);
+    }
+
+    /**
+     * Convert a double primitive to bytes in the specified byte order.
+     *
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes returned.
+     * @return Bytes.
+     */
+    public static byte[] fromDouble(double input, ByteOrder byteOrder) {
+        byte[] out = new byte[8];
+        putDouble(out, 0, input, byteOrder);
+        return out;
+    }
+
+    /**
+     * Convert a byte array in the specified byte order to a double.
+     *
+     * @param bytes     Byte array.
+     * @param byteOrder Byte order of the bytes.
+     * @return A double.
+     */
+    public static double toDouble(byte[] bytes, ByteOrder byteOrder) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 8);
+        return getDouble(bytes, 0, byteOrder);
+    }
+
+    /**
+     * Write a double primitive as eight bytes in the specified byte order into an existing byte array.
+     *
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code offset}.
+     */
+    public static void putDouble(byte[] dst, int offset, double input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            DOUBLE_LE.set(dst, offset, input);
+        } else {
+            DOUBLE.set(dst, offset, input);
+        }
+    }
+
+    /**
+     * Read a double primitive from eight bytes in the specified byte order of a byte array.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return A double.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code offset}.
+     */
+    public static double getDouble(byte[] src, int offset, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (double) DOUBLE_LE.get(src, offset)
+                : (double) DOUBLE.get(src, offset);
+    }
+
+    /**
+     * Write a double primitive as eight bytes in the specified byte order into a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param dst       Destination buffer.
+     * @param index     Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     */
+    public static void putDouble(ByteBuffer dst, int index, double input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            BUFFER_DOUBLE_LE.set(dst, index, input);
+        } else {
+            BUFFER_DOUBLE.set(dst, index, input);
+        }
+    }
+
+    /**
+     * Read a double primitive from eight bytes in the specified byte order of a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param src       Source buffer.
+     * @param index     Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return A double.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code index}.
+     */
+    public static double getDouble(ByteBuffer src, int index, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (double) BUFFER_DOUBLE_LE.get(src, index)
+                : (double) BUFFER_DOUBLE.get(src, index);
+    }
+
+    static long sortableDoubleBits(double input) {
+        long bits = Double.doubleToLongBits(input);
+        // Flip all bits of negative numbers to reverse their order, and only the sign bit of positive numbers.
+        return bits ^ (bits >> 63 | Long.MIN_VALUE);
+    }
+
+    static double fromSortableDoubleBits(long sortable) {
+        // The sign bit is set for positive numbers; for negative numbers all bits were flipped.
+        return Double.longBitsToDouble(sortable ^ (~sortable >> 63 | Long.MIN_VALUE));
+    }
+
+
+    /**
+     * Convert a {@link Long} to bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromLong(Long input) throws ConversionException {
+        assertNotNull(input);
+        return fromLong(input.longValue());
+    }
+
+    /**
+     * Convert a {@link Long} to bytes, according to the specified {@link NumberRepresentation}.
+     *
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromLong(Long input, NumberRepresentation numberRepresentation) throws ConversionException {
+        assertNotNull(input);
+        return fromLong(input.longValue(), numberRepresentation);
+    }
+
+    /**
+     * Convert a long primitive to bytes, according to the specified {@link NumberRepresentation}.
+     *
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return Bytes.
+     */
+    public static byte[] fromLong(long input, NumberRepresentation numberRepresentation) {
+        byte[] out = new byte[8];
+        putLong(out, 0, input, numberRepresentation);
+        return out;
+    }
+
+    /**
+     * Convert a long primitive to bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     */
+    public static byte[] fromLong(long input) {
+        byte[] out = new byte[8];
+        putLong(out, 0, input);
+        return out;
+    }
+
+    /**
+     * Convert a byte array to a long.
+     *
+     * @param bytes Byte array.
+     * @return A long.
+     */
+    public static long toLong(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 8);
+        return getLong(bytes, 0);
+    }
+
+    /**
+     * Convert a byte array to a long, according to the specified {@link NumberRepresentation}.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A long.
+     */
+    public static long toLong(byte[] bytes, NumberRepresentation numberRepresentation) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 8);
+        return getLong(bytes, 0, numberRepresentation);
+    }
+
+    /**
+     * Write a long primitive as eight bytes into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code offset}.
+     */
+    public static void putLong(byte[] dst, int offset, long input) {
+        LONG.set(dst, offset, input);
+    }
+
+    /**
+     * Write a long primitive as eight bytes into an existing byte array, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param dst                  Destination byte array.
+     * @param offset               Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code offset}.
+     */
+    public static void putLong(byte[] dst, int offset, long input, NumberRepresentation numberRepresentation) {
+        putLong(dst, offset, input ^ longMask(numberRepresentation));
+    }
+
+    /**
+     * Read a long primitive from eight bytes of a byte array.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code offset}.
+     */
+    public static long getLong(byte[] src, int offset) {
+        return (long) LONG.get(src, offset);
+    }
+
+    /**
+     * Read a long primitive from eight bytes of a byte array, according to the specified {@link NumberRepresentation}.
+     *
+     * @param src                  Source byte array.
+     * @param offset               Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code offset}.
+     */
+    public static long getLong(byte[] src, int offset, NumberRepresentation numberRepresentation) {
+        return getLong(src, offset) ^ longMask(numberRepresentation);
+    }
+
+    /**
+     * Write a long primitive as eight bytes into a {@link ByteBuffer}.
+     * <p>
+     * The bytes are written big-endian at an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
+     *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
+     * @param input Input value.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     */
+    public static void putLong(ByteBuffer dst, int index, long input) {
+        BUFFER_LONG.set(dst, index, input);
+    }
+
+    /**
+     * Write a long primitive as eight bytes into a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param dst                  Destination buffer.
+     * @param index                Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     * @see #putLong(ByteBuffer, int, long)
+     */
+    public static void putLong(ByteBuffer dst, int index, long input, NumberRepresentation numberRepresentation) {
+        putLong(dst, index, input ^ longMask(numberRepresentation));
+    }
+
+    /**
+     * Read a long primitive from eight bytes of a {@link ByteBuffer}.
+     * <p>
+     * The bytes are read big-endian from an absolute index, regardless of the byte order of the buffer, and its
+     * position is not changed. Heap and direct buffers are both supported.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code index}.
+     */
+    public static long getLong(ByteBuffer src, int index) {
+        return (long) BUFFER_LONG.get(src, index);
+    }
+
+    /**
+     * Read a long primitive from eight bytes of a {@link ByteBuffer}, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param src                  Source buffer.
+     * @param index                Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code index}.
+     * @see #getLong(ByteBuffer, int)
+     */
+    public static long getLong(ByteBuffer src, int index, NumberRepresentation numberRepresentation) {
+        return getLong(src, index) ^ longMask(numberRepresentation);
+    }
+
+    /**
+     * Convert a long primitive to bytes in the specified byte order.
+     *
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes returned.
+     * @return Bytes.
+     */
+    public static byte[] fromLong(long input, ByteOrder byteOrder) {
+        byte[] out = new byte[8];
+        putLong(out, 0, input, byteOrder);
+        return out;
+    }
+
+    /**
+     * Convert a byte array in the specified byte order to a long.
+     *
+     * @param bytes     Byte array.
+     * @param byteOrder Byte order of the bytes.
+     * @return A long.
+     */
+    public static long toLong(byte[] bytes, ByteOrder byteOrder) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 8);
+        return getLong(bytes, 0, byteOrder);
+    }
+
+    /**
+     * Write a long primitive as eight bytes in the specified byte order into an existing byte array.
+     *
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code offset}.
+     */
+    public static void putLong(byte[] dst, int offset, long input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            LONG_LE.set(dst, offset, input);
+        } else {
+            LONG.set(dst, offset, input);
+        }
+    }
+
+    /**
+     * Read a long primitive from eight bytes in the specified byte order of a byte array.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code offset}.
+     */
+    public static long getLong(byte[] src, int offset, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (long) LONG_LE.get(src, offset)
+                : (long) LONG.get(src, offset);
+    }
+
+    /**
+     * Write a long primitive as eight bytes in the specified byte order into a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param dst       Destination buffer.
+     * @param index     Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param byteOrder Byte order of the bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for eight bytes at {@code index}.
+     * @throws java.nio.ReadOnlyBufferException Thrown when {@code dst} is read-only.
+     */
+    public static void putLong(ByteBuffer dst, int index, long input, ByteOrder byteOrder) {
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            BUFFER_LONG_LE.set(dst, index, input);
+        } else {
+            BUFFER_LONG.set(dst, index, input);
+        }
+    }
+
+    /**
+     * Read a long primitive from eight bytes in the specified byte order of a {@link ByteBuffer}.
+     * <p>
+     * The byte order set on the buffer itself is ignored, and its position is not changed.
+     *
+     * @param src       Source buffer.
+     * @param index     Position in {@code src} of the first byte read.
+     * @param byteOrder Byte order of the bytes read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain eight bytes at {@code index}.
+     */
+    public static long getLong(ByteBuffer src, int index, ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN
+                ? (long) BUFFER_LONG_LE.get(src, index)
+                : (long) BUFFER_LONG.get(src, index);
+    }
+
+    /**
+     * Convert a long primitive to a big-endian two's complement representation of {@code width} bytes.
+     * <p>
+     * Fixed widths of one to eight bytes let a key layout use exactly as many bytes as the range of a field requires,
+     * for example six bytes for a millisecond timestamp (good for almost 4500 years either side of the epoch).
+     *
+     * @param input Input value.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return Bytes.
+     * @throws IllegalArgumentException Thrown when the width is out of range, or the value does not fit in it.
+     * @see #signedSize(long)
+     */
+    public static byte[] fromSigned(long input, int width) {
+        return fromSigned(input, width, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * Convert a long primitive to a big-endian representation of {@code width} bytes, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param input                Input value.
+     * @param width                Number of bytes, between {@code 1} and {@code 8}.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return Bytes.
+     * @throws IllegalArgumentException Thrown when the width is out of range, or the value does not fit in it.
+     */
+    public static byte[] fromSigned(long input, int width, NumberRepresentation numberRepresentation) {
+        byte[] out = new byte[checkWidth(width)];
+        putSigned(out, 0, width, input, numberRepresentation);
+        return out;
+    }
+
+    /**
+     * Convert a big-endian two's complement representation of one to eight bytes to a long.
+     *
+     * @param bytes Byte array.
+     * @return A long.
+     * @throws ConversionException Thrown when the input is null, or not between one and eight bytes long.
+     */
+    public static long toSigned(byte[] bytes) throws ConversionException {
+        return toSigned(bytes, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * Convert a big-endian representation of one to eight bytes to a long, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A long.
+     * @throws ConversionException Thrown when the input is null, or not between one and eight bytes long.
+     */
+    public static long toSigned(byte[] bytes, NumberRepresentation numberRepresentation) throws ConversionException {
+        assertNotNull(bytes);
+        assertWidth(bytes);
+        return getSigned(bytes, 0, bytes.length, numberRepresentation);
+    }
+
+    /**
+     * Write a long primitive as {@code width} bytes of big-endian two's complement into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param width  Number of bytes, between {@code 1} and {@code 8}.
+     * @param input  Input value.
+     * @throws IllegalArgumentException  Thrown when the width is out of range, or the value does not fit in it.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for {@code width} bytes at {@code offset}.
+     */
+    public static void putSigned(byte[] dst, int offset, int width, long input) {
+        putSigned(dst, offset, width, input, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * Write a long primitive as {@code width} big-endian bytes into an existing byte array, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param dst                  Destination byte array.
+     * @param offset               Position in {@code dst} of the first byte written.
+     * @param width                Number of bytes, between {@code 1} and {@code 8}.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IllegalArgumentException  Thrown when the width is out of range, or the value does not fit in it.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for {@code width} bytes at {@code offset}.
+     */
+    public static void putSigned(byte[] dst, int offset, int width, long input,
+                                 NumberRepresentation numberRepresentation) {
+        assertFitsSigned(input, checkWidth(width));
+        Objects.checkFromIndexSize(offset, width, dst.length);
+        writeWidth(dst, offset, width, input ^ widthMask(width, numberRepresentation));
+    }
+
+    /**
+     * Read a long primitive from {@code width} bytes of big-endian two's complement in a byte array.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @param width  Number of bytes, between {@code 1} and {@code 8}.
+     * @return A long.
+     * @throws IllegalArgumentException  Thrown when the width is out of range.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain {@code width} bytes at
+     *                                   {@code offset}.
+     */
+    public static long getSigned(byte[] src, int offset, int width) {
+        return getSigned(src, offset, width, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * Read a long primitive from {@code width} big-endian bytes of a byte array, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param src                  Source byte array.
+     * @param offset               Position in {@code src} of the first byte read.
+     * @param width                Number of bytes, between {@code 1} and {@code 8}.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A long.
+     * @throws IllegalArgumentException  Thrown when the width is out of range.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain {@code width} bytes at
+     *                                   {@code offset}.
+     */
+    public static long getSigned(byte[] src, int offset, int width, NumberRepresentation numberRepresentation) {
+        Objects.checkFromIndexSize(offset, checkWidth(width), src.length);
+        return signExtend(readWidth(src, offset, width) ^ widthMask(width, numberRepresentation), width);
+    }
+
+    /**
+     * Write a long primitive as {@code width} bytes of big-endian two's complement into a {@link ByteBuffer} at an
+     * absolute index. The position of the buffer is not changed.
+     *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @param input Input value.
+     * @throws IllegalArgumentException  Thrown when the width is out of range, or the value does not fit in it.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for {@code width} bytes at {@code index}.
+     */
+    public static void putSigned(ByteBuffer dst, int index, int width, long input) {
+        putSigned(dst, index, width, input, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * Write a long primitive as {@code width} big-endian bytes into a {@link ByteBuffer} at an absolute index,
+     * according to the specified {@link NumberRepresentation}. The position of the buffer is not changed.
+     *
+     * @param dst                  Destination buffer.
+     * @param index                Position in {@code dst} of the first byte written.
+     * @param width                Number of bytes, between {@code 1} and {@code 8}.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @throws IllegalArgumentException  Thrown when the width is out of range, or the value does not fit in it.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for {@code width} bytes at {@code index}.
+     */
+    public static void putSigned(ByteBuffer dst, int index, int width, long input,
+                                 NumberRepresentation numberRepresentation) {
+        assertFitsSigned(input, checkWidth(width));
+        Objects.checkFromIndexSize(index, width, dst.limit());
+        writeVarLongPayload(dst, index, width, input ^ widthMask(width, numberRepresentation), 0);
+    }
+
+    /**
+     * Read a long primitive from {@code width} bytes of big-endian two's complement in a {@link ByteBuffer} at an
+     * absolute index. The position of the buffer is not changed.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return A long.
+     * @throws IllegalArgumentException  Thrown when the width is out of range.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain {@code width} bytes at
+     *                                   {@code index}.
+     */
+    public static long getSigned(ByteBuffer src, int index, int width) {
+        return getSigned(src, index, width, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * Read a long primitive from {@code width} big-endian bytes of a {@link ByteBuffer} at an absolute index,
+     * according to the specified {@link NumberRepresentation}. The position of the buffer is not changed.
+     *
+     * @param src                  Source buffer.
+     * @param index                Position in {@code src} of the first byte read.
+     * @param width                Number of bytes, between {@code 1} and {@code 8}.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return A long.
+     * @throws IllegalArgumentException  Thrown when the width is out of range.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain {@code width} bytes at
+     *                                   {@code index}.
+     */
+    public static long getSigned(ByteBuffer src, int index, int width, NumberRepresentation numberRepresentation) {
+        Objects.checkFromIndexSize(index, checkWidth(width), src.limit());
+        return signExtend(readVarLongPayload(src, index, width, 0) ^ widthMask(width, numberRepresentation), width);
+    }
+
+    /**
+     * Determine the smallest width that holds a value in two's complement, for use with
+     * {@link #fromSigned(long, int)} and {@link #putSigned(byte[], int, int, long)}.
+     *
+     * @param input Input value.
+     * @return Number of bytes, between {@code 1} and {@code 8}.
+     */
+    public static int signedSize(long input) {
+        // Significant bits, plus one for the sign.
+        return (Long.SIZE - Long.numberOfLeadingZeros(input ^ input >> 63)) / 8 + 1;
+    }
+
+    /**
+     * Convert a long primitive, interpreted as an unsigned number, to a big-endian representation of {@code width}
+     * bytes. Its unsigned byte order matches the numerical order of the input.
+     *
+     * @param input Input value.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return Bytes.
+     * @throws IllegalArgumentException Thrown when the width is out of range, or the value does not fit in it.
+     * @see #unsignedSize(long)
+     */
+    public static byte[] fromUnsigned(long input, int width) {
+        byte[] out = new byte[checkWidth(width)];
+        putUnsigned(out, 0, width, input);
+        return out;
+    }
+
+    /**
+     * Convert an unsigned big-endian representation of one to eight bytes to a long. Eight bytes with the highest bit
+     * set result in a negative long, to be interpreted as unsigned.
+     *
+     * @param bytes Byte array.
+     * @return A long.
+     * @throws ConversionException Thrown when the input is null, or not between one and eight bytes long.
+     */
+    public static long toUnsigned(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertWidth(bytes);
+        return getUnsigned(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Write a long primitive, interpreted as an unsigned number, as {@code width} big-endian bytes into an existing
+     * byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param width  Number of bytes, between {@code 1} and {@code 8}.
+     * @param input  Input value.
+     * @throws IllegalArgumentException  Thrown when the width is out of range, or the value does not fit in it.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for {@code width} bytes at {@code offset}.
+     */
+    public static void putUnsigned(byte[] dst, int offset, int width, long input) {
+        assertFitsUnsigned(input, checkWidth(width));
+        Objects.checkFromIndexSize(offset, width, dst.length);
+        writeWidth(dst, offset, width, input);
+    }
+
+    /**
+     * Read a long primitive from {@code width} unsigned big-endian bytes of a byte array.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @param width  Number of bytes, between {@code 1} and {@code 8}.
+     * @return A long.
+     * @throws IllegalArgumentException  Thrown when the width is out of range.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain {@code width} bytes at
+     *                                   {@code offset}.
+     */
+    public static long getUnsigned(byte[] src, int offset, int width) {
+        Objects.checkFromIndexSize(offset, checkWidth(width), src.length);
+        return readWidth(src, offset, width);
+    }
+
+    /**
+     * Write a long primitive, interpreted as an unsigned number, as {@code width} big-endian bytes into a
+     * {@link ByteBuffer} at an absolute index. The position of the buffer is not changed.
+     *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @param input Input value.
+     * @throws IllegalArgumentException  Thrown when the width is out of range, or the value does not fit in it.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for {@code width} bytes at {@code index}.
+     */
+    public static void putUnsigned(ByteBuffer dst, int index, int width, long input) {
+        assertFitsUnsigned(input, checkWidth(width));
+        Objects.checkFromIndexSize(index, width, dst.limit());
+        writeVarLongPayload(dst, index, width, input, 0);
+    }
+
+    /**
+     * Read a long primitive from {@code width} unsigned big-endian bytes of a {@link ByteBuffer} at an absolute
+     * index. The position of the buffer is not changed.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return A long.
+     * @throws IllegalArgumentException  Thrown when the width is out of range.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain {@code width} bytes at
+     *                                   {@code index}.
+     */
+    public static long getUnsigned(ByteBuffer src, int index, int width) {
+        Objects.checkFromIndexSize(index, checkWidth(width), src.limit());
+        return readVarLongPayload(src, index, width, 0);
+    }
+
+    /**
+     * Determine the smallest width that holds a value interpreted as an unsigned number, for use with
+     * {@link #fromUnsigned(long, int)} and {@link #putUnsigned(byte[], int, int, long)}.
+     *
+     * @param input Input value.
+     * @return Number of bytes, between {@code 1} and {@code 8}.
+     */
+    public static int unsignedSize(long input) {
+        return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(input) + 7) / 8);
+    }
+
+    static int checkWidth(int width) {
+        if (width < 1 || width > 8) {
+            throw new IllegalArgumentException("Width must be between 1 and 8 bytes, got " + width + ".");
+        }
+        return width;
+    }
+
+    private static void assertWidth(byte[] bytes) throws ConversionException {
+        if (bytes.length < 1 || bytes.length > 8) {
+            throw new ConversionException("Expected between 1 and 8 bytes as input, got " + bytes.length);
+        }
+    }
+
+    private static void assertFitsSigned(long input, int width) {
+        if (signExtend(input, width) != input) {
+            throw new IllegalArgumentException("Value " + input + " does not fit in " + width + " signed bytes.");
+        }
+    }
+
+    private static void assertFitsUnsigned(long input, int width) {
+        if (width < 8 && input >>> (width * 8) != 0) {
+            throw new IllegalArgumentException(
+                    "Value " + Long.toUnsignedString(input) + " does not fit in " + width + " unsigned bytes.");
+        }
+    }
+
+    private static long signExtend(long value, int width) {
+        int shift = Long.SIZE - width * 8;
+        return value << shift >> shift;
+    }
+
+    /**
+     * XOR mask that turns the two's complement bits of a value of {@code width} bytes into the specified
+     * representation, and back. Like {@link #longMask(NumberRepresentation)}, but for the sign bit of that width.
+     */
+    static long widthMask(int width, NumberRepresentation numberRepresentation) {
+        long signBit = 1L << (width * 8 - 1);
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT) return signBit;
+        if (numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) return signBit - 1;
+        return 0L;
+    }
+
+    // Callers check the bounds. The common widths take one or two VarHandle accesses instead of a loop.
+
+    private static void writeWidth(byte[] dst, int offset, int width, long value) {
+        switch (width) {
+            case 8:
+                LONG.set(dst, offset, value);
+                break;
+            case 6:
+                SHORT.set(dst, offset, (short) (value >>> 32));
+                INT.set(dst, offset + 2, (int) value);
+                break;
+            case 4:
+                INT.set(dst, offset, (int) value);
+                break;
+            case 2:
+                SHORT.set(dst, offset, (short) value);
+                break;
+            default:
+                for (int i = width - 1; i >= 0; i--) {
+                    dst[offset + i] = (byte) value;
+                    value >>>= 8;
+                }
+        }
+    }
+
+    private static long readWidth(byte[] src, int offset, int width) {
+        switch (width) {
+            case 8:
+                return (long) LONG.get(src, offset);
+            case 6:
+                return (long) Short.toUnsignedInt((short) SHORT.get(src, offset)) << 32
+                        | Integer.toUnsignedLong((int) INT.get(src, offset + 2));
+            case 4:
+                return Integer.toUnsignedLong((int) INT.get(src, offset));
+            case 2:
+                return Short.toUnsignedInt((short) SHORT.get(src, offset));
+            default:
+                long value = 0;
+                for (int i = 0; i < width; i++) {
+                    value = value << 8 | (src[offset + i] & 0xff);
+                }
+                return value;
+        }
+    }
+
+
+    /**
+     * Convert a long primitive to an order-preserving variable-length encoding of one to nine bytes.
+     * <p>
+     * Small absolute values take fewer bytes (values between {@code -112} and {@code 111} take a single byte, values
+     * between {@code -2160} and {@code 2159} two bytes), and the unsigned byte order of the output matches the
+     * numerical order of the input, so these values can be used in sortable keys. The first byte determines the length
+     * of the encoded value, see {@link #getVarLongSize(byte[], int)}.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     */
+    public static byte[] fromVarLong(long input) {
+        byte[] out = new byte[varLongSize(input)];
+        putVarLong(out, 0, input);
+        return out;
+    }
+
+    /**
+     * Convert an int primitive to an order-preserving variable-length encoding of one to five bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @see #fromVarLong(long)
+     */
+    public static byte[] fromVarInt(int input) {
+        return fromVarLong(input);
+    }
+
+    /**
+     * Convert a byte array containing a single order-preserving variable-length value to a long.
+     *
+     * @param bytes Byte array.
+     * @return A long.
+     * @throws ConversionException Thrown when the input is null, does not start with a valid first byte, or its
+     *                             length does not match the encoded length.
+     * @see #fromVarLong(long)
+     */
+    public static long toVarLong(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertAtLeastNumBytes(bytes, 1);
+        if (!isVarLongHeader(bytes[0])) {
+            throw new ConversionException("Not a valid variable-length value header: " + (bytes[0] & 0xff));
+        }
+        assertNumBytes(bytes, getVarLongSize(bytes, 0));
+        return getVarLong(bytes, 0);
+    }
+
+    /**
+     * Convert a byte array containing a single order-preserving variable-length value to an int.
+     *
+     * @param bytes Byte array.
+     * @return An int.
+     * @throws ConversionException Thrown when the input is null, does not start with a valid first byte, its length
+     *                             does not match the encoded length, or the value does not fit in an int.
+     * @see #fromVarInt(int)
+     */
+    public static int toVarInt(byte[] bytes) throws ConversionException {
+        return toIntExact(toVarLong(bytes));
+    }
+
+    /**
+     * Write a long primitive in its order-preserving variable-length encoding into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code offset}.
+     * @see #fromVarLong(long)
+     */
+    public static int putVarLong(byte[] dst, int offset, long input) {
+        // Non-negative values use first bytes 0x80–0xfe; negative values are stored as the complement of the
+        // encoding of ~input, so they use first bytes 0x01–0x7f and sort in reverse order of their magnitude.
+        int flip = input < 0 ? 0xff : 0;
+        long value = input < 0 ? ~input : input;
+        int size = signedVarLongSize(value);
+        Objects.checkFromIndexSize(offset, size, dst.length);
+
+        if (size == 1) {
+            dst[offset] = (byte) ((0x80 + value) ^ flip);
+        } else if (size == 2) {
+            value -= 112;
+            dst[offset] = (byte) ((0x80 + 112 + (value >>> 8)) ^ flip);
+            dst[offset + 1] = (byte) (value ^ flip);
+        } else if (size == 3) {
+            value -= 2160;
+            dst[offset] = (byte) ((0x80 + 120) ^ flip);
+            dst[offset + 1] = (byte) ((value >>> 8) ^ flip);
+            dst[offset + 2] = (byte) (value ^ flip);
+        } else {
+            dst[offset] = (byte) ((0x80 + 117 + size) ^ flip);
+            writeVarLongPayload(dst, offset + 1, size - 1, value, flip);
+        }
+        return size;
+    }
+
+    /**
+     * Read a long primitive from its order-preserving variable-length encoding in a byte array. The number of bytes
+     * read is returned by {@link #getVarLongSize(byte[], int)}.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code offset}.
+     * @see #fromVarLong(long)
+     */
+    public static long getVarLong(byte[] src, int offset) {
+        int size = getVarLongSize(src, offset);
+        Objects.checkFromIndexSize(offset, size, src.length);
+        int flip = (src[offset] & 0x80) == 0 ? 0xff : 0;
+        int header = ((src[offset] & 0xff) ^ flip) - 0x80;
+
+        long value;
+        if (size == 1) {
+            value = header;
+        } else if (size == 2) {
+            value = 112 + ((long) (header - 112) << 8) + ((src[offset + 1] & 0xff) ^ flip);
+        } else if (size == 3) {
+            value = 2160 + readVarLongPayload(src, offset + 1, 2, flip);
+        } else {
+            value = readVarLongPayload(src, offset + 1, size - 1, flip);
+        }
+        return flip == 0 ? value : ~value;
+    }
+
+    /**
+     * Determine the length in bytes of the order-preserving variable-length encoding of a long primitive.
+     *
+     * @param input Input value.
+     * @return The number of bytes {@link #putVarLong(byte[], int, long)} writes for {@code input}.
+     */
+    public static int varLongSize(long input) {
+        return signedVarLongSize(input < 0 ? ~input : input);
+    }
+
+    /**
+     * Determine the length in bytes of the order-preserving variable-length value that starts at {@code offset}, i.e.
+     * the number of bytes {@link #getVarLong(byte[], int)} consumes. Only the first byte is read.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte of the encoded value.
+     * @return The encoded length, one to nine bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code offset} lies outside of {@code src}.
+     * @throws IllegalArgumentException  Thrown when the byte at {@code offset} is not a valid first byte.
+     */
+    public static int getVarLongSize(byte[] src, int offset) {
+        int first = src[offset] & 0xff;
+        int header = (first < 0x80 ? first ^ 0xff : first) - 0x80;
+        if (header < 112) return 1;
+        if (header < 120) return 2;
+        if (header == 120) return 3;
+        if (header == 127) throw new IllegalArgumentException("Not a valid variable-length value header: " + first);
+        return header - 117;
+    }
+
+    /**
+     * @return False for the two bytes that never start an order-preserving variable-length value, 0x00 and 0xff.
+     */
+    static boolean isVarLongHeader(byte first) {
+        return first != 0 && first != (byte) 0xff;
+    }
+
+    /**
+     * Write a long primitive in its order-preserving variable-length encoding into a {@link ByteBuffer} at an absolute
+     * index. The position of the buffer is not changed.
+     *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
+     * @param input Input value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code index}.
+     * @see #fromVarLong(long)
+     */
+    public static int putVarLong(ByteBuffer dst, int index, long input) {
+        int flip = input < 0 ? 0xff : 0;
+        long value = input < 0 ? ~input : input;
+        int size = signedVarLongSize(value);
+        Objects.checkFromIndexSize(index, size, dst.limit());
+
+        if (size == 1) {
+            dst.put(index, (byte) ((0x80 + value) ^ flip));
+        } else if (size == 2) {
+            value -= 112;
+            dst.put(index, (byte) ((0x80 + 112 + (value >>> 8)) ^ flip));
+            dst.put(index + 1, (byte) (value ^ flip));
+        } else if (size == 3) {
+            value -= 2160;
+            dst.put(index, (byte) ((0x80 + 120) ^ flip));
+            dst.put(index + 1, (byte) ((value >>> 8) ^ flip));
+            dst.put(index + 2, (byte) (value ^ flip));
+        } else {
+            dst.put(index, (byte) ((0x80 + 117 + size) ^ flip));
+            writeVarLongPayload(dst, index + 1, size - 1, value, flip);
+        }
+        return size;
+    }
+
+    /**
+     * Read a long primitive from its order-preserving variable-length encoding in a {@link ByteBuffer} at an absolute
+     * index. The position of the buffer is not changed; the number of bytes read is returned by
+     * {@link #getVarLongSize(ByteBuffer, int)}.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code index}.
+     * @see #fromVarLong(long)
+     */
+    public static long getVarLong(ByteBuffer src, int index) {
+        int size = getVarLongSize(src, index);
+        Objects.checkFromIndexSize(index, size, src.limit());
+        int flip = (src.get(index) & 0x80) == 0 ? 0xff : 0;
+        int header = ((src.get(index) & 0xff) ^ flip) - 0x80;
+
+        long value;
+        if (size == 1) {
+            value = header;
+        } else if (size == 2) {
+            value = 112 + ((long) (header - 112) << 8) + ((src.get(index + 1) & 0xff) ^ flip);
+        } else if (size == 3) {
+            value = 2160 + readVarLongPayload(src, index + 1, 2, flip);
+        } else {
+            value = readVarLongPayload(src, index + 1, size - 1, flip);
+        }
+        return flip == 0 ? value : ~value;
+    }
+
+    /**
+     * Determine the length in bytes of the order-preserving variable-length value that starts at {@code index} of a
+     * {@link ByteBuffer}. Only the first byte is read.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte of the encoded value.
+     * @return The encoded length, one to nine bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code index} lies outside of {@code src}.
+     * @throws IllegalArgumentException  Thrown when the byte at {@code index} is not a valid first byte.
+     * @see #getVarLongSize(byte[], int)
+     */
+    public static int getVarLongSize(ByteBuffer src, int index) {
+        int first = src.get(index) & 0xff;
+        int header = (first < 0x80 ? first ^ 0xff : first) - 0x80;
+        if (header < 112) return 1;
+        if (header < 120) return 2;
+        if (header == 120) return 3;
+        if (header == 127) throw new IllegalArgumentException("Not a valid variable-length value header: " + first);
+        return header - 117;
+    }
+
+    /**
+     * Convert a long primitive, interpreted as an unsigned 64-bit number, to an order-preserving variable-length
+     * encoding of one to nine bytes.
+     * <p>
+     * This is the varuint encoding of SQLite4: values up to {@code 240} take a single byte, values up to {@code 2287}
+     * two bytes, and values up to {@code 67823} three bytes. The unsigned byte order of the output matches the
+     * unsigned numerical order of the input.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     */
+    public static byte[] fromUnsignedVarLong(long input) {
+        byte[] out = new byte[unsignedVarLongSize(input)];
+        putUnsignedVarLong(out, 0, input);
+        return out;
+    }
+
+    /**
+     * Convert a byte array containing a single order-preserving unsigned variable-length value to a long.
+     *
+     * @param bytes Byte array.
+     * @return A long, to be interpreted as an unsigned 64-bit number.
+     * @throws ConversionException Thrown when the input is null, or its length does not match the encoded length.
+     * @see #fromUnsignedVarLong(long)
+     */
+    public static long toUnsignedVarLong(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertAtLeastNumBytes(bytes, 1);
+        assertNumBytes(bytes, getUnsignedVarLongSize(bytes, 0));
+        return getUnsignedVarLong(bytes, 0);
+    }
+
+    /**
+     * Write a long primitive, interpreted as an unsigned 64-bit number, in its order-preserving variable-length
+     * encoding into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code offset}.
+     * @see #fromUnsignedVarLong(long)
+     */
+    public static int putUnsignedVarLong(byte[] dst, int offset, long input) {
+        int size = unsignedVarLongSize(input);
+        Objects.checkFromIndexSize(offset, size, dst.length);
+
+        if (size == 1) {
+            dst[offset] = (byte) input;
+        } else if (size == 2) {
+            input -= 240;
+            dst[offset] = (byte) (241 + (input >>> 8));
+            dst[offset + 1] = (byte) input;
+        } else if (size == 3) {
+            input -= 2288;
+            dst[offset] = (byte) 249;
+            dst[offset + 1] = (byte) (input >>> 8);
+            dst[offset + 2] = (byte) input;
+        } else {
+            dst[offset] = (byte) (246 + size);
+            writeVarLongPayload(dst, offset + 1, size - 1, input, 0);
+        }
+        return size;
+    }
+
+    /**
+     * Read a long primitive, to be interpreted as an unsigned 64-bit number, from its order-preserving
+     * variable-length encoding in a byte array. The number of bytes read is returned by
+     * {@link #getUnsignedVarLongSize(byte[], int)}.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code offset}.
+     * @see #fromUnsignedVarLong(long)
+     */
+    public static long getUnsignedVarLong(byte[] src, int offset) {
+        int size = getUnsignedVarLongSize(src, offset);
+        Objects.checkFromIndexSize(offset, size, src.length);
+        int first = src[offset] & 0xff;
+
+        if (size == 1) return first;
+        if (size == 2) return 240 + ((long) (first - 241) << 8) + (src[offset + 1] & 0xff);
+        if (size == 3) return 2288 + readVarLongPayload(src, offset + 1, 2, 0);
+        return readVarLongPayload(src, offset + 1, size - 1, 0);
+    }
+
+    /**
+     * Determine the length in bytes of the order-preserving unsigned variable-length encoding of a long primitive.
+     *
+     * @param input Input value, interpreted as an unsigned 64-bit number.
+     * @return The number of bytes {@link #putUnsignedVarLong(byte[], int, long)} writes for {@code input}.
+     */
+    public static int unsignedVarLongSize(long input) {
+        if (input < 0) return 9;
+        if (input <= 240) return 1;
+        if (input <= 2287) return 2;
+        if (input <= 67823) return 3;
+        return 4 + payloadSize(input) - 3;
+    }
+
+    /**
+     * Determine the length in bytes of the order-preserving unsigned variable-length value that starts at
+     * {@code offset}, i.e. the number of bytes {@link #getUnsignedVarLong(byte[], int)} consumes. Only the first byte
+     * is read.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte of the encoded value.
+     * @return The encoded length, one to nine bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code offset} lies outside of {@code src}.
+     */
+    public static int getUnsignedVarLongSize(byte[] src, int offset) {
+        int first = src[offset] & 0xff;
+        if (first <= 240) return 1;
+        if (first <= 248) return 2;
+        if (first == 249) return 3;
+        return first - 246;
+    }
+
+    /**
+     * Write a long primitive, interpreted as an unsigned 64-bit number, in its order-preserving variable-length
+     * encoding into a {@link ByteBuffer} at an absolute index. The position of the buffer is not changed.
+     *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
+     * @param input Input value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code index}.
+     * @see #fromUnsignedVarLong(long)
+     */
+    public static int putUnsignedVarLong(ByteBuffer dst, int index, long input) {
+        int size = unsignedVarLongSize(input);
+        Objects.checkFromIndexSize(index, size, dst.limit());
+
+        if (size == 1) {
+            dst.put(index, (byte) input);
+        } else if (size == 2) {
+            input -= 240;
+            dst.put(index, (byte) (241 + (input >>> 8)));
+            dst.put(index + 1, (byte) input);
+        } else if (size == 3) {
+            input -= 2288;
+            dst.put(index, (byte) 249);
+            dst.put(index + 1, (byte) (input >>> 8));
+            dst.put(index + 2, (byte) input);
+        } else {
+            dst.put(index, (byte) (246 + size));
+            writeVarLongPayload(dst, index + 1, size - 1, input, 0);
+        }
+        return size;
+    }
+
+    /**
+     * Read a long primitive, to be interpreted as an unsigned 64-bit number, from its order-preserving
+     * variable-length encoding in a {@link ByteBuffer} at an absolute index. The position of the buffer is not
+     * changed; the number of bytes read is returned by {@link #getUnsignedVarLongSize(ByteBuffer, int)}.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code index}.
+     * @see #fromUnsignedVarLong(long)
+     */
+    public static long getUnsignedVarLong(ByteBuffer src, int index) {
+        int size = getUnsignedVarLongSize(src, index);
+        Objects.checkFromIndexSize(index, size, src.limit());
+        int first = src.get(index) & 0xff;
+
+        if (size == 1) return first;
+        if (size == 2) return 240 + ((long) (first - 241) << 8) + (src.get(index + 1) & 0xff);
+        if (size == 3) return 2288 + readVarLongPayload(src, index + 1, 2, 0);
+        return readVarLongPayload(src, index + 1, size - 1, 0);
+    }
+
+    /**
+     * Determine the length in bytes of the order-preserving unsigned variable-length value that starts at
+     * {@code index} of a {@link ByteBuffer}. Only the first byte is read.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte of the encoded value.
+     * @return The encoded length, one to nine bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code index} lies outside of {@code src}.
+     * @see #getUnsignedVarLongSize(byte[], int)
+     */
+    public static int getUnsignedVarLongSize(ByteBuffer src, int index) {
+        int first = src.get(index) & 0xff;
+        if (first <= 240) return 1;
+        if (first <= 248) return 2;
+        if (first == 249) return 3;
+        return first - 246;
+    }
+
+    static int signedVarLongSize(long nonNegative) {
+        if (nonNegative <= 111) return 1;
+        if (nonNegative <= 2159) return 2;
+        if (nonNegative <= 67695) return 3;
+        return 4 + payloadSize(nonNegative) - 3;
+    }
+
+    /**
+     * Number of bytes needed to hold a value of at least three bytes, as a big-endian unsigned number.
+     */
+    private static int payloadSize(long value) {
+        return Math.max(3, 8 - Long.numberOfLeadingZeros(value) / 8);
+    }
+
+    private static void writeVarLongPayload(byte[] dst, int offset, int length, long value, int flip) {
+        for (int i = length - 1; i >= 0; i--) {
+            dst[offset + i] = (byte) (value ^ flip);
+            value >>>= 8;
+        }
+    }
+
+    private static long readVarLongPayload(byte[] src, int offset, int length, int flip) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = value << 8 | ((src[offset + i] & 0xff) ^ flip);
+        }
+        return value;
+    }
+
+    private static void writeVarLongPayload(ByteBuffer dst, int index, int length, long value, int flip) {
+        for (int i = length - 1; i >= 0; i--) {
+            dst.put(index + i, (byte) (value ^ flip));
+            value >>>= 8;
+        }
+    }
+
+    private static long readVarLongPayload(ByteBuffer src, int index, int length, int flip) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = value << 8 | ((src.get(index + i) & 0xff) ^ flip);
+        }
+        return value;
+    }
+
+    private static int toIntExact(long value) throws ConversionException {
+        if ((int) value != value) {
+            throw new ConversionException("Value " + value + " does not fit in an int.");
+        }
+        return (int) value;
+    }
+
+
+    /**
+     * Convert a long primitive, interpreted as an unsigned 64-bit number, to its unsigned LEB128 encoding of one to
+     * ten bytes. Each byte holds seven bits of the value, least significant group first; the high bit is set on all
+     * bytes but the last.
+     * <p>
+     * This encoding is compact but does not preserve order; use {@link #fromUnsignedVarLong(long)} for keys.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     */
+    public static byte[] fromLeb128(long input) {
+        byte[] out = new byte[leb128Size(input)];
+        putLeb128(out, 0, input);
+        return out;
+    }
+
+    /**
+     * Convert a byte array containing a single unsigned LEB128 value to a long.
+     *
+     * @param bytes Byte array.
+     * @return A long, to be interpreted as an unsigned 64-bit number.
+     * @throws ConversionException Thrown when the input is null, does not contain exactly one LEB128 value, or the
+     *                             value is longer than ten bytes or exceeds 64 bits.
+     */
+    public static long toLeb128(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertAtLeastNumBytes(bytes, 1);
+        assertCompleteLeb128(bytes);
+        try {
+            assertNumBytes(bytes, getLeb128Size(bytes, 0));
+            return getLeb128(bytes, 0);
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Input is not a valid LEB128 value.", e);
+        }
+    }
+
+    /**
+     * Convert a long primitive to its ZigZag encoding: the value is mapped to an unsigned number so that values of
+     * small magnitude, negative or positive, stay small ({@code 0, -1, 1, -2, …} become {@code 0, 1, 2, 3, …}), and
+     * is then written as unsigned LEB128.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     */
+    public static byte[] fromZigZag(long input) {
+        return fromLeb128(zigZag(input));
+    }
+
+    /**
+     * Convert a byte array containing a single ZigZag encoded value to a long.
+     *
+     * @param bytes Byte array.
+     * @return A long.
+     * @throws ConversionException Thrown when the input is null, or does not contain exactly one ZigZag value.
+     * @see #fromZigZag(long)
+     */
+    public static long toZigZag(byte[] bytes) throws ConversionException {
+        return unZigZag(toLeb128(bytes));
+    }
+
+    /**
+     * Write a long primitive, interpreted as an unsigned 64-bit number, in its unsigned LEB128 encoding into an
+     * existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code offset}.
+     * @see #fromLeb128(long)
+     */
+    public static int putLeb128(byte[] dst, int offset, long input) {
+        Objects.checkFromIndexSize(offset, leb128Size(input), dst.length);
+        return writeLeb128(dst, offset, input) - offset;
+    }
+
+    /**
+     * Write a long primitive in its ZigZag encoding into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code offset}.
+     * @see #fromZigZag(long)
+     */
+    public static int putZigZag(byte[] dst, int offset, long input) {
+        return putLeb128(dst, offset, zigZag(input));
+    }
+
+    /**
+     * Read a long primitive from its unsigned LEB128 encoding in a byte array. The number of bytes read is returned
+     * by {@link #getLeb128Size(byte[], int)}.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A long, to be interpreted as an unsigned 64-bit number.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code offset}.
+     * @throws IllegalArgumentException  Thrown when the encoded value is longer than ten bytes, or exceeds 64 bits.
+     * @see #fromLeb128(long)
+     */
+    public static long getLeb128(byte[] src, int offset) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = src[offset++];
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                // The tenth byte holds only the most significant bit.
+                if (shift == 63 && b > 1) throw new IllegalArgumentException("LEB128 value exceeds 64 bits.");
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("LEB128 value exceeds ten bytes.");
+    }
+
+    /**
+     * Read a long primitive from its ZigZag encoding in a byte array. The number of bytes read is returned by
+     * {@link #getLeb128Size(byte[], int)}.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code offset}.
+     * @throws IllegalArgumentException  Thrown when the encoded value is longer than ten bytes, or exceeds 64 bits.
+     * @see #fromZigZag(long)
+     */
+    public static long getZigZag(byte[] src, int offset) {
+        return unZigZag(getLeb128(src, offset));
+    }
+
+    /**
+     * Determine the length in bytes of the unsigned LEB128 encoding of a long primitive.
+     *
+     * @param input Input value, interpreted as an unsigned 64-bit number.
+     * @return The number of bytes {@link #putLeb128(byte[], int, long)} writes for {@code input}.
+     */
+    public static int leb128Size(long input) {
+        return (63 - Long.numberOfLeadingZeros(input | 1)) / 7 + 1;
+    }
+
+    /**
+     * Determine the length in bytes of the ZigZag encoding of a long primitive.
+     *
+     * @param input Input value.
+     * @return The number of bytes {@link #putZigZag(byte[], int, long)} writes for {@code input}.
+     */
+    public static int zigZagSize(long input) {
+        return leb128Size(zigZag(input));
+    }
+
+    /**
+     * Determine the length in bytes of the LEB128 or ZigZag value that starts at {@code offset}, i.e. the number of
+     * bytes {@link #getLeb128(byte[], int)} and {@link #getZigZag(byte[], int)} consume.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte of the encoded value.
+     * @return The encoded length, one to ten bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code offset}.
+     * @throws IllegalArgumentException  Thrown when the encoded value is longer than ten bytes.
+     */
+    public static int getLeb128Size(byte[] src, int offset) {
+        for (int i = 0; i < 10; i++) {
+            if (src[offset + i] >= 0) return i + 1;
+        }
+        throw new IllegalArgumentException("LEB128 value exceeds ten bytes.");
+    }
+
+    /**
+     * Write a long primitive, interpreted as an unsigned 64-bit number, in its unsigned LEB128 encoding into a
+     * {@link ByteBuffer} at an absolute index. The position of the buffer is not changed.
+     *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
+     * @param input Input value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code index}.
+     * @see #fromLeb128(long)
+     */
+    public static int putLeb128(ByteBuffer dst, int index, long input) {
+        Objects.checkFromIndexSize(index, leb128Size(input), dst.limit());
+        int position = index;
+        while ((input & ~0x7fL) != 0) {
+            dst.put(position++, (byte) (input | 0x80));
+            input >>>= 7;
+        }
+        dst.put(position++, (byte) input);
+        return position - index;
+    }
+
+    /**
+     * Write a long primitive in its ZigZag encoding into a {@link ByteBuffer} at an absolute index. The position of
+     * the buffer is not changed.
+     *
+     * @param dst   Destination buffer.
+     * @param index Position in {@code dst} of the first byte written.
+     * @param input Input value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code index}.
+     * @see #fromZigZag(long)
+     */
+    public static int putZigZag(ByteBuffer dst, int index, long input) {
+        return putLeb128(dst, index, zigZag(input));
+    }
+
+    /**
+     * Read a long primitive from its unsigned LEB128 encoding in a {@link ByteBuffer} at an absolute index. The
+     * position of the buffer is not changed; the number of bytes read is returned by
+     * {@link #getLeb128Size(ByteBuffer, int)}.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @return A long, to be interpreted as an unsigned 64-bit number.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code index}.
+     * @throws IllegalArgumentException  Thrown when the encoded value is longer than ten bytes, or exceeds 64 bits.
+     * @see #fromLeb128(long)
+     */
+    public static long getLeb128(ByteBuffer src, int index) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = src.get(index++);
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                // The tenth byte holds only the most significant bit.
+                if (shift == 63 && b > 1) throw new IllegalArgumentException("LEB128 value exceeds 64 bits.");
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("LEB128 value exceeds ten bytes.");
+    }
+
+    /**
+     * Read a long primitive from its ZigZag encoding in a {@link ByteBuffer} at an absolute index. The position of
+     * the buffer is not changed; the number of bytes read is returned by {@link #getLeb128Size(ByteBuffer, int)}.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte read.
+     * @return A long.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code index}.
+     * @throws IllegalArgumentException  Thrown when the encoded value is longer than ten bytes, or exceeds 64 bits.
+     * @see #fromZigZag(long)
+     */
+    public static long getZigZag(ByteBuffer src, int index) {
+        return unZigZag(getLeb128(src, index));
+    }
+
+    /**
+     * Determine the length in bytes of the LEB128 or ZigZag value that starts at {@code index} of a
+     * {@link ByteBuffer}.
+     *
+     * @param src   Source buffer.
+     * @param index Position in {@code src} of the first byte of the encoded value.
+     * @return The encoded length, one to ten bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code index}.
+     * @throws IllegalArgumentException  Thrown when the encoded value is longer than ten bytes.
+     * @see #getLeb128Size(byte[], int)
+     */
+    public static int getLeb128Size(ByteBuffer src, int index) {
+        for (int i = 0; i < 10; i++) {
+            if (src.get(index + i) >= 0) return i + 1;
+        }
+        throw new IllegalArgumentException("LEB128 value exceeds ten bytes.");
+    }
+
+    /**
+     * Convert an array of long primitives, interpreted as unsigned 64-bit numbers, to a packed sequence of unsigned
+     * LEB128 values.
+     *
+     * @param input Input values.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     * @see #fromLeb128(long)
+     */
+    public static byte[] encodeAllLeb128(long[] input) throws ConversionException {
+        assertNotNull(input);
+        int size = 0;
+        for (long value : input) {
+            size += leb128Size(value);
+        }
+        byte[] out = new byte[size];
+        putAllLeb128(out, 0, input, 0, input.length);
+        return out;
+    }
+
+    /**
+     * Convert an array of long primitives to a packed sequence of ZigZag values.
+     *
+     * @param input Input values.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     * @see #fromZigZag(long)
+     */
+    public static byte[] encodeAllZigZag(long[] input) throws ConversionException {
+        assertNotNull(input);
+        int size = 0;
+        for (long value : input) {
+            size += zigZagSize(value);
+        }
+        byte[] out = new byte[size];
+        putAllZigZag(out, 0, input, 0, input.length);
+        return out;
+    }
+
+    /**
+     * Convert a packed sequence of unsigned LEB128 values to an array of long primitives.
+     *
+     * @param bytes Byte array.
+     * @return Long primitives, to be interpreted as unsigned 64-bit numbers.
+     * @throws ConversionException Thrown when the input is null, ends halfway through a value, or contains a value
+     *                             longer than ten bytes or exceeding 64 bits.
+     * @see #encodeAllLeb128(long[])
+     */
+    public static long[] decodeAllLeb128(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertCompleteLeb128(bytes);
+        long[] out = new long[countLeb128(bytes)];
+        try {
+            getAllLeb128(bytes, 0, out, 0, out.length);
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Input is not a valid sequence of LEB128 values.", e);
+        }
+        return out;
+    }
+
+    /**
+     * Convert a packed sequence of ZigZag values to an array of long primitives.
+     *
+     * @param bytes Byte array.
+     * @return Long primitives.
+     * @throws ConversionException Thrown when the input is null, ends halfway through a value, or contains a value
+     *                             longer than ten bytes or exceeding 64 bits.
+     * @see #encodeAllZigZag(long[])
+     */
+    public static long[] decodeAllZigZag(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertCompleteLeb128(bytes);
+        long[] out = new long[countLeb128(bytes)];
+        try {
+            getAllZigZag(bytes, 0, out, 0, out.length);
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Input is not a valid sequence of LEB128 values.", e);
+        }
+        return out;
+    }
+
+    /**
+     * Write a range of long primitives, interpreted as unsigned 64-bit numbers, as packed unsigned LEB128 values
+     * into an existing byte array.
+     *
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param src       Input values.
+     * @param srcOffset Position in {@code src} of the first value written.
+     * @param count     Number of values to write.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when either range lies outside of its array.
+     */
+    public static int putAllLeb128(byte[] dst, int offset, long[] src, int srcOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count, src.length);
+        int position = offset;
+        for (int i = srcOffset; i < srcOffset + count; i++) {
+            position += putLeb128(dst, position, src[i]);
+        }
+        return position - offset;
+    }
+
+    /**
+     * Write a range of long primitives as packed ZigZag values into an existing byte array.
+     *
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param src       Input values.
+     * @param srcOffset Position in {@code src} of the first value written.
+     * @param count     Number of values to write.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when either range lies outside of its array.
+     */
+    public static int putAllZigZag(byte[] dst, int offset, long[] src, int srcOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count, src.length);
+        int position = offset;
+        for (int i = srcOffset; i < srcOffset + count; i++) {
+            position += putLeb128(dst, position, zigZag(src[i]));
+        }
+        return position - offset;
+    }
+
+    /**
+     * Read a number of packed unsigned LEB128 values from a byte array into an existing array of long primitives.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value read.
+     * @param count     Number of values to read.
+     * @return The number of bytes read.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} ends before {@code count} values are read, or the
+     *                                   range in {@code dst} lies outside of it.
+     * @throws IllegalArgumentException  Thrown when an encoded value is longer than ten bytes, or exceeds 64 bits.
+     */
+    public static int getAllLeb128(byte[] src, int offset, long[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(dstOffset, count, dst.length);
+        int position = offset;
+        for (int i = dstOffset; i < dstOffset + count; i++) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (shift > 63) throw new IllegalArgumentException("LEB128 value exceeds ten bytes.");
+                b = src[position++];
+                value |= (long) (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            if (shift == 70 && b > 1) throw new IllegalArgumentException("LEB128 value exceeds 64 bits.");
+            dst[i] = value;
+        }
+        return position - offset;
+    }
+
+    /**
+     * Read a number of packed ZigZag values from a byte array into an existing array of long primitives.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value read.
+     * @param count     Number of values to read.
+     * @return The number of bytes read.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} ends before {@code count} values are read, or the
+     *                                   range in {@code dst} lies outside of it.
+     * @throws IllegalArgumentException  Thrown when an encoded value is longer than ten bytes, or exceeds 64 bits.
+     */
+    public static int getAllZigZag(byte[] src, int offset, long[] dst, int dstOffset, int count) {
+        int read = getAllLeb128(src, offset, dst, dstOffset, count);
+        for (int i = dstOffset; i < dstOffset + count; i++) {
+            dst[i] = unZigZag(dst[i]);
+        }
+        return read;
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Write a LEB128 value without bounds checks beyond those of the JVM.
+     *
+     * @return The position after the last byte written.
+     */
+    private static int writeLeb128(byte[] dst, int offset, long value) {
+        while ((value & ~0x7fL) != 0) {
+            dst[offset++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        dst[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * Count the LEB128 values in a packed sequence; every value ends with the only byte that has its high bit clear.
+     */
+    private static int countLeb128(byte[] bytes) {
+        int count = 0;
+        for (byte b : bytes) {
+            count += (b >>> 7 & 1) ^ 1;
+        }
+        return count;
+    }
+
+    private static void assertCompleteLeb128(byte[] bytes) throws ConversionException {
+        if (bytes.length > 0 && bytes[bytes.length - 1] < 0) {
+            throw new ConversionException("Input ends halfway through a LEB128 value.");
+        }
+    }
+
+    /* Bulk conversions of primitive arrays. */
+
+    // The byte-order variants run a separate loop per byte order, so each loop uses a constant VarHandle that the
+    // JIT can unroll and vectorise.
+
+    /**
+     * Write a range of short primitives into an existing byte array, as consecutive big-endian values of two bytes
+     * each.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromShorts(short[] src, int srcOffset, int count, byte[] dst, int dstOffset) {
+        fromShorts(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Write a range of short primitives into an existing byte array, as consecutive values of two bytes each in
+     * the specified byte order.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @param byteOrder Byte order of the values written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromShorts(short[] src, int srcOffset, int count, byte[] dst, int dstOffset,
+                                  ByteOrder byteOrder) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 2);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                SHORT_LE.set(dst, dstOffset + i * 2, src[srcOffset + i]);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                SHORT.set(dst, dstOffset + i * 2, src[srcOffset + i]);
+            }
+        }
+    }
+
+    /**
+     * Write a range of short primitives into an existing byte array, as consecutive big-endian values of two bytes
+     * each in the specified {@link NumberRepresentation}.
+     *
+     * @param src                  Source array.
+     * @param srcOffset            Position in {@code src} of the first value.
+     * @param count                Number of values.
+     * @param dst                  Destination byte array.
+     * @param dstOffset            Position in {@code dst} of the first byte written.
+     * @param numberRepresentation How to represent the numbers in bytes.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     * @see #putShort(byte[], int, short, NumberRepresentation)
+     */
+    public static void fromShorts(short[] src, int srcOffset, int count, byte[] dst, int dstOffset,
+                                  NumberRepresentation numberRepresentation) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 2);
+        short mask = shortMask(numberRepresentation);
+        for (int i = 0; i < count; i++) {
+            SHORT.set(dst, dstOffset + i * 2, (short) (src[srcOffset + i] ^ mask));
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of two bytes each from a byte array into a range of short primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toShorts(byte[] src, int srcOffset, int count, short[] dst, int dstOffset) {
+        toShorts(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Read consecutive values of two bytes each in the specified byte order from a byte array into a range of
+     * short primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @param byteOrder Byte order of the values read.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toShorts(byte[] src, int srcOffset, int count, short[] dst, int dstOffset, ByteOrder byteOrder) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 2);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (short) SHORT_LE.get(src, srcOffset + i * 2);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (short) SHORT.get(src, srcOffset + i * 2);
+            }
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of two bytes each in the specified {@link NumberRepresentation} from a
+     * byte array into a range of short primitives.
+     *
+     * @param src                  Source byte array.
+     * @param srcOffset            Position in {@code src} of the first byte read.
+     * @param count                Number of values.
+     * @param dst                  Destination array.
+     * @param dstOffset            Position in {@code dst} of the first value.
+     * @param numberRepresentation How the bytes represent the numbers.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     * @see #getShort(byte[], int, NumberRepresentation)
+     */
+    public static void toShorts(byte[] src, int srcOffset, int count, short[] dst, int dstOffset,
+                                NumberRepresentation numberRepresentation) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 2);
+        short mask = shortMask(numberRepresentation);
+        for (int i = 0; i < count; i++) {
+            dst[dstOffset + i] = (short) ((short) SHORT.get(src, srcOffset + i * 2) ^ mask);
+        }
+    }
+
+    /**
+     * Write an range of int primitives into an existing byte array, as consecutive big-endian values of four bytes
+     * each.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromInts(int[] src, int srcOffset, int count, byte[] dst, int dstOffset) {
+        fromInts(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Write an range of int primitives into an existing byte array, as consecutive values of four bytes each in
+     * the specified byte order.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @param byteOrder Byte order of the values written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromInts(int[] src, int srcOffset, int count, byte[] dst, int dstOffset, ByteOrder byteOrder) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 4);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                INT_LE.set(dst, dstOffset + i * 4, src[srcOffset + i]);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                INT.set(dst, dstOffset + i * 4, src[srcOffset + i]);
+            }
+        }
+    }
+
+    /**
+     * Write an range of int primitives into an existing byte array, as consecutive big-endian values of four bytes
+     * each in the specified {@link NumberRepresentation}.
+     *
+     * @param src                  Source array.
+     * @param srcOffset            Position in {@code src} of the first value.
+     * @param count                Number of values.
+     * @param dst                  Destination byte array.
+     * @param dstOffset            Position in {@code dst} of the first byte written.
+     * @param numberRepresentation How to represent the numbers in bytes.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     * @see #putInt(byte[], int, int, NumberRepresentation)
+     */
+    public static void fromInts(int[] src, int srcOffset, int count, byte[] dst, int dstOffset,
+                                NumberRepresentation numberRepresentation) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 4);
+        int mask = intMask(numberRepresentation);
+        for (int i = 0; i < count; i++) {
+            INT.set(dst, dstOffset + i * 4, src[srcOffset + i] ^ mask);
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of four bytes each from a byte array into a range of int primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toInts(byte[] src, int srcOffset, int count, int[] dst, int dstOffset) {
+        toInts(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Read consecutive values of four bytes each in the specified byte order from a byte array into a range of
+     * int primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @param byteOrder Byte order of the values read.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toInts(byte[] src, int srcOffset, int count, int[] dst, int dstOffset, ByteOrder byteOrder) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 4);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (int) INT_LE.get(src, srcOffset + i * 4);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (int) INT.get(src, srcOffset + i * 4);
+            }
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of four bytes each in the specified {@link NumberRepresentation} from a
+     * byte array into a range of int primitives.
+     *
+     * @param src                  Source byte array.
+     * @param srcOffset            Position in {@code src} of the first byte read.
+     * @param count                Number of values.
+     * @param dst                  Destination array.
+     * @param dstOffset            Position in {@code dst} of the first value.
+     * @param numberRepresentation How the bytes represent the numbers.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     * @see #getInt(byte[], int, NumberRepresentation)
+     */
+    public static void toInts(byte[] src, int srcOffset, int count, int[] dst, int dstOffset,
+                              NumberRepresentation numberRepresentation) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 4);
+        int mask = intMask(numberRepresentation);
+        for (int i = 0; i < count; i++) {
+            dst[dstOffset + i] = (int) INT.get(src, srcOffset + i * 4) ^ mask;
+        }
+    }
+
+    /**
+     * Write a range of long primitives into an existing byte array, as consecutive big-endian values of eight bytes
+     * each.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromLongs(long[] src, int srcOffset, int count, byte[] dst, int dstOffset) {
+        fromLongs(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Write a range of long primitives into an existing byte array, as consecutive values of eight bytes each in
+     * the specified byte order.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @param byteOrder Byte order of the values written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromLongs(long[] src, int srcOffset, int count, byte[] dst, int dstOffset, ByteOrder byteOrder) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 8);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                LONG_LE.set(dst, dstOffset + i * 8, src[srcOffset + i]);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                LONG.set(dst, dstOffset + i * 8, src[srcOffset + i]);
+            }
+        }
+    }
+
+    /**
+     * Write a range of long primitives into an existing byte array, as consecutive big-endian values of eight bytes
+     * each in the specified {@link NumberRepresentation}.
+     *
+     * @param src                  Source array.
+     * @param srcOffset            Position in {@code src} of the first value.
+     * @param count                Number of values.
+     * @param dst                  Destination byte array.
+     * @param dstOffset            Position in {@code dst} of the first byte written.
+     * @param numberRepresentation How to represent the numbers in bytes.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     * @see #putLong(byte[], int, long, NumberRepresentation)
+     */
+    public static void fromLongs(long[] src, int srcOffset, int count, byte[] dst, int dstOffset,
+                                 NumberRepresentation numberRepresentation) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 8);
+        long mask = longMask(numberRepresentation);
+        for (int i = 0; i < count; i++) {
+            LONG.set(dst, dstOffset + i * 8, src[srcOffset + i] ^ mask);
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of eight bytes each from a byte array into a range of long primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toLongs(byte[] src, int srcOffset, int count, long[] dst, int dstOffset) {
+        toLongs(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Read consecutive values of eight bytes each in the specified byte order from a byte array into a range of
+     * long primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @param byteOrder Byte order of the values read.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toLongs(byte[] src, int srcOffset, int count, long[] dst, int dstOffset, ByteOrder byteOrder) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 8);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (long) LONG_LE.get(src, srcOffset + i * 8);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (long) LONG.get(src, srcOffset + i * 8);
+            }
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of eight bytes each in the specified {@link NumberRepresentation} from a
+     * byte array into a range of long primitives.
+     *
+     * @param src                  Source byte array.
+     * @param srcOffset            Position in {@code src} of the first byte read.
+     * @param count                Number of values.
+     * @param dst                  Destination array.
+     * @param dstOffset            Position in {@code dst} of the first value.
+     * @param numberRepresentation How the bytes represent the numbers.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     * @see #getLong(byte[], int, NumberRepresentation)
+     */
+    public static void toLongs(byte[] src, int srcOffset, int count, long[] dst, int dstOffset,
+                               NumberRepresentation numberRepresentation) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 8);
+        long mask = longMask(numberRepresentation);
+        for (int i = 0; i < count; i++) {
+            dst[dstOffset + i] = (long) LONG.get(src, srcOffset + i * 8) ^ mask;
+        }
+    }
+
+    /**
+     * Write a range of float primitives into an existing byte array, as consecutive big-endian values of four bytes
+     * each.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromFloats(float[] src, int srcOffset, int count, byte[] dst, int dstOffset) {
+        fromFloats(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Write a range of float primitives into an existing byte array, as consecutive values of four bytes each in
+     * the specified byte order.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @param byteOrder Byte order of the values written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromFloats(float[] src, int srcOffset, int count, byte[] dst, int dstOffset,
+                                  ByteOrder byteOrder) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 4);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                FLOAT_LE.set(dst, dstOffset + i * 4, src[srcOffset + i]);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                FLOAT.set(dst, dstOffset + i * 4, src[srcOffset + i]);
+            }
+        }
+    }
+
+    /**
+     * Write a range of float primitives into an existing byte array, as consecutive big-endian values of four bytes
+     * each in the specified {@link NumberRepresentation}.
+     *
+     * @param src                  Source array.
+     * @param srcOffset            Position in {@code src} of the first value.
+     * @param count                Number of values.
+     * @param dst                  Destination byte array.
+     * @param dstOffset            Position in {@code dst} of the first byte written.
+     * @param numberRepresentation How to represent the numbers in bytes.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     * @see #putFloat(byte[], int, float, NumberRepresentation)
+     */
+    public static void fromFloats(float[] src, int srcOffset, int count, byte[] dst, int dstOffset,
+                                  NumberRepresentation numberRepresentation) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 4);
+        if (numberRepresentation != NumberRepresentation.LEXICOGRAPHIC_SORT
+                && numberRepresentation != NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            fromFloats(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+            return;
+        }
+        int flip = numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT ? 0 : -1;
+        for (int i = 0; i < count; i++) {
+            INT.set(dst, dstOffset + i * 4, sortableFloatBits(src[srcOffset + i]) ^ flip);
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of four bytes each from a byte array into a range of float primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toFloats(byte[] src, int srcOffset, int count, float[] dst, int dstOffset) {
+        toFloats(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Read consecutive values of four bytes each in the specified byte order from a byte array into a range of
+     * float primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @param byteOrder Byte order of the values read.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toFloats(byte[] src, int srcOffset, int count, float[] dst, int dstOffset, ByteOrder byteOrder) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 4);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (float) FLOAT_LE.get(src, srcOffset + i * 4);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (float) FLOAT.get(src, srcOffset + i * 4);
+            }
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of four bytes each in the specified {@link NumberRepresentation} from a
+     * byte array into a range of float primitives.
+     *
+     * @param src                  Source byte array.
+     * @param srcOffset            Position in {@code src} of the first byte read.
+     * @param count                Number of values.
+     * @param dst                  Destination array.
+     * @param dstOffset            Position in {@code dst} of the first value.
+     * @param numberRepresentation How the bytes represent the numbers.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     * @see #getFloat(byte[], int, NumberRepresentation)
+     */
+    public static void toFloats(byte[] src, int srcOffset, int count, float[] dst, int dstOffset,
+                                NumberRepresentation numberRepresentation) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 4);
+        if (numberRepresentation != NumberRepresentation.LEXICOGRAPHIC_SORT
+                && numberRepresentation != NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            toFloats(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+            return;
+        }
+        int flip = numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT ? 0 : -1;
+        for (int i = 0; i < count; i++) {
+            dst[dstOffset + i] = fromSortableFloatBits((int) INT.get(src, srcOffset + i * 4) ^ flip);
+        }
+    }
+
+    /**
+     * Write a range of double primitives into an existing byte array, as consecutive big-endian values of eight bytes
+     * each.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromDoubles(double[] src, int srcOffset, int count, byte[] dst, int dstOffset) {
+        fromDoubles(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Write a range of double primitives into an existing byte array, as consecutive values of eight bytes each in
+     * the specified byte order.
+     *
+     * @param src       Source array.
+     * @param srcOffset Position in {@code src} of the first value.
+     * @param count     Number of values.
+     * @param dst       Destination byte array.
+     * @param dstOffset Position in {@code dst} of the first byte written.
+     * @param byteOrder Byte order of the values written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     */
+    public static void fromDoubles(double[] src, int srcOffset, int count, byte[] dst, int dstOffset,
+                                   ByteOrder byteOrder) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 8);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                DOUBLE_LE.set(dst, dstOffset + i * 8, src[srcOffset + i]);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                DOUBLE.set(dst, dstOffset + i * 8, src[srcOffset + i]);
+            }
+        }
+    }
+
+    /**
+     * Write a range of double primitives into an existing byte array, as consecutive big-endian values of eight bytes
+     * each in the specified {@link NumberRepresentation}.
+     *
+     * @param src                  Source array.
+     * @param srcOffset            Position in {@code src} of the first value.
+     * @param count                Number of values.
+     * @param dst                  Destination byte array.
+     * @param dstOffset            Position in {@code dst} of the first byte written.
+     * @param numberRepresentation How to represent the numbers in bytes.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when {@code dst} lacks
+     *                                   room for the values at {@code dstOffset}.
+     * @see #putDouble(byte[], int, double, NumberRepresentation)
+     */
+    public static void fromDoubles(double[] src, int srcOffset, int count, byte[] dst, int dstOffset,
+                                   NumberRepresentation numberRepresentation) {
+        checkBulk(src.length, srcOffset, count, dst.length, dstOffset, 8);
+        if (numberRepresentation != NumberRepresentation.LEXICOGRAPHIC_SORT
+                && numberRepresentation != NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            fromDoubles(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+            return;
+        }
+        long flip = numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT ? 0 : -1;
+        for (int i = 0; i < count; i++) {
+            LONG.set(dst, dstOffset + i * 8, sortableDoubleBits(src[srcOffset + i]) ^ flip);
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of eight bytes each from a byte array into a range of double primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toDoubles(byte[] src, int srcOffset, int count, double[] dst, int dstOffset) {
+        toDoubles(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Read consecutive values of eight bytes each in the specified byte order from a byte array into a range of
+     * double primitives.
+     *
+     * @param src       Source byte array.
+     * @param srcOffset Position in {@code src} of the first byte read.
+     * @param count     Number of values.
+     * @param dst       Destination array.
+     * @param dstOffset Position in {@code dst} of the first value.
+     * @param byteOrder Byte order of the values read.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     */
+    public static void toDoubles(byte[] src, int srcOffset, int count, double[] dst, int dstOffset,
+                                 ByteOrder byteOrder) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 8);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (double) DOUBLE_LE.get(src, srcOffset + i * 8);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (double) DOUBLE.get(src, srcOffset + i * 8);
+            }
+        }
+    }
+
+    /**
+     * Read consecutive big-endian values of eight bytes each in the specified {@link NumberRepresentation} from a
+     * byte array into a range of double primitives.
+     *
+     * @param src                  Source byte array.
+     * @param srcOffset            Position in {@code src} of the first byte read.
+     * @param count                Number of values.
+     * @param dst                  Destination array.
+     * @param dstOffset            Position in {@code dst} of the first value.
+     * @param numberRepresentation How the bytes represent the numbers.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the values at {@code srcOffset}, or
+     *                                   when the range lies outside of {@code dst}.
+     * @see #getDouble(byte[], int, NumberRepresentation)
+     */
+    public static void toDoubles(byte[] src, int srcOffset, int count, double[] dst, int dstOffset,
+                                 NumberRepresentation numberRepresentation) {
+        checkBulk(dst.length, dstOffset, count, src.length, srcOffset, 8);
+        if (numberRepresentation != NumberRepresentation.LEXICOGRAPHIC_SORT
+                && numberRepresentation != NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING) {
+            toDoubles(src, srcOffset, count, dst, dstOffset, ByteOrder.BIG_ENDIAN);
+            return;
+        }
+        long flip = numberRepresentation == NumberRepresentation.LEXICOGRAPHIC_SORT ? 0 : -1;
+        for (int i = 0; i < count; i++) {
+            dst[dstOffset + i] = fromSortableDoubleBits((long) LONG.get(src, srcOffset + i * 8) ^ flip);
+        }
+    }
+
+    /**
+     * Check the ranges of a bulk conversion between {@code count} primitives and {@code count * width} bytes.
+     */
+    private static void checkBulk(int valuesLength, int valuesOffset, int count, int bytesLength, int bytesOffset,
+                                  int width) {
+        Objects.checkFromIndexSize(valuesOffset, count, valuesLength);
+        Objects.checkIndex(bytesOffset, bytesLength + 1);
+        if (count > (bytesLength - bytesOffset) / width) {
+            throw new IndexOutOfBoundsException("Range [" + bytesOffset + ", " + bytesOffset + " + " + count + " * "
+                    + width + ") out of bounds for length " + bytesLength);
+        }
+    }
+
+
+    /**
+     * Convert a byte array to its ascending terminated encoding.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     * @see #fromTerminated(byte[], SortOrder)
+     */
+    public static byte[] fromTerminated(byte[] input) throws ConversionException {
+        return fromTerminated(input, SortOrder.ASCENDING);
+    }
+
+    /**
+     * Convert a byte array to its terminated encoding, which can be followed by other fields without losing its sort
+     * order or its boundary.
+     * <p>
+     * Every {@code 0x00} byte is escaped as {@code 0x00 0xFF}, and the field ends with {@code 0x00 0x01}, as in the
+     * tuple layer of FoundationDB. A terminated field sorts before any longer field it is a prefix of, regardless of
+     * what follows it. With {@link SortOrder#DESCENDING}, all bytes of the ascending encoding are complemented.
+     *
+     * @param input     Input value.
+     * @param sortOrder Sort order of the encoded field.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromTerminated(byte[] input, SortOrder sortOrder) throws ConversionException {
+        assertNotNull(input);
+        byte[] out = new byte[terminatedSize(input)];
+        putTerminated(out, 0, input, sortOrder);
+        return out;
+    }
+
+    /**
+     * Convert a string to the ascending terminated encoding of its UTF-8 bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     * @see #fromTerminated(byte[], SortOrder)
+     */
+    public static byte[] fromTerminatedString(String input) throws ConversionException {
+        return fromTerminatedString(input, SortOrder.ASCENDING);
+    }
+
+    /**
+     * Convert a string to the terminated encoding of its UTF-8 bytes.
+     *
+     * @param input     Input value.
+     * @param sortOrder Sort order of the encoded field.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     * @see #fromTerminated(byte[], SortOrder)
+     */
+    public static byte[] fromTerminatedString(String input, SortOrder sortOrder) throws ConversionException {
+        assertNotNull(input);
+        byte[] out = new byte[terminatedStringSize(input)];
+        putTerminatedString(out, 0, input, sortOrder);
+        return out;
+    }
+
+    /**
+     * Convert a byte array holding a single ascending terminated field back to the bytes it encodes.
+     *
+     * @param bytes Byte array.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null, or is not exactly one terminated field.
+     */
+    public static byte[] toTerminated(byte[] bytes) throws ConversionException {
+        return toTerminated(bytes, SortOrder.ASCENDING);
+    }
+
+    /**
+     * Convert a byte array holding a single terminated field back to the bytes it encodes.
+     *
+     * @param bytes     Byte array.
+     * @param sortOrder Sort order of the encoded field.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null, or is not exactly one terminated field.
+     */
+    public static byte[] toTerminated(byte[] bytes, SortOrder sortOrder) throws ConversionException {
+        assertTerminated(bytes, sortOrder);
+        return getTerminated(bytes, 0, sortOrder);
+    }
+
+    /**
+     * Convert a byte array holding a single ascending terminated field back to the string it encodes.
+     *
+     * @param bytes Byte array.
+     * @return A string.
+     * @throws ConversionException Thrown when the input is null, or is not exactly one terminated field.
+     */
+    public static String toTerminatedString(byte[] bytes) throws ConversionException {
+        return toTerminatedString(bytes, SortOrder.ASCENDING);
+    }
+
+    /**
+     * Convert a byte array holding a single terminated field back to the string it encodes.
+     *
+     * @param bytes     Byte array.
+     * @param sortOrder Sort order of the encoded field.
+     * @return A string.
+     * @throws ConversionException Thrown when the input is null, or is not exactly one terminated field.
+     */
+    public static String toTerminatedString(byte[] bytes, SortOrder sortOrder) throws ConversionException {
+        assertTerminated(bytes, sortOrder);
+        return getTerminatedString(bytes, 0, sortOrder);
+    }
+
+    /**
+     * Write the terminated encoding of a byte array into an existing byte array.
+     *
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param sortOrder Sort order of the encoded field.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded field at {@code offset}.
+     * @see #fromTerminated(byte[], SortOrder)
+     */
+    public static int putTerminated(byte[] dst, int offset, byte[] input, SortOrder sortOrder) {
+        int size = terminatedSize(input);
+        Objects.checkFromIndexSize(offset, size, dst.length);
+        int flip = flip(sortOrder);
+        int position = offset;
+        int from = 0;
+        int zero;
+        // Copy runs of non-zero bytes in bulk; only ascending fields can skip the complement.
+        while ((zero = BytePattern.indexOfByte(input, (byte) 0, from, input.length)) >= 0) {
+            position = copy(input, from, zero + 1, dst, position, flip);
+            dst[position++] = (byte) (ESCAPE ^ flip);
+            from = zero + 1;
+        }
+        position = copy(input, from, input.length, dst, position, flip);
+        dst[position++] = (byte) flip;
+        dst[position] = (byte) (TERMINATOR ^ flip);
+        return size;
+    }
+
+    /**
+     * Write the terminated encoding of the UTF-8 bytes of a string into an existing byte array. The string is encoded
+     * straight into {@code dst}, without an intermediate byte array.
+     *
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param sortOrder Sort order of the encoded field.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded field at {@code offset}.
+     * @see #fromTerminated(byte[], SortOrder)
+     */
+    public static int putTerminatedString(byte[] dst, int offset, String input, SortOrder sortOrder) {
+        int size = terminatedStringSize(input);
+        Objects.checkFromIndexSize(offset, size, dst.length);
+        int flip = flip(sortOrder);
+        int position = offset;
+        for (int i = 0; i < input.length(); i++) {
+            int c = input.charAt(i);
+            if (c < 0x80) {
+                dst[position++] = (byte) (c ^ flip);
+                if (c == 0) dst[position++] = (byte) (ESCAPE ^ flip);
+            } else if (c < 0x800) {
+                dst[position++] = (byte) ((0xC0 | c >> 6) ^ flip);
+                dst[position++] = (byte) ((0x80 | c & 0x3F) ^ flip);
+            } else if (Character.isHighSurrogate((char) c) && i + 1 < input.length()
+                    && Character.isLowSurrogate(input.charAt(i + 1))) {
+                int cp = Character.toCodePoint((char) c, input.charAt(++i));
+                dst[position++] = (byte) ((0xF0 | cp >> 18) ^ flip);
+                dst[position++] = (byte) ((0x80 | cp >> 12 & 0x3F) ^ flip);
+                dst[position++] = (byte) ((0x80 | cp >> 6 & 0x3F) ^ flip);
+                dst[position++] = (byte) ((0x80 | cp & 0x3F) ^ flip);
+            } else if (Character.isSurrogate((char) c)) {
+                // Unpaired surrogate; replaced like String#getBytes does.
+                dst[position++] = (byte) ('?' ^ flip);
+            } else {
+                dst[position++] = (byte) ((0xE0 | c >> 12) ^ flip);
+                dst[position++] = (byte) ((0x80 | c >> 6 & 0x3F) ^ flip);
+                dst[position++] = (byte) ((0x80 | c & 0x3F) ^ flip);
+            }
+        }
+        dst[position++] = (byte) flip;
+        dst[position] = (byte) (TERMINATOR ^ flip);
+        return size;
+    }
+
+    /**
+     * Read a terminated field from a byte array, and return the bytes it encodes. The number of bytes read is
+     * returned by {@link #getTerminatedSize(byte[], int, SortOrder)}.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param sortOrder Sort order of the encoded field.
+     * @return Bytes.
+     * @throws IllegalArgumentException Thrown when {@code src} ends before the terminator.
+     */
+    public static byte[] getTerminated(byte[] src, int offset, SortOrder sortOrder) {
+        int flip = flip(sortOrder);
+        byte zero = (byte) flip;
+        int contentEnd = offset + getTerminatedSize(src, offset, sortOrder) - 2;
+        // Each escaped zero byte is followed by its escape byte, which is dropped.
+        byte[] out = new byte[contentEnd - offset - count(src, offset, contentEnd, zero)];
+        int position = 0;
+        int from = offset;
+        int index;
+        while ((index = BytePattern.indexOfByte(src, zero, from, contentEnd)) >= 0) {
+            position = copy(src, from, index + 1, out, position, flip);
+            from = index + 2;
+        }
+        copy(src, from, contentEnd, out, position, flip);
+        return out;
+    }
+
+    /**
+     * Read a terminated field from a byte array, and return the string its UTF-8 bytes encode. The number of bytes
+     * read is returned by {@link #getTerminatedSize(byte[], int, SortOrder)}.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param sortOrder Sort order of the encoded field.
+     * @return A string.
+     * @throws IllegalArgumentException Thrown when {@code src} ends before the terminator.
+     */
+    public static String getTerminatedString(byte[] src, int offset, SortOrder sortOrder) {
+        if (sortOrder != SortOrder.DESCENDING) {
+            // Without escaped zero bytes the string is decoded in place.
+            int zero = BytePattern.indexOfByte(src, (byte) 0, offset, src.length);
+            if (zero >= 0 && zero + 1 < src.length && src[zero + 1] == TERMINATOR) {
+                return new String(src, offset, zero - offset, StandardCharsets.UTF_8);
+            }
+        }
+        return new String(getTerminated(src, offset, sortOrder), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Determine the length in bytes of the terminated field that starts at {@code offset}, including the terminator.
+     * This lets callers skip a field without decoding it. The field end is found with a word-at-a-time scan for zero
+     * bytes (or {@code 0xFF} bytes for descending fields).
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte of the field.
+     * @param sortOrder Sort order of the encoded field.
+     * @return Length of the encoded field.
+     * @throws IllegalArgumentException Thrown when {@code src} ends before the terminator, or when a zero byte is
+     *                                  followed by neither the terminator nor the escape byte.
+     */
+    public static int getTerminatedSize(byte[] src, int offset, SortOrder sortOrder) {
+        int size = getTerminatedSize(src, offset, src.length, sortOrder);
+        if (size < 0) throw new IllegalArgumentException("Terminated field lacks its terminator.");
+        return size;
+    }
+
+    /**
+     * Like {@link #getTerminatedSize(byte[], int, SortOrder)}, but the field must end before {@code end}.
+     *
+     * @return The size of the field, or -1 if no terminator precedes {@code end}.
+     * @throws IllegalArgumentException Thrown when a zero byte is followed by neither the terminator nor the escape
+     *                                  byte.
+     */
+    static int getTerminatedSize(byte[] src, int offset, int end, SortOrder sortOrder) {
+        int flip = flip(sortOrder);
+        byte zero = (byte) flip;
+        byte terminator = (byte) (TERMINATOR ^ flip);
+        byte escape = (byte) (ESCAPE ^ flip);
+        int i = offset;
+        while ((i = BytePattern.indexOfByte(src, zero, i, end - 1)) >= 0) {
+            if (src[i + 1] == terminator) return i + 2 - offset;
+            if (src[i + 1] != escape) throw invalidEscape();
+            i += 2;
+        }
+        return -1;
+    }
+
+    /**
+     * Like {@link #getTerminatedSize(byte[], int, SortOrder)}, for a field in a {@link ByteBuffer} that must end
+     * before {@code end}. The position of the buffer is not changed.
+     *
+     * @return The size of the field, or -1 if no terminator precedes {@code end}.
+     * @throws IllegalArgumentException Thrown when a zero byte is followed by neither the terminator nor the escape
+     *                                  byte.
+     */
+    static int getTerminatedSize(ByteBuffer src, int index, int end, SortOrder sortOrder) {
+        int flip = flip(sortOrder);
+        byte zero = (byte) flip;
+        byte terminator = (byte) (TERMINATOR ^ flip);
+        byte escape = (byte) (ESCAPE ^ flip);
+        for (int i = index; i < end - 1; i++) {
+            if (src.get(i) != zero) continue;
+            if (src.get(i + 1) == terminator) return i + 2 - index;
+            if (src.get(i + 1) != escape) throw invalidEscape();
+            i++;
+        }
+        return -1;
+    }
+
+    private static IllegalArgumentException invalidEscape() {
+        return new IllegalArgumentException("Terminated field contains a zero byte that is not escaped.");
+    }
+
+    /**
+     * Determine the length in bytes of the terminated encoding of a byte array.
+     *
+     * @param input Input value.
+     * @return The number of bytes {@link #putTerminated(byte[], int, byte[], SortOrder)} writes for {@code input}.
+     */
+    public static int terminatedSize(byte[] input) {
+        return input.length + count(input, 0, input.length, (byte) 0) + 2;
+    }
+
+    /**
+     * Determine the length in bytes of the terminated encoding of the UTF-8 bytes of a string.
+     *
+     * @param input Input value.
+     * @return The number of bytes {@link #putTerminatedString(byte[], int, String, SortOrder)} writes for
+     * {@code input}.
+     */
+    public static int terminatedStringSize(String input) {
+        // Zero chars take one byte in UTF-8, plus one for the escape.
+        int size = input.length() + 2;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == 0 || c >= 0x80 && c < 0x800) {
+                size++;
+            } else if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + 1 < input.length()
+                        && Character.isLowSurrogate(input.charAt(i + 1))) {
+                    // Four bytes for two chars.
+                    size += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    size += 2;
+                }
+            }
+        }
+        return size;
+    }
+
+    static final int ESCAPE = 0xFF;
+    static final int TERMINATOR = 0x01;
+
+    private static int flip(SortOrder sortOrder) {
+        return sortOrder == SortOrder.DESCENDING ? 0xFF : 0;
+    }
+
+    /**
+     * Copy a range of bytes, complementing them if {@code flip} is {@code 0xFF}.
+     *
+     * @return The position in {@code dst} after the last byte copied.
+     */
+    private static int copy(byte[] src, int from, int to, byte[] dst, int position, int flip) {
+        int length = to - from;
+        if (flip == 0) {
+            System.arraycopy(src, from, dst, position, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                dst[position + i] = (byte) ~src[from + i];
+            }
+        }
+        return position + length;
+    }
+
+    private static int count(byte[] input, int from, int to, byte b) {
+        int count = 0;
+        int i = from;
+        while ((i = BytePattern.indexOfByte(input, b, i, to)) >= 0) {
+            count++;
+            i++;
+        }
+        return count;
+    }
+
+    private static void assertTerminated(byte[] bytes, SortOrder sortOrder) throws ConversionException {
+        assertNotNull(bytes);
+        try {
+            assertNumBytes(bytes, getTerminatedSize(bytes, 0, sortOrder));
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Input is not a terminated field.", e);
+        }
+    }
+
+
+    /**
+     * Convert a {@link BigInteger} to bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromBigInteger(BigInteger input) throws ConversionException {
+        assertNotNull(input);
+        return input.toByteArray();
+    }
+
+    /**
+     * Convert a byte array to a {@link BigInteger}.
+     *
+     * @param bytes Byte array.
+     * @return A {@link BigInteger}.
+     * @throws ConversionException Thrown when the input lacks enough bytes for a successful conversion or is null.
+     */
+    public static BigInteger toBigInteger(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertAtLeastNumBytes(bytes, 1);
+        return new BigInteger(bytes);
+    }
+
+
+    /**
+     * Convert a {@link BigDecimal} to bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromBigDecimal(BigDecimal input) throws ConversionException {
+        assertNotNull(input);
+        byte[] value = input.unscaledValue().toByteArray();
+        byte[] out = new byte[4 + value.length];
+        putInt(out, 0, input.scale());
+        System.arraycopy(value, 0, out, 4, value.length);
+        return out;
+    }
+
+    /**
+     * Convert a byte array to a {@link BigDecimal}.
+     *
+     * @param bytes Byte array.
+     * @return A {@link BigDecimal}.
+     * @throws ConversionException Thrown when the input lacks enough bytes for a successful conversion or is null.
+     */
+    public static BigDecimal toBigDecimal(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        // 8 bytes for the scale (int) and at least 1 byte for the value.
+        assertAtLeastNumBytes(bytes, 5);
+        int scale = toInt(shrink(4, bytes));
+
+        return new BigDecimal(new BigInteger(chomp(4, bytes)), scale);
+    }
+
+    /**
+     * Convert a {@link BigInteger} to bytes.
+     * <p>
+     * With {@link NumberRepresentation#TWOS_COMPLEMENT} this is the output of {@link BigInteger#toByteArray()}. The
+     * lexicographic representations use the order-preserving decimal encoding of
+     * {@link #fromBigDecimal(BigDecimal, NumberRepresentation)}.
+     *
+     * @param input          Input value.
+     * @param representation How to represent the number in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromBigInteger(BigInteger input, NumberRepresentation representation)
+            throws ConversionException {
+        if (representation == null || representation == NumberRepresentation.TWOS_COMPLEMENT) {
+            return fromBigInteger(input);
+        }
+        assertNotNull(input);
+        SortableDecimal decimal = SortableDecimal.of(input, 0);
+        byte[] out = new byte[decimal.size()];
+        decimal.write(out, 0, sortOrder(representation));
+        return out;
+    }
+
+    /**
+     * Convert a byte array to a {@link BigInteger}.
+     *
+     * @param bytes          Byte array.
+     * @param representation How the number is represented in bytes.
+     * @return A {@link BigInteger}.
+     * @throws ConversionException Thrown when the input lacks enough bytes for a successful conversion or is null,
+     *                             when the encoded number is not an integer, and when a lexicographic representation
+     *                             encodes a number of more than 16384 digits.
+     * @see #fromBigInteger(BigInteger, NumberRepresentation)
+     */
+    public static BigInteger toBigInteger(byte[] bytes, NumberRepresentation representation)
+            throws ConversionException {
+        if (representation == null || representation == NumberRepresentation.TWOS_COMPLEMENT) {
+            return toBigInteger(bytes);
+        }
+        // Decoded decimals carry no trailing zeros, so a positive scale means a fractional part.
+        BigDecimal decimal = toBigDecimal(bytes, representation);
+        if (decimal.scale() > 0) throw new ConversionException("Encoded number is not an integer.");
+        if ((long) decimal.precision() - decimal.scale() > BIG_INTEGER_MAX_DIGITS) {
+            throw new ConversionException("Encoded number has more than " + BIG_INTEGER_MAX_DIGITS + " digits.");
+        }
+        return decimal.toBigIntegerExact();
+    }
+
+    /**
+     * Convert a {@link BigDecimal} to bytes.
+     * <p>
+     * With {@link NumberRepresentation#TWOS_COMPLEMENT} this is the four-byte scale followed by the unscaled value,
+     * as written by {@link #fromBigDecimal(BigDecimal)}. The lexicographic representations use an order-preserving
+     * encoding in the style of the numeric encoding of HBase {@code OrderedBytes}, where the unsigned byte order of
+     * the output matches the numerical order of the input, regardless of scale:
+     * <ul>
+     *     <li>One header byte for the sign: {@code 0x40} for negative numbers, {@code 0x80} for zero (which takes no
+     *     further bytes), and {@code 0xC0} for positive numbers;
+     *     <li>the exponent {@code E} of the number written as {@code 0.d₁d₂d₃… × 100^E}, where each {@code dᵢ} is a
+     *     base-100 digit and {@code d₁} is not zero, in the order-preserving variable-length encoding of
+     *     {@link #fromVarLong(long)};
+     *     <li>one byte per base-100 digit, {@code 2d + 1} for all but the last digit, and {@code 2d} for the last one.
+     * </ul>
+     * For negative numbers the exponent and digits are complemented, and {@link
+     * NumberRepresentation#LEXICOGRAPHIC_SORT_DESCENDING} complements all bytes. Numerically equal values are encoded
+     * the same, so {@code 1.0} and {@code 1.00} cannot be told apart once encoded. The encoding marks its own end, so
+     * it can be embedded in composite keys; see {@link #putBigDecimal(byte[], int, BigDecimal, SortOrder)}.
+     *
+     * @param input          Input value.
+     * @param representation How to represent the number in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromBigDecimal(BigDecimal input, NumberRepresentation representation)
+            throws ConversionException {
+        if (representation == null || representation == NumberRepresentation.TWOS_COMPLEMENT) {
+            return fromBigDecimal(input);
+        }
+        assertNotNull(input);
+        SortableDecimal decimal = SortableDecimal.of(input);
+        byte[] out = new byte[decimal.size()];
+        decimal.write(out, 0, sortOrder(representation));
+        return out;
+    }
+
+    /**
+     * Convert a byte array to a {@link BigDecimal}. Values in a lexicographic representation are returned without
+     * trailing zeros, as by {@link BigDecimal#stripTrailingZeros()}.
+     *
+     * @param bytes          Byte array.
+     * @param representation How the number is represented in bytes.
+     * @return A {@link BigDecimal}.
+     * @throws ConversionException Thrown when the input lacks enough bytes for a successful conversion or is null,
+     *                             and when it is not exactly one encoded number.
+     * @see #fromBigDecimal(BigDecimal, NumberRepresentation)
+     */
+    public static BigDecimal toBigDecimal(byte[] bytes, NumberRepresentation representation)
+            throws ConversionException {
+        if (representation == null || representation == NumberRepresentation.TWOS_COMPLEMENT) {
+            return toBigDecimal(bytes);
+        }
+        assertNotNull(bytes);
+        assertAtLeastNumBytes(bytes, 1);
+        SortOrder sortOrder = sortOrder(representation);
+        try {
+            assertNumBytes(bytes, getBigDecimalSize(bytes, 0, sortOrder));
+            return getBigDecimal(bytes, 0, sortOrder);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ConversionException("Input is not a sortable decimal.", e);
+        }
+    }
+
+    /**
+     * Write the order-preserving encoding of a {@link BigDecimal} into an existing byte array. Values whose unscaled
+     * value fits in a long are encoded without creating a {@link BigInteger}.
+     *
+     * @param dst       Destination byte array.
+     * @param offset    Position in {@code dst} of the first byte written.
+     * @param input     Input value.
+     * @param sortOrder Sort order of the encoded value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code offset}.
+     * @see #fromBigDecimal(BigDecimal, NumberRepresentation)
+     */
+    public static int putBigDecimal(byte[] dst, int offset, BigDecimal input, SortOrder sortOrder) {
+        SortableDecimal decimal = SortableDecimal.of(input);
+        Objects.checkFromIndexSize(offset, decimal.size(), dst.length);
+        return decimal.write(dst, offset, sortOrder);
+    }
+
+    /**
+     * Read the order-preserving encoding of a {@link BigDecimal} from a byte array. The number of bytes read is
+     * returned by {@link #getBigDecimalSize(byte[], int, SortOrder)}. Values of up to eighteen significant digits are
+     * decoded without creating a {@link BigInteger}.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte read.
+     * @param sortOrder Sort order of the encoded value.
+     * @return A {@link BigDecimal}, without trailing zeros.
+     * @throws IndexOutOfBoundsException Thrown when {@code offset} lies outside of {@code src}.
+     * @throws IllegalArgumentException  Thrown when the encoded value is malformed, or ends beyond {@code src}.
+     * @see #fromBigDecimal(BigDecimal, NumberRepresentation)
+     */
+    public static BigDecimal getBigDecimal(byte[] src, int offset, SortOrder sortOrder) {
+        int flip = flip(sortOrder);
+        int header = (src[offset] & 0xff) ^ flip;
+        if (header == DECIMAL_ZERO) return BigDecimal.ZERO;
+        int end = offset + getBigDecimalSize(src, offset, sortOrder);
+        if (header == DECIMAL_NEGATIVE) flip ^= 0xff;
+
+        int position = offset + 1;
+        long exponent = getVarLong(src, position);
+        if (flip != 0) exponent = ~exponent;
+        position += getVarLongSize(src, position);
+
+        // The value is 0.d₁d₂d₃… × 100^E, i.e., the unscaled decimal digits d₁d₂d₃… with a scale of 2n - 2E.
+        int digits = end - position;
+        int lastDigit = (((src[end - 1] & 0xff) ^ flip) >>> 1);
+        // Drop the trailing zero of the last base-100 digit, if any.
+        int trailingZero = lastDigit % 10 == 0 ? 1 : 0;
+        long scale = 2L * digits - 2 * exponent - trailingZero;
+        if (scale != (int) scale) {
+            throw new IllegalArgumentException("Scale of encoded decimal out of range: " + scale);
+        }
+
+        int signum = header == DECIMAL_NEGATIVE ? -1 : 1;
+        if (digits <= 9) {
+            long unscaled = 0;
+            for (int i = position; i < end; i++) {
+                unscaled = unscaled * 100 + (((src[i] & 0xff) ^ flip) >>> 1);
+            }
+            if (trailingZero == 1) unscaled /= 10;
+            return BigDecimal.valueOf(signum * unscaled, (int) scale);
+        }
+        char[] chars = new char[2 * digits - trailingZero];
+        for (int i = 0; i < digits; i++) {
+            int digit = ((src[position + i] & 0xff) ^ flip) >>> 1;
+            chars[2 * i] = (char) ('0' + digit / 10);
+            if (2 * i + 1 < chars.length) chars[2 * i + 1] = (char) ('0' + digit % 10);
+        }
+        BigInteger unscaled = new BigInteger(new String(chars));
+        return new BigDecimal(signum < 0 ? unscaled.negate() : unscaled, (int) scale);
+    }
+
+    /**
+     * Determine the length in bytes of the order-preserving encoding of a {@link BigDecimal}.
+     *
+     * @param input Input value.
+     * @return The number of bytes {@link #putBigDecimal(byte[], int, BigDecimal, SortOrder)} writes for
+     * {@code input}.
+     */
+    public static int bigDecimalSize(BigDecimal input) {
+        return SortableDecimal.of(input).size();
+    }
+
+    /**
+     * Determine the length in bytes of the order-preserving decimal encoding that starts at {@code offset}, i.e., the
+     * number of bytes {@link #getBigDecimal(byte[], int, SortOrder)} consumes.
+     *
+     * @param src       Source byte array.
+     * @param offset    Position in {@code src} of the first byte of the encoded value.
+     * @param sortOrder Sort order of the encoded value.
+     * @return The encoded length.
+     * @throws IndexOutOfBoundsException Thrown when {@code offset} lies outside of {@code src}.
+     * @throws IllegalArgumentException  Thrown when the encoded value is malformed, or ends beyond {@code src}.
+     */
+    public static int getBigDecimalSize(byte[] src, int offset, SortOrder sortOrder) {
+        int flip = flip(sortOrder);
+        int header = (src[offset] & 0xff) ^ flip;
+        if (header == DECIMAL_ZERO) return 1;
+        if (header != DECIMAL_POSITIVE && header != DECIMAL_NEGATIVE) {
+            throw new IllegalArgumentException("Not a valid sortable decimal header: " + header);
+        }
+        if (header == DECIMAL_NEGATIVE) flip ^= 0xff;
+        if (offset + 1 >= src.length) {
+            throw new IllegalArgumentException("Sortable decimal lacks its exponent.");
+        }
+        int first = offset + 1 + getVarLongSize(src, offset + 1);
+        // Each digit d in 0-99 is stored as 2d + 1, except the last, which is stored as 2d and is the first even byte.
+        // Leading and trailing zero digits are never written.
+        for (int position = first; position < src.length; position++) {
+            int digit = (src[position] & 0xff) ^ flip;
+            if (digit >= 200 || position == first && digit >>> 1 == 0) {
+                throw new IllegalArgumentException("Not a valid sortable decimal digit: " + digit);
+            }
+            if ((digit & 1) == 0) {
+                if (digit == 0) throw new IllegalArgumentException("Sortable decimal ends with a zero digit.");
+                return position + 1 - offset;
+            }
+        }
+        throw new IllegalArgumentException("Sortable decimal lacks its last digit.");
+    }
+
+    static final int DECIMAL_NEGATIVE = 0x40;
+    static final int DECIMAL_ZERO = 0x80;
+    static final int DECIMAL_POSITIVE = 0xC0;
+
+    /**
+     * Largest number of decimal digits {@link #toBigInteger(byte[], NumberRepresentation)} decodes. The exponent of a
+     * few bytes can describe a number of millions of digits, which would take seconds to expand.
+     */
+    static final int BIG_INTEGER_MAX_DIGITS = 16384;
+
+    private static SortOrder sortOrder(NumberRepresentation representation) {
+        return representation == NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING
+                ? SortOrder.DESCENDING
+                : SortOrder.ASCENDING;
+    }
+
+    /**
+     * The decimal digits of a number, normalized for the order-preserving decimal encoding.
+     */
+    private static final class SortableDecimal {
+        final int signum;
+        // Decimal digits of the absolute value, without leading or trailing zeros.
+        final byte[] digits;
+        final int length;
+        // Position of the decimal point, as in 0.d₁d₂d₃… × 10^exponent.
+        final long exponent;
+
+        private SortableDecimal(int signum, byte[] digits, int length, long exponent) {
+            this.signum = signum;
+            this.digits = digits;
+            this.length = length;
+            this.exponent = exponent;
+        }
+
+        static SortableDecimal of(BigDecimal input) {
+            // Unscaled values of up to 18 digits fit in a long; reading them this way skips BigInteger.
+            if (input.precision() <= 18) {
+                return of(input.scaleByPowerOfTen(input.scale()).longValue(), input.scale());
+            }
+            return of(input.unscaledValue(), input.scale());
+        }
+
+        static SortableDecimal of(BigInteger unscaled, long scale) {
+            if (unscaled.bitLength() < 64) return of(unscaled.longValue(), scale);
+            String magnitude = unscaled.abs().toString();
+            int length = magnitude.length();
+            while (magnitude.charAt(length - 1) == '0') length--;
+            byte[] digits = new byte[length];
+            for (int i = 0; i < length; i++) {
+                digits[i] = (byte) (magnitude.charAt(i) - '0');
+            }
+            return new SortableDecimal(unscaled.signum(), digits, length, magnitude.length() - scale);
+        }
+
+        static SortableDecimal of(long unscaled, long scale) {
+            if (unscaled == 0) return new SortableDecimal(0, null, 0, 0);
+            // Work with the negated magnitude, so Long.MIN_VALUE needs no special treatment.
+            long negative = unscaled < 0 ? unscaled : -unscaled;
+            int magnitudeLength = 0;
+            while (negative % 10 == 0) {
+                negative /= 10;
+                magnitudeLength++;
+            }
+            byte[] digits = new byte[19];
+            int position = digits.length;
+            while (negative != 0) {
+                digits[--position] = (byte) -(negative % 10);
+                negative /= 10;
+            }
+            int length = digits.length - position;
+            System.arraycopy(digits, position, digits, 0, length);
+            return new SortableDecimal(Long.signum(unscaled), digits, length, length + magnitudeLength - scale);
+        }
+
+        /**
+         * @return 1 if a zero digit is prefixed to make the exponent even, 0 otherwise.
+         */
+        private int padding() {
+            return (int) (exponent & 1);
+        }
+
+        private long centimalExponent() {
+            return (exponent + padding()) / 2;
+        }
+
+        int size() {
+            if (signum == 0) return 1;
+            return 1 + varLongSize(centimalExponent()) + (padding() + length + 1) / 2;
+        }
+
+        int write(byte[] dst, int offset, SortOrder sortOrder) {
+            int headerFlip = flip(sortOrder);
+            if (signum == 0) {
+                dst[offset] = (byte) (DECIMAL_ZERO ^ headerFlip);
+                return 1;
+            }
+            dst[offset] = (byte) ((signum < 0 ? DECIMAL_NEGATIVE : DECIMAL_POSITIVE) ^ headerFlip);
+            int flip = signum < 0 ? headerFlip ^ 0xff : headerFlip;
+            long centimalExponent = centimalExponent();
+            int position = offset + 1 + putVarLong(dst, offset + 1, flip == 0 ? centimalExponent : ~centimalExponent);
+
+            int padded = padding() + length;
+            for (int i = 0; i < padded; i += 2) {
+                int high = i < padding() ? 0 : digits[i - padding()];
+                int low = i + 1 < padded ? digits[i + 1 - padding()] : 0;
+                int digit = 2 * (high * 10 + low) + (i + 2 < padded ? 1 : 0);
+                dst[position++] = (byte) (digit ^ flip);
+            }
+            return position - offset;
+        }
+    }
+
+
+    /**
+     * Convert an {@link Instant} to bytes.
+     * <p>
+     * The first eight bytes represent the seconds since the epoch, the remaining four bytes are the nanosecond
+     * adjustment.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromInstant(Instant input) throws ConversionException {
+        return fromInstant(input, InstantFormat.SECONDS_NANOS_12);
+    }
+
+    /**
+     * Convert a byte array to an {@link Instant}.
+     *
+     * @param bytes Byte array.
+     * @return An {@link Instant}.
+     * @throws ConversionException Thrown when the input is not 12 bytes or is null.
+     */
+    public static Instant toInstant(byte[] bytes) throws ConversionException {
+        return toInstant(bytes, InstantFormat.SECONDS_NANOS_12);
+    }
+
+    /**
+     * Convert an {@link Instant} to bytes, according to the specified {@link InstantFormat}.
+     *
+     * @param input         Input value.
+     * @param instantFormat How to represent the {@link Instant} in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null, or out of range for the format.
+     */
+    public static byte[] fromInstant(Instant input, InstantFormat instantFormat) throws ConversionException {
+        assertNotNull(input);
+        byte[] out = new byte[instantFormat.byteLength()];
+        try {
+            putInstant(out, 0, input, instantFormat);
+        } catch (ArithmeticException e) {
+            throw new ConversionException("Instant out of range for " + instantFormat + ": " + input, e);
+        }
+        return out;
+    }
+
+    /**
+     * Convert a byte array to an {@link Instant}, according to the specified {@link InstantFormat}.
+     *
+     * @param bytes         Byte array.
+     * @param instantFormat How the bytes represent the {@link Instant}.
+     * @return An {@link Instant}.
+     * @throws ConversionException Thrown when the input is null, or its length does not match the format.
+     */
+    public static Instant toInstant(byte[] bytes, InstantFormat instantFormat) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, instantFormat.byteLength());
+        return getInstant(bytes, 0, instantFormat);
+    }
+
+    /**
+     * Write an {@link Instant} into an existing byte array, according to the specified {@link InstantFormat}.
+     *
+     * @param dst           Destination byte array.
+     * @param offset        Position in {@code dst} of the first byte written.
+     * @param input         Input value.
+     * @param instantFormat How to represent the {@link Instant} in bytes.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code offset}.
+     * @throws ArithmeticException       Thrown when the input is out of range for an eight-byte format.
+     */
+    public static int putInstant(byte[] dst, int offset, Instant input, InstantFormat instantFormat) {
+        switch (instantFormat) {
+            case SORTABLE_12:
+                putInstant(dst, offset, input, NumberRepresentation.LEXICOGRAPHIC_SORT);
+                break;
+            case EPOCH_MILLIS_8:
+                putLong(dst, offset, input.toEpochMilli(), NumberRepresentation.LEXICOGRAPHIC_SORT);
+                break;
+            case EPOCH_MICROS_8:
+                long micros = Math.addExact(Math.multiplyExact(input.getEpochSecond(), 1_000_000L),
+                        input.getNano() / 1_000);
+                putLong(dst, offset, micros, NumberRepresentation.LEXICOGRAPHIC_SORT);
+                break;
+            default:
+                putInstant(dst, offset, input, NumberRepresentation.TWOS_COMPLEMENT);
+        }
+        return instantFormat.byteLength();
+    }
+
+    /**
+     * Read an {@link Instant} from a byte array, according to the specified {@link InstantFormat}.
+     *
+     * @param src           Source byte array.
+     * @param offset        Position in {@code src} of the first byte read.
+     * @param instantFormat How the bytes represent the {@link Instant}.
+     * @return An {@link Instant}.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the encoded value at {@code offset}.
+     */
+    public static Instant getInstant(byte[] src, int offset, InstantFormat instantFormat) {
+        switch (instantFormat) {
+            case SORTABLE_12:
+                return getInstant(src, offset, NumberRepresentation.LEXICOGRAPHIC_SORT);
+            case EPOCH_MILLIS_8:
+                return Instant.ofEpochMilli(getLong(src, offset, NumberRepresentation.LEXICOGRAPHIC_SORT));
+            case EPOCH_MICROS_8:
+                long micros = getLong(src, offset, NumberRepresentation.LEXICOGRAPHIC_SORT);
+                return Instant.ofEpochSecond(
+                        Math.floorDiv(micros, 1_000_000L),
+                        Math.floorMod(micros, 1_000_000L) * 1_000L
+                );
+            default:
+                return getInstant(src, offset, NumberRepresentation.TWOS_COMPLEMENT);
+        }
+    }
+
+    /**
+     * Write an {@link Instant} into a {@link ByteBuffer} at an absolute index, according to the specified
+     * {@link InstantFormat}. The position of the buffer is not changed.
+     *
+     * @param dst           Destination buffer.
+     * @param index         Position in {@code dst} of the first byte written.
+     * @param input         Input value.
+     * @param instantFormat How to represent the {@link Instant} in bytes.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code index}.
+     * @throws ArithmeticException       Thrown when the input is out of range for an eight-byte format.
+     * @see #putInstant(byte[], int, Instant, InstantFormat)
+     */
+    public static int putInstant(ByteBuffer dst, int index, Instant input, InstantFormat instantFormat) {
+        Objects.checkFromIndexSize(index, instantFormat.byteLength(), dst.limit());
+        switch (instantFormat) {
+            case SORTABLE_12:
+            case SECONDS_NANOS_12:
+                NumberRepresentation representation = instantFormat == InstantFormat.SORTABLE_12
+                        ? NumberRepresentation.LEXICOGRAPHIC_SORT
+                        : NumberRepresentation.TWOS_COMPLEMENT;
+                putLong(dst, index, input.getEpochSecond(), representation);
+                putInt(dst, index + 8, input.getNano(), representation);
+                break;
+            case EPOCH_MILLIS_8:
+                putLong(dst, index, input.toEpochMilli(), NumberRepresentation.LEXICOGRAPHIC_SORT);
+                break;
+            default:
+                long micros = Math.addExact(Math.multiplyExact(input.getEpochSecond(), 1_000_000L),
+                        input.getNano() / 1_000);
+                putLong(dst, index, micros, NumberRepresentation.LEXICOGRAPHIC_SORT);
+        }
+        return instantFormat.byteLength();
+    }
+
+    /**
+     * Read an {@link Instant} from a {@link ByteBuffer} at an absolute index, according to the specified
+     * {@link InstantFormat}. The position of the buffer is not changed.
+     *
+     * @param src           Source buffer.
+     * @param index         Position in {@code src} of the first byte read.
+     * @param instantFormat How the bytes represent the {@link Instant}.
+     * @return An {@link Instant}.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the encoded value at {@code index}.
+     * @see #getInstant(byte[], int, InstantFormat)
+     */
+    public static Instant getInstant(ByteBuffer src, int index, InstantFormat instantFormat) {
+        Objects.checkFromIndexSize(index, instantFormat.byteLength(), src.limit());
+        switch (instantFormat) {
+            case SORTABLE_12:
+            case SECONDS_NANOS_12:
+                NumberRepresentation representation = instantFormat == InstantFormat.SORTABLE_12
+                        ? NumberRepresentation.LEXICOGRAPHIC_SORT
+                        : NumberRepresentation.TWOS_COMPLEMENT;
+                return Instant.ofEpochSecond(
+                        getLong(src, index, representation),
+                        getInt(src, index + 8, representation)
+                );
+            case EPOCH_MILLIS_8:
+                return Instant.ofEpochMilli(getLong(src, index, NumberRepresentation.LEXICOGRAPHIC_SORT));
+            default:
+                long micros = getLong(src, index, NumberRepresentation.LEXICOGRAPHIC_SORT);
+                return Instant.ofEpochSecond(
+                        Math.floorDiv(micros, 1_000_000L),
+                        Math.floorMod(micros, 1_000_000L) * 1_000L
+                );
+        }
+    }
+
+    /**
+     * Convert an {@link Instant} to bytes, according to the specified {@link NumberRepresentation}.
+     * <p>
+     * The first eight bytes represent the seconds since the epoch, the remaining four bytes are the nanosecond
+     * adjustment, both in the specified representation. With {@link NumberRepresentation#LEXICOGRAPHIC_SORT} the
+     * bytes sort chronologically, with {@link NumberRepresentation#LEXICOGRAPHIC_SORT_DESCENDING} newest first.
+     *
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the seconds and nanoseconds in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromInstant(Instant input, NumberRepresentation numberRepresentation)
+            throws ConversionException {
+        assertNotNull(input);
+        byte[] out = new byte[12];
+        putInstant(out, 0, input, numberRepresentation);
+        return out;
+    }
+
+    /**
+     * Convert a byte array to an {@link Instant}, according to the specified {@link NumberRepresentation}.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the seconds and nanoseconds.
+     * @return An {@link Instant}.
+     * @throws ConversionException Thrown when the input is not 12 bytes or is null.
+     */
+    public static Instant toInstant(byte[] bytes, NumberRepresentation numberRepresentation)
+            throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 12);
+        return getInstant(bytes, 0, numberRepresentation);
+    }
+
+    /**
+     * Write an {@link Instant} as twelve bytes into an existing byte array, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param dst                  Destination byte array.
+     * @param offset               Position in {@code dst} of the first byte written.
+     * @param input                Input value.
+     * @param numberRepresentation How to represent the seconds and nanoseconds in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for twelve bytes at {@code offset}.
+     */
+    public static void putInstant(byte[] dst, int offset, Instant input, NumberRepresentation numberRepresentation) {
+        Objects.checkFromIndexSize(offset, 12, dst.length);
+        putLong(dst, offset, input.getEpochSecond(), numberRepresentation);
+        putInt(dst, offset + 8, input.getNano(), numberRepresentation);
+    }
+
+    /**
+     * Read an {@link Instant} from twelve bytes of a byte array, according to the specified
+     * {@link NumberRepresentation}.
+     *
+     * @param src                  Source byte array.
+     * @param offset               Position in {@code src} of the first byte read.
+     * @param numberRepresentation How the bytes represent the seconds and nanoseconds.
+     * @return An {@link Instant}.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain twelve bytes at {@code offset}.
+     */
+    public static Instant getInstant(byte[] src, int offset, NumberRepresentation numberRepresentation) {
+        Objects.checkFromIndexSize(offset, 12, src.length);
+        return Instant.ofEpochSecond(
+                getLong(src, offset, numberRepresentation),
+                getInt(src, offset + 8, numberRepresentation)
+        );
+    }
+
+
+    /**
+     * Convert an {@link OffsetDateTime} to bytes.
+     * <p>
+     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
+     * The remaining bytes are a string representing the time-zone offset ({@link ZoneOffset}).
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromOffsetDateTime(OffsetDateTime input) throws ConversionException {
+        return fromOffsetDateTime(input, ZoneFormat.ID);
+    }
+
+    /**
+     * Convert an {@link OffsetDateTime} to bytes, storing its offset according to the specified {@link ZoneFormat}.
+     * <p>
+     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
+     * The remaining bytes represent the time-zone offset ({@link ZoneOffset}).
+     *
+     * @param input      Input value.
+     * @param zoneFormat How to represent the time-zone offset in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromOffsetDateTime(OffsetDateTime input, ZoneFormat zoneFormat) throws ConversionException {
+        assertNotNull(input);
+        return fromInstantAndZone(input.toInstant(), input.getOffset(), zoneFormat);
+    }
+
+    /**
+     * Convert a byte array to an {@link OffsetDateTime}.
+     * <p>
+     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
+     * The remaining bytes are a string representing the time-zone offset ({@link ZoneOffset}).
+     *
+     * @param bytes Byte array.
+     * @return An {@link OffsetDateTime}.
+     * @throws ConversionException Thrown when the input is not at least 13 bytes or is null, and when the time-zone
+     *                             offset found is invalid.
+     */
+    public static OffsetDateTime toOffsetDateTime(byte[] bytes) throws ConversionException {
+        return toOffsetDateTime(bytes, ZoneFormat.ID);
+    }
+
+    /**
+     * Convert a byte array to an {@link OffsetDateTime}, reading its offset according to the specified
+     * {@link ZoneFormat}.
+     *
+     * @param bytes      Byte array.
+     * @param zoneFormat How the bytes represent the time-zone offset.
+     * @return An {@link OffsetDateTime}.
+     * @throws ConversionException Thrown when the input is not at least 13 bytes or is null, and when the time-zone
+     *                             offset found is invalid.
+     */
+    public static OffsetDateTime toOffsetDateTime(byte[] bytes, ZoneFormat zoneFormat) throws ConversionException {
+        ZonedDateTime zonedDateTime = toZonedDateTime(bytes, zoneFormat);
+        if (!(zonedDateTime.getZone() instanceof ZoneOffset)) {
+            throw new ConversionException("Expected a time-zone offset, found: " + zonedDateTime.getZone());
+        }
+        return zonedDateTime.toOffsetDateTime();
+    }
+
+
+    /**
+     * Convert a {@link ZonedDateTime} to bytes.
+     * <p>
+     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
+     * The remaining bytes are a string representing the time-zone identifier ({@link ZoneId}).
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromZonedDateTime(ZonedDateTime input) throws ConversionException {
+        return fromZonedDateTime(input, ZoneFormat.ID);
+    }
+
+    /**
+     * Convert a {@link ZonedDateTime} to bytes, storing its time-zone according to the specified {@link ZoneFormat}.
+     * <p>
+     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
+     * The remaining bytes represent the time-zone ({@link ZoneId}).
+     *
+     * @param input      Input value.
+     * @param zoneFormat How to represent the time-zone in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null, or when its region ID does not fit the compact
+     *                             representation (see {@link #fromZoneId(ZoneId)}).
+     */
+    public static byte[] fromZonedDateTime(ZonedDateTime input, ZoneFormat zoneFormat) throws ConversionException {
+        assertNotNull(input);
+        return fromInstantAndZone(input.toInstant(), input.getZone(), zoneFormat);
     }
 
     /**
      * Convert a byte array to a {@link ZonedDateTime}.
      * <p>
-     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
-     * The remaining bytes are a string representing the time-zone identifier ({@link ZoneId}).
+     * The first eight bytes represent the seconds since the epoch, the next four bytes are the nanosecond adjustment.
+     * The remaining bytes are a string representing the time-zone identifier ({@link ZoneId}).
+     *
+     * @param bytes Byte array.
+     * @return A {@link ZonedDateTime}.
+     * @throws ConversionException Thrown when the input is not at least 13 bytes or is null, and when the time-zone
+     *                             identifier found is invalid.
+     */
+    public static ZonedDateTime toZonedDateTime(byte[] bytes) throws ConversionException {
+        return toZonedDateTime(bytes, ZoneFormat.ID);
+    }
+
+    /**
+     * Convert a byte array to a {@link ZonedDateTime}, reading its time-zone according to the specified
+     * {@link ZoneFormat}.
+     *
+     * @param bytes      Byte array.
+     * @param zoneFormat How the bytes represent the time-zone.
+     * @return A {@link ZonedDateTime}.
+     * @throws ConversionException Thrown when the input is not at least 13 bytes or is null, and when the time-zone
+     *                             identifier found is invalid.
+     */
+    public static ZonedDateTime toZonedDateTime(byte[] bytes, ZoneFormat zoneFormat) throws ConversionException {
+        assertNotNull(bytes);
+        // 12 bytes for the instant, at least 1 byte (i.e., 'Z') for the time-zone.
+        assertAtLeastNumBytes(bytes, 13);
+        Instant instant = getInstant(bytes, 0, InstantFormat.SECONDS_NANOS_12);
+
+        ZoneId zoneId;
+        if (zoneFormat == ZoneFormat.COMPACT) {
+            try {
+                assertNumBytes(bytes, 12 + getZoneIdSize(bytes, 12));
+                zoneId = getZoneId(bytes, 12);
+            } catch (IndexOutOfBoundsException | IllegalArgumentException | DateTimeException e) {
+                throw new ConversionException("Compact time-zone could not be decoded or found.", e);
+            }
+        } else {
+            try {
+                zoneId = ZoneIdDictionary.parse(bytes, 12, bytes.length - 12);
+            } catch (DateTimeException e) {
+                throw new ConversionException("Time-zone identifier could not be parsed or found: "
+                        + new String(bytes, 12, bytes.length - 12, StandardCharsets.UTF_8));
+            }
+        }
+
+        return ZonedDateTime.ofInstant(instant, zoneId);
+    }
+
+    /**
+     * Convert a time-zone to its compact representation of two to five bytes for offsets and known regions.
+     * <p>
+     * The first byte is a tag:
+     * <ul>
+     *     <li>{@code 0x01}: a region ID from a fixed dictionary of the tz database, followed by its two-byte number;
+     *     <li>{@code 0x02}: a {@link ZoneOffset} of whole quarter hours, followed by their number as a signed byte;
+     *     <li>{@code 0x03}: any other {@link ZoneOffset}, followed by its total seconds as a four-byte int;
+     *     <li>{@code 0x00}: a region ID not in the dictionary, followed by the length of its UTF-8 bytes as one byte,
+     *     and those bytes. Such IDs are therefore limited to 255 bytes.
+     * </ul>
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null, or is a region ID longer than 255 bytes that is not
+     *                             in the dictionary.
+     */
+    public static byte[] fromZoneId(ZoneId input) throws ConversionException {
+        assertNotNull(input);
+        byte[] out = new byte[compactZoneIdSize(input)];
+        putZoneId(out, 0, input);
+        return out;
+    }
+
+    /**
+     * Convert a byte array holding the compact representation of a time-zone to a {@link ZoneId}. Offsets are
+     * returned as {@link ZoneOffset}.
+     *
+     * @param bytes Byte array.
+     * @return A {@link ZoneId}.
+     * @throws ConversionException Thrown when the input is null or malformed, and when the time-zone is not known.
+     * @see #fromZoneId(ZoneId)
+     */
+    public static ZoneId toZoneId(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        try {
+            assertAtLeastNumBytes(bytes, 1);
+            assertNumBytes(bytes, getZoneIdSize(bytes, 0));
+            return getZoneId(bytes, 0);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException | DateTimeException e) {
+            throw new ConversionException("Compact time-zone could not be decoded or found.", e);
+        }
+    }
+
+    /**
+     * Write the compact representation of a time-zone into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded value at {@code offset}.
+     * @throws IllegalArgumentException  Thrown when the input is a region ID longer than 255 bytes that is not in the
+     *                                   dictionary.
+     * @see #fromZoneId(ZoneId)
+     */
+    public static int putZoneId(byte[] dst, int offset, ZoneId input) {
+        int size = zoneIdSize(input);
+        Objects.checkFromIndexSize(offset, size, dst.length);
+        if (input instanceof ZoneOffset) {
+            int seconds = ((ZoneOffset) input).getTotalSeconds();
+            if (seconds % 900 == 0) {
+                dst[offset] = ZONE_QUARTER_HOURS;
+                dst[offset + 1] = (byte) (seconds / 900);
+            } else {
+                dst[offset] = ZONE_SECONDS;
+                putInt(dst, offset + 1, seconds);
+            }
+            return size;
+        }
+        String id = input.getId();
+        int index = ZoneIdDictionary.indexOf(id);
+        if (index >= 0) {
+            dst[offset] = ZONE_DICTIONARY;
+            putShort(dst, offset + 1, (short) index);
+        } else {
+            dst[offset] = ZONE_TEXT;
+            dst[offset + 1] = (byte) (size - 2);
+            byte[] utf8 = id.getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(utf8, 0, dst, offset + 2, utf8.length);
+        }
+        return size;
+    }
+
+    /**
+     * Read the compact representation of a time-zone from a byte array. The number of bytes read is returned by
+     * {@link #getZoneIdSize(byte[], int)}. Region IDs are resolved once, and cached.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A {@link ZoneId}.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the whole encoded value at
+     *                                   {@code offset}.
+     * @throws IllegalArgumentException  Thrown when the encoded value is malformed.
+     * @throws DateTimeException         Thrown when the time-zone is not known.
+     * @see #fromZoneId(ZoneId)
+     */
+    public static ZoneId getZoneId(byte[] src, int offset) {
+        Objects.checkFromIndexSize(offset, getZoneIdSize(src, offset), src.length);
+        switch (src[offset]) {
+            case ZONE_DICTIONARY:
+                return ZoneIdDictionary.get(getShort(src, offset + 1) & 0xFFFF);
+            case ZONE_QUARTER_HOURS:
+                return ZoneOffset.ofTotalSeconds(src[offset + 1] * 900);
+            case ZONE_SECONDS:
+                return ZoneOffset.ofTotalSeconds(getInt(src, offset + 1));
+            default:
+                return ZoneIdDictionary.parse(src, offset + 2, src[offset + 1] & 0xFF);
+        }
+    }
+
+    /**
+     * Determine the length in bytes of the compact representation of a time-zone.
+     *
+     * @param input Input value.
+     * @return The number of bytes {@link #putZoneId(byte[], int, ZoneId)} writes for {@code input}.
+     * @throws IllegalArgumentException Thrown when the input is a region ID longer than 255 bytes that is not in the
+     *                                  dictionary.
+     */
+    public static int zoneIdSize(ZoneId input) {
+        if (input instanceof ZoneOffset) {
+            return ((ZoneOffset) input).getTotalSeconds() % 900 == 0 ? 2 : 5;
+        }
+        String id = input.getId();
+        if (ZoneIdDictionary.indexOf(id) >= 0) return 3;
+        // Zone IDs are limited to ASCII letters, digits, and a few punctuation characters.
+        if (id.length() > 255) {
+            throw new IllegalArgumentException("Time-zone ID exceeds the 255 bytes of the compact format: " + id);
+        }
+        return 2 + id.length();
+    }
+
+    private static int compactZoneIdSize(ZoneId input) throws ConversionException {
+        try {
+            return zoneIdSize(input);
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Determine the length in bytes of the compact time-zone representation that starts at {@code offset}, i.e., the
+     * number of bytes {@link #getZoneId(byte[], int)} consumes.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte of the encoded value.
+     * @return The encoded length.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} is too short to hold the length of the value.
+     * @throws IllegalArgumentException  Thrown when the first byte is not a valid tag.
+     */
+    public static int getZoneIdSize(byte[] src, int offset) {
+        switch (src[offset]) {
+            case ZONE_DICTIONARY:
+                return 3;
+            case ZONE_QUARTER_HOURS:
+                return 2;
+            case ZONE_SECONDS:
+                return 5;
+            case ZONE_TEXT:
+                return 2 + (src[offset + 1] & 0xFF);
+            default:
+                throw new IllegalArgumentException("Not a valid compact time-zone tag: " + src[offset]);
+        }
+    }
+
+    static final byte ZONE_TEXT = 0x00;
+    static final byte ZONE_DICTIONARY = 0x01;
+    static final byte ZONE_QUARTER_HOURS = 0x02;
+    static final byte ZONE_SECONDS = 0x03;
+
+    private static byte[] fromInstantAndZone(Instant instant, ZoneId zone, ZoneFormat zoneFormat)
+            throws ConversionException {
+        byte[] out;
+        if (zoneFormat == ZoneFormat.COMPACT) {
+            out = new byte[12 + compactZoneIdSize(zone)];
+            putZoneId(out, 12, zone);
+        } else {
+            byte[] id = zone.getId().getBytes(StandardCharsets.UTF_8);
+            out = new byte[12 + id.length];
+            System.arraycopy(id, 0, out, 12, id.length);
+        }
+        putInstant(out, 0, instant, InstantFormat.SECONDS_NANOS_12);
+        return out;
+    }
+
+
+    /**
+     * Convert a {@link LocalDate} to bytes.
+     * <p>
+     * This simply turns the ISO-8601 string representation of the date (e.g., "1999-12-31") into bytes.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromLocalDate(LocalDate input) throws ConversionException {
+        return fromLocalDate(input, ISO8601DateFormat.EXTENDED);
+    }
+
+    /**
+     * Convert a {@link LocalDate} to bytes, using the basic or extended ISO-8601 notation, or the binary
+     * {@link ISO8601DateFormat#EPOCH_DAY} format.
+     * <p>
+     * The ISO-8601 notations turn the string representation of the date (e.g., "1999-12-31" or "19991231") into bytes.
+     *
+     * @param input             Input value.
+     * @param iso8601DateFormat Format of the date in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null, or out of range for {@code EPOCH_DAY}.
+     */
+    public static byte[] fromLocalDate(LocalDate input, ISO8601DateFormat iso8601DateFormat)
+            throws ConversionException {
+        assertNotNull(input);
+        if (iso8601DateFormat == ISO8601DateFormat.EPOCH_DAY) {
+            byte[] out = new byte[4];
+            putInt(out, 0, epochDay(input), NumberRepresentation.LEXICOGRAPHIC_SORT);
+            return out;
+        }
+        int year = input.getYear();
+        if (year < 0 || year > 9999) {
+            // Years outside of the four-digit range get a sign and more digits; leave those to LocalDate#toString.
+            String iso8601 = input.toString();
+            if (iso8601DateFormat == ISO8601DateFormat.BASIC) {
+                iso8601 = iso8601.substring(0, iso8601.length() - 6) + iso8601.substring(iso8601.length() - 5,
+                        iso8601.length() - 3) + iso8601.substring(iso8601.length() - 2);
+            }
+            return iso8601.getBytes(StandardCharsets.US_ASCII);
+        }
+        byte[] out = new byte[iso8601DateFormat == ISO8601DateFormat.BASIC ? 8 : 10];
+        putLocalDate(out, 0, input, iso8601DateFormat);
+        return out;
+    }
+
+    /**
+     * Convert a byte array to a {@link LocalDate}.
+     * <p>
+     * If the input is 4 bytes long, the {@link ISO8601DateFormat#EPOCH_DAY} format is assumed. Otherwise the input
+     * should represent a string in the ISO-8601 notation. If the input is 8 bytes long, the basic compact notation is
+     * assumed (19991231), otherwise, the extended notation (1999-12-31).
+     *
+     * @param bytes Byte array.
+     * @return A {@link LocalDate}.
+     * @throws ConversionException Thrown when the input is not 4, 8, or 10 bytes long or is null, and when the date
+     *                             could not be parsed.
+     */
+    public static LocalDate toLocalDate(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        switch (bytes.length) {
+            case 4:
+                return toLocalDate(bytes, ISO8601DateFormat.EPOCH_DAY);
+            case 8:
+                return toLocalDate(bytes, ISO8601DateFormat.BASIC);
+            case 10:
+                return toLocalDate(bytes, ISO8601DateFormat.EXTENDED);
+            default:
+                throw new ConversionException("Expected 4, 8, or 10 bytes of input, got " + bytes.length + ".");
+        }
+    }
+
+    /**
+     * Convert a byte array to a {@link LocalDate}, according to the specified format.
+     *
+     * @param bytes             Byte array.
+     * @param iso8601DateFormat Format of the date in bytes.
+     * @return A {@link LocalDate}.
+     * @throws ConversionException Thrown when the input is null or of the wrong length for the format, and when the
+     *                             date could not be parsed.
+     */
+    public static LocalDate toLocalDate(byte[] bytes, ISO8601DateFormat iso8601DateFormat)
+            throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, iso8601DateFormat.byteLength());
+        try {
+            return getLocalDate(bytes, 0, iso8601DateFormat);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ConversionException("Failed to parse date.", e);
+        }
+    }
+
+    /**
+     * Write a {@link LocalDate} into an existing byte array, according to the specified format. The ISO-8601
+     * notations are written digit by digit, without intermediate strings.
+     *
+     * @param dst               Destination byte array.
+     * @param offset            Position in {@code dst} of the first byte written.
+     * @param input             Input value.
+     * @param iso8601DateFormat Format of the date in bytes.
+     * @return The number of bytes written, see {@link ISO8601DateFormat#byteLength()}.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the date at {@code offset}.
+     * @throws IllegalArgumentException  Thrown when the year lies outside of the range 0–9999 for the ISO-8601
+     *                                   notations, or the epoch day does not fit in an int.
+     */
+    public static int putLocalDate(byte[] dst, int offset, LocalDate input, ISO8601DateFormat iso8601DateFormat) {
+        int length = iso8601DateFormat.byteLength();
+        Objects.checkFromIndexSize(offset, length, dst.length);
+        if (iso8601DateFormat == ISO8601DateFormat.EPOCH_DAY) {
+            try {
+                putInt(dst, offset, epochDay(input), NumberRepresentation.LEXICOGRAPHIC_SORT);
+            } catch (ConversionException e) {
+                throw new IllegalArgumentException(e.getMessage());
+            }
+            return length;
+        }
+        int year = input.getYear();
+        if (year < 0 || year > 9999) {
+            throw new IllegalArgumentException("Year out of range for four-digit notation: " + year);
+        }
+        boolean extended = iso8601DateFormat != ISO8601DateFormat.BASIC;
+        int position = putDigits(dst, offset, year, 4);
+        if (extended) dst[position++] = '-';
+        position = putDigits(dst, position, input.getMonthValue(), 2);
+        if (extended) dst[position++] = '-';
+        putDigits(dst, position, input.getDayOfMonth(), 2);
+        return length;
+    }
+
+    /**
+     * Read a {@link LocalDate} from a byte array, according to the specified format. The ISO-8601 notations are parsed
+     * digit by digit, without intermediate strings.
+     *
+     * @param src               Source byte array.
+     * @param offset            Position in {@code src} of the first byte read.
+     * @param iso8601DateFormat Format of the date in bytes.
+     * @return A {@link LocalDate}.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain the date at {@code offset}.
+     * @throws IllegalArgumentException  Thrown when the bytes are not a date in the ISO-8601 notation.
+     * @throws DateTimeException         Thrown when the date does not exist.
+     */
+    public static LocalDate getLocalDate(byte[] src, int offset, ISO8601DateFormat iso8601DateFormat) {
+        Objects.checkFromIndexSize(offset, iso8601DateFormat.byteLength(), src.length);
+        if (iso8601DateFormat == ISO8601DateFormat.EPOCH_DAY) {
+            return LocalDate.ofEpochDay(getInt(src, offset, NumberRepresentation.LEXICOGRAPHIC_SORT));
+        }
+        boolean extended = iso8601DateFormat != ISO8601DateFormat.BASIC;
+        if (extended && (src[offset + 4] != '-' || src[offset + 7] != '-')) {
+            throw new IllegalArgumentException("Expected dashes in the extended date notation.");
+        }
+        int year = getDigits(src, offset, 4);
+        int month = getDigits(src, offset + (extended ? 5 : 4), 2);
+        int day = getDigits(src, offset + (extended ? 8 : 6), 2);
+        return LocalDate.of(year, month, day);
+    }
+
+    private static int epochDay(LocalDate input) throws ConversionException {
+        long epochDay = input.toEpochDay();
+        if ((int) epochDay != epochDay) {
+            throw new ConversionException("Date out of range for the epoch day format: " + input);
+        }
+        return (int) epochDay;
+    }
+
+    /**
+     * Write a non-negative number as ASCII digits, zero-padded to {@code count} digits.
+     *
+     * @return The position after the last digit.
+     */
+    private static int putDigits(byte[] dst, int offset, int value, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + count;
+    }
+
+    private static int getDigits(byte[] src, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = src[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Expected a digit at position " + i + ".");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Convert a byte array to an {@link IPAddress}. The input should either be 4 or 16 bytes long, for IPv4 and IPv6,
+     * respectively.
+     *
+     * @param bytes Input bytes.
+     * @return An IP-address.
+     * @throws ConversionException Thrown when the input is not 4 or 16 bytes long or is null.
+     */
+    public static IPAddress toIPAddress(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        return bytes.length == 16
+                ? toIPAddress6(bytes)
+                : toIPAddress4(bytes);
+    }
+
+    /**
+     * Convert a byte array to an {@link IPAddress4}. The input should be 4 bytes long.
+     *
+     * @param bytes Input bytes.
+     * @return An IP-address.
+     * @throws ConversionException Thrown when the input is not 4 bytes long or is null.
+     */
+    public static IPAddress4 toIPAddress4(byte[] bytes) throws ConversionException {
+        int intValue = toInt(bytes);
+        return new IPAddress4(intValue);
+    }
+
+    /**
+     * Convert a byte array to an {@link IPAddress6}. The input should be 16 bytes long.
+     *
+     * @param bytes Input bytes.
+     * @return An IP-address.
+     * @throws ConversionException Thrown when the input is not 16 bytes long or is null.
+     */
+    public static IPAddress6 toIPAddress6(byte[] bytes) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 16);
+
+        return new IPAddress6(getLong(bytes, 0), getLong(bytes, 8));
+    }
+
+    /**
+     * Convert an IP address into its constituent bytes.
+     *
+     * @return A byte array containing all bytes of the address.
+     */
+    public static byte[] fromIPAddress(IPAddress ipAddress) throws ConversionException {
+        assertNotNull(ipAddress);
+        if (ipAddress instanceof IPAddress6) return fromIPAddress((IPAddress6) ipAddress);
+        if (ipAddress instanceof IPAddress4) return fromIPAddress((IPAddress4) ipAddress);
+        throw new ConversionException("Unknown IPAddress class: " + ipAddress.getClass().getCanonicalName());
+    }
+
+    /**
+     * Convert an IPv6 address into its 4 constituent bytes.
+     *
+     * @return A byte array containing all 4 bytes of the address.
+     */
+    public static byte[] fromIPAddress(IPAddress4 ipAddress) throws ConversionException {
+        assertNotNull(ipAddress);
+        return fromInt(ipAddress.getInt());
+    }
+
+    /**
+     * Convert an IPv6 address into its 16 constituent bytes.
+     *
+     * @return A byte array containing all 16 bytes of the address.
+     */
+    public static byte[] fromIPAddress(IPAddress6 ipAddress) throws ConversionException {
+        assertNotNull(ipAddress);
+        byte[] out = new byte[16];
+        putLong(out, 0, ipAddress.getHigh());
+        putLong(out, 8, ipAddress.getLow());
+        return out;
+    }
+
+    /**
+     * Convert a {@link UUID} to its 16 bytes in the standard (RFC 4122) order.
+     *
+     * @param input Input value.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromUUID(UUID input) throws ConversionException {
+        return fromUUID(input, UUIDFormat.STANDARD);
+    }
+
+    /**
+     * Convert a {@link UUID} to 16 bytes, according to the specified {@link UUIDFormat}.
+     *
+     * @param input      Input value.
+     * @param uuidFormat How to represent the {@link UUID} in bytes.
+     * @return Bytes.
+     * @throws ConversionException Thrown when the input is null.
+     */
+    public static byte[] fromUUID(UUID input, UUIDFormat uuidFormat) throws ConversionException {
+        assertNotNull(input);
+        byte[] out = new byte[16];
+        putUUID(out, 0, input, uuidFormat);
+        return out;
+    }
+
+    /**
+     * Convert 16 bytes in the standard (RFC 4122) order to a {@link UUID}.
+     *
+     * @param bytes Byte array.
+     * @return A {@link UUID}.
+     * @throws ConversionException Thrown when the input is not 16 bytes or is null.
+     */
+    public static UUID toUUID(byte[] bytes) throws ConversionException {
+        return toUUID(bytes, UUIDFormat.STANDARD);
+    }
+
+    /**
+     * Convert 16 bytes to a {@link UUID}, according to the specified {@link UUIDFormat}.
+     *
+     * @param bytes      Byte array.
+     * @param uuidFormat How the bytes represent the {@link UUID}.
+     * @return A {@link UUID}.
+     * @throws ConversionException Thrown when the input is not 16 bytes or is null.
+     */
+    public static UUID toUUID(byte[] bytes, UUIDFormat uuidFormat) throws ConversionException {
+        assertNotNull(bytes);
+        assertNumBytes(bytes, 16);
+        return getUUID(bytes, 0, uuidFormat);
+    }
+
+    /**
+     * Write a {@link UUID} as 16 bytes in the standard (RFC 4122) order into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param input  Input value.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for 16 bytes at {@code offset}.
+     */
+    public static void putUUID(byte[] dst, int offset, UUID input) {
+        putUUID(dst, offset, input, UUIDFormat.STANDARD);
+    }
+
+    /**
+     * Write a {@link UUID} as 16 bytes into an existing byte array, according to the specified {@link UUIDFormat}.
+     *
+     * @param dst        Destination byte array.
+     * @param offset     Position in {@code dst} of the first byte written.
+     * @param input      Input value.
+     * @param uuidFormat How to represent the {@link UUID} in bytes.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for 16 bytes at {@code offset}.
+     */
+    public static void putUUID(byte[] dst, int offset, UUID input, UUIDFormat uuidFormat) {
+        Objects.checkFromIndexSize(offset, 16, dst.length);
+        putLong(dst, offset, uuidHigh(input, uuidFormat));
+        putLong(dst, offset + 8, input.getLeastSignificantBits());
+    }
+
+    /**
+     * Read a {@link UUID} from 16 bytes in the standard (RFC 4122) order of a byte array.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte read.
+     * @return A {@link UUID}.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain 16 bytes at {@code offset}.
+     */
+    public static UUID getUUID(byte[] src, int offset) {
+        return getUUID(src, offset, UUIDFormat.STANDARD);
+    }
+
+    /**
+     * Read a {@link UUID} from 16 bytes of a byte array, according to the specified {@link UUIDFormat}.
+     *
+     * @param src        Source byte array.
+     * @param offset     Position in {@code src} of the first byte read.
+     * @param uuidFormat How the bytes represent the {@link UUID}.
+     * @return A {@link UUID}.
+     * @throws IndexOutOfBoundsException Thrown when {@code src} does not contain 16 bytes at {@code offset}.
+     */
+    public static UUID getUUID(byte[] src, int offset, UUIDFormat uuidFormat) {
+        Objects.checkFromIndexSize(offset, 16, src.length);
+        return uuid(getLong(src, offset), getLong(src, offset + 8), uuidFormat);
+    }
+
+    /**
+     * @return The first eight bytes of a {@link UUID} in the specified format, as a long.
+     */
+    static long uuidHigh(UUID input, UUIDFormat uuidFormat) {
+        long msb = input.getMostSignificantBits();
+        return uuidFormat == UUIDFormat.TIME_ORDERED && isTimeBased(msb) ? timeOrderedBits(msb) : msb;
+    }
+
+    /**
+     * @return The {@link UUID} for the two longs of its byte representation in the specified format.
+     */
+    static UUID uuid(long high, long low, UUIDFormat uuidFormat) {
+        // The version nibble is in the same place in both layouts.
+        return uuidFormat == UUIDFormat.TIME_ORDERED && isTimeBased(high)
+                ? new UUID(fromTimeOrderedBits(high), low)
+                : new UUID(high, low);
+    }
+
+    private static boolean isTimeBased(long msb) {
+        return (msb >>> 12 & 0xf) == 1;
+    }
+
+    /**
+     * Move the 60-bit timestamp of a version 1 UUID to the front, most significant bits first, keeping the version
+     * nibble in place. This is the layout of a version 6 UUID.
+     */
+    private static long timeOrderedBits(long msb) {
+        // time_low (32 bits), time_mid (16 bits), version (4 bits), time_hi (12 bits).
+        long timestamp = (msb & 0xfffL) << 48 | (msb >>> 16 & 0xffffL) << 32 | msb >>> 32;
+        return timestamp >>> 12 << 16 | msb & 0xf000L | timestamp & 0xfffL;
+    }
+
+    private static long fromTimeOrderedBits(long msb) {
+        long timestamp = msb >>> 16 << 12 | msb & 0xfffL;
+        return timestamp << 32 | (timestamp >>> 32 & 0xffffL) << 16 | msb & 0xf000L | timestamp >>> 48;
+    }
+
+    /* Decoding without exceptions. */
+
+    // Failure reasons are constants, so rejecting a row allocates nothing.
+    private static final String NULL_INPUT = "Got null value where none is allowed.";
+    private static final String WRONG_LENGTH = "Input has the wrong number of bytes.";
+    private static final String INCOMPLETE_LEB128 = "Input is not a single complete LEB128 value.";
+    private static final String INVALID_DATE = "Input is not a valid date.";
+    private static final String INVALID_VAR_LONG = "Input does not start with a valid variable-length value header.";
+    private static final String INT_OVERFLOW = "Value does not fit in an int.";
+    private static final String NOT_TERMINATED = "Input is not a terminated field.";
+    private static final String INVALID_ZONE = "Input is not a valid compact time-zone.";
+    private static final String NOT_AN_OFFSET = "Expected a time-zone offset, found a region.";
+
+    /**
+     * Convert a byte array to a short without throwing an exception when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the short (see {@link DecodeResult#getShort()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toShort(byte[])
+     */
+    public static boolean tryToShort(byte[] bytes, DecodeResult<?> result) {
+        return tryToShort(bytes, NumberRepresentation.TWOS_COMPLEMENT, result);
+    }
+
+    /**
+     * Convert a byte array to a short, according to the specified {@link NumberRepresentation}, without throwing an
+     * exception when the input is invalid.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @param result               Holder for the short (see {@link DecodeResult#getShort()}), or the reason decoding
+     *                             failed.
+     * @return True when the input was decoded.
+     * @see #toShort(byte[], NumberRepresentation)
+     */
+    public static boolean tryToShort(byte[] bytes, NumberRepresentation numberRepresentation, DecodeResult<?> result) {
+        if (!checkLength(bytes, 2, result)) return false;
+        return result.setLong(getShort(bytes, 0, numberRepresentation));
+    }
+
+    /**
+     * Convert a byte array to an unsigned 16-bit number without throwing an exception when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the number (see {@link DecodeResult#getInt()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toUnsignedShort(byte[])
+     */
+    public static boolean tryToUnsignedShort(byte[] bytes, DecodeResult<?> result) {
+        if (!checkLength(bytes, 2, result)) return false;
+        return result.setLong(getUnsignedShort(bytes, 0));
+    }
+
+    /**
+     * Convert a byte array to an int without throwing an exception when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the int (see {@link DecodeResult#getInt()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toInt(byte[])
+     */
+    public static boolean tryToInt(byte[] bytes, DecodeResult<?> result) {
+        return tryToInt(bytes, NumberRepresentation.TWOS_COMPLEMENT, result);
+    }
+
+    /**
+     * Convert a byte array to an int, according to the specified {@link NumberRepresentation}, without throwing an
+     * exception when the input is invalid.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @param result               Holder for the int (see {@link DecodeResult#getInt()}), or the reason decoding
+     *                             failed.
+     * @return True when the input was decoded.
+     * @see #toInt(byte[], NumberRepresentation)
+     */
+    public static boolean tryToInt(byte[] bytes, NumberRepresentation numberRepresentation, DecodeResult<?> result) {
+        if (!checkLength(bytes, 4, result)) return false;
+        return result.setLong(getInt(bytes, 0, numberRepresentation));
+    }
+
+    /**
+     * Convert a byte array to an unsigned 32-bit number without throwing an exception when the input is invalid.
      *
-     * @param bytes Byte array.
-     * @return A {@link ZonedDateTime}.
-     * @throws ConversionException Thrown when the input is not at least 13 bytes or is null, and when the time-zone
-     *                             identifier found is invalid.
+     * @param bytes  Byte array.
+     * @param result Holder for the number (see {@link DecodeResult#getLong()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toUnsignedInt(byte[])
      */
-    public static ZonedDateTime toZonedDateTime(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
-        // 12 bytes for the instant, at least 1 byte (i.e., 'Z') for the time-zone.
-        assertAtLeastNumBytes(bytes, 13);
-        Instant instant = toInstant(shrink(12, bytes));
-        String id = toString(chomp(12, bytes));
+    public static boolean tryToUnsignedInt(byte[] bytes, DecodeResult<?> result) {
+        if (!checkLength(bytes, 4, result)) return false;
+        return result.setLong(getUnsignedInt(bytes, 0));
+    }
 
-        ZoneId zoneId;
-        try {
-            zoneId = ZoneId.of(id);
-        } catch (DateTimeException e) {
-            throw new ConversionException("Time-zone identifier could not be parsed or found: " + id);
-        }
+    /**
+     * Convert a byte array to a long without throwing an exception when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the long (see {@link DecodeResult#getLong()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toLong(byte[])
+     */
+    public static boolean tryToLong(byte[] bytes, DecodeResult<?> result) {
+        return tryToLong(bytes, NumberRepresentation.TWOS_COMPLEMENT, result);
+    }
 
-        return ZonedDateTime.ofInstant(instant, zoneId);
+    /**
+     * Convert a byte array to a long, according to the specified {@link NumberRepresentation}, without throwing an
+     * exception when the input is invalid.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @param result               Holder for the long (see {@link DecodeResult#getLong()}), or the reason decoding
+     *                             failed.
+     * @return True when the input was decoded.
+     * @see #toLong(byte[], NumberRepresentation)
+     */
+    public static boolean tryToLong(byte[] bytes, NumberRepresentation numberRepresentation, DecodeResult<?> result) {
+        if (!checkLength(bytes, 8, result)) return false;
+        return result.setLong(getLong(bytes, 0, numberRepresentation));
     }
 
+    /**
+     * Convert a byte array to a float without throwing an exception when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the float (see {@link DecodeResult#getFloat()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toFloat(byte[])
+     */
+    public static boolean tryToFloat(byte[] bytes, DecodeResult<?> result) {
+        return tryToFloat(bytes, NumberRepresentation.TWOS_COMPLEMENT, result);
+    }
 
     /**
-     * Convert a {@link LocalDate} to bytes.
-     * <p>
-     * This simply turns the ISO-8601 string representation of the date (e.g., "1999-12-31") into bytes.
+     * Convert a byte array to a float, according to the specified {@link NumberRepresentation}, without throwing an
+     * exception when the input is invalid.
      *
-     * @param input Input value.
-     * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @param result               Holder for the float (see {@link DecodeResult#getFloat()}), or the reason decoding
+     *                             failed.
+     * @return True when the input was decoded.
+     * @see #toFloat(byte[], NumberRepresentation)
      */
-    public static byte[] fromLocalDate(LocalDate input) throws ConversionException {
-        return fromLocalDate(input, ISO8601DateFormat.EXTENDED);
+    public static boolean tryToFloat(byte[] bytes, NumberRepresentation numberRepresentation, DecodeResult<?> result) {
+        if (!checkLength(bytes, 4, result)) return false;
+        return result.setDouble(getFloat(bytes, 0, numberRepresentation));
     }
 
     /**
-     * Convert a {@link LocalDate} to bytes, using the basic or extended ISO-8601 notation.
-     * <p>
-     * This simply turns the ISO-8601 string representation of the date (e.g., "1999-12-31" or "19991231") into bytes.
+     * Convert a byte array to a double without throwing an exception when the input is invalid.
      *
-     * @param input Input value.
-     * @return Bytes.
-     * @throws ConversionException Thrown when the input is null.
+     * @param bytes  Byte array.
+     * @param result Holder for the double (see {@link DecodeResult#getDouble()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toDouble(byte[])
      */
-    public static byte[] fromLocalDate(LocalDate input, ISO8601DateFormat iso8601DateFormat)
-            throws ConversionException {
-        assertNotNull(input);
-        String iso8601 = input.toString();
-        switch (iso8601DateFormat) {
-            case BASIC:
-                String basic = iso8601.substring(0, 4) + iso8601.substring(5, 7) + iso8601.substring(8, 10);
-                return basic.getBytes();
-            default:
-                // Extended notation.
-                return iso8601.getBytes();
-        }
+    public static boolean tryToDouble(byte[] bytes, DecodeResult<?> result) {
+        return tryToDouble(bytes, NumberRepresentation.TWOS_COMPLEMENT, result);
     }
 
     /**
-     * Convert a byte array to a {@link LocalDate}.
-     * <p>
-     * The input should represent a string in the ISO-8601 notation. If the input is 8 bytes long, the basic compact
-     * notation is assumed (19991231), otherwise, the extended notation (1999-12-31).
+     * Convert a byte array to a double, according to the specified {@link NumberRepresentation}, without throwing an
+     * exception when the input is invalid.
      *
-     * @param bytes Byte array.
-     * @return A {@link LocalDate}.
-     * @throws ConversionException Thrown when the input is not 8 or 10 bytes long or is null, and when the date could
-     *                             not be parsed.
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @param result               Holder for the double (see {@link DecodeResult#getDouble()}), or the reason decoding
+     *                             failed.
+     * @return True when the input was decoded.
+     * @see #toDouble(byte[], NumberRepresentation)
      */
-    public static LocalDate toLocalDate(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
+    public static boolean tryToDouble(byte[] bytes, NumberRepresentation numberRepresentation, DecodeResult<?> result) {
+        if (!checkLength(bytes, 8, result)) return false;
+        return result.setDouble(getDouble(bytes, 0, numberRepresentation));
+    }
 
-        String iso8601;
-        if (bytes.length == 8) {
-            // Add the dashes to get YYYY-MM-DD.
-            iso8601 = String.format("%s-%s-%s",
-                    new String(bytes, 0, 4), new String(bytes, 4, 2), new String(bytes, 6, 2));
-        } else if (bytes.length == 10) {
-            iso8601 = new String(bytes);
-        } else {
-            throw new ConversionException("Expected 8 or 10 bytes of input, got " + bytes.length + ".");
+    /**
+     * Convert a big-endian two's complement representation of one to eight bytes to a long without throwing an
+     * exception when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the long (see {@link DecodeResult#getLong()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toSigned(byte[])
+     */
+    public static boolean tryToSigned(byte[] bytes, DecodeResult<?> result) {
+        return tryToSigned(bytes, NumberRepresentation.TWOS_COMPLEMENT, result);
+    }
+
+    /**
+     * Convert a big-endian representation of one to eight bytes to a long, according to the specified
+     * {@link NumberRepresentation}, without throwing an exception when the input is invalid.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @param result               Holder for the long (see {@link DecodeResult#getLong()}), or the reason decoding
+     *                             failed.
+     * @return True when the input was decoded.
+     * @see #toSigned(byte[], NumberRepresentation)
+     */
+    public static boolean tryToSigned(byte[] bytes, NumberRepresentation numberRepresentation,
+                                      DecodeResult<?> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (bytes.length < 1 || bytes.length > 8) return result.fail(WRONG_LENGTH);
+        return result.setLong(getSigned(bytes, 0, bytes.length, numberRepresentation));
+    }
+
+    /**
+     * Convert an unsigned big-endian representation of one to eight bytes to a long without throwing an exception
+     * when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the long (see {@link DecodeResult#getLong()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toUnsigned(byte[])
+     */
+    public static boolean tryToUnsigned(byte[] bytes, DecodeResult<?> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (bytes.length < 1 || bytes.length > 8) return result.fail(WRONG_LENGTH);
+        return result.setLong(getUnsigned(bytes, 0, bytes.length));
+    }
+
+    /**
+     * Convert a byte array containing a single order-preserving variable-length value to a long without throwing an
+     * exception when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the long (see {@link DecodeResult#getLong()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toVarLong(byte[])
+     */
+    public static boolean tryToVarLong(byte[] bytes, DecodeResult<?> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (bytes.length == 0) return result.fail(WRONG_LENGTH);
+        if (!isVarLongHeader(bytes[0])) return result.fail(INVALID_VAR_LONG);
+        if (bytes.length != getVarLongSize(bytes, 0)) return result.fail(WRONG_LENGTH);
+        return result.setLong(getVarLong(bytes, 0));
+    }
+
+    /**
+     * Convert a byte array containing a single order-preserving variable-length value to an int without throwing an
+     * exception when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the int (see {@link DecodeResult#getInt()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toVarInt(byte[])
+     */
+    public static boolean tryToVarInt(byte[] bytes, DecodeResult<?> result) {
+        if (!tryToVarLong(bytes, result)) return false;
+        long value = result.getLong();
+        if (value != (int) value) return result.fail(INT_OVERFLOW);
+        return true;
+    }
+
+    /**
+     * Convert a byte array containing a single order-preserving variable-length unsigned value to a long without
+     * throwing an exception when the input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the long (see {@link DecodeResult#getLong()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toUnsignedVarLong(byte[])
+     */
+    public static boolean tryToUnsignedVarLong(byte[] bytes, DecodeResult<?> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (bytes.length == 0 || bytes.length != getUnsignedVarLongSize(bytes, 0)) return result.fail(WRONG_LENGTH);
+        return result.setLong(getUnsignedVarLong(bytes, 0));
+    }
+
+    /**
+     * Convert a byte array containing a single unsigned LEB128 value to a long without throwing an exception when the
+     * input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the long (see {@link DecodeResult#getLong()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toLeb128(byte[])
+     */
+    public static boolean tryToLeb128(byte[] bytes, DecodeResult<?> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (!isSingleLeb128(bytes)) return result.fail(INCOMPLETE_LEB128);
+        return result.setLong(getLeb128(bytes, 0));
+    }
+
+    /**
+     * Convert a byte array containing a single ZigZag LEB128 value to a long without throwing an exception when the
+     * input is invalid.
+     *
+     * @param bytes  Byte array.
+     * @param result Holder for the long (see {@link DecodeResult#getLong()}), or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toZigZag(byte[])
+     */
+    public static boolean tryToZigZag(byte[] bytes, DecodeResult<?> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (!isSingleLeb128(bytes)) return result.fail(INCOMPLETE_LEB128);
+        return result.setLong(getZigZag(bytes, 0));
+    }
+
+    /**
+     * Convert a byte array to an {@link Instant}, according to the specified {@link InstantFormat}, without throwing
+     * an exception when the input is invalid.
+     *
+     * @param bytes         Byte array.
+     * @param instantFormat How the bytes represent the {@link Instant}.
+     * @param result        Holder for the {@link Instant}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toInstant(byte[], InstantFormat)
+     */
+    public static boolean tryToInstant(byte[] bytes, InstantFormat instantFormat,
+                                       DecodeResult<? super Instant> result) {
+        if (!checkLength(bytes, instantFormat.byteLength(), result)) return false;
+        return tryDecode(bytes, b -> getInstant(b, 0, instantFormat), result);
+    }
+
+    /**
+     * Convert a byte array to a {@link LocalDate}, according to the specified {@link ISO8601DateFormat}, without
+     * throwing an exception when the input is invalid.
+     *
+     * @param bytes             Byte array.
+     * @param iso8601DateFormat How the bytes represent the date.
+     * @param result            Holder for the {@link LocalDate}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toLocalDate(byte[], ISO8601DateFormat)
+     */
+    public static boolean tryToLocalDate(byte[] bytes, ISO8601DateFormat iso8601DateFormat,
+                                         DecodeResult<? super LocalDate> result) {
+        if (!checkLength(bytes, iso8601DateFormat.byteLength(), result)) return false;
+        if (iso8601DateFormat != ISO8601DateFormat.EPOCH_DAY && !isValidDate(bytes, iso8601DateFormat)) {
+            return result.fail(INVALID_DATE);
         }
+        return result.setValue(getLocalDate(bytes, 0, iso8601DateFormat));
+    }
 
-        try {
-            return LocalDate.parse(iso8601);
-        } catch (DateTimeParseException e) {
-            throw new ConversionException("Failed to parse date.", e);
+    /**
+     * Convert a byte array to an {@link OffsetDateTime}, according to the specified {@link ZoneFormat}, without
+     * throwing an exception when the input is invalid.
+     *
+     * @param bytes      Byte array.
+     * @param zoneFormat How the bytes represent the offset.
+     * @param result     Holder for the {@link OffsetDateTime}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toOffsetDateTime(byte[], ZoneFormat)
+     */
+    public static boolean tryToOffsetDateTime(byte[] bytes, ZoneFormat zoneFormat,
+                                              DecodeResult<? super OffsetDateTime> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (bytes.length <= 12) return result.fail(WRONG_LENGTH);
+        if (zoneFormat == ZoneFormat.COMPACT) {
+            String error = checkCompactZone(bytes, 12);
+            if (error == null && bytes[12] == ZONE_DICTIONARY) error = NOT_AN_OFFSET;
+            if (error != null) return result.fail(error);
         }
+        return tryDecode(bytes, b -> toOffsetDateTime(b, zoneFormat), result);
     }
 
     /**
-     * Convert a byte array to an {@link IPAddress}. The input should either be 4 or 16 bytes long, for IPv4 and IPv6,
-     * respectively.
+     * Convert a byte array to a {@link ZonedDateTime}, according to the specified {@link ZoneFormat}, without
+     * throwing an exception when the input is invalid.
      *
-     * @param bytes Input bytes.
-     * @return An IP-address.
-     * @throws ConversionException Thrown when the input is not 4 or 16 bytes long or is null.
+     * @param bytes      Byte array.
+     * @param zoneFormat How the bytes represent the time-zone.
+     * @param result     Holder for the {@link ZonedDateTime}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toZonedDateTime(byte[], ZoneFormat)
      */
-    public static IPAddress toIPAddress(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
-        return bytes.length == 16
-                ? toIPAddress6(bytes)
-                : toIPAddress4(bytes);
+    public static boolean tryToZonedDateTime(byte[] bytes, ZoneFormat zoneFormat,
+                                             DecodeResult<? super ZonedDateTime> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (bytes.length <= 12) return result.fail(WRONG_LENGTH);
+        if (zoneFormat == ZoneFormat.COMPACT) {
+            String error = checkCompactZone(bytes, 12);
+            if (error != null) return result.fail(error);
+        }
+        return tryDecode(bytes, b -> toZonedDateTime(b, zoneFormat), result);
     }
 
     /**
-     * Convert a byte array to an {@link IPAddress4}. The input should be 4 bytes long.
+     * Convert a byte array to a {@link ZoneId} in its compact encoding, without throwing an exception when the input
+     * is invalid.
      *
-     * @param bytes Input bytes.
-     * @return An IP-address.
-     * @throws ConversionException Thrown when the input is not 4 bytes long or is null.
+     * @param bytes  Byte array.
+     * @param result Holder for the {@link ZoneId}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toZoneId(byte[])
      */
-    public static IPAddress4 toIPAddress4(byte[] bytes) throws ConversionException {
-        int intValue = toInt(bytes);
-        return new IPAddress4(intValue);
+    public static boolean tryToZoneId(byte[] bytes, DecodeResult<? super ZoneId> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (bytes.length == 0) return result.fail(WRONG_LENGTH);
+        String error = checkCompactZone(bytes, 0);
+        if (error != null) return result.fail(error);
+        return tryDecode(bytes, ByteConversion::toZoneId, result);
     }
 
     /**
-     * Convert a byte array to an {@link IPAddress6}. The input should be 16 bytes long.
+     * Convert a byte array to a {@link BigInteger}, according to the specified {@link NumberRepresentation}, without
+     * throwing an exception when the input is invalid.
      *
-     * @param bytes Input bytes.
-     * @return An IP-address.
-     * @throws ConversionException Thrown when the input is not 16 bytes long or is null.
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @param result               Holder for the {@link BigInteger}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toBigInteger(byte[], NumberRepresentation)
      */
-    public static IPAddress6 toIPAddress6(byte[] bytes) throws ConversionException {
-        assertNotNull(bytes);
-        assertNumBytes(bytes, 16);
+    public static boolean tryToBigInteger(byte[] bytes, NumberRepresentation numberRepresentation,
+                                          DecodeResult<? super BigInteger> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        return tryDecode(bytes, b -> toBigInteger(b, numberRepresentation), result);
+    }
 
-        ByteBuffer bb = ByteBuffer.allocate(16).put(bytes);
-        long high = bb.getLong(0);
-        long low = bb.getLong(8);
+    /**
+     * Convert a byte array to a {@link BigDecimal}, according to the specified {@link NumberRepresentation}, without
+     * throwing an exception when the input is invalid.
+     *
+     * @param bytes                Byte array.
+     * @param numberRepresentation How the bytes represent the number.
+     * @param result               Holder for the {@link BigDecimal}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toBigDecimal(byte[], NumberRepresentation)
+     */
+    public static boolean tryToBigDecimal(byte[] bytes, NumberRepresentation numberRepresentation,
+                                          DecodeResult<? super BigDecimal> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        return tryDecode(bytes, b -> toBigDecimal(b, numberRepresentation), result);
+    }
 
-        return new IPAddress6(high, low);
+    /**
+     * Convert a byte array containing a single terminated encoding to a {@link String}, without throwing an exception
+     * when the input is invalid.
+     *
+     * @param bytes     Byte array.
+     * @param sortOrder Sort order used to encode the input.
+     * @param result    Holder for the {@link String}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toTerminatedString(byte[], SortOrder)
+     */
+    public static boolean tryToTerminatedString(byte[] bytes, SortOrder sortOrder,
+                                                DecodeResult<? super String> result) {
+        if (!isSingleTerminated(bytes, sortOrder, result)) return false;
+        return result.setValue(getTerminatedString(bytes, 0, sortOrder));
     }
 
     /**
-     * Convert an IP address into its constituent bytes.
+     * Convert a byte array containing a single terminated encoding back to the bytes it encodes, without throwing an
+     * exception when the input is invalid.
      *
-     * @return A byte array containing all bytes of the address.
+     * @param bytes     Byte array.
+     * @param sortOrder Sort order used to encode the input.
+     * @param result    Holder for the decoded bytes, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toTerminated(byte[], SortOrder)
      */
-    public static byte[] fromIPAddress(IPAddress ipAddress) throws ConversionException {
-        assertNotNull(ipAddress);
-        if (ipAddress instanceof IPAddress6) return fromIPAddress((IPAddress6) ipAddress);
-        if (ipAddress instanceof IPAddress4) return fromIPAddress((IPAddress4) ipAddress);
-        throw new ConversionException("Unknown IPAddress class: " + ipAddress.getClass().getCanonicalName());
+    public static boolean tryToTerminated(byte[] bytes, SortOrder sortOrder, DecodeResult<? super byte[]> result) {
+        if (!isSingleTerminated(bytes, sortOrder, result)) return false;
+        return result.setValue(getTerminated(bytes, 0, sortOrder));
     }
 
     /**
-     * Convert an IPv6 address into its 4 constituent bytes.
+     * Convert a byte array of four or sixteen bytes to an {@link IPAddress}, without throwing an exception when the
+     * input is invalid.
      *
-     * @return A byte array containing all 4 bytes of the address.
+     * @param bytes  Byte array.
+     * @param result Holder for the {@link IPAddress}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toIPAddress(byte[])
      */
-    public static byte[] fromIPAddress(IPAddress4 ipAddress) throws ConversionException {
-        assertNotNull(ipAddress);
-        return fromInt(ipAddress.getInt());
+    public static boolean tryToIPAddress(byte[] bytes, DecodeResult<? super IPAddress> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (bytes.length != 4 && bytes.length != 16) return result.fail(WRONG_LENGTH);
+        return tryDecode(bytes, ByteConversion::toIPAddress, result);
     }
 
     /**
-     * Convert an IPv6 address into its 16 constituent bytes.
+     * Convert 16 bytes to a {@link UUID}, according to the specified {@link UUIDFormat}, without throwing an exception
+     * when the input is invalid.
      *
-     * @return A byte array containing all 16 bytes of the address.
+     * @param bytes      Byte array.
+     * @param uuidFormat How the bytes represent the {@link UUID}.
+     * @param result     Holder for the {@link UUID}, or the reason decoding failed.
+     * @return True when the input was decoded.
+     * @see #toUUID(byte[], UUIDFormat)
      */
-    public static byte[] fromIPAddress(IPAddress6 ipAddress) throws ConversionException {
-        assertNotNull(ipAddress);
-        return ByteBuffer
-                .allocate(16)
-                .putLong(ipAddress.getHigh())
-                .putLong(ipAddress.getLow())
-                .array();
+    public static boolean tryToUUID(byte[] bytes, UUIDFormat uuidFormat, DecodeResult<? super UUID> result) {
+        if (!checkLength(bytes, 16, result)) return false;
+        return result.setValue(getUUID(bytes, 0, uuidFormat));
+    }
+
+    private static boolean checkLength(byte[] bytes, int n, DecodeResult<?> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        if (bytes.length != n) return result.fail(WRONG_LENGTH);
+        return true;
+    }
+
+    private static boolean isSingleLeb128(byte[] bytes) {
+        if (bytes.length == 0 || bytes.length > 10 || bytes[bytes.length - 1] < 0) return false;
+        if (bytes.length == 10 && bytes[9] > 1) return false;
+        for (int i = 0; i < bytes.length - 1; i++) {
+            if (bytes[i] >= 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean isSingleTerminated(byte[] bytes, SortOrder sortOrder, DecodeResult<?> result) {
+        if (bytes == null) return result.fail(NULL_INPUT);
+        int size;
+        try {
+            size = getTerminatedSize(bytes, 0, bytes.length, sortOrder);
+        } catch (IllegalArgumentException e) {
+            return result.fail(NOT_TERMINATED);
+        }
+        return size == bytes.length || result.fail(NOT_TERMINATED);
+    }
+
+    /**
+     * Check the compact time-zone that starts at {@code offset} and fills the rest of the input, without resolving
+     * it. Only region IDs stored as text can still turn out to be unknown.
+     *
+     * @return Null when the time-zone is well-formed, or the reason it is not.
+     */
+    private static String checkCompactZone(byte[] bytes, int offset) {
+        int length = bytes.length - offset;
+        switch (bytes[offset]) {
+            case ZONE_DICTIONARY:
+                if (length != 3) return WRONG_LENGTH;
+                return (getShort(bytes, offset + 1) & 0xFFFF) < ZoneIdDictionary.IDS.length ? null : INVALID_ZONE;
+            case ZONE_QUARTER_HOURS:
+                if (length != 2) return WRONG_LENGTH;
+                // Offsets range from -18:00 to +18:00.
+                return bytes[offset + 1] >= -72 && bytes[offset + 1] <= 72 ? null : INVALID_ZONE;
+            case ZONE_SECONDS:
+                if (length != 5) return WRONG_LENGTH;
+                int seconds = getInt(bytes, offset + 1);
+                return seconds >= -64800 && seconds <= 64800 ? null : INVALID_ZONE;
+            case ZONE_TEXT:
+                return length >= 2 && length == 2 + (bytes[offset + 1] & 0xFF) ? null : WRONG_LENGTH;
+            default:
+                return INVALID_ZONE;
+        }
+    }
+
+    private static boolean isValidDate(byte[] bytes, ISO8601DateFormat iso8601DateFormat) {
+        boolean extended = iso8601DateFormat != ISO8601DateFormat.BASIC;
+        if (extended && (bytes[4] != '-' || bytes[7] != '-')) return false;
+        int year = 0;
+        int monthDay = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (extended && (i == 4 || i == 7)) continue;
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) return false;
+            if (i < 4) {
+                year = year * 10 + digit;
+            } else {
+                monthDay = monthDay * 10 + digit;
+            }
+        }
+        int month = monthDay / 100;
+        int day = monthDay % 100;
+        return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    /**
+     * Fallback for the formats whose validity can only be established by decoding them. Inputs that fail after the
+     * checks done by the callers cost an exception; see {@link ConversionException} for making those cheaper.
+     */
+    private static <T> boolean tryDecode(byte[] bytes, Decoder<T> decoder, DecodeResult<? super T> result) {
+        try {
+            return result.setValue(decoder.decode(bytes));
+        } catch (ConversionException | IllegalArgumentException | IndexOutOfBoundsException | ArithmeticException
+                 | DateTimeException e) {
+            return result.fail(e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decoder<T> {
+        T decode(byte[] bytes) throws ConversionException;
     }
 
     /* Input validation helpers. */
@@ -635,14 +6088,34 @@ public class ByteConversion {
 
     /**
      * Thrown when conversion from or to bytes fails due to invalid input.
+     * <p>
+     * Filling in the stack trace is the most expensive part of throwing an exception. When invalid input is expected
+     * and handled routinely, set the system property {@value #STACKLESS_PROPERTY} to {@code true} to create these
+     * exceptions without a stack trace, or use the {@code tryToX} methods of {@link ByteConversion}, which do not
+     * throw at all.
      */
     public static class ConversionException extends Exception {
+        /**
+         * System property that, when set to {@code true}, makes conversion exceptions stackless by default.
+         */
+        public static final String STACKLESS_PROPERTY = "org.lable.oss.bitsandbytes.stacklessConversionExceptions";
+
+        static final boolean STACK_TRACES = !Boolean.getBoolean(STACKLESS_PROPERTY);
+
         public ConversionException(String message) {
-            super(message);
+            super(message, null, true, STACK_TRACES);
         }
 
         public ConversionException(String message, Throwable e) {
-            super(message, e);
+            super(message, e, true, STACK_TRACES);
+        }
+
+        /**
+         * @param message            Detail message.
+         * @param writableStackTrace When false, no stack trace is recorded, regardless of {@value #STACKLESS_PROPERTY}.
+         */
+        public ConversionException(String message, boolean writableStackTrace) {
+            super(message, null, true, writableStackTrace);
         }
     }
 
@@ -655,22 +6128,140 @@ public class ByteConversion {
          */
         TWOS_COMPLEMENT,
         /**
-         * The byte representation of both negative and positive numbers sorts naturally.
+         * The byte representation of both negative and positive numbers sorts naturally. For integral types this is
+         * two's complement with the sign bit flipped. For floating point types the sign bit of positive numbers is
+         * flipped, and all bits of negative numbers are flipped.
+         */
+        LEXICOGRAPHIC_SORT,
+        /**
+         * The byte representation of numbers sorts in reverse natural order; the bitwise complement of
+         * {@link #LEXICOGRAPHIC_SORT}. This is the numeric counterpart of {@link SortOrder#DESCENDING}.
+         */
+        LEXICOGRAPHIC_SORT_DESCENDING
+    }
+
+    /**
+     * Specify how an {@link Instant} is converted to and from bytes.
+     */
+    public enum InstantFormat {
+        /**
+         * Eight bytes of seconds since the epoch followed by four bytes of nanoseconds, both two's complement. This is
+         * the format of {@link #fromInstant(Instant)}. It does not sort correctly before the epoch.
+         */
+        SECONDS_NANOS_12(12),
+        /**
+         * Eight bytes of seconds since the epoch followed by four bytes of nanoseconds, both in the
+         * {@link NumberRepresentation#LEXICOGRAPHIC_SORT} representation. Sorts chronologically.
+         */
+        SORTABLE_12(12),
+        /**
+         * Eight bytes of milliseconds since the epoch in the {@link NumberRepresentation#LEXICOGRAPHIC_SORT}
+         * representation. Sorts chronologically; anything below millisecond precision is truncated.
+         */
+        EPOCH_MILLIS_8(8),
+        /**
+         * Eight bytes of microseconds since the epoch in the {@link NumberRepresentation#LEXICOGRAPHIC_SORT}
+         * representation. Sorts chronologically; anything below microsecond precision is truncated. Covers the years
+         * from about -290,000 to 294,000.
+         */
+        EPOCH_MICROS_8(8);
+
+        private final int byteLength;
+
+        InstantFormat(int byteLength) {
+            this.byteLength = byteLength;
+        }
+
+        /**
+         * @return The number of bytes an {@link Instant} takes in this format.
+         */
+        public int byteLength() {
+            return byteLength;
+        }
+    }
+
+    /**
+     * Specify how the time-zone of a {@link ZonedDateTime} or {@link OffsetDateTime} is converted to and from bytes.
+     */
+    public enum ZoneFormat {
+        /**
+         * The time-zone identifier as a UTF-8 string, e.g., "Europe/Amsterdam" or "+02:00".
+         */
+        ID,
+        /**
+         * The compact representation of {@link #fromZoneId(ZoneId)}: two to five bytes for offsets and known regions.
+         */
+        COMPACT
+    }
+
+    /**
+     * Specify how a {@link UUID} is converted to and from bytes.
+     */
+    public enum UUIDFormat {
+        /**
+         * The 16 bytes in the order of RFC 4122, which is also the order of {@link UUID#toString()}. Sorts like the
+         * hexadecimal string form.
+         */
+        STANDARD,
+        /**
+         * Like {@link #STANDARD}, but for version 1 (time-based) UUIDs the timestamp is moved to the front, most
+         * significant bits first, as in a version 6 UUID. Time-based UUIDs then sort by the time they were generated,
+         * so keys created around the same time end up next to each other. Other versions are stored as in
+         * {@link #STANDARD}, and the version is kept, so decoding restores the original {@link UUID}.
+         */
+        TIME_ORDERED
+    }
+
+    /**
+     * Sort order of order-preserving encodings such as {@link #fromTerminated(byte[], SortOrder)}.
+     * <p>
+     * Numbers do not take a sort order, because their {@link NumberRepresentation} already covers it: besides the two
+     * sortable forms it includes {@link NumberRepresentation#TWOS_COMPLEMENT}, which has no place among byte and
+     * string encodings. {@link NumberRepresentation#LEXICOGRAPHIC_SORT} and
+     * {@link NumberRepresentation#LEXICOGRAPHIC_SORT_DESCENDING} are the numeric counterparts of {@link #ASCENDING}
+     * and {@link #DESCENDING}; {@link TupleKey} maps each field's sort order to them for its numeric fields.
+     */
+    public enum SortOrder {
+        /**
+         * Bytes sort in the natural order of the values they encode.
+         */
+        ASCENDING,
+        /**
+         * Bytes sort in the reverse natural order of the values they encode.
          */
-        LEXICOGRAPHIC_SORT
+        DESCENDING
     }
 
     /**
-     * Specify how dates are converted to and from their ISO-8601 notation in bytes.
+     * Specify how dates are converted to and from their ISO-8601 notation in bytes, or to and from their compact binary
+     * representation.
      */
     public enum ISO8601DateFormat {
         /**
          * The compact notation without dashes.
          */
-        BASIC,
+        BASIC(8),
         /**
          * The extended human-friendly notation, including dashes.
          */
-        EXTENDED
+        EXTENDED(10),
+        /**
+         * Not an ISO-8601 notation, but a compact binary format: the number of days since the epoch, as an int in the
+         * {@link NumberRepresentation#LEXICOGRAPHIC_SORT} representation. Four bytes that sort chronologically.
+         */
+        EPOCH_DAY(4);
+
+        private final int byteLength;
+
+        ISO8601DateFormat(int byteLength) {
+            this.byteLength = byteLength;
+        }
+
+        /**
+         * @return The number of bytes a date takes in this format, for years 0 to 9999.
+         */
+        public int byteLength() {
+            return byteLength;
+        }
     }
 }
@@ -0,0 +1,533 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes;
+
+import org.lable.oss.bitsandbytes.ByteConversion.InstantFormat;
+import org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation;
+import org.lable.oss.bitsandbytes.ByteConversion.SortOrder;
+import org.lable.oss.bitsandbytes.ByteConversion.UUIDFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Sequential reader of values from a byte array or {@link ByteBuffer}, heap or direct. Each {@code readX} method
+ * decodes a value at the current position with the same semantics as the matching {@code getX} method of
+ * {@link ByteConversion}, and advances the position past it.
+ * <p>
+ * Reading numbers, varints, and {@link Instant}s allocates nothing. When a value does not fit in the remaining bytes
+ * an {@link IndexOutOfBoundsException} is thrown, and the position is left unchanged. Reading from a
+ * {@link ByteBuffer} does not change the position of the buffer.
+ * <p>
+ * Positions are indices in the underlying array or buffer, so they can be passed to the {@code getX} methods of
+ * {@link ByteConversion} directly.
+ *
+ * @see ByteWriter
+ */
+public class ByteCursor {
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int end;
+    private int position;
+
+    /**
+     * Read from a byte array, starting at its first byte.
+     *
+     * @param bytes Source byte array.
+     */
+    public ByteCursor(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Read from a range of a byte array.
+     *
+     * @param bytes  Source byte array.
+     * @param offset Position of the first byte to read.
+     * @param length Number of bytes that may be read.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code bytes}.
+     */
+    public ByteCursor(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.array = bytes;
+        this.buffer = null;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * Read the bytes of a {@link ByteBuffer} from its current position up to its limit. The position of the buffer
+     * itself is not changed.
+     *
+     * @param buffer Source buffer.
+     */
+    public ByteCursor(ByteBuffer buffer) {
+        this.array = null;
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.end = buffer.limit();
+    }
+
+    /**
+     * @return The index of the next byte to read.
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Move to another position.
+     *
+     * @param position The index of the next byte to read.
+     * @return This cursor.
+     * @throws IndexOutOfBoundsException Thrown when the position lies beyond the end.
+     */
+    public ByteCursor position(int position) {
+        Objects.checkIndex(position, end + 1);
+        this.position = position;
+        return this;
+    }
+
+    /**
+     * @return The number of bytes left to read.
+     */
+    public int remaining() {
+        return end - position;
+    }
+
+    /**
+     * @return True if there are bytes left to read.
+     */
+    public boolean hasRemaining() {
+        return position < end;
+    }
+
+    /**
+     * Skip over a number of bytes.
+     *
+     * @param n Number of bytes to skip.
+     * @return This cursor.
+     * @throws IndexOutOfBoundsException Thrown when fewer than {@code n} bytes remain.
+     */
+    public ByteCursor skip(int n) {
+        advance(n);
+        return this;
+    }
+
+    /**
+     * @return The next byte.
+     * @throws IndexOutOfBoundsException Thrown when no bytes remain.
+     */
+    public byte readByte() {
+        int index = advance(1);
+        return array != null ? array[index] : buffer.get(index);
+    }
+
+    /**
+     * Copy the next bytes into a byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param length Number of bytes to copy.
+     * @return This cursor.
+     * @throws IndexOutOfBoundsException Thrown when fewer than {@code length} bytes remain, or when {@code dst} lacks
+     *                                   room for them.
+     */
+    public ByteCursor readBytes(byte[] dst, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, dst.length);
+        int index = advance(length);
+        if (array != null) {
+            System.arraycopy(array, index, dst, offset, length);
+        } else {
+            buffer.duplicate().position(index).get(dst, offset, length);
+        }
+        return this;
+    }
+
+    /**
+     * @param length Number of bytes to read.
+     * @return A copy of the next {@code length} bytes.
+     * @throws IndexOutOfBoundsException Thrown when fewer than {@code length} bytes remain.
+     */
+    public byte[] readBytes(int length) {
+        checkRemaining(length);
+        byte[] out = new byte[length];
+        readBytes(out, 0, length);
+        return out;
+    }
+
+    /**
+     * @return The next short, read from two bytes.
+     * @see ByteConversion#getShort(byte[], int)
+     */
+    public short readShort() {
+        int index = advance(2);
+        return array != null ? ByteConversion.getShort(array, index) : ByteConversion.getShort(buffer, index);
+    }
+
+    /**
+     * @param numberRepresentation How the bytes represent the number.
+     * @return The next short, read from two bytes.
+     * @see ByteConversion#getShort(byte[], int, NumberRepresentation)
+     */
+    public short readShort(NumberRepresentation numberRepresentation) {
+        return (short) (readShort() ^ ByteConversion.shortMask(numberRepresentation));
+    }
+
+    /**
+     * @param byteOrder Byte order of the bytes read.
+     * @return The next short, read from two bytes.
+     * @see ByteConversion#getShort(byte[], int, ByteOrder)
+     */
+    public short readShort(ByteOrder byteOrder) {
+        int index = advance(2);
+        return array != null
+                ? ByteConversion.getShort(array, index, byteOrder)
+                : ByteConversion.getShort(buffer, index, byteOrder);
+    }
+
+    /**
+     * @return The next int, read from four bytes.
+     * @see ByteConversion#getInt(byte[], int)
+     */
+    public int readInt() {
+        int index = advance(4);
+        return array != null ? ByteConversion.getInt(array, index) : ByteConversion.getInt(buffer, index);
+    }
+
+    /**
+     * @param numberRepresentation How the bytes represent the number.
+     * @return The next int, read from four bytes.
+     * @see ByteConversion#getInt(byte[], int, NumberRepresentation)
+     */
+    public int readInt(NumberRepresentation numberRepresentation) {
+        return readInt() ^ ByteConversion.intMask(numberRepresentation);
+    }
+
+    /**
+     * @param byteOrder Byte order of the bytes read.
+     * @return The next int, read from four bytes.
+     * @see ByteConversion#getInt(byte[], int, ByteOrder)
+     */
+    public int readInt(ByteOrder byteOrder) {
+        int index = advance(4);
+        return array != null
+                ? ByteConversion.getInt(array, index, byteOrder)
+                : ByteConversion.getInt(buffer, index, byteOrder);
+    }
+
+    /**
+     * @return The next long, read from eight bytes.
+     * @see ByteConversion#getLong(byte[], int)
+     */
+    public long readLong() {
+        int index = advance(8);
+        return array != null ? ByteConversion.getLong(array, index) : ByteConversion.getLong(buffer, index);
+    }
+
+    /**
+     * @param numberRepresentation How the bytes represent the number.
+     * @return The next long, read from eight bytes.
+     * @see ByteConversion#getLong(byte[], int, NumberRepresentation)
+     */
+    public long readLong(NumberRepresentation numberRepresentation) {
+        return readLong() ^ ByteConversion.longMask(numberRepresentation);
+    }
+
+    /**
+     * @param byteOrder Byte order of the bytes read.
+     * @return The next long, read from eight bytes.
+     * @see ByteConversion#getLong(byte[], int, ByteOrder)
+     */
+    public long readLong(ByteOrder byteOrder) {
+        int index = advance(8);
+        return array != null
+                ? ByteConversion.getLong(array, index, byteOrder)
+                : ByteConversion.getLong(buffer, index, byteOrder);
+    }
+
+    /**
+     * @return The next float, read from four bytes.
+     * @see ByteConversion#getFloat(byte[], int)
+     */
+    public float readFloat() {
+        return readFloat(NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * @param numberRepresentation How the bytes represent the number.
+     * @return The next float, read from four bytes.
+     * @see ByteConversion#getFloat(byte[], int, NumberRepresentation)
+     */
+    public float readFloat(NumberRepresentation numberRepresentation) {
+        int index = advance(4);
+        return array != null
+                ? ByteConversion.getFloat(array, index, numberRepresentation)
+                : ByteConversion.getFloat(buffer, index, numberRepresentation);
+    }
+
+    /**
+     * @param byteOrder Byte order of the bytes read.
+     * @return The next float, read from four bytes.
+     * @see ByteConversion#getFloat(byte[], int, ByteOrder)
+     */
+    public float readFloat(ByteOrder byteOrder) {
+        int index = advance(4);
+        return array != null
+                ? ByteConversion.getFloat(array, index, byteOrder)
+                : ByteConversion.getFloat(buffer, index, byteOrder);
+    }
+
+    /**
+     * @return The next double, read from eight bytes.
+     * @see ByteConversion#getDouble(byte[], int)
+     */
+    public double readDouble() {
+        return readDouble(NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * @param numberRepresentation How the bytes represent the number.
+     * @return The next double, read from eight bytes.
+     * @see ByteConversion#getDouble(byte[], int, NumberRepresentation)
+     */
+    public double readDouble(NumberRepresentation numberRepresentation) {
+        int index = advance(8);
+        return array != null
+                ? ByteConversion.getDouble(array, index, numberRepresentation)
+                : ByteConversion.getDouble(buffer, index, numberRepresentation);
+    }
+
+    /**
+     * @param byteOrder Byte order of the bytes read.
+     * @return The next double, read from eight bytes.
+     * @see ByteConversion#getDouble(byte[], int, ByteOrder)
+     */
+    public double readDouble(ByteOrder byteOrder) {
+        int index = advance(8);
+        return array != null
+                ? ByteConversion.getDouble(array, index, byteOrder)
+                : ByteConversion.getDouble(buffer, index, byteOrder);
+    }
+
+    /**
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return The next long, read from {@code width} bytes of two's complement.
+     * @see ByteConversion#getSigned(byte[], int, int)
+     */
+    public long readSigned(int width) {
+        return readSigned(width, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * @param width                Number of bytes, between {@code 1} and {@code 8}.
+     * @param numberRepresentation How the bytes represent the number.
+     * @return The next long, read from {@code width} bytes.
+     * @see ByteConversion#getSigned(byte[], int, int, NumberRepresentation)
+     */
+    public long readSigned(int width, NumberRepresentation numberRepresentation) {
+        int index = advance(ByteConversion.checkWidth(width));
+        return array != null
+                ? ByteConversion.getSigned(array, index, width, numberRepresentation)
+                : ByteConversion.getSigned(buffer, index, width, numberRepresentation);
+    }
+
+    /**
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return The next unsigned number, read from {@code width} bytes.
+     * @see ByteConversion#getUnsigned(byte[], int, int)
+     */
+    public long readUnsigned(int width) {
+        int index = advance(ByteConversion.checkWidth(width));
+        return array != null
+                ? ByteConversion.getUnsigned(array, index, width)
+                : ByteConversion.getUnsigned(buffer, index, width);
+    }
+
+    /**
+     * @param uuidFormat How the bytes represent the {@link UUID}.
+     * @return The next {@link UUID}, read from sixteen bytes.
+     * @see ByteConversion#getUUID(byte[], int, UUIDFormat)
+     */
+    public UUID readUUID(UUIDFormat uuidFormat) {
+        checkRemaining(16);
+        return ByteConversion.uuid(readLong(), readLong(), uuidFormat);
+    }
+
+    /**
+     * @return The next long, read from its order-preserving variable-length encoding.
+     * @throws IllegalArgumentException Thrown when the next byte is not a valid first byte.
+     * @see ByteConversion#getVarLong(byte[], int)
+     */
+    public long readVarLong() {
+        checkRemaining(1);
+        int size = array != null
+                ? ByteConversion.getVarLongSize(array, position)
+                : ByteConversion.getVarLongSize(buffer, position);
+        int index = advance(size);
+        return array != null ? ByteConversion.getVarLong(array, index) : ByteConversion.getVarLong(buffer, index);
+    }
+
+    /**
+     * @return The next long, read from its order-preserving unsigned variable-length encoding.
+     * @see ByteConversion#getUnsignedVarLong(byte[], int)
+     */
+    public long readUnsignedVarLong() {
+        checkRemaining(1);
+        int size = array != null
+                ? ByteConversion.getUnsignedVarLongSize(array, position)
+                : ByteConversion.getUnsignedVarLongSize(buffer, position);
+        int index = advance(size);
+        return array != null
+                ? ByteConversion.getUnsignedVarLong(array, index)
+                : ByteConversion.getUnsignedVarLong(buffer, index);
+    }
+
+    /**
+     * @return The next long, read from its unsigned LEB128 encoding.
+     * @throws IllegalArgumentException Thrown when the encoded value is longer than ten bytes.
+     * @see ByteConversion#getLeb128(byte[], int)
+     */
+    public long readLeb128() {
+        int size = leb128Size();
+        int index = advance(size);
+        return array != null ? ByteConversion.getLeb128(array, index) : ByteConversion.getLeb128(buffer, index);
+    }
+
+    /**
+     * @return The next long, read from its ZigZag encoding.
+     * @throws IllegalArgumentException Thrown when the encoded value is longer than ten bytes.
+     * @see ByteConversion#getZigZag(byte[], int)
+     */
+    public long readZigZag() {
+        return ByteConversion.unZigZag(readLeb128());
+    }
+
+    /**
+     * @param instantFormat How the bytes represent the {@link Instant}.
+     * @return The next {@link Instant}.
+     * @see ByteConversion#getInstant(byte[], int, InstantFormat)
+     */
+    public Instant readInstant(InstantFormat instantFormat) {
+        int index = advance(instantFormat.byteLength());
+        return array != null
+                ? ByteConversion.getInstant(array, index, instantFormat)
+                : ByteConversion.getInstant(buffer, index, instantFormat);
+    }
+
+    /**
+     * Read a string from the next {@code length} bytes, decoding them as UTF-8.
+     *
+     * @param length Number of bytes to read.
+     * @return A string.
+     */
+    public String readString(int length) {
+        int index = advance(length);
+        if (array != null) return new String(array, index, length, StandardCharsets.UTF_8);
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + index, length, StandardCharsets.UTF_8);
+        }
+        byte[] utf8 = new byte[length];
+        buffer.duplicate().position(index).get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a string stored in the terminated encoding of {@link ByteConversion#fromTerminatedString(String)}.
+     *
+     * @param sortOrder Sort order of the encoded field.
+     * @return A string.
+     * @throws IndexOutOfBoundsException Thrown when no terminator precedes the end of the readable range.
+     * @throws IllegalArgumentException  Thrown when the field contains a zero byte that is not escaped.
+     * @see ByteConversion#getTerminatedString(byte[], int, SortOrder)
+     */
+    public String readTerminatedString(SortOrder sortOrder) {
+        byte[] src;
+        int offset;
+        int size;
+        if (array != null) {
+            src = array;
+            offset = position;
+            size = ByteConversion.getTerminatedSize(src, offset, end, sortOrder);
+        } else if (buffer.hasArray()) {
+            src = buffer.array();
+            offset = buffer.arrayOffset() + position;
+            size = ByteConversion.getTerminatedSize(src, offset, buffer.arrayOffset() + end, sortOrder);
+        } else {
+            // Copy only this field out of the direct buffer.
+            size = ByteConversion.getTerminatedSize(buffer, position, end, sortOrder);
+            if (size < 0) throw terminatorOutOfRange();
+            src = new byte[size];
+            buffer.duplicate().position(position).get(src);
+            offset = 0;
+        }
+        if (size < 0) throw terminatorOutOfRange();
+        String value = ByteConversion.getTerminatedString(src, offset, sortOrder);
+        position += size;
+        return value;
+    }
+
+    /**
+     * @return The next four bytes as an IPv4 address.
+     */
+    public IPAddress4 readIPAddress4() {
+        return new IPAddress4(readInt());
+    }
+
+    /**
+     * @return The next sixteen bytes as an IPv6 address.
+     */
+    public IPAddress6 readIPAddress6() {
+        checkRemaining(16);
+        return new IPAddress6(readLong(), readLong());
+    }
+
+    /**
+     * Move the position forward.
+     *
+     * @param n Number of bytes.
+     * @return The position before moving.
+     */
+    private int advance(int n) {
+        checkRemaining(n);
+        int index = position;
+        position += n;
+        return index;
+    }
+
+    private void checkRemaining(int n) {
+        Objects.checkFromIndexSize(position, n, end);
+    }
+
+    private int leb128Size() {
+        for (int i = 0; i < 10 && position + i < end; i++) {
+            byte b = array != null ? array[position + i] : buffer.get(position + i);
+            if (b >= 0) return i + 1;
+        }
+        if (end - position < 10) {
+            throw new IndexOutOfBoundsException("LEB128 value runs past the end at position " + position + ".");
+        }
+        throw new IllegalArgumentException("LEB128 value exceeds ten bytes.");
+    }
+
+    private static IndexOutOfBoundsException terminatorOutOfRange() {
+        return new IndexOutOfBoundsException("Terminated field extends beyond the readable range.");
+    }
+}
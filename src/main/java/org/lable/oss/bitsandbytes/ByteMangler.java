@@ -390,67 +390,7 @@ public class ByteMangler {
             return Collections.singletonList(input);
         }
 
-        List<byte[]> parts = new ArrayList<>();
-        if (limit >= 0) {
-            int rangeStart = 0;
-            int i = 0;
-            // Don't loop over every byte in the array, but stop at the last possible starting byte of the delimiter.
-            while (i < input.length - (delimiter.length - 1)) {
-                if (matchesDelimiter(delimiter, input, i)) {
-                    parts.add(Arrays.copyOfRange(input, rangeStart, i));
-                    rangeStart = i + delimiter.length;
-
-                    // Stop one part before the limit, because the last part is whatever remains.
-                    if (limit > 0 && parts.size() >= limit - 1) break;
-
-                    i += delimiter.length;
-                } else {
-                    i++;
-                }
-            }
-
-            // Add whatever remains as the last part.
-            parts.add(chomp(rangeStart, input));
-        } else {
-            // Reverse split.
-
-            limit = -limit;
-            int rangeEnd = input.length;
-            // Don't loop over every byte in the array, but start at the first possible starting byte of the delimiter.
-            int i = input.length - delimiter.length;
-            while (i >= 0) {
-                if (matchesDelimiter(delimiter, input, i)) {
-                    parts.add(0, Arrays.copyOfRange(input, i + delimiter.length, rangeEnd));
-                    rangeEnd = i;
-
-                    // Stop one part before the limit, because the last part is whatever remains.
-                    if (parts.size() >= limit - 1) break;
-
-                    i -= delimiter.length;
-                } else {
-                    i--;
-                }
-            }
-
-            // Add whatever remains as the first part.
-            parts.add(0, shrink(rangeEnd, input));
-        }
-
-        return parts;
-    }
-
-    // Private helper method.
-    static boolean matchesDelimiter(byte[] delimiter, byte[] rawKey, int offset) {
-        for (int j = 0; j < delimiter.length; j++) {
-            if (rawKey[offset + j] != delimiter[j]) {
-                return false;
-            }
-            if (j == delimiter.length - 1) {
-                // Matched!
-                return true;
-            }
-        }
-        return false;
+        return new BytePattern(delimiter).split(input, limit);
     }
 
     /**
@@ -474,27 +414,9 @@ public class ByteMangler {
      */
     public static byte[] replace(byte[] input, byte[] target, byte[] replacement) {
         if (target == null || input == null) return input;
-        if (replacement == null) replacement = new byte[0];
-
-        List<byte[]> parts = split(input, target);
-
-        // Target not found in input string.
-        if (parts.size() < 2) return input;
+        if (target.length == 0 || target.length > input.length) return input;
 
-        int length = input.length + ((parts.size() - 1) * (replacement.length - target.length));
-        byte[] output = new byte[length];
-        int current = 0;
-        for (byte[] part : parts) {
-            System.arraycopy(part, 0, output, current, part.length);
-            current += part.length;
-
-            if (current >= output.length) break;
-
-            System.arraycopy(replacement, 0, output, current, replacement.length);
-            current += replacement.length;
-        }
-
-        return output;
+        return new BytePattern(target).replace(input, replacement);
     }
 
     /**
@@ -0,0 +1,401 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A precompiled byte sequence to search for in byte arrays. Compiling a pattern once and reusing it avoids the setup
+ * cost of the search for every input searched.
+ * <p>
+ * Patterns of up to {@value #SHORT_PATTERN_LENGTH} bytes are searched for by scanning for their first byte eight bytes
+ * at a time (a SWAR scan), and verifying the remaining bytes on each candidate position. Longer patterns are searched
+ * for with the Boyer-Moore-Horspool algorithm, which can skip up to the full pattern length after each mismatch.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public class BytePattern {
+    static final int SHORT_PATTERN_LENGTH = 8;
+
+    // Read words in little-endian order, so the first byte in memory is the least significant byte of the word.
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+
+    final byte[] pattern;
+    // Horspool shift tables, only used for longer patterns. Each is built on first use of its search direction, so a
+    // one-off search only pays for the table it needs. Threads racing to build a table build identical ones.
+    private volatile int[] forwardShift;
+    private volatile int[] backwardShift;
+
+    BytePattern(byte[] pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * Compile a byte sequence into a reusable pattern.
+     *
+     * @param pattern Byte sequence to search for. It is copied, so later changes to the array do not affect the
+     *                pattern.
+     * @return A pattern.
+     * @throws IllegalArgumentException Thrown when {@code pattern} is {@code null}.
+     */
+    public static BytePattern compile(byte[] pattern) {
+        if (pattern == null) throw new IllegalArgumentException("Pattern cannot be null.");
+        return new BytePattern(pattern.clone());
+    }
+
+    /**
+     * Get the length of the byte sequence searched for.
+     *
+     * @return Length of the pattern.
+     */
+    public int length() {
+        return pattern.length;
+    }
+
+    /**
+     * Get the byte sequence searched for.
+     *
+     * @return A copy of the pattern.
+     */
+    public byte[] get() {
+        return pattern.clone();
+    }
+
+    /**
+     * Find the first occurrence of this pattern in a byte array.
+     *
+     * @param input Input byte array.
+     * @return Index of the first occurrence, or {@code -1} if the pattern does not occur or the input is {@code null}.
+     */
+    public int indexOf(byte[] input) {
+        return indexOf(input, 0);
+    }
+
+    /**
+     * Find the first occurrence of this pattern in a byte array, starting the search at a specific index.
+     *
+     * @param input Input byte array.
+     * @param from  Index to start the search at. Negative values are treated as {@code 0}.
+     * @return Index of the first occurrence at or after {@code from}, or {@code -1} if there is none or the input is
+     * {@code null}.
+     */
+    public int indexOf(byte[] input, int from) {
+        if (input == null) return -1;
+        return indexOf(input, from, input.length);
+    }
+
+    /**
+     * Find the first occurrence of this pattern in a range of a byte array.
+     *
+     * @param input Input byte array.
+     * @param from  Start of the range (inclusive). Negative values are treated as {@code 0}.
+     * @param to    End of the range (exclusive). The pattern must occur in its entirety within the range. Values past
+     *              the end of the input are treated as the input length.
+     * @return Index of the first occurrence in the range, or {@code -1} if there is none or the input is {@code null}.
+     */
+    public int indexOf(byte[] input, int from, int to) {
+        if (input == null) return -1;
+        if (from < 0) from = 0;
+        if (to > input.length) to = input.length;
+        int m = pattern.length;
+        if (to - from < m) return -1;
+        if (m == 0) return from;
+
+        return m > SHORT_PATTERN_LENGTH
+                ? horspool(input, from, to)
+                : scanFirstByte(input, from, to);
+    }
+
+    /**
+     * Find the last occurrence of this pattern in a byte array.
+     *
+     * @param input Input byte array.
+     * @return Index of the last occurrence, or {@code -1} if the pattern does not occur or the input is {@code null}.
+     */
+    public int lastIndexOf(byte[] input) {
+        if (input == null) return -1;
+        return lastIndexOf(input, input.length);
+    }
+
+    /**
+     * Find the last occurrence of this pattern in a byte array, searching backwards from a specific index.
+     *
+     * @param input Input byte array.
+     * @param from  Highest index at which an occurrence may start. Values past the last possible start are treated as
+     *              such.
+     * @return Index of the last occurrence at or before {@code from}, or {@code -1} if there is none or the input is
+     * {@code null}.
+     */
+    public int lastIndexOf(byte[] input, int from) {
+        if (input == null) return -1;
+        int m = pattern.length;
+        int last = Math.min(from, input.length - m);
+        if (last < 0) return -1;
+        if (m == 0) return last;
+
+        return m > SHORT_PATTERN_LENGTH
+                ? horspoolBackwards(input, last)
+                : scanFirstByteBackwards(input, last);
+    }
+
+    /**
+     * Find out if this pattern occurs in a byte array.
+     *
+     * @param input Input byte array.
+     * @return True if the pattern occurs in the input.
+     */
+    public boolean isContainedIn(byte[] input) {
+        return indexOf(input, 0) >= 0;
+    }
+
+    /**
+     * Find out if this pattern occurs in a byte array at a specific index.
+     *
+     * @param input Input byte array.
+     * @param index Index to test.
+     * @return True if the bytes of the input starting at {@code index} equal this pattern.
+     */
+    public boolean matchesAt(byte[] input, int index) {
+        if (input == null || index < 0 || index > input.length - pattern.length) return false;
+        return Arrays.equals(input, index, index + pattern.length, pattern, 0, pattern.length);
+    }
+
+    /**
+     * Split a byte array into parts, splitting at each occurrence of this pattern. The returned parts do not contain
+     * the pattern itself.
+     *
+     * @param input Input.
+     * @param limit     Limit the number of parts returned to this amount. A limit of 0 implies no limit. A negative
+     *                  limit will cause this method to start splitting from the back and limit the number of parts to
+     *                  the absolute value of limit.
+     * @return The result of the splitting operation.
+     * @see ByteMangler#split(byte[], byte[], int)
+     */
+    public List<byte[]> split(byte[] input, int limit) {
+        if (input == null) return null;
+        // No point in splitting if at most one part should be returned.
+        if (limit == 1 || limit == -1 || pattern.length == 0 || pattern.length > input.length) {
+            return Collections.singletonList(input);
+        }
+
+        int delimiterLength = pattern.length;
+        List<byte[]> parts = new ArrayList<>();
+        if (limit >= 0) {
+            int rangeStart = 0;
+            int i;
+            while ((i = indexOf(input, rangeStart)) >= 0) {
+                parts.add(Arrays.copyOfRange(input, rangeStart, i));
+                rangeStart = i + delimiterLength;
+
+                // Stop one part before the limit, because the last part is whatever remains.
+                if (limit > 0 && parts.size() >= limit - 1) break;
+            }
+
+            // Add whatever remains as the last part.
+            parts.add(Arrays.copyOfRange(input, rangeStart, input.length));
+        } else {
+            // Reverse split.
+
+            limit = -limit;
+            int rangeEnd = input.length;
+            int i;
+            while ((i = lastIndexOf(input, rangeEnd - delimiterLength)) >= 0) {
+                parts.add(0, Arrays.copyOfRange(input, i + delimiterLength, rangeEnd));
+                rangeEnd = i;
+
+                // Stop one part before the limit, because the last part is whatever remains.
+                if (parts.size() >= limit - 1) break;
+            }
+
+            // Add whatever remains as the first part.
+            parts.add(0, Arrays.copyOfRange(input, 0, rangeEnd));
+        }
+
+        return parts;
+    }
+
+    /**
+     * Replace occurrences of this pattern with another byte sequence.
+     *
+     * @param input       Input.
+     * @param replacement Replacement.
+     * @return The input byte array, with any occurrence of this pattern replaced by @{code replacement}.
+     * @see ByteMangler#replace(byte[], byte[], byte[])
+     */
+    public byte[] replace(byte[] input, byte[] replacement) {
+        if (input == null) return input;
+        if (pattern.length == 0 || pattern.length > input.length) return input;
+        if (replacement == null) replacement = new byte[0];
+
+        // Find all (non-overlapping) occurrences first, so the output can be allocated at its final size.
+        int[] matches = new int[8];
+        int matchCount = 0;
+        int i = 0;
+        while ((i = indexOf(input, i)) >= 0) {
+            if (matchCount == matches.length) matches = Arrays.copyOf(matches, matchCount * 2);
+            matches[matchCount++] = i;
+            i += pattern.length;
+        }
+
+        // Target not found in input string.
+        if (matchCount == 0) return input;
+
+        byte[] output = new byte[input.length + matchCount * (replacement.length - pattern.length)];
+        int inputPosition = 0;
+        int outputPosition = 0;
+        for (int m = 0; m < matchCount; m++) {
+            int partLength = matches[m] - inputPosition;
+            System.arraycopy(input, inputPosition, output, outputPosition, partLength);
+            outputPosition += partLength;
+            System.arraycopy(replacement, 0, output, outputPosition, replacement.length);
+            outputPosition += replacement.length;
+            inputPosition = matches[m] + pattern.length;
+        }
+        System.arraycopy(input, inputPosition, output, outputPosition, input.length - inputPosition);
+
+        return output;
+    }
+
+    /**
+     * Find the first occurrence of a single byte in a range, eight bytes at a time.
+     *
+     * @param input Input array.
+     * @param b     Byte to look for.
+     * @param from  Start of the range, inclusive.
+     * @param to    End of the range, exclusive.
+     * @return Index of the first occurrence, or {@code -1}.
+     */
+    static int indexOfByte(byte[] input, byte b, int from, int to) {
+        final long broadcast = (b & 0xFFL) * ONES;
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = (long) LONG_LE.get(input, i) ^ broadcast;
+            long found = (word - ONES) & ~word & HIGHS;
+            if (found != 0) return i + (Long.numberOfTrailingZeros(found) >>> 3);
+        }
+        for (; i < to; i++) {
+            if (input[i] == b) return i;
+        }
+        return -1;
+    }
+
+    private int scanFirstByte(byte[] input, int from, int to) {
+        final byte first = pattern[0];
+        final int m = pattern.length;
+        final long broadcast = (first & 0xFFL) * ONES;
+        // Last index at which the pattern may start.
+        final int last = to - m;
+
+        int i = from;
+        while (i <= last) {
+            if (i + Long.BYTES <= to) {
+                // Zero out matching bytes, and detect any zero byte in the word. The lowest set bit belongs to the
+                // first match; spurious bits caused by the borrow can only occur in higher (i.e., later) bytes.
+                long word = (long) LONG_LE.get(input, i) ^ broadcast;
+                long found = (word - ONES) & ~word & HIGHS;
+                if (found == 0) {
+                    i += Long.BYTES;
+                    continue;
+                }
+                i += Long.numberOfTrailingZeros(found) >>> 3;
+            } else if (input[i] != first) {
+                i++;
+                continue;
+            }
+
+            if (i > last) break;
+            if (Arrays.equals(input, i + 1, i + m, pattern, 1, m)) return i;
+            i++;
+        }
+        return -1;
+    }
+
+    private int scanFirstByteBackwards(byte[] input, int last) {
+        final byte first = pattern[0];
+        final int m = pattern.length;
+        for (int i = last; i >= 0; i--) {
+            if (input[i] == first && Arrays.equals(input, i + 1, i + m, pattern, 1, m)) return i;
+        }
+        return -1;
+    }
+
+    private int horspool(byte[] input, int from, int to) {
+        final int m = pattern.length;
+        final byte lastByte = pattern[m - 1];
+        final int[] shift = forwardShift();
+        int i = from;
+        while (i <= to - m) {
+            byte b = input[i + m - 1];
+            if (b == lastByte && Arrays.equals(input, i, i + m - 1, pattern, 0, m - 1)) return i;
+            i += shift[b & 0xFF];
+        }
+        return -1;
+    }
+
+    private int horspoolBackwards(byte[] input, int last) {
+        final int m = pattern.length;
+        final byte firstByte = pattern[0];
+        final int[] shift = backwardShift();
+        int i = last;
+        while (i >= 0) {
+            byte b = input[i];
+            if (b == firstByte && Arrays.equals(input, i + 1, i + m, pattern, 1, m)) return i;
+            i -= shift[b & 0xFF];
+        }
+        return -1;
+    }
+
+    private int[] forwardShift() {
+        int[] shift = forwardShift;
+        if (shift == null) {
+            int m = pattern.length;
+            shift = new int[256];
+            Arrays.fill(shift, m);
+            for (int i = 0; i < m - 1; i++) {
+                shift[pattern[i] & 0xFF] = m - 1 - i;
+            }
+            forwardShift = shift;
+        }
+        return shift;
+    }
+
+    private int[] backwardShift() {
+        int[] shift = backwardShift;
+        if (shift == null) {
+            int m = pattern.length;
+            shift = new int[256];
+            Arrays.fill(shift, m);
+            for (int i = m - 1; i > 0; i--) {
+                shift[pattern[i] & 0xFF] = i;
+            }
+            backwardShift = shift;
+        }
+        return shift;
+    }
+
+    @Override
+    public String toString() {
+        return Hex.encode(pattern);
+    }
+}
@@ -129,52 +129,17 @@ public enum ByteVisualization {
     HEXADECIMAL {
         @Override
         public String visualize(byte input) {
-            int high = input >> 4 & 0x0F;
-            int low = input & 0x0F;
-            return new String(new char[]{
-                    (high > 9 ? (char) (high + 0x37) : (char) (high + 0x30)),
-                    (low > 9 ? (char) (low + 0x37) : (char) (low + 0x30))
-            });
+            return Hex.encode(input, false);
         }
 
         @Override
-        public byte[] parse(String input) {
-            if (input == null) return new byte[0];
-            input = input.trim();
-
-            if (input.startsWith("0x") || input.startsWith("0X")) {
-                input = input.substring(2);
-            }
-
-            StringBuilder cleanInput = new StringBuilder();
-            for (char c : input.toCharArray()) {
-                // Strip out anything that isn't one of the sixteen hex chars.
-                if ((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f')) {
-                    cleanInput.append(c);
-                } else if (c >= 'A' && c <= 'F') {
-                    // Turn uppercase A–F into lowercase a–f.
-                    cleanInput.append((char) (c + 0x20));
-                }
-            }
-
-            char[] chars;
-            if (cleanInput.length() % 2 == 0) {
-                chars = cleanInput.toString().toCharArray();
-            } else {
-                // Prepend a '0' if the input string has an odd number of characters.
-                chars = new char[cleanInput.length() + 1];
-                chars[0] = '0';
-                cleanInput.getChars(0, cleanInput.length(), chars, 1);
-            }
-
-            int targetLength = chars.length / 2;
-            byte[] output = new byte[targetLength];
-
-            for (int i = 0; i < chars.length / 2; i++) {
-                output[i] = (byte) (value(chars[i * 2]) << 4 ^ value(chars[i * 2 + 1]));
-            }
+        public String visualize(byte[] input) {
+            return Hex.encode(input, false);
+        }
 
-            return output;
+        @Override
+        public byte[] parse(String input) {
+            return Hex.decode(input, false);
         }
 
         @Override
@@ -226,12 +191,12 @@ public enum ByteVisualization {
     HEXADECIMAL_LOWER {
         @Override
         public String visualize(byte input) {
-            int high = input >> 4 & 0x0F;
-            int low = input & 0x0F;
-            return new String(new char[]{
-                    (high > 9 ? (char) (high + 0x57) : (char) (high + 0x30)),
-                    (low > 9 ? (char) (low + 0x57) : (char) (low + 0x30))
-            });
+            return Hex.encode(input, true);
+        }
+
+        @Override
+        public String visualize(byte[] input) {
+            return Hex.encode(input, true);
         }
 
         @Override
@@ -0,0 +1,553 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes;
+
+import org.lable.oss.bitsandbytes.ByteConversion.InstantFormat;
+import org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation;
+import org.lable.oss.bitsandbytes.ByteConversion.SortOrder;
+import org.lable.oss.bitsandbytes.ByteConversion.UUIDFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Sequential writer of values into a byte array or {@link ByteBuffer}, heap or direct, of a fixed size. Each
+ * {@code writeX} method encodes a value at the current position with the same semantics as the matching {@code putX}
+ * method of {@link ByteConversion}, and advances the position past it. This is the mirror image of
+ * {@link ByteCursor}; use {@link ByteArrayBuilder} when the size of the output is not known in advance.
+ * <p>
+ * Writing numbers, varints, and {@link Instant}s allocates nothing. When a value does not fit in the remaining room
+ * an {@link IndexOutOfBoundsException} is thrown, and the position is left unchanged. Writing to a
+ * {@link ByteBuffer} does not change the position of the buffer.
+ * <p>
+ * Positions are indices in the underlying array or buffer.
+ *
+ * @see ByteCursor
+ */
+public class ByteWriter {
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int end;
+    private int position;
+
+    /**
+     * Write into a byte array, starting at its first byte.
+     *
+     * @param bytes Destination byte array.
+     */
+    public ByteWriter(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Write into a range of a byte array.
+     *
+     * @param bytes  Destination byte array.
+     * @param offset Position of the first byte to write.
+     * @param length Number of bytes that may be written.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code bytes}.
+     */
+    public ByteWriter(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.array = bytes;
+        this.buffer = null;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * Write into a {@link ByteBuffer} from its current position up to its limit. The position of the buffer itself is
+     * not changed.
+     *
+     * @param buffer Destination buffer.
+     */
+    public ByteWriter(ByteBuffer buffer) {
+        this.array = null;
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.end = buffer.limit();
+    }
+
+    /**
+     * @return The index of the next byte to write.
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Move to another position.
+     *
+     * @param position The index of the next byte to write.
+     * @return This writer.
+     * @throws IndexOutOfBoundsException Thrown when the position lies beyond the end.
+     */
+    public ByteWriter position(int position) {
+        Objects.checkIndex(position, end + 1);
+        this.position = position;
+        return this;
+    }
+
+    /**
+     * @return The number of bytes that can still be written.
+     */
+    public int remaining() {
+        return end - position;
+    }
+
+    /**
+     * @param b Value to write.
+     * @return This writer.
+     * @throws IndexOutOfBoundsException Thrown when there is no room left.
+     */
+    public ByteWriter writeByte(byte b) {
+        int index = advance(1);
+        if (array != null) {
+            array[index] = b;
+        } else {
+            buffer.put(index, b);
+        }
+        return this;
+    }
+
+    /**
+     * @param src Bytes to write.
+     * @return This writer.
+     */
+    public ByteWriter writeBytes(byte[] src) {
+        return writeBytes(src, 0, src.length);
+    }
+
+    /**
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte to write.
+     * @param length Number of bytes to write.
+     * @return This writer.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}, or when there is not enough
+     *                                   room left.
+     */
+    public ByteWriter writeBytes(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        int index = advance(length);
+        if (array != null) {
+            System.arraycopy(src, offset, array, index, length);
+        } else {
+            buffer.duplicate().position(index).put(src, offset, length);
+        }
+        return this;
+    }
+
+    /**
+     * @param input Value to write as two bytes.
+     * @return This writer.
+     * @see ByteConversion#putShort(byte[], int, short)
+     */
+    public ByteWriter writeShort(short input) {
+        int index = advance(2);
+        if (array != null) {
+            ByteConversion.putShort(array, index, input);
+        } else {
+            ByteConversion.putShort(buffer, index, input);
+        }
+        return this;
+    }
+
+    /**
+     * @param input                Value to write as two bytes.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return This writer.
+     * @see ByteConversion#putShort(byte[], int, short, NumberRepresentation)
+     */
+    public ByteWriter writeShort(short input, NumberRepresentation numberRepresentation) {
+        return writeShort((short) (input ^ ByteConversion.shortMask(numberRepresentation)));
+    }
+
+    /**
+     * @param input     Value to write as two bytes.
+     * @param byteOrder Byte order of the bytes written.
+     * @return This writer.
+     * @see ByteConversion#putShort(byte[], int, short, ByteOrder)
+     */
+    public ByteWriter writeShort(short input, ByteOrder byteOrder) {
+        int index = advance(2);
+        if (array != null) {
+            ByteConversion.putShort(array, index, input, byteOrder);
+        } else {
+            ByteConversion.putShort(buffer, index, input, byteOrder);
+        }
+        return this;
+    }
+
+    /**
+     * @param input Value to write as four bytes.
+     * @return This writer.
+     * @see ByteConversion#putInt(byte[], int, int)
+     */
+    public ByteWriter writeInt(int input) {
+        int index = advance(4);
+        if (array != null) {
+            ByteConversion.putInt(array, index, input);
+        } else {
+            ByteConversion.putInt(buffer, index, input);
+        }
+        return this;
+    }
+
+    /**
+     * @param input                Value to write as four bytes.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return This writer.
+     * @see ByteConversion#putInt(byte[], int, int, NumberRepresentation)
+     */
+    public ByteWriter writeInt(int input, NumberRepresentation numberRepresentation) {
+        return writeInt(input ^ ByteConversion.intMask(numberRepresentation));
+    }
+
+    /**
+     * @param input     Value to write as four bytes.
+     * @param byteOrder Byte order of the bytes written.
+     * @return This writer.
+     * @see ByteConversion#putInt(byte[], int, int, ByteOrder)
+     */
+    public ByteWriter writeInt(int input, ByteOrder byteOrder) {
+        int index = advance(4);
+        if (array != null) {
+            ByteConversion.putInt(array, index, input, byteOrder);
+        } else {
+            ByteConversion.putInt(buffer, index, input, byteOrder);
+        }
+        return this;
+    }
+
+    /**
+     * @param input Value to write as eight bytes.
+     * @return This writer.
+     * @see ByteConversion#putLong(byte[], int, long)
+     */
+    public ByteWriter writeLong(long input) {
+        int index = advance(8);
+        if (array != null) {
+            ByteConversion.putLong(array, index, input);
+        } else {
+            ByteConversion.putLong(buffer, index, input);
+        }
+        return this;
+    }
+
+    /**
+     * @param input                Value to write as eight bytes.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return This writer.
+     * @see ByteConversion#putLong(byte[], int, long, NumberRepresentation)
+     */
+    public ByteWriter writeLong(long input, NumberRepresentation numberRepresentation) {
+        return writeLong(input ^ ByteConversion.longMask(numberRepresentation));
+    }
+
+    /**
+     * @param input     Value to write as eight bytes.
+     * @param byteOrder Byte order of the bytes written.
+     * @return This writer.
+     * @see ByteConversion#putLong(byte[], int, long, ByteOrder)
+     */
+    public ByteWriter writeLong(long input, ByteOrder byteOrder) {
+        int index = advance(8);
+        if (array != null) {
+            ByteConversion.putLong(array, index, input, byteOrder);
+        } else {
+            ByteConversion.putLong(buffer, index, input, byteOrder);
+        }
+        return this;
+    }
+
+    /**
+     * @param input Value to write as four bytes.
+     * @return This writer.
+     * @see ByteConversion#putFloat(byte[], int, float)
+     */
+    public ByteWriter writeFloat(float input) {
+        return writeFloat(input, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * @param input                Value to write as four bytes.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return This writer.
+     * @see ByteConversion#putFloat(byte[], int, float, NumberRepresentation)
+     */
+    public ByteWriter writeFloat(float input, NumberRepresentation numberRepresentation) {
+        int index = advance(4);
+        if (array != null) {
+            ByteConversion.putFloat(array, index, input, numberRepresentation);
+        } else {
+            ByteConversion.putFloat(buffer, index, input, numberRepresentation);
+        }
+        return this;
+    }
+
+    /**
+     * @param input     Value to write as four bytes.
+     * @param byteOrder Byte order of the bytes written.
+     * @return This writer.
+     * @see ByteConversion#putFloat(byte[], int, float, ByteOrder)
+     */
+    public ByteWriter writeFloat(float input, ByteOrder byteOrder) {
+        int index = advance(4);
+        if (array != null) {
+            ByteConversion.putFloat(array, index, input, byteOrder);
+        } else {
+            ByteConversion.putFloat(buffer, index, input, byteOrder);
+        }
+        return this;
+    }
+
+    /**
+     * @param input Value to write as eight bytes.
+     * @return This writer.
+     * @see ByteConversion#putDouble(byte[], int, double)
+     */
+    public ByteWriter writeDouble(double input) {
+        return writeDouble(input, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * @param input                Value to write as eight bytes.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return This writer.
+     * @see ByteConversion#putDouble(byte[], int, double, NumberRepresentation)
+     */
+    public ByteWriter writeDouble(double input, NumberRepresentation numberRepresentation) {
+        int index = advance(8);
+        if (array != null) {
+            ByteConversion.putDouble(array, index, input, numberRepresentation);
+        } else {
+            ByteConversion.putDouble(buffer, index, input, numberRepresentation);
+        }
+        return this;
+    }
+
+    /**
+     * @param input     Value to write as eight bytes.
+     * @param byteOrder Byte order of the bytes written.
+     * @return This writer.
+     * @see ByteConversion#putDouble(byte[], int, double, ByteOrder)
+     */
+    public ByteWriter writeDouble(double input, ByteOrder byteOrder) {
+        int index = advance(8);
+        if (array != null) {
+            ByteConversion.putDouble(array, index, input, byteOrder);
+        } else {
+            ByteConversion.putDouble(buffer, index, input, byteOrder);
+        }
+        return this;
+    }
+
+    /**
+     * @param input Value to write as {@code width} bytes of two's complement.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return This writer.
+     * @see ByteConversion#putSigned(byte[], int, int, long)
+     */
+    public ByteWriter writeSigned(long input, int width) {
+        return writeSigned(input, width, NumberRepresentation.TWOS_COMPLEMENT);
+    }
+
+    /**
+     * @param input                Value to write as {@code width} bytes.
+     * @param width                Number of bytes, between {@code 1} and {@code 8}.
+     * @param numberRepresentation How to represent the number in bytes.
+     * @return This writer.
+     * @see ByteConversion#putSigned(byte[], int, int, long, NumberRepresentation)
+     */
+    public ByteWriter writeSigned(long input, int width, NumberRepresentation numberRepresentation) {
+        checkRemaining(ByteConversion.checkWidth(width));
+        // Values that do not fit throw before anything is written.
+        if (array != null) {
+            ByteConversion.putSigned(array, position, width, input, numberRepresentation);
+        } else {
+            ByteConversion.putSigned(buffer, position, width, input, numberRepresentation);
+        }
+        position += width;
+        return this;
+    }
+
+    /**
+     * @param input Value to write as {@code width} bytes, interpreted as an unsigned number.
+     * @param width Number of bytes, between {@code 1} and {@code 8}.
+     * @return This writer.
+     * @see ByteConversion#putUnsigned(byte[], int, int, long)
+     */
+    public ByteWriter writeUnsigned(long input, int width) {
+        checkRemaining(ByteConversion.checkWidth(width));
+        if (array != null) {
+            ByteConversion.putUnsigned(array, position, width, input);
+        } else {
+            ByteConversion.putUnsigned(buffer, position, width, input);
+        }
+        position += width;
+        return this;
+    }
+
+    /**
+     * @param input      Value to write as sixteen bytes.
+     * @param uuidFormat How to represent the {@link UUID} in bytes.
+     * @return This writer.
+     * @see ByteConversion#putUUID(byte[], int, UUID, UUIDFormat)
+     */
+    public ByteWriter writeUUID(UUID input, UUIDFormat uuidFormat) {
+        checkRemaining(16);
+        return writeLong(ByteConversion.uuidHigh(input, uuidFormat)).writeLong(input.getLeastSignificantBits());
+    }
+
+    /**
+     * @param input Value to write in its order-preserving variable-length encoding.
+     * @return This writer.
+     * @see ByteConversion#putVarLong(byte[], int, long)
+     */
+    public ByteWriter writeVarLong(long input) {
+        int index = advance(ByteConversion.varLongSize(input));
+        if (array != null) {
+            ByteConversion.putVarLong(array, index, input);
+        } else {
+            ByteConversion.putVarLong(buffer, index, input);
+        }
+        return this;
+    }
+
+    /**
+     * @param input Value to write in its order-preserving unsigned variable-length encoding.
+     * @return This writer.
+     * @see ByteConversion#putUnsignedVarLong(byte[], int, long)
+     */
+    public ByteWriter writeUnsignedVarLong(long input) {
+        int index = advance(ByteConversion.unsignedVarLongSize(input));
+        if (array != null) {
+            ByteConversion.putUnsignedVarLong(array, index, input);
+        } else {
+            ByteConversion.putUnsignedVarLong(buffer, index, input);
+        }
+        return this;
+    }
+
+    /**
+     * @param input Value to write in its unsigned LEB128 encoding.
+     * @return This writer.
+     * @see ByteConversion#putLeb128(byte[], int, long)
+     */
+    public ByteWriter writeLeb128(long input) {
+        int index = advance(ByteConversion.leb128Size(input));
+        if (array != null) {
+            ByteConversion.putLeb128(array, index, input);
+        } else {
+            ByteConversion.putLeb128(buffer, index, input);
+        }
+        return this;
+    }
+
+    /**
+     * @param input Value to write in its ZigZag encoding.
+     * @return This writer.
+     * @see ByteConversion#putZigZag(byte[], int, long)
+     */
+    public ByteWriter writeZigZag(long input) {
+        return writeLeb128(ByteConversion.zigZag(input));
+    }
+
+    /**
+     * @param input         Value to write.
+     * @param instantFormat How to represent the {@link Instant} in bytes.
+     * @return This writer.
+     * @throws ArithmeticException Thrown when the input is out of range for an eight-byte format.
+     * @see ByteConversion#putInstant(byte[], int, Instant, InstantFormat)
+     */
+    public ByteWriter writeInstant(Instant input, InstantFormat instantFormat) {
+        checkRemaining(instantFormat.byteLength());
+        if (array != null) {
+            ByteConversion.putInstant(array, position, input, instantFormat);
+        } else {
+            ByteConversion.putInstant(buffer, position, input, instantFormat);
+        }
+        position += instantFormat.byteLength();
+        return this;
+    }
+
+    /**
+     * Write the UTF-8 bytes of a string. Its length is not written; use {@link #writeVarLong(long)} or similar to
+     * store it beforehand if the reader needs it, or {@link #writeTerminatedString(String, SortOrder)} instead.
+     *
+     * @param input Value to write.
+     * @return This writer.
+     */
+    public ByteWriter writeString(String input) {
+        return writeBytes(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param input     Value to write in the terminated encoding.
+     * @param sortOrder Sort order of the encoded field.
+     * @return This writer.
+     * @see ByteConversion#putTerminatedString(byte[], int, String, SortOrder)
+     */
+    public ByteWriter writeTerminatedString(String input, SortOrder sortOrder) {
+        int size = ByteConversion.terminatedStringSize(input);
+        int index = advance(size);
+        if (array != null) {
+            ByteConversion.putTerminatedString(array, index, input, sortOrder);
+        } else {
+            byte[] encoded = new byte[size];
+            ByteConversion.putTerminatedString(encoded, 0, input, sortOrder);
+            buffer.duplicate().position(index).put(encoded);
+        }
+        return this;
+    }
+
+    /**
+     * Write an IP address as four (IPv4) or sixteen (IPv6) bytes.
+     *
+     * @param input Value to write.
+     * @return This writer.
+     * @see ByteConversion#fromIPAddress(IPAddress)
+     */
+    public ByteWriter writeIPAddress(IPAddress input) {
+        if (input instanceof IPAddress6) {
+            checkRemaining(16);
+            IPAddress6 address = (IPAddress6) input;
+            return writeLong(address.getHigh()).writeLong(address.getLow());
+        }
+        return writeInt(((IPAddress4) input).getInt());
+    }
+
+    /**
+     * Move the position forward.
+     *
+     * @param n Number of bytes.
+     * @return The position before moving.
+     */
+    private int advance(int n) {
+        checkRemaining(n);
+        int index = position;
+        position += n;
+        return index;
+    }
+
+    private void checkRemaining(int n) {
+        Objects.checkFromIndexSize(position, n, end);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes;
+
+/**
+ * Reusable holder for the outcome of one of the {@code tryToX} methods of {@link ByteConversion}, which decode
+ * without throwing exceptions.
+ * <p>
+ * Each call overwrites the previous outcome, so a single instance can be reused for every row of a large batch.
+ * Decoding primitives stores them without boxing; use the getter matching the method called. When decoding failed
+ * the getters return zero or {@code null}, and {@link #getError()} describes the problem.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @param <T> Type of the decoded object, for the methods that decode objects.
+ */
+public final class DecodeResult<T> {
+    private boolean valid;
+    private long longValue;
+    private double doubleValue;
+    private T value;
+    private String error;
+
+    /**
+     * @return True when the last decoding succeeded.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * @return The reason the last decoding failed, or {@code null} when it succeeded.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return The decoded short, or zero.
+     */
+    public short getShort() {
+        return (short) longValue;
+    }
+
+    /**
+     * @return The decoded int, or zero.
+     */
+    public int getInt() {
+        return (int) longValue;
+    }
+
+    /**
+     * @return The decoded long, or zero.
+     */
+    public long getLong() {
+        return longValue;
+    }
+
+    /**
+     * @return The decoded float, or zero.
+     */
+    public float getFloat() {
+        return (float) doubleValue;
+    }
+
+    /**
+     * @return The decoded double, or zero.
+     */
+    public double getDouble() {
+        return doubleValue;
+    }
+
+    /**
+     * @return The decoded object, or {@code null}.
+     */
+    public T getValue() {
+        return value;
+    }
+
+    // The setters return the validity, so the decoding methods can end with them.
+
+    boolean setLong(long longValue) {
+        clear();
+        this.valid = true;
+        this.longValue = longValue;
+        return true;
+    }
+
+    boolean setDouble(double doubleValue) {
+        clear();
+        this.valid = true;
+        this.doubleValue = doubleValue;
+        return true;
+    }
+
+    boolean setValue(T value) {
+        clear();
+        this.valid = true;
+        this.value = value;
+        return true;
+    }
+
+    boolean fail(String error) {
+        clear();
+        this.error = error;
+        return false;
+    }
+
+    private void clear() {
+        valid = false;
+        longValue = 0;
+        doubleValue = 0;
+        value = null;
+        error = null;
+    }
+}
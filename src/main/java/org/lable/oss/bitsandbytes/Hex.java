@@ -15,14 +15,46 @@
  */
 package org.lable.oss.bitsandbytes;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
  * Convert hexadecimal string representations to byte arrays and vice versa.
  */
 public class Hex {
+    // Lookup tables of two characters per byte value (512 entries each).
+    static final char[] UPPER = table("0123456789ABCDEF");
+    static final char[] LOWER = table("0123456789abcdef");
+
+    // Reverse lookup table of the value of each ASCII character, or -1 for characters that are not hexadecimal digits.
+    static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            VALUES[UPPER[(i << 1) + 1]] = (byte) i;
+            VALUES[LOWER[(i << 1) + 1]] = (byte) i;
+        }
+    }
+
+    // Chunk size used when encoding to an Appendable.
+    static final int CHUNK = 512;
+
     Hex() {
         // Static utility class.
     }
 
+    static char[] table(String digits) {
+        char[] table = new char[512];
+        for (int i = 0; i < 256; i++) {
+            table[i << 1] = digits.charAt(i >>> 4);
+            table[(i << 1) + 1] = digits.charAt(i & 0x0F);
+        }
+        return table;
+    }
+
     /**
      * Convert a hexadecimal string representation of a byte array to that byte array. This method purposely ignores any
      * characters that are not part of {@code 0-9A-Fa-f}, so you can use spaces and any other punctuation deemed
@@ -41,7 +73,157 @@ public class Hex {
      * @return The corresponding byte array.
      */
     public static byte[] decode(String hexadecimal) {
-        return ByteVisualization.HEXADECIMAL.parse(hexadecimal);
+        return decode(hexadecimal, false);
+    }
+
+    /**
+     * Convert a hexadecimal string representation of a byte array to that byte array.
+     * <p>
+     * In lenient mode, this behaves like {@link #decode(String)}. In strict mode, the input must consist of an even
+     * number of hexadecimal digits, optionally preceded by {@code 0x}; any other character is rejected.
+     *
+     * @param hexadecimal Input string.
+     * @param strict      Whether to reject input that is not strictly hexadecimal.
+     * @return The corresponding byte array.
+     * @throws IllegalArgumentException Thrown in strict mode for input containing anything other than hexadecimal
+     *                                  digits, or an odd number of them.
+     */
+    public static byte[] decode(CharSequence hexadecimal, boolean strict) {
+        if (hexadecimal == null) {
+            if (strict) throw new IllegalArgumentException("Input cannot be null.");
+            return new byte[0];
+        }
+
+        int length = hexadecimal.length();
+        byte[] output = new byte[strict ? strictLength(hexadecimal, 0, length) : lenientLength(hexadecimal, 0, length)];
+        decode(hexadecimal, 0, length, output, 0, strict);
+        return output;
+    }
+
+    /**
+     * Decode a range of a hexadecimal string representation into an existing byte array. Characters that are not
+     * part of {@code 0-9A-Fa-f} are ignored, as in {@link #decode(String)}.
+     *
+     * @param src    Input characters.
+     * @param off    Start of the range to decode.
+     * @param len    Number of characters to decode.
+     * @param dst    Destination byte array.
+     * @param dstOff Position in {@code dst} of the first byte written.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when the input range lies outside of {@code src}, or when {@code dst}
+     *                                   lacks room for the decoded bytes.
+     */
+    public static int decode(CharSequence src, int off, int len, byte[] dst, int dstOff) {
+        return decode(src, off, len, dst, dstOff, false);
+    }
+
+    /**
+     * Decode a range of a hexadecimal string representation into an existing byte array.
+     *
+     * @param src    Input characters.
+     * @param off    Start of the range to decode.
+     * @param len    Number of characters to decode.
+     * @param dst    Destination byte array.
+     * @param dstOff Position in {@code dst} of the first byte written.
+     * @param strict Whether to reject input that is not strictly hexadecimal (see {@link #decode(CharSequence,
+     *               boolean)}).
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException  Thrown in strict mode for input containing anything other than hexadecimal
+     *                                   digits, or an odd number of them.
+     * @throws IndexOutOfBoundsException Thrown when the input range lies outside of {@code src}, or when {@code dst}
+     *                                   lacks room for the decoded bytes.
+     */
+    public static int decode(CharSequence src, int off, int len, byte[] dst, int dstOff, boolean strict) {
+        Objects.checkFromIndexSize(off, len, src.length());
+        return strict
+                ? decodeStrict(src, off, off + len, dst, dstOff)
+                : decodeLenient(src, off, off + len, dst, dstOff);
+    }
+
+    static int value(char c) {
+        return c < 128 ? VALUES[c] : -1;
+    }
+
+    // Skip leading white space, and the 0x prefix that may follow it.
+    static int skipPrefix(CharSequence src, int start, int end) {
+        while (start < end && src.charAt(start) <= ' ') start++;
+        if (end - start >= 2 && src.charAt(start) == '0') {
+            char x = src.charAt(start + 1);
+            if (x == 'x' || x == 'X') start += 2;
+        }
+        return start;
+    }
+
+    static int lenientLength(CharSequence src, int start, int end) {
+        return (countDigits(src, skipPrefix(src, start, end), end) + 1) >> 1;
+    }
+
+    static int countDigits(CharSequence src, int start, int end) {
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            if (value(src.charAt(i)) >= 0) digits++;
+        }
+        return digits;
+    }
+
+    static int strictLength(CharSequence src, int start, int end) {
+        int digits = end - skipStrictPrefix(src, start, end);
+        if ((digits & 1) != 0) {
+            throw new IllegalArgumentException("Expected an even number of hexadecimal digits, got " + digits + ".");
+        }
+        return digits >> 1;
+    }
+
+    static int skipStrictPrefix(CharSequence src, int start, int end) {
+        if (end - start >= 2 && src.charAt(start) == '0') {
+            char x = src.charAt(start + 1);
+            if (x == 'x' || x == 'X') return start + 2;
+        }
+        return start;
+    }
+
+    static int decodeLenient(CharSequence src, int start, int end, byte[] dst, int dstOff) {
+        start = skipPrefix(src, start, end);
+        int digits = countDigits(src, start, end);
+        Objects.checkFromIndexSize(dstOff, (digits + 1) >> 1, dst.length);
+
+        // With an odd number of digits, the first digit is treated as the low half of the first byte (i.e., the
+        // input is padded with a leading '0').
+        boolean high = (digits & 1) == 0;
+        int current = 0;
+        int j = dstOff;
+        for (int i = start; i < end; i++) {
+            int v = value(src.charAt(i));
+            // Skip anything that isn't one of the sixteen hex chars.
+            if (v < 0) continue;
+            if (high) {
+                current = v << 4;
+                high = false;
+            } else {
+                dst[j++] = (byte) (current | v);
+                high = true;
+            }
+        }
+        return j - dstOff;
+    }
+
+    static int decodeStrict(CharSequence src, int start, int end, byte[] dst, int dstOff) {
+        start = skipStrictPrefix(src, start, end);
+        int length = strictLength(src, start, end);
+        Objects.checkFromIndexSize(dstOff, length, dst.length);
+
+        int j = dstOff;
+        for (int i = start; i < end; i += 2) {
+            int high = value(src.charAt(i));
+            int low = value(src.charAt(i + 1));
+            if ((high | low) < 0) {
+                int index = high < 0 ? i : i + 1;
+                throw new IllegalArgumentException(
+                        "Invalid hexadecimal character '" + src.charAt(index) + "' at index " + index + ".");
+            }
+            dst[j++] = (byte) (high << 4 | low);
+        }
+        return j - dstOff;
     }
 
     /**
@@ -71,7 +253,7 @@ public class Hex {
      * @return A hexadecimal string, or "NULL" if the input is null.
      */
     public static String encode(byte[] input) {
-        return ByteVisualization.HEXADECIMAL.visualize(input);
+        return encode(input, false);
     }
 
     /**
@@ -82,9 +264,11 @@ public class Hex {
      * @return A hexadecimal string, or "NULL" if the input is null.
      */
     public static String encode(byte[] input, boolean lowerCase) {
-        return lowerCase
-                ? ByteVisualization.HEXADECIMAL_LOWER.visualize(input)
-                : ByteVisualization.HEXADECIMAL.visualize(input);
+        if (input == null) return "NULL";
+
+        char[] out = new char[input.length << 1];
+        encodeTo(input, 0, input.length, out, 0, lowerCase);
+        return new String(out);
     }
 
     /**
@@ -94,7 +278,7 @@ public class Hex {
      * @return A hexadecimal string, or "NULL" if the input is null.
      */
     public static String encode(byte input) {
-        return ByteVisualization.HEXADECIMAL.visualize(input);
+        return encode(input, false);
     }
 
     /**
@@ -105,8 +289,141 @@ public class Hex {
      * @return A hexadecimal string, or "NULL" if the input is null.
      */
     public static String encode(byte input, boolean lowerCase) {
-        return lowerCase
-                ? ByteVisualization.HEXADECIMAL_LOWER.visualize(input)
-                : ByteVisualization.HEXADECIMAL.visualize(input);
+        return new String(lowerCase ? LOWER : UPPER, (input & 0xFF) << 1, 2);
+    }
+
+    /**
+     * Encode a range of a byte array as hexadecimal characters, writing them into an existing character array.
+     *
+     * @param src    Input byte array.
+     * @param off    Start of the range to encode.
+     * @param len    Number of bytes to encode.
+     * @param dst    Destination character array; {@code 2 * len} characters are written.
+     * @param dstOff Position in {@code dst} of the first character written.
+     * @return The number of characters written.
+     * @throws IndexOutOfBoundsException Thrown when either range lies outside of its array.
+     */
+    public static int encodeTo(byte[] src, int off, int len, char[] dst, int dstOff) {
+        return encodeTo(src, off, len, dst, dstOff, false);
+    }
+
+    /**
+     * Encode a range of a byte array as hexadecimal characters, writing them into an existing character array.
+     *
+     * @param src       Input byte array.
+     * @param off       Start of the range to encode.
+     * @param len       Number of bytes to encode.
+     * @param dst       Destination character array; {@code 2 * len} characters are written.
+     * @param dstOff    Position in {@code dst} of the first character written.
+     * @param lowerCase Whether to use lowercase for the letters a through f, or not (i.e., use uppercase).
+     * @return The number of characters written.
+     * @throws IndexOutOfBoundsException Thrown when either range lies outside of its array.
+     */
+    public static int encodeTo(byte[] src, int off, int len, char[] dst, int dstOff, boolean lowerCase) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        Objects.checkFromIndexSize(dstOff, len << 1, dst.length);
+
+        final char[] table = lowerCase ? LOWER : UPPER;
+        int j = dstOff;
+        for (int i = off; i < off + len; i++) {
+            int index = (src[i] & 0xFF) << 1;
+            dst[j++] = table[index];
+            dst[j++] = table[index + 1];
+        }
+        return len << 1;
+    }
+
+    /**
+     * Encode a range of a byte array as hexadecimal characters, writing them as ASCII (or Latin-1, or UTF-8, as
+     * these are all identical for the characters involved) bytes into an existing byte array.
+     *
+     * @param src    Input byte array.
+     * @param off    Start of the range to encode.
+     * @param len    Number of bytes to encode.
+     * @param dst    Destination byte array; {@code 2 * len} bytes are written.
+     * @param dstOff Position in {@code dst} of the first byte written.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when either range lies outside of its array.
+     */
+    public static int encodeTo(byte[] src, int off, int len, byte[] dst, int dstOff) {
+        return encodeTo(src, off, len, dst, dstOff, false);
+    }
+
+    /**
+     * Encode a range of a byte array as hexadecimal characters, writing them as ASCII (or Latin-1, or UTF-8, as
+     * these are all identical for the characters involved) bytes into an existing byte array.
+     *
+     * @param src       Input byte array.
+     * @param off       Start of the range to encode.
+     * @param len       Number of bytes to encode.
+     * @param dst       Destination byte array; {@code 2 * len} bytes are written.
+     * @param dstOff    Position in {@code dst} of the first byte written.
+     * @param lowerCase Whether to use lowercase for the letters a through f, or not (i.e., use uppercase).
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException Thrown when either range lies outside of its array.
+     */
+    public static int encodeTo(byte[] src, int off, int len, byte[] dst, int dstOff, boolean lowerCase) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        Objects.checkFromIndexSize(dstOff, len << 1, dst.length);
+
+        final char[] table = lowerCase ? LOWER : UPPER;
+        int j = dstOff;
+        for (int i = off; i < off + len; i++) {
+            int index = (src[i] & 0xFF) << 1;
+            dst[j++] = (byte) table[index];
+            dst[j++] = (byte) table[index + 1];
+        }
+        return len << 1;
+    }
+
+    /**
+     * Encode a range of a byte array as hexadecimal characters, appending them to an {@link Appendable} such as a
+     * {@link StringBuilder} or a {@link java.io.Writer}.
+     *
+     * @param src Input byte array.
+     * @param off Start of the range to encode.
+     * @param len Number of bytes to encode.
+     * @param dst Destination.
+     * @throws IOException               Thrown when appending to {@code dst} fails.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}.
+     */
+    public static void encodeTo(byte[] src, int off, int len, Appendable dst) throws IOException {
+        encodeTo(src, off, len, dst, false);
+    }
+
+    /**
+     * Encode a range of a byte array as hexadecimal characters, appending them to an {@link Appendable} such as a
+     * {@link StringBuilder} or a {@link java.io.Writer}.
+     *
+     * @param src       Input byte array.
+     * @param off       Start of the range to encode.
+     * @param len       Number of bytes to encode.
+     * @param dst       Destination.
+     * @param lowerCase Whether to use lowercase for the letters a through f, or not (i.e., use uppercase).
+     * @throws IOException               Thrown when appending to {@code dst} fails.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}.
+     */
+    public static void encodeTo(byte[] src, int off, int len, Appendable dst, boolean lowerCase)
+            throws IOException {
+        Objects.checkFromIndexSize(off, len, src.length);
+
+        if (dst instanceof StringBuilder) {
+            StringBuilder builder = (StringBuilder) dst;
+            builder.ensureCapacity(builder.length() + (len << 1));
+        }
+
+        // Encode in chunks, so large inputs don't require a character array of twice their size.
+        char[] chunk = new char[Math.min(len, CHUNK) << 1];
+        CharBuffer chunkBuffer = CharBuffer.wrap(chunk);
+        int end = off + len;
+        for (int i = off; i < end; i += CHUNK) {
+            int n = Math.min(CHUNK, end - i);
+            int written = encodeTo(src, i, n, chunk, 0, lowerCase);
+            if (dst instanceof StringBuilder) {
+                ((StringBuilder) dst).append(chunk, 0, written);
+            } else {
+                dst.append(chunkBuffer, 0, written);
+            }
+        }
     }
 }
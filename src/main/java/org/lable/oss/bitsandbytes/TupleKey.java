@@ -0,0 +1,712 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes;
+
+import org.lable.oss.bitsandbytes.ByteConversion.SortOrder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT;
+import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING;
+import static org.lable.oss.bitsandbytes.ByteConversion.SortOrder.ASCENDING;
+import static org.lable.oss.bitsandbytes.ByteConversion.SortOrder.DESCENDING;
+
+/**
+ * Schema and codec for composite keys made up of several typed fields, such as row keys. The unsigned byte order of
+ * an encoded key matches the order of its fields compared one by one, each field either ascending or descending.
+ * <p>
+ * Numbers and dates use fixed-width sortable encodings. Strings (as UTF-8) and byte arrays use the self-delimiting
+ * encoding of {@link ByteConversion#fromTerminated(byte[], SortOrder)}. Descending fields store the bitwise complement
+ * of their ascending encoding.
+ * <p>
+ * Keys are encoded into a single buffer of the exact size. {@link #decode(byte[])} returns a {@link Tuple} that
+ * locates fields only when they are read, and decodes only the fields that are read.
+ *
+ * <pre>{@code
+ * TupleKey schema = TupleKey.builder()
+ *         .field("tenant", TupleKey.FieldType.STRING)
+ *         .field("timestamp", TupleKey.FieldType.LONG, SortOrder.DESCENDING)
+ *         .build();
+ * byte[] key = schema.encode("acme", System.currentTimeMillis());
+ * long timestamp = schema.decode(key).getLong("timestamp");
+ * }</pre>
+ */
+public class TupleKey {
+    private final String[] names;
+    private final FieldType[] types;
+    private final SortOrder[] orders;
+
+    TupleKey(String[] names, FieldType[] types, SortOrder[] orders) {
+        this.names = names;
+        this.types = types;
+        this.orders = orders;
+    }
+
+    /**
+     * Start defining a tuple key schema.
+     *
+     * @return A schema builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return The number of fields in this schema.
+     */
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * Find a field by its name.
+     *
+     * @param name Field name.
+     * @return The position of the field in this schema.
+     * @throws IllegalArgumentException Thrown when there is no field by that name.
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) return i;
+        }
+        throw new IllegalArgumentException("No field named " + name + " in this schema.");
+    }
+
+    /**
+     * @param index Field position.
+     * @return The type of the field.
+     */
+    public FieldType getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * @param index Field position.
+     * @return The sort order of the field.
+     */
+    public SortOrder getOrder(int index) {
+        return orders[index];
+    }
+
+    /**
+     * Encode a key. Values are passed in schema order. Passing fewer values than the schema has fields encodes a
+     * prefix of the key, which is useful as the start or stop row of a scan.
+     *
+     * @param values Field values. Must not contain {@code null}.
+     * @return The encoded key.
+     * @throws IllegalArgumentException Thrown when there are too many values, or a value is null or does not match
+     *                                  the type of its field.
+     */
+    public byte[] encode(Object... values) {
+        byte[] out = new byte[encodedSize(values)];
+        encodeTo(out, 0, values);
+        return out;
+    }
+
+    /**
+     * Encode a key into an existing byte array.
+     *
+     * @param dst    Destination byte array.
+     * @param offset Position in {@code dst} of the first byte written.
+     * @param values Field values. Must not contain {@code null}.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException  Thrown when there are too many values, or a value is null or does not match
+     *                                   the type of its field.
+     * @throws IndexOutOfBoundsException Thrown when {@code dst} lacks room for the encoded key at {@code offset}.
+     * @see #encodedSize(Object...)
+     */
+    public int encodeTo(byte[] dst, int offset, Object... values) {
+        Objects.checkFromIndexSize(offset, encodedSize(values), dst.length);
+        int position = offset;
+        for (int i = 0; i < values.length; i++) {
+            position = write(i, values[i], dst, position);
+        }
+        return position - offset;
+    }
+
+    /**
+     * Determine the exact length in bytes of an encoded key.
+     *
+     * @param values Field values. Must not contain {@code null}.
+     * @return Length of the encoded key.
+     * @throws IllegalArgumentException Thrown when there are too many values, or a value is null or does not match
+     *                                  the type of its field.
+     */
+    public int encodedSize(Object... values) {
+        if (values.length > types.length) {
+            throw new IllegalArgumentException("Expected at most " + types.length + " values, got " + values.length);
+        }
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            size += sizeOf(i, values[i]);
+        }
+        return size;
+    }
+
+    /**
+     * Wrap an encoded key for reading its fields. Nothing is decoded or copied until a field is read.
+     *
+     * @param key Encoded key.
+     * @return A tuple backed by {@code key}.
+     */
+    public Tuple decode(byte[] key) {
+        return decode(key, 0, key.length);
+    }
+
+    /**
+     * Wrap an encoded key stored in part of a byte array for reading its fields. Nothing is decoded or copied until a
+     * field is read.
+     *
+     * @param src    Source byte array.
+     * @param offset Position in {@code src} of the first byte of the key.
+     * @param length Length of the key.
+     * @return A tuple backed by {@code src}.
+     * @throws IndexOutOfBoundsException Thrown when the range lies outside of {@code src}.
+     */
+    public Tuple decode(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        return new Tuple(src, offset, offset + length);
+    }
+
+    int sizeOf(int index, Object value) {
+        checkType(index, value);
+        switch (types[index]) {
+            case STRING:
+                return ByteConversion.terminatedStringSize((String) value);
+            case BYTES:
+                return ByteConversion.terminatedSize((byte[]) value);
+            case VAR_LONG:
+                return ByteConversion.varLongSize((Long) value);
+            case DECIMAL:
+                return ByteConversion.bigDecimalSize((BigDecimal) value);
+            default:
+                return types[index].width;
+        }
+    }
+
+    int write(int index, Object value, byte[] dst, int position) {
+        ByteConversion.NumberRepresentation representation = representation(index);
+        switch (types[index]) {
+            case STRING:
+                return position + ByteConversion.putTerminatedString(dst, position, (String) value, orders[index]);
+            case BYTES:
+                return position + ByteConversion.putTerminated(dst, position, (byte[]) value, orders[index]);
+            case INT:
+                ByteConversion.putInt(dst, position, (Integer) value, representation);
+                return position + 4;
+            case LONG:
+                ByteConversion.putLong(dst, position, (Long) value, representation);
+                return position + 8;
+            case VAR_LONG:
+                // The complement of the encoding of v is the encoding of ~v.
+                long l = (Long) value;
+                return position + ByteConversion.putVarLong(dst, position, orders[index] == DESCENDING ? ~l : l);
+            case DECIMAL:
+                return position + ByteConversion.putBigDecimal(dst, position, (BigDecimal) value, orders[index]);
+            case FLOAT:
+                ByteConversion.putFloat(dst, position, (Float) value, representation);
+                return position + 4;
+            case DOUBLE:
+                ByteConversion.putDouble(dst, position, (Double) value, representation);
+                return position + 8;
+            case INSTANT:
+                ByteConversion.putInstant(dst, position, (Instant) value, representation);
+                return position + 12;
+            case LOCAL_DATE:
+                long epochDay = ((LocalDate) value).toEpochDay();
+                if ((int) epochDay != epochDay) {
+                    throw new IllegalArgumentException("Date out of range for a tuple key: " + value);
+                }
+                ByteConversion.putInt(dst, position, (int) epochDay, representation);
+                return position + 4;
+            default:
+                throw new IllegalStateException("Unknown field type " + types[index]);
+        }
+    }
+
+    private void checkType(int index, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value for field " + names[index] + " may not be null.");
+        }
+        if (!types[index].javaType.isInstance(value)) {
+            throw new IllegalArgumentException("Value for field " + names[index] + " must be of type "
+                    + types[index].javaType.getSimpleName() + ", got " + value.getClass().getSimpleName());
+        }
+    }
+
+    private ByteConversion.NumberRepresentation representation(int index) {
+        return orders[index] == DESCENDING ? LEXICOGRAPHIC_SORT_DESCENDING : LEXICOGRAPHIC_SORT;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("TupleKey(");
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(names[i]).append(' ').append(types[i]);
+            if (orders[i] == DESCENDING) sb.append(" DESC");
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * A key decoded according to a {@link TupleKey} schema. Field boundaries are found on demand, up to the field
+     * read, and only the fields read are decoded.
+     */
+    public class Tuple {
+        private final byte[] src;
+        private final int end;
+        // Start of every field; the entry after the last located field marks its end.
+        private final int[] starts;
+        private int located;
+
+        Tuple(byte[] src, int offset, int end) {
+            this.src = src;
+            this.end = end;
+            this.starts = new int[types.length + 1];
+            this.starts[0] = offset;
+        }
+
+        /**
+         * @param index Field position.
+         * @return True if the key contains this field, which is not the case for prefix keys.
+         */
+        public boolean has(int index) {
+            return index < types.length && locate(index) < end;
+        }
+
+        /**
+         * @param index Field position.
+         * @return Position in the backing array of the first byte of the field.
+         */
+        public int fieldOffset(int index) {
+            return locate(index);
+        }
+
+        /**
+         * @param index Field position.
+         * @return Length of the encoded field in bytes, including any terminator.
+         */
+        public int fieldLength(int index) {
+            locate(index + 1);
+            return starts[index + 1] - starts[index];
+        }
+
+        /**
+         * Decode a field of type {@link FieldType#STRING} as a string.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         * @throws IllegalArgumentException Thrown when the field is of another type.
+         */
+        public String getString(int index) {
+            checkType(index, FieldType.STRING);
+            return ByteConversion.getTerminatedString(src, locatePresent(index), orders[index]);
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #getString(int)
+         */
+        public String getString(String name) {
+            return getString(indexOf(name));
+        }
+
+        /**
+         * Decode a field of type {@link FieldType#BYTES} as a byte array.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         * @throws IllegalArgumentException Thrown when the field is of another type.
+         */
+        public byte[] getBytes(int index) {
+            checkType(index, FieldType.BYTES);
+            return ByteConversion.getTerminated(src, locatePresent(index), orders[index]);
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #getBytes(int)
+         */
+        public byte[] getBytes(String name) {
+            return getBytes(indexOf(name));
+        }
+
+        /**
+         * Decode a field of type {@link FieldType#INT} as an int.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         * @throws IllegalArgumentException Thrown when the field is of another type.
+         */
+        public int getInt(int index) {
+            checkType(index, FieldType.INT);
+            return ByteConversion.getInt(src, locateFixed(index), representation(index));
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #getInt(int)
+         */
+        public int getInt(String name) {
+            return getInt(indexOf(name));
+        }
+
+        /**
+         * Decode a field of type {@link FieldType#LONG} or {@link FieldType#VAR_LONG} as a long.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         * @throws IllegalArgumentException Thrown when the field is of another type.
+         */
+        public long getLong(int index) {
+            if (types[index] == FieldType.VAR_LONG) {
+                long value = ByteConversion.getVarLong(src, locatePresent(index));
+                return orders[index] == DESCENDING ? ~value : value;
+            }
+            checkType(index, FieldType.LONG);
+            return ByteConversion.getLong(src, locateFixed(index), representation(index));
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #getLong(int)
+         */
+        public long getLong(String name) {
+            return getLong(indexOf(name));
+        }
+
+        /**
+         * Decode a field of type {@link FieldType#DECIMAL} as a {@link BigDecimal}, without trailing zeros.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         * @throws IllegalArgumentException Thrown when the field is of another type.
+         */
+        public BigDecimal getBigDecimal(int index) {
+            checkType(index, FieldType.DECIMAL);
+            return ByteConversion.getBigDecimal(src, locatePresent(index), orders[index]);
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #getBigDecimal(int)
+         */
+        public BigDecimal getBigDecimal(String name) {
+            return getBigDecimal(indexOf(name));
+        }
+
+        /**
+         * Decode a field of type {@link FieldType#FLOAT} as a float.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         * @throws IllegalArgumentException Thrown when the field is of another type.
+         */
+        public float getFloat(int index) {
+            checkType(index, FieldType.FLOAT);
+            return ByteConversion.getFloat(src, locateFixed(index), representation(index));
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #getFloat(int)
+         */
+        public float getFloat(String name) {
+            return getFloat(indexOf(name));
+        }
+
+        /**
+         * Decode a field of type {@link FieldType#DOUBLE} as a double.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         * @throws IllegalArgumentException Thrown when the field is of another type.
+         */
+        public double getDouble(int index) {
+            checkType(index, FieldType.DOUBLE);
+            return ByteConversion.getDouble(src, locateFixed(index), representation(index));
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #getDouble(int)
+         */
+        public double getDouble(String name) {
+            return getDouble(indexOf(name));
+        }
+
+        /**
+         * Decode a field of type {@link FieldType#INSTANT} as an {@link Instant}.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         * @throws IllegalArgumentException Thrown when the field is of another type.
+         */
+        public Instant getInstant(int index) {
+            checkType(index, FieldType.INSTANT);
+            return ByteConversion.getInstant(src, locateFixed(index), representation(index));
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #getInstant(int)
+         */
+        public Instant getInstant(String name) {
+            return getInstant(indexOf(name));
+        }
+
+        /**
+         * Decode a field of type {@link FieldType#LOCAL_DATE} as a {@link LocalDate}.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         * @throws IllegalArgumentException Thrown when the field is of another type.
+         */
+        public LocalDate getLocalDate(int index) {
+            checkType(index, FieldType.LOCAL_DATE);
+            return LocalDate.ofEpochDay(ByteConversion.getInt(src, locateFixed(index), representation(index)));
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #getLocalDate(int)
+         */
+        public LocalDate getLocalDate(String name) {
+            return getLocalDate(indexOf(name));
+        }
+
+        /**
+         * Decode a field as the Java type of its {@link FieldType}.
+         *
+         * @param index Field position.
+         * @return The decoded value.
+         */
+        public Object get(int index) {
+            switch (types[index]) {
+                case STRING:
+                    return getString(index);
+                case BYTES:
+                    return getBytes(index);
+                case INT:
+                    return getInt(index);
+                case LONG:
+                case VAR_LONG:
+                    return getLong(index);
+                case DECIMAL:
+                    return getBigDecimal(index);
+                case FLOAT:
+                    return getFloat(index);
+                case DOUBLE:
+                    return getDouble(index);
+                case INSTANT:
+                    return getInstant(index);
+                case LOCAL_DATE:
+                    return getLocalDate(index);
+                default:
+                    throw new IllegalStateException("Unknown field type " + types[index]);
+            }
+        }
+
+        /**
+         * @param name Field name.
+         * @return The decoded value.
+         * @see #get(int)
+         */
+        public Object get(String name) {
+            return get(indexOf(name));
+        }
+
+        private void checkType(int index, FieldType expected) {
+            if (types[index] != expected) {
+                throw new IllegalArgumentException("Field " + names[index] + " is of type " + types[index]
+                        + ", not " + expected);
+            }
+        }
+
+        private int locateFixed(int index) {
+            int start = locatePresent(index);
+            Objects.checkFromIndexSize(start, types[index].width, end);
+            return start;
+        }
+
+        private int locatePresent(int index) {
+            int start = locate(index);
+            if (start >= end) {
+                throw new IndexOutOfBoundsException("Field " + names[index] + " is not present in this key.");
+            }
+            return start;
+        }
+
+        /**
+         * Find the start of a field, locating all fields before it that were not located yet.
+         */
+        private int locate(int index) {
+            Objects.checkIndex(index, starts.length);
+            while (located < index) {
+                int start = starts[located];
+                int next;
+                if (start >= end) {
+                    // Prefix key; this field and all after it are absent.
+                    starts[++located] = end;
+                    continue;
+                }
+                switch (types[located]) {
+                    case STRING:
+                    case BYTES:
+                        next = start + ByteConversion.getTerminatedSize(src, start, orders[located]);
+                        break;
+                    case VAR_LONG:
+                        next = start + ByteConversion.getVarLongSize(src, start);
+                        break;
+                    case DECIMAL:
+                        next = start + ByteConversion.getBigDecimalSize(src, start, orders[located]);
+                        break;
+                    default:
+                        next = start + types[located].width;
+                }
+                starts[++located] = Math.min(next, end);
+            }
+            return starts[index];
+        }
+    }
+
+    /**
+     * Builder for {@link TupleKey} schemas.
+     */
+    public static class Builder {
+        private final List<String> names = new ArrayList<>();
+        private final List<FieldType> types = new ArrayList<>();
+        private final List<SortOrder> orders = new ArrayList<>();
+
+        Builder() {
+        }
+
+        /**
+         * Add an ascending field.
+         *
+         * @param name Field name.
+         * @param type Field type.
+         * @return This builder.
+         */
+        public Builder field(String name, FieldType type) {
+            return field(name, type, ASCENDING);
+        }
+
+        /**
+         * Add a field.
+         *
+         * @param name  Field name.
+         * @param type  Field type.
+         * @param order Sort order of the field.
+         * @return This builder.
+         * @throws IllegalArgumentException Thrown when an argument is null, or the name is already in use.
+         */
+        public Builder field(String name, FieldType type, SortOrder order) {
+            if (name == null || type == null || order == null) {
+                throw new IllegalArgumentException("Field name, type, and order may not be null.");
+            }
+            if (names.contains(name)) {
+                throw new IllegalArgumentException("Duplicate field name " + name);
+            }
+            names.add(name);
+            types.add(type);
+            orders.add(order);
+            return this;
+        }
+
+        /**
+         * @return The schema.
+         */
+        public TupleKey build() {
+            return new TupleKey(
+                    names.toArray(new String[0]),
+                    types.toArray(new FieldType[0]),
+                    orders.toArray(new SortOrder[0])
+            );
+        }
+    }
+
+    /**
+     * Types of tuple key fields, and their encoding.
+     */
+    public enum FieldType {
+        /**
+         * {@link String}, stored as escaped and terminated UTF-8.
+         */
+        STRING(String.class, -1),
+        /**
+         * {@code byte[]}, stored escaped and terminated.
+         */
+        BYTES(byte[].class, -1),
+        /**
+         * {@link Integer}, stored as four sortable bytes.
+         */
+        INT(Integer.class, 4),
+        /**
+         * {@link Long}, stored as eight sortable bytes.
+         */
+        LONG(Long.class, 8),
+        /**
+         * {@link Long}, stored in the order-preserving variable-length encoding of
+         * {@link ByteConversion#fromVarLong(long)}.
+         */
+        VAR_LONG(Long.class, -1),
+        /**
+         * {@link BigDecimal}, stored in the order-preserving variable-length encoding of
+         * {@link ByteConversion#fromBigDecimal(BigDecimal, ByteConversion.NumberRepresentation)}.
+         */
+        DECIMAL(BigDecimal.class, -1),
+        /**
+         * {@link Float}, stored as four sortable bytes.
+         */
+        FLOAT(Float.class, 4),
+        /**
+         * {@link Double}, stored as eight sortable bytes.
+         */
+        DOUBLE(Double.class, 8),
+        /**
+         * {@link Instant}, stored as twelve sortable bytes.
+         */
+        INSTANT(Instant.class, 12),
+        /**
+         * {@link LocalDate}, stored as the sortable epoch day in four bytes.
+         */
+        LOCAL_DATE(LocalDate.class, 4);
+
+        final Class<?> javaType;
+        final int width;
+
+        FieldType(Class<?> javaType, int width) {
+            this.javaType = javaType;
+            this.width = width;
+        }
+    }
+}
@@ -19,9 +19,12 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteOrder;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -89,4 +92,108 @@ public class ByteArrayBuilderTest {
                 is(ByteArray.ofByte((byte) 65).append('A').appendEncoded("\\x00").toByteArray())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void primitiveTest() {
+        assertThat(ByteArray.ofInt(1).appendLong(-1L)
+                        .appendInt(2, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT)
+                        .appendFloat(1.0f).appendDouble(1.0d).toArray(),
+                is(Hex.decode("00000001 ffffffffffffffff 80000002 3f800000 3ff0000000000000")));
+
+        assertThat(ByteArray.ofInt(1).appendInt(2, ByteOrder.LITTLE_ENDIAN).appendLong(-1L, ByteOrder.LITTLE_ENDIAN)
+                        .appendFloat(1.0f, ByteOrder.LITTLE_ENDIAN).appendDouble(1.0d, ByteOrder.BIG_ENDIAN).toArray(),
+                is(Hex.decode("00000001 02000000 ffffffffffffffff 0000803f 3ff0000000000000")));
+
+        assertThat(ByteArray.startWithEmpty().appendSigned(-1L, 3).appendUnsigned(65535L, 2)
+                        .appendSigned(-1L, 2, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT).toArray(),
+                is(Hex.decode("ffffff ffff 7fff")));
+
+        assertThat(ByteArray.of(UUID.fromString("c232ab00-9414-11ec-b3c8-9f6bdeced846"))
+                        .append(UUID.fromString("c232ab00-9414-11ec-b3c8-9f6bdeced846"),
+                                ByteConversion.UUIDFormat.TIME_ORDERED)
+                        .append((UUID) null).toArray(),
+                is(Hex.decode("c232ab00941411ecb3c89f6bdeced846 1ec9414c232a1b00b3c89f6bdeced846")));
+
+        assertThat(ByteArray.ofLong(-1L, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT).toArray(),
+                is(Hex.decode("7fffffffffffffff")));
+
+        assertThat(ByteArray.of(-1.0f, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT)
+                        .appendDouble(1.0d, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT)
+                        .append((Double) null, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT).toArray(),
+                is(Hex.decode("407fffff bff0000000000000")));
+
+        assertThat(ByteArray.ofLong(1L, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING)
+                        .append(Instant.EPOCH, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING)
+                        .toArray(),
+                is(Hex.decode("7ffffffffffffffe 7fffffffffffffff 7fffffff")));
+
+        assertThat(ByteArray.startWithEmpty().append(Instant.EPOCH, ByteConversion.InstantFormat.EPOCH_MILLIS_8)
+                        .toArray(),
+                is(Hex.decode("8000000000000000")));
+
+        assertThat(ByteArray.startWithEmpty().appendVarLong(-1L).appendVarLong(2160L).appendUnsignedVarLong(241L)
+                        .toArray(),
+                is(Hex.decode("7f f80000 f101")));
+
+        assertThat(ByteArray.startWithEmpty().appendLeb128(300L).appendZigZag(-1L).toArray(), is(Hex.decode("ac02 01")));
+
+        assertThat(ByteArray.startWithEmpty().appendTerminated("a").appendTerminated(Hex.decode("00"))
+                        .appendTerminated("a", ByteConversion.SortOrder.DESCENDING)
+                        .appendTerminated((String) null).toArray(),
+                is(Hex.decode("61 0001 00ff 0001 9e fffe")));
+
+        assertThat(ByteArray.startWithEmpty()
+                        .append(ZonedDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC), ByteConversion.ZoneFormat.COMPACT)
+                        .toArray(),
+                is(Hex.decode("000000000000000000000000 0200")));
+
+        assertThat(ByteArray.of(BigDecimal.ONE, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT)
+                        .append(BigDecimal.ONE, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING)
+                        .append(BigInteger.ONE, ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT).toArray(),
+                is(Hex.decode("c08102 3f7efd c08102")));
+    }
+
+    @Test
+    public void epochDayTest() {
+        assertThat(ByteArray.of(LocalDate.ofEpochDay(0), ByteConversion.ISO8601DateFormat.EPOCH_DAY)
+                        .append(LocalDate.of(1999, 12, 31), ByteConversion.ISO8601DateFormat.BASIC).toArray(),
+                is(Hex.decode("80000000 3139393931323331")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void epochDayOutOfRangeTest() {
+        ByteArray.startWithEmpty().append(LocalDate.MAX, ByteConversion.ISO8601DateFormat.EPOCH_DAY);
+    }
+
+    @Test
+    public void rangeTest() {
+        assertThat(ByteArray.startWithEmpty().append(Hex.decode("00010203"), 1, 2).toArray(), is(Hex.decode("0102")));
+        assertThat(ByteArray.startWithEmpty().append(null, 1, 2).toArray().length, is(0));
+    }
+
+    @Test
+    public void growTest() {
+        byte[] large = new byte[1000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) i;
+        }
+
+        // Start without room, and force the buffer to grow repeatedly.
+        ByteArrayBuilder builder = ByteArray.startWithCapacity(0);
+        for (byte b : large) {
+            builder.appendByte(b);
+        }
+        assertThat(builder.toArray(), is(large));
+
+        builder = ByteArray.startWithCapacity(1).append(large).append(large);
+        assertThat(builder.toArray(), is(ByteMangler.add(large, large)));
+
+        // The builder remains usable after returning its value.
+        assertThat(builder.appendZeroByte().toArray().length, is(2001));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCapacityTest() {
+        ByteArray.startWithCapacity(-1);
+    }
+}
@@ -70,4 +70,63 @@ public class ByteArrayTest {
 
         assertThat(ba.get().length, is(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void sliceTest() {
+        byte[] blob = ByteConversion.fromString("xxtestxx");
+        ByteArray slice = new ByteArray(blob, 2, 4);
+
+        assertThat(slice.length(), is(4));
+        assertThat(slice.getOffset(), is(2));
+        assertThat(slice.getBackingArray() == blob, is(true));
+        assertThat(slice.get(), is("test".getBytes()));
+
+        ByteArray whole = new ByteArray(ByteConversion.fromString("test"));
+        assertThat(slice, is(whole));
+        assertThat(whole, is(slice));
+        assertThat(slice.hashCode(), is(whole.hashCode()));
+        assertThat(slice.compareTo(whole), is(0));
+
+        Map<ByteArray, String> map = new HashMap<>();
+        map.put(whole, "test");
+        assertThat(map.get(slice), is("test"));
+
+        assertThat(slice.slice(1, 3), is(new ByteArray("es".getBytes())));
+        assertThat(new ByteArray(blob).slice(0, 0), is(ByteArray.empty()));
+        assertThat(new ByteArray(blob).slice(0, 8).get() == blob, is(true));
+    }
+
+    @Test
+    public void copyTest() {
+        byte[] blob = ByteConversion.fromString("xxtestxx");
+        ByteArray copy = new ByteArray(blob, 2, 4).copy();
+
+        assertThat(copy.getBackingArray().length, is(4));
+        assertThat(copy.getOffset(), is(0));
+        assertThat(copy.get(), is("test".getBytes()));
+
+        // Changes to the original backing array do not affect the copy.
+        blob[2] = 'b';
+        assertThat(copy.get(), is("test".getBytes()));
+    }
+
+    @Test
+    public void compareToTest() {
+        ByteArray a = new ByteArray(Hex.decode("00 7f 80 ff"));
+
+        assertThat(a.slice(0, 1).compareTo(a.slice(1, 2)) < 0, is(true));
+        assertThat(a.slice(2, 3).compareTo(a.slice(1, 2)) > 0, is(true));
+        assertThat(a.slice(3, 4).compareTo(a.slice(2, 4)) > 0, is(true));
+        assertThat(a.slice(2, 3).compareTo(a.slice(2, 4)) < 0, is(true));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void sliceOutOfBoundsTest() {
+        new ByteArray(new byte[4], 1, 2).slice(0, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void constructorOutOfBoundsTest() {
+        new ByteArray(new byte[4], 3, 2);
+    }
+}
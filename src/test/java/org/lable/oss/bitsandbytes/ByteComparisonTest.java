@@ -17,10 +17,15 @@ package org.lable.oss.bitsandbytes;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.lable.oss.bitsandbytes.ByteComparison.compare;
 import static org.lable.oss.bitsandbytes.ByteComparison.contains;
 import static org.lable.oss.bitsandbytes.ByteComparison.endsWith;
+import static org.lable.oss.bitsandbytes.ByteComparison.indexOf;
+import static org.lable.oss.bitsandbytes.ByteComparison.lastIndexOf;
 import static org.lable.oss.bitsandbytes.ByteComparison.startsWith;
 
 public class ByteComparisonTest {
@@ -79,6 +84,33 @@ public class ByteComparisonTest {
         assertThat(contains(in, in), is(true));
     }
 
+    @Test
+    public void indexOfTest() {
+        assertThat(indexOf(null, null), is(-1));
+        assertThat(indexOf(new byte[0], null), is(-1));
+        assertThat(indexOf(null, new byte[0]), is(-1));
+        assertThat(indexOf(new byte[0], new byte[0]), is(0));
+
+        assertThat(indexOf(new byte[]{1,2,3,4,5}, new byte[]{1,2,3,4,5,6}), is(-1));
+        assertThat(indexOf(new byte[]{1,2,3,4,5}, new byte[]{3,4}), is(2));
+        assertThat(indexOf(new byte[]{1,2,3,4,5}, new byte[]{3,4,5,5}), is(-1));
+        assertThat(indexOf(new byte[]{1,2,1,2,1}, new byte[]{1,2}, 1), is(2));
+        assertThat(indexOf(new byte[]{1,2,1,2,1}, new byte[]{1,2}, 3), is(-1));
+        assertThat(indexOf(new byte[]{1,2,1,2,1}, new byte[]{1,2}, -3), is(0));
+    }
+
+    @Test
+    public void lastIndexOfTest() {
+        assertThat(lastIndexOf(null, null), is(-1));
+        assertThat(lastIndexOf(new byte[0], null), is(-1));
+        assertThat(lastIndexOf(null, new byte[0]), is(-1));
+        assertThat(lastIndexOf(new byte[0], new byte[0]), is(0));
+
+        assertThat(lastIndexOf(new byte[]{1,2,1,2,1}, new byte[]{1,2}), is(2));
+        assertThat(lastIndexOf(new byte[]{1,2,1,2,1}, new byte[]{1,2}, 1), is(0));
+        assertThat(lastIndexOf(new byte[]{1,2,1,2,1}, new byte[]{2,1,2,1,2}), is(-1));
+    }
+
     @Test
     public void equalsTest() {
         assertThat(ByteComparison.equals(null, null), is(true));
@@ -86,4 +118,66 @@ public class ByteComparisonTest {
         assertThat(ByteComparison.equals(new byte[]{1,2,3,4,5}, new byte[]{1,2,3,4,5}), is(true));
         assertThat(ByteComparison.equals(new byte[]{1,2,3,4,5}, new byte[]{1,2,3,4,}), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void compareTest() {
+        assertThat(compare(null, null), is(0));
+        assertThat(compare(null, new byte[0]) < 0, is(true));
+        assertThat(compare(new byte[0], null) > 0, is(true));
+        assertThat(compare(new byte[0], new byte[0]), is(0));
+
+        assertThat(compare(new byte[]{1,2,3}, new byte[]{1,2,3}), is(0));
+        assertThat(compare(new byte[]{1,2,3}, new byte[]{1,2,3,0}) < 0, is(true));
+        assertThat(compare(new byte[]{1,2,4}, new byte[]{1,2,3,0}) > 0, is(true));
+
+        // Unsigned: 0xff sorts after 0x7f.
+        assertThat(compare(new byte[]{(byte) 0xff}, new byte[]{0x7f}) > 0, is(true));
+        assertThat(compare(Hex.decode("0001020304050607ff"), Hex.decode("000102030405060700")) > 0, is(true));
+        assertThat(compare(Hex.decode("0001020304050607"), Hex.decode("8001020304050607")) < 0, is(true));
+
+        byte[] in = new byte[]{0,1,2};
+        assertThat(compare(in, in), is(0));
+    }
+
+    @Test
+    public void compareRangeTest() {
+        byte[] a = Hex.decode("00 01 02 03 04 05 06 07 08 09 0a");
+        byte[] b = Hex.decode("ff 03 04 05 06 07 08 09 0a ff");
+
+        assertThat(compare(a, 3, 8, b, 1, 8), is(0));
+        assertThat(compare(a, 3, 7, b, 1, 8) < 0, is(true));
+        assertThat(compare(a, 3, 8, b, 1, 9) < 0, is(true));
+        assertThat(compare(a, 0, 1, b, 0, 1) < 0, is(true));
+        assertThat(compare(a, 0, 0, b, 5, 0), is(0));
+        assertThat(compare(a, 2, 3, a, 2, 3), is(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void compareSameRangeOutOfBoundsTest() {
+        byte[] a = new byte[4];
+        // The same array and range is still checked against the array bounds.
+        compare(a, 2, 8, a, 2, 8);
+    }
+
+    @Test
+    public void comparatorTest() {
+        byte[][] input = new byte[][]{
+                Hex.decode("ff"),
+                Hex.decode("0001"),
+                Hex.decode("80"),
+                Hex.decode("00"),
+                Hex.decode("7f"),
+                new byte[0]
+        };
+        Arrays.sort(input, ByteComparison.COMPARATOR);
+
+        assertThat(input, is(new byte[][]{
+                new byte[0],
+                Hex.decode("00"),
+                Hex.decode("0001"),
+                Hex.decode("7f"),
+                Hex.decode("80"),
+                Hex.decode("ff")
+        }));
+    }
+}
@@ -21,12 +21,24 @@ import org.lable.oss.bitsandbytes.ByteConversion.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.*;
+import java.time.zone.ZoneRules;
+import java.time.zone.ZoneRulesProvider;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
 
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT;
+import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING;
 import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.TWOS_COMPLEMENT;
 import static org.lable.oss.bitsandbytes.ByteConversion.*;
 
@@ -188,6 +200,729 @@ public class ByteConversionTest {
         assertThat(toLong(Hex.decode("ffffffffffffffff"), LEXICOGRAPHIC_SORT), is(Long.MAX_VALUE));
     }
 
+    @Test
+    public void putGetShortTest() {
+        byte[] buffer = new byte[4];
+        putShort(buffer, 1, (short) 0x0102);
+        assertThat(buffer, is(Hex.decode("00010200")));
+        assertThat(getShort(buffer, 1), is((short) 0x0102));
+
+        putShort(buffer, 2, Short.MIN_VALUE, LEXICOGRAPHIC_SORT);
+        assertThat(buffer, is(Hex.decode("00010000")));
+        assertThat(getShort(buffer, 2, LEXICOGRAPHIC_SORT), is(Short.MIN_VALUE));
+        assertThat(getShort(buffer, 2, TWOS_COMPLEMENT), is((short) 0));
+    }
+
+    @Test
+    public void putGetIntTest() {
+        byte[] buffer = new byte[6];
+        putInt(buffer, 1, 256);
+        assertThat(buffer, is(Hex.decode("000000010000")));
+        assertThat(getInt(buffer, 1), is(256));
+
+        putInt(buffer, 2, 256, LEXICOGRAPHIC_SORT);
+        assertThat(buffer, is(Hex.decode("000080000100")));
+        assertThat(getInt(buffer, 2, LEXICOGRAPHIC_SORT), is(256));
+        assertThat(getInt(buffer, 2, TWOS_COMPLEMENT), is(Integer.MIN_VALUE + 256));
+    }
+
+    @Test
+    public void putGetLongTest() {
+        byte[] buffer = new byte[10];
+        putLong(buffer, 1, Long.MAX_VALUE);
+        assertThat(buffer, is(Hex.decode("007fffffffffffffff00")));
+        assertThat(getLong(buffer, 1), is(Long.MAX_VALUE));
+
+        putLong(buffer, 2, Long.MAX_VALUE, LEXICOGRAPHIC_SORT);
+        assertThat(buffer, is(Hex.decode("007fffffffffffffffff")));
+        assertThat(getLong(buffer, 2, LEXICOGRAPHIC_SORT), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void putGetFloatingPointTest() {
+        byte[] buffer = new byte[13];
+        putFloat(buffer, 1, 1.0f);
+        putDouble(buffer, 5, 1.0d);
+        assertThat(buffer, is(Hex.decode("003f8000003ff0000000000000")));
+        assertThat(getFloat(buffer, 1), is(1.0f));
+        assertThat(getDouble(buffer, 5), is(1.0d));
+    }
+
+    @Test
+    public void putGetByteBufferTest() throws ConversionException {
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+            // The byte order of the buffer is ignored, and its position left alone.
+            buffer.order(ByteOrder.LITTLE_ENDIAN).position(3);
+
+            putShort(buffer, 1, (short) 0x0102);
+            putInt(buffer, 3, 256, LEXICOGRAPHIC_SORT);
+            putLong(buffer, 7, -2L, LEXICOGRAPHIC_SORT_DESCENDING);
+            putFloat(buffer, 15, 1.0f);
+            putDouble(buffer, 19, -1.0d, LEXICOGRAPHIC_SORT);
+            byte[] bytes = new byte[27];
+            buffer.get(0, bytes);
+            assertThat(bytes, is(Hex.decode("00 0102 80000100 8000000000000001 3f800000 400fffffffffffff")));
+            assertThat(buffer.position(), is(3));
+
+            assertThat(getShort(buffer, 1), is((short) 0x0102));
+            assertThat(getShort(buffer, 1, LEXICOGRAPHIC_SORT), is((short) 0x8102));
+            assertThat(getInt(buffer, 3, LEXICOGRAPHIC_SORT), is(256));
+            assertThat(getLong(buffer, 7, LEXICOGRAPHIC_SORT_DESCENDING), is(-2L));
+            assertThat(getFloat(buffer, 15), is(1.0f));
+            assertThat(getFloat(buffer, 15, LEXICOGRAPHIC_SORT), is(fromSortableFloatBits(0x3f800000)));
+            assertThat(getDouble(buffer, 19, LEXICOGRAPHIC_SORT), is(-1.0d));
+
+            putShort(buffer, 0, (short) -1, LEXICOGRAPHIC_SORT);
+            putFloat(buffer, 2, -0.0f, LEXICOGRAPHIC_SORT_DESCENDING);
+            putDouble(buffer, 6, 2.5d);
+            assertThat(getShort(buffer, 0, LEXICOGRAPHIC_SORT), is((short) -1));
+            assertThat(Float.floatToIntBits(getFloat(buffer, 2, LEXICOGRAPHIC_SORT_DESCENDING)),
+                    is(Float.floatToIntBits(-0.0f)));
+            assertThat(getDouble(buffer, 6), is(2.5d));
+            assertThat(getInt(buffer, 6), is(getInt(Hex.decode("4004000000000000"), 0)));
+
+            for (long value : new long[]{0, -1, 111, 112, -2160, 67695, 67696, Long.MIN_VALUE, Long.MAX_VALUE}) {
+                int size = putVarLong(buffer, 5, value);
+                byte[] expected = fromVarLong(value);
+                assertThat(size, is(expected.length));
+                assertThat(getVarLongSize(buffer, 5), is(size));
+                assertThat(getVarLong(buffer, 5), is(value));
+
+                size = putUnsignedVarLong(buffer, 5, value);
+                assertThat(size, is(unsignedVarLongSize(value)));
+                assertThat(getUnsignedVarLongSize(buffer, 5), is(size));
+                assertThat(getUnsignedVarLong(buffer, 5), is(value));
+
+                size = putLeb128(buffer, 5, value);
+                assertThat(size, is(leb128Size(value)));
+                assertThat(getLeb128Size(buffer, 5), is(size));
+                assertThat(getLeb128(buffer, 5), is(value));
+
+                size = putZigZag(buffer, 5, value);
+                assertThat(size, is(zigZagSize(value)));
+                assertThat(getZigZag(buffer, 5), is(value));
+            }
+
+            Instant instant = Instant.ofEpochSecond(-1456759960L, 1002003);
+            for (InstantFormat format : InstantFormat.values()) {
+                assertThat(putInstant(buffer, 2, instant, format), is(format.byteLength()));
+                bytes = new byte[format.byteLength()];
+                buffer.get(2, bytes);
+                assertThat(bytes, is(fromInstant(instant, format)));
+                assertThat(getInstant(buffer, 2, format), is(getInstant(bytes, 0, format)));
+            }
+            assertThat(buffer.position(), is(3));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void putByteBufferOutOfBoundsTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16).limit(8);
+        putLong(buffer, 1, 0L);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getVarLongByteBufferTruncatedTest() {
+        getVarLong(ByteBuffer.wrap(Hex.decode("fe 0000")), 0);
+    }
+
+    @Test
+    public void sortableFloatTest() throws ConversionException {
+        assertThat(fromFloat(1.0f, LEXICOGRAPHIC_SORT), is(Hex.decode("bf800000")));
+        assertThat(fromFloat(-1.0f, LEXICOGRAPHIC_SORT), is(Hex.decode("407fffff")));
+        assertThat(fromFloat(0.0f, LEXICOGRAPHIC_SORT), is(Hex.decode("80000000")));
+        assertThat(fromFloat(-0.0f, LEXICOGRAPHIC_SORT), is(Hex.decode("7fffffff")));
+        assertThat(fromFloat(Float.intBitsToFloat(0xffc00001), LEXICOGRAPHIC_SORT), is(Hex.decode("ffc00000")));
+        assertThat(fromFloat(1.0f, TWOS_COMPLEMENT), is(Hex.decode("3f800000")));
+        assertThat(fromFloat(Float.valueOf(1.0f), LEXICOGRAPHIC_SORT), is(Hex.decode("bf800000")));
+
+        float[] values = new float[]{
+                Float.NEGATIVE_INFINITY, -Float.MAX_VALUE, -1.5f, -Float.MIN_VALUE, -0.0f,
+                0.0f, Float.MIN_VALUE, 1.5f, Float.MAX_VALUE, Float.POSITIVE_INFINITY, Float.NaN
+        };
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = fromFloat(values[i], LEXICOGRAPHIC_SORT);
+            assertThat(Float.compare(toFloat(bytes, LEXICOGRAPHIC_SORT), values[i]), is(0));
+            if (i > 0) {
+                assertThat(ByteComparison.compare(fromFloat(values[i - 1], LEXICOGRAPHIC_SORT), bytes) < 0, is(true));
+            }
+        }
+    }
+
+    @Test
+    public void sortableDoubleTest() throws ConversionException {
+        assertThat(fromDouble(1.0d, LEXICOGRAPHIC_SORT), is(Hex.decode("bff0000000000000")));
+        assertThat(fromDouble(-1.0d, LEXICOGRAPHIC_SORT), is(Hex.decode("400fffffffffffff")));
+        assertThat(fromDouble(-0.0d, LEXICOGRAPHIC_SORT), is(Hex.decode("7fffffffffffffff")));
+        assertThat(fromDouble(1.0d, TWOS_COMPLEMENT), is(Hex.decode("3ff0000000000000")));
+        assertThat(fromDouble(Double.valueOf(1.0d), LEXICOGRAPHIC_SORT), is(Hex.decode("bff0000000000000")));
+
+        double[] values = new double[]{
+                Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5d, -Double.MIN_VALUE, -0.0d,
+                0.0d, Double.MIN_VALUE, 1.5d, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN
+        };
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = fromDouble(values[i], LEXICOGRAPHIC_SORT);
+            assertThat(Double.compare(toDouble(bytes, LEXICOGRAPHIC_SORT), values[i]), is(0));
+            if (i > 0) {
+                assertThat(ByteComparison.compare(fromDouble(values[i - 1], LEXICOGRAPHIC_SORT), bytes) < 0, is(true));
+            }
+        }
+
+        byte[] buffer = new byte[10];
+        putDouble(buffer, 2, -2.5d, LEXICOGRAPHIC_SORT);
+        assertThat(getDouble(buffer, 2, LEXICOGRAPHIC_SORT), is(-2.5d));
+    }
+
+    @Test
+    public void descendingTest() throws ConversionException {
+        assertThat(fromInt(0, LEXICOGRAPHIC_SORT_DESCENDING), is(Hex.decode("7fffffff")));
+        assertThat(fromInt(Integer.MIN_VALUE, LEXICOGRAPHIC_SORT_DESCENDING), is(Hex.decode("ffffffff")));
+        assertThat(fromLong(Long.MAX_VALUE, LEXICOGRAPHIC_SORT_DESCENDING), is(Hex.decode("0000000000000000")));
+        assertThat(fromFloat(1.0f, LEXICOGRAPHIC_SORT_DESCENDING), is(Hex.decode("407fffff")));
+        assertThat(fromDouble(-1.0d, LEXICOGRAPHIC_SORT_DESCENDING), is(Hex.decode("bff0000000000000")));
+
+        long[] longs = new long[]{Long.MIN_VALUE, -256L, -1L, 0L, 1L, 256L, Long.MAX_VALUE};
+        for (int i = 0; i < longs.length; i++) {
+            byte[] bytes = fromLong(longs[i], LEXICOGRAPHIC_SORT_DESCENDING);
+            assertThat(toLong(bytes, LEXICOGRAPHIC_SORT_DESCENDING), is(longs[i]));
+            assertThat(toInt(fromInt((int) longs[i], LEXICOGRAPHIC_SORT_DESCENDING), LEXICOGRAPHIC_SORT_DESCENDING),
+                    is((int) longs[i]));
+            if (i > 0) {
+                assertThat(ByteComparison.compare(fromLong(longs[i - 1], LEXICOGRAPHIC_SORT_DESCENDING), bytes) > 0,
+                        is(true));
+            }
+        }
+
+        double[] doubles = new double[]{Double.NEGATIVE_INFINITY, -1.5d, -0.0d, 0.0d, 1.5d, Double.NaN};
+        for (int i = 0; i < doubles.length; i++) {
+            byte[] bytes = fromDouble(doubles[i], LEXICOGRAPHIC_SORT_DESCENDING);
+            assertThat(Double.compare(toDouble(bytes, LEXICOGRAPHIC_SORT_DESCENDING), doubles[i]), is(0));
+            assertThat(Float.compare(
+                    toFloat(fromFloat((float) doubles[i], LEXICOGRAPHIC_SORT_DESCENDING), LEXICOGRAPHIC_SORT_DESCENDING),
+                    (float) doubles[i]), is(0));
+            if (i > 0) {
+                assertThat(ByteComparison.compare(fromDouble(doubles[i - 1], LEXICOGRAPHIC_SORT_DESCENDING), bytes) > 0,
+                        is(true));
+            }
+        }
+
+        byte[] buffer = new byte[4];
+        putShort(buffer, 1, (short) 1, LEXICOGRAPHIC_SORT_DESCENDING);
+        assertThat(buffer, is(Hex.decode("007ffe00")));
+        assertThat(getShort(buffer, 1, LEXICOGRAPHIC_SORT_DESCENDING), is((short) 1));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void sortableFloatNoNullTest() throws ConversionException {
+        fromFloat(null, LEXICOGRAPHIC_SORT);
+    }
+
+    @Test
+    public void varLongTest() throws ConversionException {
+        assertThat(fromVarLong(0L), is(Hex.decode("80")));
+        assertThat(fromVarLong(111L), is(Hex.decode("ef")));
+        assertThat(fromVarLong(112L), is(Hex.decode("f000")));
+        assertThat(fromVarLong(2159L), is(Hex.decode("f7ff")));
+        assertThat(fromVarLong(2160L), is(Hex.decode("f80000")));
+        assertThat(fromVarLong(67696L), is(Hex.decode("f9010870")));
+        assertThat(fromVarLong(Long.MAX_VALUE), is(Hex.decode("fe7fffffffffffffff")));
+        assertThat(fromVarLong(-1L), is(Hex.decode("7f")));
+        assertThat(fromVarLong(-112L), is(Hex.decode("10")));
+        assertThat(fromVarLong(-113L), is(Hex.decode("0fff")));
+        assertThat(fromVarLong(Long.MIN_VALUE), is(Hex.decode("018000000000000000")));
+        assertThat(fromVarInt(-1), is(Hex.decode("7f")));
+
+        long[] values = new long[]{
+                Long.MIN_VALUE, -(1L << 40), -67697L, -67696L, -2161L, -2160L, -113L, -112L, -1L,
+                0L, 1L, 111L, 112L, 2159L, 2160L, 67695L, 67696L, 1L << 24, 1L << 40, Long.MAX_VALUE
+        };
+        byte[] buffer = new byte[12];
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = fromVarLong(values[i]);
+            assertThat(bytes.length, is(varLongSize(values[i])));
+            assertThat(toVarLong(bytes), is(values[i]));
+
+            assertThat(putVarLong(buffer, 3, values[i]), is(bytes.length));
+            assertThat(getVarLongSize(buffer, 3), is(bytes.length));
+            assertThat(getVarLong(buffer, 3), is(values[i]));
+            if (i > 0) {
+                assertThat(ByteComparison.compare(fromVarLong(values[i - 1]), bytes) < 0, is(true));
+            }
+        }
+
+        assertThat(toVarInt(fromVarInt(Integer.MIN_VALUE)), is(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void unsignedVarLongTest() throws ConversionException {
+        assertThat(fromUnsignedVarLong(0L), is(Hex.decode("00")));
+        assertThat(fromUnsignedVarLong(240L), is(Hex.decode("f0")));
+        assertThat(fromUnsignedVarLong(241L), is(Hex.decode("f101")));
+        assertThat(fromUnsignedVarLong(2287L), is(Hex.decode("f8ff")));
+        assertThat(fromUnsignedVarLong(2288L), is(Hex.decode("f90000")));
+        assertThat(fromUnsignedVarLong(67823L), is(Hex.decode("f9ffff")));
+        assertThat(fromUnsignedVarLong(67824L), is(Hex.decode("fa0108f0")));
+        assertThat(fromUnsignedVarLong(-1L), is(Hex.decode("ffffffffffffffffff")));
+
+        long[] values = new long[]{
+                0L, 1L, 240L, 241L, 2287L, 2288L, 67823L, 67824L, 1L << 24, 1L << 56, Long.MAX_VALUE, Long.MIN_VALUE, -1L
+        };
+        byte[] buffer = new byte[10];
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = fromUnsignedVarLong(values[i]);
+            assertThat(bytes.length, is(unsignedVarLongSize(values[i])));
+            assertThat(toUnsignedVarLong(bytes), is(values[i]));
+
+            assertThat(putUnsignedVarLong(buffer, 1, values[i]), is(bytes.length));
+            assertThat(getUnsignedVarLongSize(buffer, 1), is(bytes.length));
+            assertThat(getUnsignedVarLong(buffer, 1), is(values[i]));
+            if (i > 0) {
+                assertThat(ByteComparison.compare(fromUnsignedVarLong(values[i - 1]), bytes) < 0, is(true));
+            }
+        }
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toVarLongWrongLengthTest() throws ConversionException {
+        toVarLong(Hex.decode("f00000"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toVarIntOverflowTest() throws ConversionException {
+        toVarInt(fromVarLong(Long.MAX_VALUE));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toVarLongZeroHeaderTest() throws ConversionException {
+        toVarLong(Hex.decode("00"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toVarIntInvalidHeaderTest() throws ConversionException {
+        toVarInt(Hex.decode("ff0000000000000000"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getVarLongOutOfBoundsTest() {
+        getVarLong(Hex.decode("f800"), 0);
+    }
+
+    @Test
+    public void leb128Test() throws ConversionException {
+        assertThat(fromLeb128(0L), is(Hex.decode("00")));
+        assertThat(fromLeb128(127L), is(Hex.decode("7f")));
+        assertThat(fromLeb128(128L), is(Hex.decode("8001")));
+        assertThat(fromLeb128(624485L), is(Hex.decode("e58e26")));
+        assertThat(fromLeb128(-1L), is(Hex.decode("ffffffffffffffffff01")));
+
+        long[] values = new long[]{0L, 1L, 127L, 128L, 16383L, 16384L, 1L << 56, Long.MAX_VALUE, Long.MIN_VALUE, -1L};
+        byte[] buffer = new byte[12];
+        for (long value : values) {
+            byte[] bytes = fromLeb128(value);
+            assertThat(bytes.length, is(leb128Size(value)));
+            assertThat(toLeb128(bytes), is(value));
+
+            assertThat(putLeb128(buffer, 2, value), is(bytes.length));
+            assertThat(getLeb128Size(buffer, 2), is(bytes.length));
+            assertThat(getLeb128(buffer, 2), is(value));
+        }
+    }
+
+    @Test
+    public void zigZagTest() throws ConversionException {
+        assertThat(fromZigZag(0L), is(Hex.decode("00")));
+        assertThat(fromZigZag(-1L), is(Hex.decode("01")));
+        assertThat(fromZigZag(1L), is(Hex.decode("02")));
+        assertThat(fromZigZag(-64L), is(Hex.decode("7f")));
+        assertThat(fromZigZag(64L), is(Hex.decode("8001")));
+        assertThat(fromZigZag(Long.MIN_VALUE), is(Hex.decode("ffffffffffffffffff01")));
+
+        long[] values = new long[]{0L, -1L, 1L, -64L, 64L, Long.MAX_VALUE, Long.MIN_VALUE};
+        byte[] buffer = new byte[10];
+        for (long value : values) {
+            assertThat(toZigZag(fromZigZag(value)), is(value));
+            assertThat(putZigZag(buffer, 0, value), is(zigZagSize(value)));
+            assertThat(getZigZag(buffer, 0), is(value));
+        }
+    }
+
+    @Test
+    public void encodeAllTest() throws ConversionException {
+        long[] values = new long[]{0L, 1L, -1L, 300L, Long.MIN_VALUE, 127L};
+        byte[] leb128 = encodeAllLeb128(values);
+        assertThat(leb128.length, is(1 + 1 + 10 + 2 + 10 + 1));
+        assertThat(decodeAllLeb128(leb128), is(values));
+
+        byte[] zigZag = encodeAllZigZag(values);
+        assertThat(zigZag.length, is(1 + 1 + 1 + 2 + 10 + 2));
+        assertThat(decodeAllZigZag(zigZag), is(values));
+
+        assertThat(decodeAllLeb128(new byte[0]), is(new long[0]));
+
+        byte[] buffer = new byte[8];
+        assertThat(putAllZigZag(buffer, 1, values, 1, 3), is(4));
+        long[] out = new long[4];
+        assertThat(getAllZigZag(buffer, 1, out, 1, 3), is(4));
+        assertThat(out, is(new long[]{0L, 1L, -1L, 300L}));
+    }
+
+    @Test
+    public void shortTest() throws ConversionException {
+        assertThat(fromShort((short) 0x0102), is(Hex.decode("0102")));
+        assertThat(fromShort((short) -1, LEXICOGRAPHIC_SORT), is(Hex.decode("7fff")));
+        assertThat(fromShort((short) 0x0102, ByteOrder.LITTLE_ENDIAN), is(Hex.decode("0201")));
+        assertThat(toShort(Hex.decode("ffff")), is((short) -1));
+        assertThat(toShort(Hex.decode("7fff"), LEXICOGRAPHIC_SORT), is((short) -1));
+        assertThat(toShort(Hex.decode("0201"), ByteOrder.LITTLE_ENDIAN), is((short) 0x0102));
+
+        assertThat(toUnsignedShort(Hex.decode("ffff")), is(65535));
+        assertThat(getUnsignedShort(Hex.decode("00 8000"), 1), is(32768));
+        assertThat(toUnsignedInt(Hex.decode("ffffffff")), is(4294967295L));
+        assertThat(getUnsignedInt(Hex.decode("00 80000000"), 1), is(2147483648L));
+    }
+
+    @Test
+    public void fixedWidthTest() throws ConversionException {
+        assertThat(fromSigned(-1L, 3), is(Hex.decode("ffffff")));
+        assertThat(fromSigned(0x7fffffL, 3), is(Hex.decode("7fffff")));
+        assertThat(fromSigned(-1L, 3, LEXICOGRAPHIC_SORT), is(Hex.decode("7fffff")));
+        assertThat(fromSigned(-1L, 3, LEXICOGRAPHIC_SORT_DESCENDING), is(Hex.decode("800000")));
+        assertThat(fromSigned(1_500_000_000_000L, 6), is(Hex.decode("015d3ef79800")));
+        assertThat(fromUnsigned(0xffffffffffL, 5), is(Hex.decode("ffffffffff")));
+        assertThat(fromUnsigned(7L, 1), is(Hex.decode("07")));
+        assertThat(toSigned(Hex.decode("80")), is(-128L));
+        assertThat(toSigned(Hex.decode("ffff"), LEXICOGRAPHIC_SORT), is(32767L));
+        assertThat(toUnsigned(Hex.decode("ffffff")), is(0xffffffL));
+        assertThat(toUnsigned(Hex.decode("ffffffffffffffff")), is(-1L));
+
+        long[] values = new long[]{0L, 1L, -1L, 127L, -128L, 128L, -129L, 1L << 40, -(1L << 47),
+                Long.MAX_VALUE, Long.MIN_VALUE};
+        byte[] buffer = new byte[10];
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(10);
+        for (long value : values) {
+            for (int width = signedSize(value); width <= 8; width++) {
+                for (NumberRepresentation rep : NumberRepresentation.values()) {
+                    putSigned(buffer, 1, width, value, rep);
+                    assertThat(getSigned(buffer, 1, width, rep), is(value));
+                    putSigned(byteBuffer, 1, width, value, rep);
+                    assertThat(getSigned(byteBuffer, 1, width, rep), is(value));
+                    assertThat(toSigned(fromSigned(value, width, rep), rep), is(value));
+                }
+            }
+            if (value >= 0) {
+                for (int width = unsignedSize(value); width <= 8; width++) {
+                    putUnsigned(buffer, 2, width, value);
+                    assertThat(getUnsigned(buffer, 2, width), is(value));
+                    putUnsigned(byteBuffer, 2, width, value);
+                    assertThat(getUnsigned(byteBuffer, 2, width), is(value));
+                }
+            }
+        }
+        assertThat(signedSize(0L), is(1));
+        assertThat(signedSize(-128L), is(1));
+        assertThat(signedSize(128L), is(2));
+        assertThat(signedSize(Long.MIN_VALUE), is(8));
+        assertThat(unsignedSize(0L), is(1));
+        assertThat(unsignedSize(255L), is(1));
+        assertThat(unsignedSize(256L), is(2));
+        assertThat(unsignedSize(-1L), is(8));
+
+        // Sortable widths keep the numerical order.
+        for (int width = 1; width <= 8; width++) {
+            long max = width == 8 ? Long.MAX_VALUE : (1L << (width * 8 - 1)) - 1;
+            long[] ordered = new long[]{-max - 1, -max / 2, -1L, 0L, 1L, max / 3, max};
+            for (int i = 1; i < ordered.length; i++) {
+                assertThat(ByteComparison.compare(
+                        fromSigned(ordered[i - 1], width, LEXICOGRAPHIC_SORT),
+                        fromSigned(ordered[i], width, LEXICOGRAPHIC_SORT)) < 0, is(true));
+                assertThat(ByteComparison.compare(
+                        fromSigned(ordered[i - 1], width, LEXICOGRAPHIC_SORT_DESCENDING),
+                        fromSigned(ordered[i], width, LEXICOGRAPHIC_SORT_DESCENDING)) > 0, is(true));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fixedWidthOverflowTest() {
+        fromSigned(128L, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fixedWidthUnsignedOverflowTest() {
+        putUnsigned(new byte[8], 0, 2, 0x10000L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fixedWidthOutOfRangeTest() {
+        fromUnsigned(0L, 9);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toSignedEmptyTest() throws ConversionException {
+        toSigned(new byte[0]);
+    }
+
+    @Test
+    public void littleEndianTest() throws ConversionException {
+        assertThat(fromInt(0x01020304, ByteOrder.LITTLE_ENDIAN), is(Hex.decode("04030201")));
+        assertThat(fromInt(0x01020304, ByteOrder.BIG_ENDIAN), is(Hex.decode("01020304")));
+        assertThat(toInt(Hex.decode("04030201"), ByteOrder.LITTLE_ENDIAN), is(0x01020304));
+        assertThat(fromLong(1L, ByteOrder.LITTLE_ENDIAN), is(Hex.decode("0100000000000000")));
+        assertThat(toLong(Hex.decode("feffffffffffffff"), ByteOrder.LITTLE_ENDIAN), is(-2L));
+        assertThat(fromFloat(1.0f, ByteOrder.LITTLE_ENDIAN), is(Hex.decode("0000803f")));
+        assertThat(toFloat(Hex.decode("0000803f"), ByteOrder.LITTLE_ENDIAN), is(1.0f));
+        assertThat(fromDouble(1.0d, ByteOrder.LITTLE_ENDIAN), is(Hex.decode("000000000000f03f")));
+        assertThat(toDouble(Hex.decode("000000000000f03f"), ByteOrder.LITTLE_ENDIAN), is(1.0d));
+
+        byte[] bytes = new byte[10];
+        putShort(bytes, 1, (short) 0x0102, ByteOrder.LITTLE_ENDIAN);
+        assertThat(bytes[1], is((byte) 0x02));
+        assertThat(getShort(bytes, 1, ByteOrder.LITTLE_ENDIAN), is((short) 0x0102));
+        assertThat(getShort(bytes, 1, ByteOrder.BIG_ENDIAN), is((short) 0x0201));
+        putLong(bytes, 2, -5L, ByteOrder.LITTLE_ENDIAN);
+        assertThat(getLong(bytes, 2, ByteOrder.LITTLE_ENDIAN), is(-5L));
+
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(16), ByteBuffer.allocateDirect(16)}) {
+            // The byte order set on the buffer does not matter.
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            putInt(buffer, 0, 0x01020304, ByteOrder.LITTLE_ENDIAN);
+            assertThat(buffer.get(0), is((byte) 0x04));
+            assertThat(getInt(buffer, 0, ByteOrder.LITTLE_ENDIAN), is(0x01020304));
+            assertThat(buffer.order(ByteOrder.LITTLE_ENDIAN).getInt(0), is(0x01020304));
+
+            putShort(buffer, 4, (short) -2, ByteOrder.LITTLE_ENDIAN);
+            assertThat(getShort(buffer, 4, ByteOrder.LITTLE_ENDIAN), is((short) -2));
+            putLong(buffer, 6, Long.MIN_VALUE, ByteOrder.LITTLE_ENDIAN);
+            assertThat(buffer.get(13), is((byte) 0x80));
+            assertThat(getLong(buffer, 6, ByteOrder.LITTLE_ENDIAN), is(Long.MIN_VALUE));
+            putFloat(buffer, 0, -1.5f, ByteOrder.LITTLE_ENDIAN);
+            assertThat(getFloat(buffer, 0, ByteOrder.LITTLE_ENDIAN), is(-1.5f));
+            putDouble(buffer, 8, Math.PI, ByteOrder.LITTLE_ENDIAN);
+            assertThat(getDouble(buffer, 8, ByteOrder.LITTLE_ENDIAN), is(Math.PI));
+            assertThat(buffer.getDouble(8), is(Math.PI));
+            assertThat(getDouble(buffer, 8, ByteOrder.BIG_ENDIAN) == Math.PI, is(false));
+        }
+    }
+
+    @Test
+    public void bulkConversionTest() {
+        long[] longs = new long[]{0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE};
+        byte[] bytes = new byte[2 + longs.length * 8];
+        fromLongs(longs, 1, 2, bytes, 2);
+        assertThat(bytes, is(Hex.decode(
+                "0000 0000000000000001 ffffffffffffffff 0000000000000000 0000000000000000 0000000000000000")));
+        fromLongs(longs, 1, 2, bytes, 2, ByteOrder.LITTLE_ENDIAN);
+        assertThat(bytes, is(Hex.decode(
+                "0000 0100000000000000 ffffffffffffffff 0000000000000000 0000000000000000 0000000000000000")));
+
+        long[] longsOut = new long[longs.length];
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            fromLongs(longs, 0, longs.length, bytes, 2, order);
+            toLongs(bytes, 2, longs.length, longsOut, 0, order);
+            assertThat(longsOut, is(longs));
+        }
+
+        int[] ints = new int[]{0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int[] intsOut = new int[ints.length];
+        short[] shorts = new short[]{0, 1, -1, Short.MIN_VALUE, Short.MAX_VALUE};
+        short[] shortsOut = new short[shorts.length];
+        float[] floats = new float[]{0f, -0f, 1.5f, -1.5f, Float.NEGATIVE_INFINITY, Float.MAX_VALUE};
+        float[] floatsOut = new float[floats.length];
+        double[] doubles = new double[]{0.0, -0.0, 1.5, -1.5, Double.NEGATIVE_INFINITY, Double.MAX_VALUE};
+        double[] doublesOut = new double[doubles.length];
+        byte[] buffer = new byte[48];
+        for (NumberRepresentation rep : NumberRepresentation.values()) {
+            fromLongs(longs, 0, longs.length, buffer, 0, rep);
+            assertThat(Arrays.copyOf(buffer, 8), is(fromLong(longs[0], rep)));
+            toLongs(buffer, 0, longs.length, longsOut, 0, rep);
+            assertThat(longsOut, is(longs));
+
+            fromInts(ints, 0, ints.length, buffer, 0, rep);
+            assertThat(Arrays.copyOfRange(buffer, 12, 16), is(fromInt(ints[3], rep)));
+            toInts(buffer, 0, ints.length, intsOut, 0, rep);
+            assertThat(intsOut, is(ints));
+
+            fromShorts(shorts, 0, shorts.length, buffer, 0, rep);
+            assertThat(getShort(buffer, 4, rep), is(shorts[2]));
+            toShorts(buffer, 0, shorts.length, shortsOut, 0, rep);
+            assertThat(shortsOut, is(shorts));
+
+            fromFloats(floats, 0, floats.length, buffer, 0, rep);
+            assertThat(Arrays.copyOfRange(buffer, 12, 16), is(fromFloat(floats[3], rep)));
+            toFloats(buffer, 0, floats.length, floatsOut, 0, rep);
+            assertThat(floatsOut, is(floats));
+
+            fromDoubles(doubles, 0, doubles.length, buffer, 0, rep);
+            assertThat(Arrays.copyOfRange(buffer, 24, 32), is(fromDouble(doubles[3], rep)));
+            toDoubles(buffer, 0, doubles.length, doublesOut, 0, rep);
+            assertThat(doublesOut, is(doubles));
+        }
+
+        fromShorts(shorts, 0, shorts.length, buffer, 0, ByteOrder.LITTLE_ENDIAN);
+        assertThat(Arrays.copyOf(buffer, 10), is(Hex.decode("0000 0100 ffff 0080 ff7f")));
+        fromInts(ints, 1, 1, buffer, 0, ByteOrder.LITTLE_ENDIAN);
+        assertThat(Arrays.copyOf(buffer, 4), is(Hex.decode("01000000")));
+        fromDoubles(doubles, 2, 1, buffer, 0, ByteOrder.LITTLE_ENDIAN);
+        toDoubles(buffer, 0, 1, doublesOut, 0, ByteOrder.LITTLE_ENDIAN);
+        assertThat(doublesOut[0], is(1.5));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void bulkConversionDestinationTooSmallTest() {
+        fromLongs(new long[3], 0, 3, new byte[23], 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void bulkConversionSourceRangeTest() {
+        toInts(new byte[16], 4, 4, new int[4], 0);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void decodeAllTruncatedTest() throws ConversionException {
+        decodeAllLeb128(Hex.decode("0180"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toLeb128WrongLengthTest() throws ConversionException {
+        toLeb128(Hex.decode("0101"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getLeb128TooLongTest() {
+        getLeb128(Hex.decode("ffffffffffffffffffff01"), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getLeb128OverflowTest() {
+        getLeb128(Hex.decode("ffffffffffffffffff02"), 0);
+    }
+
+    @Test
+    public void leb128LimitsTest() throws ConversionException {
+        assertThat(toLeb128(Hex.decode("ffffffffffffffffff01")), is(-1L));
+        assertThat(decodeAllLeb128(Hex.decode("ffffffffffffffffff01 00")), is(new long[]{-1L, 0L}));
+
+        DecodeResult<?> result = new DecodeResult<>();
+        assertThat(tryToLeb128(Hex.decode("ffffffffffffffffff02"), result), is(false));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toLeb128TooLongTest() throws ConversionException {
+        toLeb128(Hex.decode("ffffffffffffffffffff01"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toLeb128OverflowTest() throws ConversionException {
+        toLeb128(Hex.decode("ffffffffffffffffff7f"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void decodeAllLeb128TooLongTest() throws ConversionException {
+        decodeAllLeb128(Hex.decode("00 ffffffffffffffffffff01"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void decodeAllZigZagOverflowTest() throws ConversionException {
+        decodeAllZigZag(Hex.decode("ffffffffffffffffff02"));
+    }
+
+    @Test
+    public void terminatedTest() throws ConversionException {
+        assertThat(fromTerminated(new byte[0]), is(Hex.decode("0001")));
+        assertThat(fromTerminated(Hex.decode("0100ff00")), is(Hex.decode("01 00ff ff 00ff 0001")));
+        assertThat(fromTerminated(Hex.decode("0100ff00"), SortOrder.DESCENDING), is(Hex.decode("fe ff00 00 ff00 fffe")));
+        assertThat(fromTerminatedString("a\u0000é"), is(Hex.decode("61 00ff c3a9 0001")));
+        assertThat(fromTerminatedString("a", SortOrder.DESCENDING), is(Hex.decode("9e fffe")));
+
+        assertThat(toTerminated(Hex.decode("01 00ff ff 00ff 0001")), is(Hex.decode("0100ff00")));
+        assertThat(toTerminated(Hex.decode("fe ff00 00 ff00 fffe"), SortOrder.DESCENDING), is(Hex.decode("0100ff00")));
+        assertThat(toTerminatedString(Hex.decode("61 00ff c3a9 0001")), is("a\u0000é"));
+        assertThat(toTerminatedString(Hex.decode("9e fffe"), SortOrder.DESCENDING), is("a"));
+
+        String[] strings = new String[]{"", "\u0000", "\u0000\u0000", "\u0000a", "a", "a\u0000", "a\u0001", "aa", "b"};
+        for (SortOrder order : SortOrder.values()) {
+            for (int i = 1; i < strings.length; i++) {
+                // Followed by other fields, which must not influence the order.
+                byte[] previous = ByteMangler.add(fromTerminatedString(strings[i - 1], order), Hex.decode("ff"));
+                byte[] current = ByteMangler.add(fromTerminatedString(strings[i], order), Hex.decode("00"));
+                int comparison = ByteComparison.compare(previous, current);
+                assertThat(order == SortOrder.ASCENDING ? comparison < 0 : comparison > 0, is(true));
+            }
+        }
+    }
+
+    @Test
+    public void terminatedInBufferTest() throws ConversionException {
+        byte[] buffer = new byte[40];
+        String text = "0123456789\u0000abcdefghij\u0000";
+        int size = putTerminatedString(buffer, 3, text, SortOrder.DESCENDING);
+        assertThat(size, is(terminatedStringSize(text)));
+        assertThat(size, is(text.length() + 4));
+        assertThat(getTerminatedSize(buffer, 3, SortOrder.DESCENDING), is(size));
+        assertThat(getTerminatedString(buffer, 3, SortOrder.DESCENDING), is(text));
+
+        int next = 3 + size;
+        assertThat(putTerminated(buffer, next, Hex.decode("00"), SortOrder.ASCENDING), is(4));
+        assertThat(getTerminatedSize(buffer, next, SortOrder.ASCENDING), is(4));
+        assertThat(getTerminated(buffer, next, SortOrder.ASCENDING), is(Hex.decode("00")));
+
+        assertThat(getTerminatedString(fromTerminatedString("0123456789abcdef"), 0, SortOrder.ASCENDING),
+                is("0123456789abcdef"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toTerminatedTrailingBytesTest() throws ConversionException {
+        toTerminated(Hex.decode("61 0001 62"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toTerminatedUnterminatedTest() throws ConversionException {
+        toTerminated(Hex.decode("61 00ff"));
+    }
+
+    @Test
+    public void toTerminatedInvalidEscapeTest() {
+        // A zero byte followed by neither the terminator nor the escape byte, in both sort orders.
+        byte[][] inputs = {Hex.decode("00 00 0001"), Hex.decode("ff ff fffe")};
+        SortOrder[] orders = {SortOrder.ASCENDING, SortOrder.DESCENDING};
+        for (int i = 0; i < inputs.length; i++) {
+            try {
+                toTerminated(inputs[i], orders[i]);
+                throw new AssertionError("Expected a ConversionException for " + orders[i] + ".");
+            } catch (ConversionException e) {
+                // Expected.
+            }
+            try {
+                toTerminatedString(inputs[i], orders[i]);
+                throw new AssertionError("Expected a ConversionException for " + orders[i] + ".");
+            } catch (ConversionException e) {
+                // Expected.
+            }
+            try {
+                getTerminatedSize(inputs[i], 0, orders[i]);
+                throw new AssertionError("Expected an IllegalArgumentException for " + orders[i] + ".");
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getTerminatedSizeUnterminatedTest() {
+        getTerminatedSize(Hex.decode("6162636465666768 00ff 6900"), 0, SortOrder.ASCENDING);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void putOutOfBoundsTest() {
+        putLong(new byte[8], 1, 0L);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBoundsTest() {
+        getInt(new byte[4], 1);
+    }
+
 
     @Test
     public void fromBigIntegerTest() throws ConversionException {
@@ -235,6 +970,148 @@ public class ByteConversionTest {
         assertThat(toBigDecimal(Hex.decode("ffffff9c00")).toString(), is("0E+100"));
     }
 
+    @Test
+    public void sortableBigDecimalTest() throws ConversionException {
+        assertThat(fromBigDecimal(BigDecimal.ZERO, LEXICOGRAPHIC_SORT), is(Hex.decode("80")));
+        assertThat(fromBigDecimal(new BigDecimal("0.000"), LEXICOGRAPHIC_SORT), is(Hex.decode("80")));
+        assertThat(fromBigDecimal(BigDecimal.ONE, LEXICOGRAPHIC_SORT), is(Hex.decode("c0 81 02")));
+        assertThat(fromBigDecimal(new BigDecimal("1.00"), LEXICOGRAPHIC_SORT), is(Hex.decode("c0 81 02")));
+        assertThat(fromBigDecimal(new BigDecimal("0.5"), LEXICOGRAPHIC_SORT), is(Hex.decode("c0 80 64")));
+        assertThat(fromBigDecimal(new BigDecimal("123.45"), LEXICOGRAPHIC_SORT), is(Hex.decode("c0 82 03 2f 5a")));
+        assertThat(fromBigDecimal(BigDecimal.ONE.negate(), LEXICOGRAPHIC_SORT), is(Hex.decode("40 7e fd")));
+        assertThat(fromBigDecimal(BigDecimal.ONE, LEXICOGRAPHIC_SORT_DESCENDING), is(Hex.decode("3f 7e fd")));
+        assertThat(fromBigDecimal(BigDecimal.ONE, TWOS_COMPLEMENT), is(fromBigDecimal(BigDecimal.ONE)));
+
+        assertThat(toBigDecimal(Hex.decode("c0 82 03 2f 5a"), LEXICOGRAPHIC_SORT), is(new BigDecimal("123.45")));
+        assertThat(toBigDecimal(Hex.decode("80"), LEXICOGRAPHIC_SORT), is(BigDecimal.ZERO));
+        assertThat(toBigDecimal(Hex.decode("3f 7e fd"), LEXICOGRAPHIC_SORT_DESCENDING), is(BigDecimal.ONE));
+
+        String[] values = {"-1E+1000", "-12345678901234567890.5", "-" + Long.MAX_VALUE, "-100", "-99.5", "-10",
+                "-1.5", "-1", "-0.5", "-0.01", "-1E-1000", "0", "1E-1000", "0.000123", "0.01", "0.1", "0.25", "0.5",
+                "1", "1.05", "1.5", "9.99", "10", "10.5", "99", "100", "101", "1000", "12345", "123456789012345678",
+                "1234567890123456789", "" + Long.MAX_VALUE, "9223372036854775808", "12345678901234567890.5",
+                "1E+1000"};
+        byte[][] asc = new byte[values.length][];
+        byte[][] desc = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            BigDecimal value = new BigDecimal(values[i]);
+            asc[i] = fromBigDecimal(value, LEXICOGRAPHIC_SORT);
+            desc[i] = fromBigDecimal(value, LEXICOGRAPHIC_SORT_DESCENDING);
+            assertThat(values[i], toBigDecimal(asc[i], LEXICOGRAPHIC_SORT).compareTo(value), is(0));
+            assertThat(values[i], toBigDecimal(desc[i], LEXICOGRAPHIC_SORT_DESCENDING).compareTo(value), is(0));
+            assertThat(asc[i].length, is(bigDecimalSize(value)));
+
+            byte[] buffer = new byte[asc[i].length + 4];
+            assertThat(putBigDecimal(buffer, 3, value, SortOrder.DESCENDING), is(desc[i].length));
+            assertThat(getBigDecimalSize(buffer, 3, SortOrder.DESCENDING), is(desc[i].length));
+            assertThat(getBigDecimal(buffer, 3, SortOrder.DESCENDING).compareTo(value), is(0));
+            if (i > 0) {
+                assertThat(values[i], ByteComparison.compare(asc[i - 1], asc[i]) < 0, is(true));
+                assertThat(values[i], ByteComparison.compare(desc[i - 1], desc[i]) > 0, is(true));
+            }
+        }
+
+        Random random = new Random(18);
+        for (int i = 0; i < 1000; i++) {
+            BigDecimal a = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(40) - 20);
+            BigDecimal b = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(40) - 20);
+            int expected = Integer.signum(a.compareTo(b));
+            int actual = Integer.signum(ByteComparison.compare(
+                    fromBigDecimal(a, LEXICOGRAPHIC_SORT), fromBigDecimal(b, LEXICOGRAPHIC_SORT)));
+            assertThat(a + " vs. " + b, actual, is(expected));
+            assertThat(toBigDecimal(fromBigDecimal(a, LEXICOGRAPHIC_SORT), LEXICOGRAPHIC_SORT),
+                    is(a.stripTrailingZeros()));
+        }
+    }
+
+    @Test
+    public void sortableBigIntegerTest() throws ConversionException {
+        assertThat(fromBigInteger(BigInteger.valueOf(12345), LEXICOGRAPHIC_SORT),
+                is(fromBigDecimal(new BigDecimal("12345.000"), LEXICOGRAPHIC_SORT)));
+        assertThat(fromBigInteger(BigInteger.ONE, TWOS_COMPLEMENT), is(Hex.decode("01")));
+
+        BigInteger[] values = {BigInteger.TEN.pow(40).negate(), BigInteger.valueOf(Long.MIN_VALUE),
+                BigInteger.valueOf(-300), BigInteger.ZERO, BigInteger.valueOf(7), BigInteger.valueOf(700),
+                BigInteger.valueOf(Long.MAX_VALUE), BigInteger.TEN.pow(40)};
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = fromBigInteger(values[i], LEXICOGRAPHIC_SORT);
+            assertThat(toBigInteger(bytes, LEXICOGRAPHIC_SORT), is(values[i]));
+            if (i > 0) {
+                byte[] previous = fromBigInteger(values[i - 1], LEXICOGRAPHIC_SORT);
+                assertThat(ByteComparison.compare(previous, bytes) < 0, is(true));
+            }
+        }
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toBigIntegerFractionTest() throws ConversionException {
+        toBigInteger(fromBigDecimal(new BigDecimal("0.5"), LEXICOGRAPHIC_SORT), LEXICOGRAPHIC_SORT);
+    }
+
+    @Test(expected = ConversionException.class, timeout = 1000)
+    public void toBigIntegerHugeExponentTest() throws ConversionException {
+        // 0.01 × 100^10000000, i.e., 1E+19999998, in six bytes.
+        byte[] bytes = ByteMangler.add(Hex.decode("c0"), fromVarLong(10_000_000L), Hex.decode("02"));
+        assertThat(toBigDecimal(bytes, LEXICOGRAPHIC_SORT), is(new BigDecimal("1E+19999998")));
+        toBigInteger(bytes, LEXICOGRAPHIC_SORT);
+    }
+
+    @Test
+    public void toBigIntegerMaxDigitsTest() throws ConversionException {
+        BigInteger largest = BigInteger.TEN.pow(BIG_INTEGER_MAX_DIGITS - 1);
+        assertThat(toBigInteger(fromBigInteger(largest, LEXICOGRAPHIC_SORT), LEXICOGRAPHIC_SORT), is(largest));
+        try {
+            toBigInteger(fromBigInteger(largest.multiply(BigInteger.TEN), LEXICOGRAPHIC_SORT), LEXICOGRAPHIC_SORT);
+            throw new AssertionError("Expected a ConversionException.");
+        } catch (ConversionException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void toSortableBigDecimalInvalidDigitTest() {
+        String[] inputs = {
+                // Digit above 99.
+                "c0 81 fe",
+                "c0 81 c9 02",
+                // Zero final digit.
+                "c0 81 00",
+                "c0 81 03 00",
+                // Zero leading digit.
+                "c0 81 01 02",
+                // The same, descending.
+                "3f 7e 01",
+                "3f 7e ff",
+                "3f 7e fe fd"
+        };
+        for (String input : inputs) {
+            NumberRepresentation representation = input.startsWith("c0")
+                    ? LEXICOGRAPHIC_SORT
+                    : LEXICOGRAPHIC_SORT_DESCENDING;
+            try {
+                toBigDecimal(Hex.decode(input), representation);
+                throw new AssertionError("Expected a ConversionException for " + input + ".");
+            } catch (ConversionException e) {
+                // Expected.
+            }
+        }
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toSortableBigDecimalUnterminatedTest() throws ConversionException {
+        toBigDecimal(Hex.decode("c0 82 03 2f"), LEXICOGRAPHIC_SORT);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toSortableBigDecimalTrailingBytesTest() throws ConversionException {
+        toBigDecimal(Hex.decode("c0 81 02 00"), LEXICOGRAPHIC_SORT);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toSortableBigDecimalInvalidHeaderTest() throws ConversionException {
+        toBigDecimal(Hex.decode("01 81 02"), LEXICOGRAPHIC_SORT);
+    }
+
 
     @Test
     public void fromInstantTest() throws ConversionException {
@@ -258,6 +1135,73 @@ public class ByteConversionTest {
         assertThat(toInstant(Hex.decode("000000000000000000000010")), is(Instant.ofEpochSecond(0L, 16)));
     }
 
+    @Test
+    public void instantFormatTest() throws ConversionException {
+        Instant instant = Instant.ofEpochSecond(1L, 2_003_004);
+        assertThat(fromInstant(instant, InstantFormat.SECONDS_NANOS_12), is(fromInstant(instant)));
+        assertThat(fromInstant(instant, InstantFormat.SORTABLE_12), is(fromInstant(instant, LEXICOGRAPHIC_SORT)));
+        assertThat(fromInstant(instant, InstantFormat.EPOCH_MILLIS_8), is(Hex.decode("80000000000003ea")));
+        assertThat(fromInstant(instant, InstantFormat.EPOCH_MICROS_8), is(Hex.decode("80000000000f4a13")));
+
+        assertThat(toInstant(Hex.decode("80000000000003ea"), InstantFormat.EPOCH_MILLIS_8),
+                is(Instant.ofEpochMilli(1002L)));
+        assertThat(toInstant(Hex.decode("80000000000f4a13"), InstantFormat.EPOCH_MICROS_8),
+                is(Instant.ofEpochSecond(1L, 2_003_000)));
+
+        Instant[] instants = new Instant[]{
+                Instant.ofEpochSecond(-100_000L, 1_000), Instant.ofEpochSecond(-1L, 999_999_000), Instant.EPOCH,
+                Instant.ofEpochSecond(0L, 1_000_000), Instant.ofEpochSecond(1L), Instant.ofEpochSecond(1L << 40)
+        };
+        byte[] buffer = new byte[14];
+        for (InstantFormat format : InstantFormat.values()) {
+            for (int i = 0; i < instants.length; i++) {
+                Instant expected = format == InstantFormat.EPOCH_MILLIS_8
+                        ? Instant.ofEpochMilli(instants[i].toEpochMilli())
+                        : instants[i];
+                assertThat(putInstant(buffer, 2, instants[i], format), is(format.byteLength()));
+                assertThat(getInstant(buffer, 2, format), is(expected));
+                assertThat(toInstant(fromInstant(instants[i], format), format), is(expected));
+                if (i > 0 && format != InstantFormat.SECONDS_NANOS_12) {
+                    assertThat(ByteComparison.compare(
+                            fromInstant(instants[i - 1], format), fromInstant(instants[i], format)) < 0, is(true));
+                }
+            }
+        }
+    }
+
+    @Test(expected = ConversionException.class)
+    public void instantFormatOutOfRangeTest() throws ConversionException {
+        fromInstant(Instant.MAX, InstantFormat.EPOCH_MICROS_8);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void instantFormatWrongLengthTest() throws ConversionException {
+        toInstant(new byte[12], InstantFormat.EPOCH_MILLIS_8);
+    }
+
+    @Test
+    public void instantRepresentationTest() throws ConversionException {
+        Instant instant = Instant.ofEpochSecond(1L, 16);
+        assertThat(fromInstant(instant, TWOS_COMPLEMENT), is(fromInstant(instant)));
+        assertThat(fromInstant(instant, LEXICOGRAPHIC_SORT), is(Hex.decode("8000000000000001 80000010")));
+        assertThat(fromInstant(instant, LEXICOGRAPHIC_SORT_DESCENDING), is(Hex.decode("7ffffffffffffffe 7fffffef")));
+        assertThat(toInstant(fromInstant(instant, LEXICOGRAPHIC_SORT_DESCENDING), LEXICOGRAPHIC_SORT_DESCENDING),
+                is(instant));
+
+        Instant[] instants = new Instant[]{
+                Instant.MIN, Instant.ofEpochSecond(-1L, 999), Instant.EPOCH, Instant.ofEpochSecond(0L, 1),
+                Instant.ofEpochSecond(1L), Instant.MAX
+        };
+        for (int i = 1; i < instants.length; i++) {
+            assertThat(ByteComparison.compare(
+                    fromInstant(instants[i - 1], LEXICOGRAPHIC_SORT),
+                    fromInstant(instants[i], LEXICOGRAPHIC_SORT)) < 0, is(true));
+            assertThat(ByteComparison.compare(
+                    fromInstant(instants[i - 1], LEXICOGRAPHIC_SORT_DESCENDING),
+                    fromInstant(instants[i], LEXICOGRAPHIC_SORT_DESCENDING)) > 0, is(true));
+        }
+    }
+
 
     @Test
     public void fromOffsetDateTimeTest() throws ConversionException {
@@ -324,6 +1268,141 @@ public class ByteConversionTest {
         toZonedDateTime(Hex.decode("0000000000000000000000005a5a"));
     }
 
+    @Test
+    public void compactZoneTest() throws ConversionException {
+        // Dictionary numbers are part of the stored format, and must never change.
+        assertThat(ZoneIdDictionary.IDS[0], is("Africa/Abidjan"));
+        assertThat(fromZoneId(ZoneId.of("Europe/Amsterdam")), is(Hex.decode("01 01a9")));
+        assertThat(fromZoneId(ZoneId.of("Japan")), is(Hex.decode("01 01fe")));
+
+        assertThat(fromZoneId(ZoneOffset.UTC), is(Hex.decode("02 00")));
+        assertThat(fromZoneId(ZoneOffset.of("-04:00")), is(Hex.decode("02 f0")));
+        assertThat(fromZoneId(ZoneOffset.of("+05:45")), is(Hex.decode("02 17")));
+        assertThat(fromZoneId(ZoneOffset.of("+00:00:30")), is(Hex.decode("03 0000001e")));
+        // Prefixed offsets are regions, not offsets, and are not in the dictionary.
+        assertThat(fromZoneId(ZoneId.of("UTC+01:00")), is(Hex.decode("00 09 5554432b30313a3030")));
+
+        for (String id : new String[]{"Z", "+18:00", "-18:00", "+00:00:30", "-03:30", "Europe/Amsterdam",
+                "America/Argentina/Buenos_Aires", "UTC+01:00", "GMT", "UTC"}) {
+            ZoneId zone = ZoneId.of(id);
+            byte[] bytes = fromZoneId(zone);
+            assertThat(bytes.length, is(zoneIdSize(zone)));
+            assertThat(toZoneId(bytes), is(zone));
+
+            byte[] buffer = new byte[bytes.length + 3];
+            assertThat(putZoneId(buffer, 2, zone), is(bytes.length));
+            assertThat(getZoneIdSize(buffer, 2), is(bytes.length));
+            assertThat(getZoneId(buffer, 2), is(zone));
+        }
+
+        for (String id : ZoneId.getAvailableZoneIds()) {
+            // Skip the over-long region of compactZoneIdTooLongTest.
+            if (id.length() > 255) continue;
+            ZoneId zone = ZoneId.of(id);
+            assertThat(toZoneId(fromZoneId(zone)), is(zone));
+        }
+    }
+
+    @Test
+    public void compactZoneIdTooLongTest() {
+        ZoneId zone = ZoneId.of(LongZoneRulesProvider.register());
+        try {
+            zoneIdSize(zone);
+            throw new AssertionError("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // Expected.
+        }
+        try {
+            fromZoneId(zone);
+            throw new AssertionError("Expected a ConversionException.");
+        } catch (ConversionException e) {
+            // Expected.
+        }
+        try {
+            fromZonedDateTime(ZonedDateTime.ofInstant(Instant.EPOCH, zone), ZoneFormat.COMPACT);
+            throw new AssertionError("Expected a ConversionException.");
+        } catch (ConversionException e) {
+            // Expected.
+        }
+    }
+
+    /**
+     * Provides a single region whose ID is longer than the compact time-zone format can store.
+     */
+    private static class LongZoneRulesProvider extends ZoneRulesProvider {
+        private static final String ID = "Test/" + String.join("", Collections.nCopies(251, "x"));
+        private static boolean registered = false;
+
+        static synchronized String register() {
+            if (!registered) {
+                ZoneRulesProvider.registerProvider(new LongZoneRulesProvider());
+                registered = true;
+            }
+            return ID;
+        }
+
+        @Override
+        protected Set<String> provideZoneIds() {
+            return Collections.singleton(ID);
+        }
+
+        @Override
+        protected ZoneRules provideRules(String zoneId, boolean forCaching) {
+            return ZoneOffset.UTC.getRules();
+        }
+
+        @Override
+        protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+            return new TreeMap<>(Collections.singletonMap("1", ZoneOffset.UTC.getRules()));
+        }
+    }
+
+    @Test
+    public void compactZonedDateTimeTest() throws ConversionException {
+        ZonedDateTime zdt = ZonedDateTime.of(LocalDate.of(1999, Month.AUGUST, 3), LocalTime.NOON,
+                ZoneId.of("Europe/Amsterdam"));
+        byte[] bytes = fromZonedDateTime(zdt, ZoneFormat.COMPACT);
+        assertThat(bytes, is(Hex.decode("0000000037a6bda000000000 0101a9")));
+        assertThat(toZonedDateTime(bytes, ZoneFormat.COMPACT), is(zdt));
+        assertThat(fromZonedDateTime(zdt, ZoneFormat.ID), is(fromZonedDateTime(zdt)));
+
+        OffsetDateTime odt = OffsetDateTime.of(LocalDate.of(1999, Month.AUGUST, 3), LocalTime.NOON,
+                ZoneOffset.of("-04:00"));
+        bytes = fromOffsetDateTime(odt, ZoneFormat.COMPACT);
+        assertThat(bytes, is(Hex.decode("0000000037a7120000000000 02f0")));
+        assertThat(toOffsetDateTime(bytes, ZoneFormat.COMPACT), is(odt));
+
+        // Repeated decoding of the textual form is served from the cache.
+        byte[] id = fromZonedDateTime(zdt);
+        assertThat(toZonedDateTime(id), is(zdt));
+        assertThat(toZonedDateTime(id), is(zdt));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toOffsetDateTimeRegionTest() throws ConversionException {
+        toOffsetDateTime(Hex.decode("000000000000000000000000 0101a9"), ZoneFormat.COMPACT);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toZonedDateTimeCompactTrailingBytesTest() throws ConversionException {
+        toZonedDateTime(Hex.decode("000000000000000000000000 0200 00"), ZoneFormat.COMPACT);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toZoneIdUnknownNumberTest() throws ConversionException {
+        toZoneId(Hex.decode("01 ffff"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toZoneIdInvalidTagTest() throws ConversionException {
+        toZoneId(Hex.decode("07 00"));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toZoneIdTruncatedTest() throws ConversionException {
+        toZoneId(Hex.decode("00 05 4a6170"));
+    }
+
     @Test
     public void fromLocalDateTest() throws ConversionException {
         LocalDate ldt = LocalDate.ofEpochDay(0);
@@ -341,6 +1420,52 @@ public class ByteConversionTest {
         assertThat(toLocalDate("1970-01-01".getBytes()), is(ldt));
     }
 
+    @Test
+    public void localDateFormatTest() throws ConversionException {
+        LocalDate date = LocalDate.of(999, Month.FEBRUARY, 3);
+        assertThat(fromLocalDate(date, ISO8601DateFormat.BASIC), is("09990203".getBytes()));
+        assertThat(fromLocalDate(date, ISO8601DateFormat.EXTENDED), is("0999-02-03".getBytes()));
+        assertThat(fromLocalDate(LocalDate.ofEpochDay(0), ISO8601DateFormat.EPOCH_DAY), is(Hex.decode("80000000")));
+        assertThat(fromLocalDate(LocalDate.ofEpochDay(-1), ISO8601DateFormat.EPOCH_DAY), is(Hex.decode("7fffffff")));
+        assertThat(fromLocalDate(LocalDate.of(10000, 1, 2), ISO8601DateFormat.BASIC), is("+100000102".getBytes()));
+        assertThat(fromLocalDate(LocalDate.of(-1, 1, 2), ISO8601DateFormat.EXTENDED), is("-0001-01-02".getBytes()));
+
+        assertThat(toLocalDate(Hex.decode("7fffffff")), is(LocalDate.ofEpochDay(-1)));
+        assertThat(toLocalDate("09990203".getBytes(), ISO8601DateFormat.BASIC), is(date));
+
+        LocalDate[] dates = new LocalDate[]{
+                LocalDate.of(0, 1, 1), LocalDate.of(1969, 12, 31), LocalDate.of(1970, 1, 1), LocalDate.of(2024, 2, 29),
+                LocalDate.of(9999, 12, 31)
+        };
+        byte[] buffer = new byte[12];
+        for (ISO8601DateFormat format : ISO8601DateFormat.values()) {
+            for (int i = 0; i < dates.length; i++) {
+                assertThat(putLocalDate(buffer, 1, dates[i], format), is(format.byteLength()));
+                assertThat(getLocalDate(buffer, 1, format), is(dates[i]));
+                assertThat(toLocalDate(fromLocalDate(dates[i], format)), is(dates[i]));
+                if (i > 0) {
+                    assertThat(ByteComparison.compare(
+                            fromLocalDate(dates[i - 1], format), fromLocalDate(dates[i], format)) < 0, is(true));
+                }
+            }
+        }
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toLocalDateNonDigitTest() throws ConversionException {
+        toLocalDate("1999-1a-01".getBytes());
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toLocalDateNoDashesTest() throws ConversionException {
+        toLocalDate("1999/12/01".getBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void putLocalDateOutOfRangeTest() {
+        putLocalDate(new byte[8], 0, LocalDate.of(10000, 1, 1), ISO8601DateFormat.BASIC);
+    }
+
     @Test(expected = ConversionException.class)
     public void toLocalDateInvalidInputTest() throws ConversionException {
         toLocalDate("123456789".getBytes());
@@ -371,11 +1496,300 @@ public class ByteConversionTest {
         assertThat(toIPAddress4(Hex.decode("7F.00.00.01")), is(IPAddress4.parse("127.0.0.1")));
     }
 
+    @Test
+    public void uuidTest() throws ConversionException {
+        UUID random = UUID.fromString("00112233-4455-4677-8899-aabbccddeeff");
+        assertThat(fromUUID(random), is(Hex.decode("00112233445546778899aabbccddeeff")));
+        assertThat(fromUUID(random, UUIDFormat.TIME_ORDERED), is(Hex.decode("00112233445546778899aabbccddeeff")));
+        assertThat(toUUID(Hex.decode("00112233445546778899aabbccddeeff")), is(random));
+
+        // The timestamp of a version 1 UUID moves to the front; the version nibble stays.
+        UUID timeBased = UUID.fromString("c232ab00-9414-11ec-b3c8-9f6bdeced846");
+        byte[] bytes = fromUUID(timeBased, UUIDFormat.TIME_ORDERED);
+        assertThat(bytes, is(Hex.decode("1ec9414c232a1b00b3c89f6bdeced846")));
+        assertThat(toUUID(bytes, UUIDFormat.TIME_ORDERED), is(timeBased));
+        assertThat(toUUID(bytes), is(UUID.fromString("1ec9414c-232a-1b00-b3c8-9f6bdeced846")));
+
+        byte[] buffer = new byte[20];
+        for (UUID uuid : new UUID[]{random, timeBased, new UUID(0L, 0L), new UUID(-1L, -1L), new UUID(0x1000L, 1L)}) {
+            for (UUIDFormat format : UUIDFormat.values()) {
+                putUUID(buffer, 3, uuid, format);
+                assertThat(getUUID(buffer, 3, format), is(uuid));
+                assertThat(toUUID(fromUUID(uuid, format), format), is(uuid));
+            }
+            putUUID(buffer, 2, uuid);
+            assertThat(getUUID(buffer, 2), is(uuid));
+        }
+    }
+
+    @Test
+    public void uuidTimeOrderedTest() throws ConversionException {
+        // Time-based UUIDs for increasing timestamps, across roll-overs of the low and middle time fields.
+        long[] timestamps = new long[]{0L, 1L, 0xffffffffL, 0x100000000L, 0xffffffffffffL, 0x1000000000000L,
+                0x1ec9414c232ab00L, 0xfffffffffffffffL};
+        byte[] previous = null;
+        for (long timestamp : timestamps) {
+            long msb = timestamp << 32 | (timestamp >>> 32 & 0xffffL) << 16 | 0x1000L | timestamp >>> 48;
+            UUID uuid = new UUID(msb, 0x8000000000000000L);
+            assertThat(uuid.version(), is(1));
+            assertThat(uuid.timestamp(), is(timestamp));
+
+            byte[] bytes = fromUUID(uuid, UUIDFormat.TIME_ORDERED);
+            if (previous != null) {
+                assertThat(ByteComparison.compare(previous, bytes) < 0, is(true));
+            }
+            previous = bytes;
+        }
+    }
+
+    @Test(expected = ConversionException.class)
+    public void toUUIDWrongLengthTest() throws ConversionException {
+        toUUID(new byte[15]);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void fromUUIDNullTest() throws ConversionException {
+        fromUUID(null);
+    }
+
+    @Test
+    public void tryToPrimitiveTest() {
+        DecodeResult<?> result = new DecodeResult<>();
+        assertThat(tryToLong(Hex.decode("7fffffffffffffff"), LEXICOGRAPHIC_SORT, result), is(true));
+        assertThat(result.isValid(), is(true));
+        assertThat(result.getLong(), is(-1L));
+        assertThat(result.getError(), is(nullValue()));
+
+        assertThat(tryToLong(Hex.decode("7fffffff"), result), is(false));
+        assertThat(result.isValid(), is(false));
+        assertThat(result.getLong(), is(0L));
+        assertThat(result.getError(), is("Input has the wrong number of bytes."));
+        assertThat(tryToLong(null, result), is(false));
+
+        assertThat(tryToShort(Hex.decode("ffff"), result), is(true));
+        assertThat(result.getShort(), is((short) -1));
+        assertThat(tryToInt(Hex.decode("00000100"), result), is(true));
+        assertThat(result.getInt(), is(256));
+        assertThat(tryToUnsignedShort(Hex.decode("ffff"), result), is(true));
+        assertThat(result.getInt(), is(65535));
+        assertThat(tryToUnsignedShort(new byte[4], result), is(false));
+        assertThat(tryToUnsignedInt(Hex.decode("ffffffff"), result), is(true));
+        assertThat(result.getLong(), is(4294967295L));
+        assertThat(tryToUnsignedInt(new byte[2], result), is(false));
+        assertThat(tryToFloat(fromFloat(-1.5f, LEXICOGRAPHIC_SORT), LEXICOGRAPHIC_SORT, result), is(true));
+        assertThat(result.getFloat(), is(-1.5f));
+        assertThat(tryToDouble(fromDouble(Math.PI), result), is(true));
+        assertThat(result.getDouble(), is(Math.PI));
+        assertThat(tryToDouble(new byte[4], result), is(false));
+
+        assertThat(tryToSigned(Hex.decode("ff00"), TWOS_COMPLEMENT, result), is(true));
+        assertThat(result.getLong(), is(-256L));
+        assertThat(tryToSigned(Hex.decode("fffe"), result), is(true));
+        assertThat(result.getLong(), is(-2L));
+        assertThat(tryToSigned(new byte[9], TWOS_COMPLEMENT, result), is(false));
+        assertThat(tryToUnsigned(Hex.decode("ff00"), result), is(true));
+        assertThat(result.getLong(), is(65280L));
+        assertThat(tryToUnsigned(new byte[0], result), is(false));
+
+        assertThat(tryToVarLong(Hex.decode("f80000"), result), is(true));
+        assertThat(result.getLong(), is(2160L));
+        assertThat(tryToVarLong(Hex.decode("f800"), result), is(false));
+        assertThat(tryToVarLong(new byte[0], result), is(false));
+        assertThat(tryToVarLong(Hex.decode("00"), result), is(false));
+        assertThat(result.getError(), is("Input does not start with a valid variable-length value header."));
+        assertThat(tryToVarLong(Hex.decode("ff0000000000000000"), result), is(false));
+        assertThat(result.getError(), is("Input does not start with a valid variable-length value header."));
+        assertThat(tryToVarInt(fromVarInt(Integer.MIN_VALUE), result), is(true));
+        assertThat(result.getInt(), is(Integer.MIN_VALUE));
+        assertThat(tryToVarInt(fromVarLong(Integer.MAX_VALUE + 1L), result), is(false));
+        assertThat(result.getError(), is("Value does not fit in an int."));
+        assertThat(tryToVarInt(Hex.decode("ff"), result), is(false));
+        assertThat(tryToUnsignedVarLong(Hex.decode("f101"), result), is(true));
+        assertThat(result.getLong(), is(241L));
+        assertThat(tryToUnsignedVarLong(Hex.decode("f10101"), result), is(false));
+
+        assertThat(tryToLeb128(Hex.decode("e58e26"), result), is(true));
+        assertThat(result.getLong(), is(624485L));
+        assertThat(tryToLeb128(Hex.decode("e58e"), result), is(false));
+        assertThat(tryToLeb128(Hex.decode("0101"), result), is(false));
+        assertThat(tryToLeb128(Hex.decode("ffffffffffffffffffff01"), result), is(false));
+        assertThat(tryToZigZag(Hex.decode("01"), result), is(true));
+        assertThat(result.getLong(), is(-1L));
+    }
+
+    @Test
+    public void tryToRandomInputTest() {
+        // Bytes that mean something to one of the encodings turn up more often than chance would have it.
+        byte[] special = Hex.decode("00 01 02 03 2d 30 39 3f 40 7f 80 81 bf c0 fe ff");
+        Random random = new Random(24);
+        DecodeResult<Object> result = new DecodeResult<>();
+        for (int i = 0; i < 20000; i++) {
+            byte[] bytes = new byte[random.nextInt(24)];
+            for (int j = 0; j < bytes.length; j++) {
+                bytes[j] = random.nextBoolean()
+                        ? special[random.nextInt(special.length)]
+                        : (byte) random.nextInt(256);
+            }
+            // Any of these throwing fails the test.
+            tryToShort(bytes, result);
+            tryToUnsignedShort(bytes, result);
+            tryToInt(bytes, result);
+            tryToUnsignedInt(bytes, result);
+            tryToLong(bytes, result);
+            tryToFloat(bytes, result);
+            tryToDouble(bytes, result);
+            tryToSigned(bytes, result);
+            tryToUnsigned(bytes, result);
+            tryToVarLong(bytes, result);
+            tryToVarInt(bytes, result);
+            tryToUnsignedVarLong(bytes, result);
+            tryToLeb128(bytes, result);
+            tryToZigZag(bytes, result);
+            tryToZoneId(bytes, result);
+            tryToIPAddress(bytes, result);
+            for (NumberRepresentation representation : NumberRepresentation.values()) {
+                tryToShort(bytes, representation, result);
+                tryToInt(bytes, representation, result);
+                tryToLong(bytes, representation, result);
+                tryToFloat(bytes, representation, result);
+                tryToDouble(bytes, representation, result);
+                tryToSigned(bytes, representation, result);
+                tryToBigInteger(bytes, representation, result);
+                tryToBigDecimal(bytes, representation, result);
+            }
+            for (SortOrder sortOrder : SortOrder.values()) {
+                tryToTerminated(bytes, sortOrder, result);
+                tryToTerminatedString(bytes, sortOrder, result);
+            }
+            for (InstantFormat instantFormat : InstantFormat.values()) {
+                tryToInstant(bytes, instantFormat, result);
+            }
+            for (ISO8601DateFormat iso8601DateFormat : ISO8601DateFormat.values()) {
+                tryToLocalDate(bytes, iso8601DateFormat, result);
+            }
+            for (ZoneFormat zoneFormat : ZoneFormat.values()) {
+                tryToOffsetDateTime(bytes, zoneFormat, result);
+                tryToZonedDateTime(bytes, zoneFormat, result);
+            }
+            for (UUIDFormat uuidFormat : UUIDFormat.values()) {
+                tryToUUID(bytes, uuidFormat, result);
+            }
+        }
+    }
+
+    @Test
+    public void tryToObjectTest() throws ConversionException {
+        DecodeResult<LocalDate> date = new DecodeResult<>();
+        assertThat(tryToLocalDate("2016-02-29".getBytes(), ISO8601DateFormat.EXTENDED, date), is(true));
+        assertThat(date.getValue(), is(LocalDate.of(2016, 2, 29)));
+        assertThat(tryToLocalDate("20160229".getBytes(), ISO8601DateFormat.BASIC, date), is(true));
+        // Every epoch day that fits in four bytes is a valid date.
+        assertThat(tryToLocalDate(Hex.decode("00000000"), ISO8601DateFormat.EPOCH_DAY, date), is(true));
+        assertThat(date.getValue(), is(LocalDate.ofEpochDay(Integer.MIN_VALUE)));
+
+        assertThat(tryToLocalDate("2015-02-29".getBytes(), ISO8601DateFormat.EXTENDED, date), is(false));
+        assertThat(date.getValue(), is(nullValue()));
+        assertThat(date.getError(), is("Input is not a valid date."));
+        assertThat(tryToLocalDate("2015-13-01".getBytes(), ISO8601DateFormat.EXTENDED, date), is(false));
+        assertThat(tryToLocalDate("2015-00-01".getBytes(), ISO8601DateFormat.EXTENDED, date), is(false));
+        assertThat(tryToLocalDate("2015-01-00".getBytes(), ISO8601DateFormat.EXTENDED, date), is(false));
+        assertThat(tryToLocalDate("1999-1a-01".getBytes(), ISO8601DateFormat.EXTENDED, date), is(false));
+        assertThat(tryToLocalDate("1999/12/01".getBytes(), ISO8601DateFormat.EXTENDED, date), is(false));
+        assertThat(tryToLocalDate("123456789".getBytes(), ISO8601DateFormat.BASIC, date), is(false));
+
+        ZonedDateTime zdt = ZonedDateTime.of(1999, 8, 3, 12, 0, 0, 5, ZoneId.of("Europe/Amsterdam"));
+        DecodeResult<ZonedDateTime> zoned = new DecodeResult<>();
+        for (ZoneFormat zoneFormat : ZoneFormat.values()) {
+            assertThat(tryToZonedDateTime(fromZonedDateTime(zdt, zoneFormat), zoneFormat, zoned), is(true));
+            assertThat(zoned.getValue(), is(zdt));
+        }
+        assertThat(tryToZonedDateTime(Hex.decode("000000000000000000000000 ff"), ZoneFormat.COMPACT, zoned), is(false));
+        assertThat(zoned.getError() != null, is(true));
+        assertThat(tryToZonedDateTime(new byte[12], ZoneFormat.ID, zoned), is(false));
+        // Malformed compact time-zones are rejected before decoding.
+        String invalidZone = "Input is not a valid compact time-zone.";
+        assertThat(tryToZonedDateTime(Hex.decode("000000000000000000000000 01ffff"), ZoneFormat.COMPACT, zoned),
+                is(false));
+        assertThat(zoned.getError(), is(invalidZone));
+        assertThat(tryToZonedDateTime(Hex.decode("000000000000000000000000 0249"), ZoneFormat.COMPACT, zoned),
+                is(false));
+        assertThat(zoned.getError(), is(invalidZone));
+        assertThat(tryToZonedDateTime(Hex.decode("000000000000000000000000 0380000000"), ZoneFormat.COMPACT, zoned),
+                is(false));
+        assertThat(zoned.getError(), is(invalidZone));
+        assertThat(tryToZonedDateTime(Hex.decode("000000000000000000000000 0004616263"), ZoneFormat.COMPACT, zoned),
+                is(false));
+        assertThat(zoned.getError(), is("Input has the wrong number of bytes."));
+        assertThat(tryToZonedDateTime(Hex.decode("000000000000000000000000 0248"), ZoneFormat.COMPACT, zoned),
+                is(true));
+        assertThat(zoned.getValue().getZone(), is(ZoneOffset.ofHours(18)));
+
+        DecodeResult<OffsetDateTime> offset = new DecodeResult<>();
+        OffsetDateTime odt = zdt.toOffsetDateTime();
+        assertThat(tryToOffsetDateTime(fromOffsetDateTime(odt), ZoneFormat.ID, offset), is(true));
+        assertThat(offset.getValue(), is(odt));
+        assertThat(tryToOffsetDateTime(fromZonedDateTime(zdt), ZoneFormat.ID, offset), is(false));
+        assertThat(tryToOffsetDateTime(fromOffsetDateTime(odt, ZoneFormat.COMPACT), ZoneFormat.COMPACT, offset),
+                is(true));
+        assertThat(offset.getValue(), is(odt));
+        assertThat(tryToOffsetDateTime(fromZonedDateTime(zdt, ZoneFormat.COMPACT), ZoneFormat.COMPACT, offset),
+                is(false));
+        assertThat(offset.getError(), is("Expected a time-zone offset, found a region."));
+
+        DecodeResult<Instant> instant = new DecodeResult<>();
+        assertThat(tryToInstant(new byte[8], InstantFormat.EPOCH_MILLIS_8, instant), is(true));
+        assertThat(instant.getValue(), is(Instant.ofEpochMilli(Long.MIN_VALUE)));
+        assertThat(tryToInstant(new byte[8], InstantFormat.SORTABLE_12, instant), is(false));
+        assertThat(tryToInstant(Hex.decode("7fffffffffffffff 00000000"), InstantFormat.SECONDS_NANOS_12, instant),
+                is(false));
+
+        DecodeResult<Object> any = new DecodeResult<>();
+        assertThat(tryToZoneId(fromZoneId(ZoneId.of("Japan")), any), is(true));
+        assertThat(any.getValue(), is(ZoneId.of("Japan")));
+        assertThat(tryToZoneId(Hex.decode("01ffff"), any), is(false));
+        assertThat(tryToBigDecimal(Hex.decode("c08102"), LEXICOGRAPHIC_SORT, any), is(true));
+        assertThat(any.getValue(), is(BigDecimal.ONE));
+        assertThat(tryToBigDecimal(Hex.decode("c0"), LEXICOGRAPHIC_SORT, any), is(false));
+        assertThat(tryToBigInteger(Hex.decode("ff"), TWOS_COMPLEMENT, any), is(true));
+        assertThat(any.getValue(), is(BigInteger.ONE.negate()));
+        byte[] hugeExponent = ByteMangler.add(Hex.decode("c0"), fromVarLong(10_000_000L), Hex.decode("02"));
+        assertThat(tryToBigInteger(hugeExponent, LEXICOGRAPHIC_SORT, any), is(false));
+        assertThat(tryToBigInteger(Hex.decode("c0 81 fe"), LEXICOGRAPHIC_SORT, any), is(false));
+        assertThat(tryToTerminatedString(Hex.decode("61 0001"), SortOrder.ASCENDING, any), is(true));
+        assertThat(any.getValue(), is("a"));
+        assertThat(tryToTerminatedString(Hex.decode("61 00"), SortOrder.ASCENDING, any), is(false));
+        assertThat(tryToTerminatedString(Hex.decode("61 0001 62"), SortOrder.ASCENDING, any), is(false));
+        assertThat(tryToTerminated(Hex.decode("fe ff00 fffe"), SortOrder.DESCENDING, any), is(true));
+        assertThat(any.getValue(), is(Hex.decode("0100")));
+        assertThat(tryToTerminated(Hex.decode("00 00 0001"), SortOrder.ASCENDING, any), is(false));
+        assertThat(tryToTerminatedString(Hex.decode("00 00 0001"), SortOrder.ASCENDING, any), is(false));
+        assertThat(tryToTerminated(Hex.decode("01 00ff"), SortOrder.ASCENDING, any), is(false));
+        assertThat(any.getError(), is("Input is not a terminated field."));
+        assertThat(tryToTerminated(null, SortOrder.ASCENDING, any), is(false));
+        assertThat(tryToIPAddress(Hex.decode("7f000001"), any), is(true));
+        assertThat(any.getValue(), is(IPAddress.parse("127.0.0.1")));
+        assertThat(tryToIPAddress(Hex.decode("7f0000"), any), is(false));
+
+        DecodeResult<UUID> uuid = new DecodeResult<>();
+        assertThat(tryToUUID(new byte[16], UUIDFormat.STANDARD, uuid), is(true));
+        assertThat(uuid.getValue(), is(new UUID(0L, 0L)));
+        assertThat(tryToUUID(new byte[17], UUIDFormat.STANDARD, uuid), is(false));
+    }
+
+    @Test
+    public void stacklessConversionExceptionTest() {
+        assertThat(new ConversionException("Invalid.", false).getStackTrace().length, is(0));
+        assertThat(new ConversionException("Invalid.", true).getStackTrace().length > 0, is(true));
+        // Stack traces are kept unless the system property says otherwise.
+        assertThat(new ConversionException("Invalid.").getStackTrace().length > 0, is(true));
+    }
+
     @Test
     public void numberRepresentationTest() {
-        assertThat(NumberRepresentation.values().length, is(2));
+        assertThat(NumberRepresentation.values().length, is(3));
         assertThat(NumberRepresentation.valueOf("TWOS_COMPLEMENT"), is(TWOS_COMPLEMENT));
         assertThat(NumberRepresentation.valueOf("LEXICOGRAPHIC_SORT"), is(LEXICOGRAPHIC_SORT));
+        assertThat(NumberRepresentation.valueOf("LEXICOGRAPHIC_SORT_DESCENDING"), is(LEXICOGRAPHIC_SORT_DESCENDING));
     }
 
     @Test
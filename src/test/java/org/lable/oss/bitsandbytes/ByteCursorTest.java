@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes;
+
+import org.junit.Test;
+import org.lable.oss.bitsandbytes.ByteConversion.InstantFormat;
+import org.lable.oss.bitsandbytes.ByteConversion.SortOrder;
+import org.lable.oss.bitsandbytes.ByteConversion.UUIDFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT;
+import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING;
+
+public class ByteCursorTest {
+    private final Instant instant = Instant.ofEpochSecond(1456759960L, 123456789);
+    private final byte[] record = ByteArray.ofByte((byte) 0xff)
+            .append(Hex.decode("0007"))
+            .appendInt(-1, LEXICOGRAPHIC_SORT)
+            .appendLong(5L, LEXICOGRAPHIC_SORT_DESCENDING)
+            .appendFloat(1.5f, LEXICOGRAPHIC_SORT)
+            .appendDouble(-2.5d)
+            .appendVarLong(-300)
+            .appendUnsignedVarLong(2288)
+            .appendLeb128(Long.MIN_VALUE)
+            .appendZigZag(-65)
+            .append(instant, InstantFormat.SORTABLE_12)
+            .append("héllo")
+            .appendTerminated("a\u0000b", SortOrder.DESCENDING)
+            .append(Hex.decode("c0a80001 fe800000000000000000000000000001"))
+            .toArray();
+
+    private void readRecord(ByteCursor cursor) {
+        assertThat(cursor.readByte(), is((byte) 0xff));
+        assertThat(cursor.readShort(), is((short) 7));
+        assertThat(cursor.readInt(LEXICOGRAPHIC_SORT), is(-1));
+        assertThat(cursor.readLong(LEXICOGRAPHIC_SORT_DESCENDING), is(5L));
+        assertThat(cursor.readFloat(LEXICOGRAPHIC_SORT), is(1.5f));
+        assertThat(cursor.readDouble(), is(-2.5d));
+        assertThat(cursor.readVarLong(), is(-300L));
+        assertThat(cursor.readUnsignedVarLong(), is(2288L));
+        assertThat(cursor.readLeb128(), is(Long.MIN_VALUE));
+        assertThat(cursor.readZigZag(), is(-65L));
+        assertThat(cursor.readInstant(InstantFormat.SORTABLE_12), is(instant));
+        assertThat(cursor.readString(6), is("héllo"));
+        assertThat(cursor.readTerminatedString(SortOrder.DESCENDING), is("a\u0000b"));
+        assertThat(cursor.readIPAddress4(), is(IPAddress.parse("192.168.0.1")));
+        assertThat(cursor.readIPAddress6(), is(IPAddress.parse("fe80::1")));
+        assertThat(cursor.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void readArrayTest() {
+        byte[] padded = ByteArray.ofByte((byte) 0).append(record).appendByte((byte) 0).toArray();
+        ByteCursor cursor = new ByteCursor(padded, 1, record.length);
+        assertThat(cursor.position(), is(1));
+        readRecord(cursor);
+        assertThat(cursor.position(), is(record.length + 1));
+    }
+
+    @Test
+    public void readBufferTest() {
+        ByteBuffer heap = ByteBuffer.allocate(record.length + 3);
+        heap.position(2).put(record).position(2).limit(record.length + 2);
+        readRecord(new ByteCursor(heap));
+        readRecord(new ByteCursor(heap.asReadOnlyBuffer()));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(record.length);
+        direct.put(record).flip();
+        readRecord(new ByteCursor(direct));
+        // Reading does not move the buffer.
+        assertThat(direct.position(), is(0));
+    }
+
+    @Test
+    public void mirrorTest() {
+        byte[] bytes = new byte[record.length];
+        new ByteWriter(bytes)
+                .writeByte((byte) 0xff)
+                .writeShort((short) 7)
+                .writeInt(-1, LEXICOGRAPHIC_SORT)
+                .writeLong(5L, LEXICOGRAPHIC_SORT_DESCENDING)
+                .writeFloat(1.5f, LEXICOGRAPHIC_SORT)
+                .writeDouble(-2.5d)
+                .writeVarLong(-300)
+                .writeUnsignedVarLong(2288)
+                .writeLeb128(Long.MIN_VALUE)
+                .writeZigZag(-65)
+                .writeInstant(instant, InstantFormat.SORTABLE_12)
+                .writeString("héllo")
+                .writeTerminatedString("a\u0000b", SortOrder.DESCENDING)
+                .writeIPAddress(IPAddress.parse("192.168.0.1"))
+                .writeIPAddress(IPAddress.parse("fe80::1"));
+        assertThat(bytes, is(record));
+    }
+
+    @Test
+    public void littleEndianTest() {
+        byte[] bytes = new byte[26];
+        new ByteWriter(bytes)
+                .writeShort((short) 1, ByteOrder.LITTLE_ENDIAN)
+                .writeInt(2, ByteOrder.LITTLE_ENDIAN)
+                .writeLong(3L, ByteOrder.LITTLE_ENDIAN)
+                .writeFloat(4.0f, ByteOrder.LITTLE_ENDIAN)
+                .writeDouble(5.0d, ByteOrder.BIG_ENDIAN);
+        assertThat(bytes, is(Hex.decode("0100 02000000 0300000000000000 00008040 4014000000000000")));
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (ByteCursor cursor : new ByteCursor[]{new ByteCursor(bytes), new ByteCursor(buffer)}) {
+            assertThat(cursor.readShort(ByteOrder.LITTLE_ENDIAN), is((short) 1));
+            assertThat(cursor.readInt(ByteOrder.LITTLE_ENDIAN), is(2));
+            assertThat(cursor.readLong(ByteOrder.LITTLE_ENDIAN), is(3L));
+            assertThat(cursor.readFloat(ByteOrder.LITTLE_ENDIAN), is(4.0f));
+            assertThat(cursor.readDouble(ByteOrder.BIG_ENDIAN), is(5.0d));
+            assertThat(cursor.hasRemaining(), is(false));
+        }
+    }
+
+    @Test
+    public void fixedWidthTest() {
+        byte[] bytes = new byte[12];
+        ByteWriter writer = new ByteWriter(bytes)
+                .writeSigned(-2L, 3)
+                .writeSigned(-2L, 2, LEXICOGRAPHIC_SORT)
+                .writeUnsigned(1_500_000_000_000L, 6);
+        assertThat(bytes, is(Hex.decode("fffffe 7ffe 015d3ef79800 00")));
+
+        // Values that do not fit leave the writer as it was.
+        boolean thrown = false;
+        try {
+            writer.writeSigned(128L, 1);
+        } catch (IllegalArgumentException e) {
+            thrown = true;
+        }
+        assertThat(thrown, is(true));
+        assertThat(writer.position(), is(11));
+
+        for (ByteCursor cursor : new ByteCursor[]{new ByteCursor(bytes), new ByteCursor(ByteBuffer.wrap(bytes))}) {
+            assertThat(cursor.readSigned(3), is(-2L));
+            assertThat(cursor.readSigned(2, LEXICOGRAPHIC_SORT), is(-2L));
+            assertThat(cursor.readUnsigned(6), is(1_500_000_000_000L));
+            assertThat(cursor.readUnsigned(1), is(0L));
+        }
+    }
+
+    @Test
+    public void uuidTest() {
+        UUID uuid = UUID.fromString("c232ab00-9414-11ec-b3c8-9f6bdeced846");
+        byte[] bytes = new byte[33];
+        new ByteWriter(bytes).writeUUID(uuid, UUIDFormat.STANDARD).writeUUID(uuid, UUIDFormat.TIME_ORDERED);
+        assertThat(bytes, is(Hex.decode("c232ab00941411ecb3c89f6bdeced846 1ec9414c232a1b00b3c89f6bdeced846 00")));
+
+        for (ByteCursor cursor : new ByteCursor[]{new ByteCursor(bytes), new ByteCursor(ByteBuffer.wrap(bytes))}) {
+            assertThat(cursor.readUUID(UUIDFormat.STANDARD), is(uuid));
+            assertThat(cursor.readUUID(UUIDFormat.TIME_ORDERED), is(uuid));
+            // Too few bytes left; the position does not move.
+            boolean thrown = false;
+            try {
+                cursor.readUUID(UUIDFormat.STANDARD);
+            } catch (IndexOutOfBoundsException e) {
+                thrown = true;
+            }
+            assertThat(thrown, is(true));
+            assertThat(cursor.position(), is(32));
+        }
+    }
+
+    @Test
+    public void skipAndPositionTest() {
+        ByteCursor cursor = new ByteCursor(Hex.decode("00 01 02 03 04"));
+        assertThat(cursor.skip(2).readByte(), is((byte) 2));
+        assertThat(cursor.remaining(), is(2));
+        assertThat(cursor.position(1).readShort(), is((short) 0x0102));
+        assertThat(cursor.readBytes(2), is(Hex.decode("0304")));
+    }
+
+    @Test
+    public void underflowTest() {
+        ByteCursor cursor = new ByteCursor(Hex.decode("00000001 f8 00"), 0, 6);
+        assertThat(cursor.readInt(), is(1));
+        try {
+            // Three-byte varint, of which only two bytes are in range.
+            cursor.readVarLong();
+            throw new AssertionError("Expected an IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException e) {
+            // Expected.
+        }
+        assertThat(cursor.position(), is(4));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void terminatorOutOfRangeTest() {
+        // The terminator lies beyond the readable range.
+        new ByteCursor(Hex.decode("61 0001"), 0, 2).readTerminatedString(SortOrder.ASCENDING);
+    }
+
+    @Test
+    public void terminatedStringInvalidEscapeTest() {
+        ByteBuffer direct = ByteBuffer.allocateDirect(4).put(Hex.decode("ff ff fffe"));
+        direct.flip();
+        ByteCursor[] cursors = {
+                new ByteCursor(Hex.decode("ff ff fffe")),
+                new ByteCursor(ByteBuffer.wrap(Hex.decode("ff ff fffe"))),
+                new ByteCursor(direct)
+        };
+        for (ByteCursor cursor : cursors) {
+            try {
+                cursor.readTerminatedString(SortOrder.DESCENDING);
+                throw new AssertionError("Expected an IllegalArgumentException.");
+            } catch (IllegalArgumentException e) {
+                assertThat(cursor.position(), is(0));
+            }
+        }
+    }
+
+    @Test
+    public void terminatedStringDirectBufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        new ByteWriter(buffer)
+                .writeTerminatedString("a\u0000b", SortOrder.ASCENDING)
+                .writeTerminatedString("cd", SortOrder.DESCENDING)
+                .writeTerminatedString("", SortOrder.ASCENDING);
+        ByteCursor cursor = new ByteCursor(buffer);
+        assertThat(cursor.readTerminatedString(SortOrder.ASCENDING), is("a\u0000b"));
+        assertThat(cursor.readTerminatedString(SortOrder.DESCENDING), is("cd"));
+        assertThat(cursor.readTerminatedString(SortOrder.ASCENDING), is(""));
+        assertThat(cursor.position(), is(12));
+        assertThat(buffer.position(), is(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void terminatorBeyondLimitTest() {
+        // The terminator lies in the backing array, but past the limit of the buffer.
+        ByteBuffer buffer = ByteBuffer.wrap(Hex.decode("61 0001"));
+        buffer.limit(2);
+        new ByteCursor(buffer).readTerminatedString(SortOrder.ASCENDING);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void terminatorBeyondLimitDirectTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3).put(Hex.decode("61 0001"));
+        buffer.position(0).limit(2);
+        new ByteCursor(buffer).readTerminatedString(SortOrder.ASCENDING);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void leb128UnderflowTest() {
+        new ByteCursor(Hex.decode("80 80")).readLeb128();
+    }
+}
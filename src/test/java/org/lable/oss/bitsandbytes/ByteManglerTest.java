@@ -319,11 +319,6 @@ public class ByteManglerTest {
         assertThat(result.get(0), is(input));
     }
 
-    @Test
-    public void matchesDelimiterEdgeCase() {
-        assertThat(matchesDelimiter(new byte[0], new byte[0], 0), is(false));
-    }
-
 
     @Test
     public void splitBasicTest() {
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BytePatternTest {
+    @Test
+    public void indexOfShortPatternTest() {
+        byte[] input = "abcdefghijklmnopqrstuvwxyzabc".getBytes();
+
+        assertThat(BytePattern.compile("a".getBytes()).indexOf(input), is(0));
+        assertThat(BytePattern.compile("a".getBytes()).indexOf(input, 1), is(26));
+        assertThat(BytePattern.compile("a".getBytes()).indexOf(input, 1, 26), is(-1));
+        assertThat(BytePattern.compile("klm".getBytes()).indexOf(input), is(10));
+        assertThat(BytePattern.compile("xyzabc".getBytes()).indexOf(input), is(23));
+        assertThat(BytePattern.compile("xyzabd".getBytes()).indexOf(input), is(-1));
+        assertThat(BytePattern.compile("".getBytes()).indexOf(input, 5), is(5));
+        assertThat(BytePattern.compile("a".getBytes()).indexOf(null), is(-1));
+    }
+
+    @Test
+    public void indexOfLongPatternTest() {
+        byte[] input = "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz".getBytes();
+
+        assertThat(BytePattern.compile("defghijklmnop".getBytes()).indexOf(input), is(3));
+        assertThat(BytePattern.compile("defghijklmnop".getBytes()).indexOf(input, 4), is(29));
+        assertThat(BytePattern.compile("defghijklmnop".getBytes()).lastIndexOf(input), is(29));
+        assertThat(BytePattern.compile("defghijklmnop".getBytes()).lastIndexOf(input, 28), is(3));
+        assertThat(BytePattern.compile("defghijklmnoq".getBytes()).indexOf(input), is(-1));
+        assertThat(BytePattern.compile("defghijklmnoq".getBytes()).lastIndexOf(input), is(-1));
+    }
+
+    @Test
+    public void lastIndexOfShortPatternTest() {
+        byte[] input = "abcdefghijklmnopqrstuvwxyzabc".getBytes();
+
+        assertThat(BytePattern.compile("a".getBytes()).lastIndexOf(input), is(26));
+        assertThat(BytePattern.compile("a".getBytes()).lastIndexOf(input, 25), is(0));
+        assertThat(BytePattern.compile("abc".getBytes()).lastIndexOf(input, 100), is(26));
+        assertThat(BytePattern.compile("abc".getBytes()).lastIndexOf(input, -1), is(-1));
+        assertThat(BytePattern.compile("".getBytes()).lastIndexOf(input), is(29));
+        assertThat(BytePattern.compile("a".getBytes()).lastIndexOf(null), is(-1));
+    }
+
+    @Test
+    public void highBitTest() {
+        // Bytes with the high bit set must not confuse the eight-bytes-at-a-time scan.
+        byte[] input = Hex.decode("80 ff 7f 01 00 81 80 80  fe 00 01 ff 80 00 7f 00  01");
+
+        assertThat(BytePattern.compile(Hex.decode("00")).indexOf(input), is(4));
+        assertThat(BytePattern.compile(Hex.decode("01")).indexOf(input, 4), is(10));
+        assertThat(BytePattern.compile(Hex.decode("80 00")).indexOf(input), is(12));
+        assertThat(BytePattern.compile(Hex.decode("ff")).indexOf(input, 2), is(11));
+        assertThat(BytePattern.compile(Hex.decode("00 01")).lastIndexOf(input), is(15));
+    }
+
+    @Test
+    public void randomisedTest() {
+        Random random = new Random(42);
+        for (int round = 0; round < 2000; round++) {
+            // A small alphabet makes partial matches likely.
+            byte[] input = new byte[random.nextInt(200)];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = (byte) (random.nextInt(3) * 0x7F);
+            }
+            byte[] needle = new byte[1 + random.nextInt(14)];
+            for (int i = 0; i < needle.length; i++) {
+                needle[i] = (byte) (random.nextInt(3) * 0x7F);
+            }
+            int from = random.nextInt(input.length + 1);
+
+            BytePattern pattern = BytePattern.compile(needle);
+            assertThat(pattern.indexOf(input, from), is(naiveIndexOf(input, needle, from)));
+            assertThat(pattern.lastIndexOf(input, from), is(naiveLastIndexOf(input, needle, from)));
+        }
+    }
+
+    @Test
+    public void splitTest() {
+        BytePattern pattern = BytePattern.compile(", ".getBytes());
+        List<byte[]> parts = pattern.split("a, b, c".getBytes(), 0);
+
+        assertThat(parts.size(), is(3));
+        assertThat(parts.get(0), is("a".getBytes()));
+        assertThat(parts.get(1), is("b".getBytes()));
+        assertThat(parts.get(2), is("c".getBytes()));
+
+        parts = pattern.split("a, b, c".getBytes(), -2);
+        assertThat(parts.size(), is(2));
+        assertThat(parts.get(0), is("a, b".getBytes()));
+        assertThat(parts.get(1), is("c".getBytes()));
+    }
+
+    @Test
+    public void replaceTest() {
+        BytePattern pattern = BytePattern.compile("--".getBytes());
+
+        assertThat(pattern.replace("a--b---c".getBytes(), "+".getBytes()), is("a+b+-c".getBytes()));
+        assertThat(pattern.replace("----".getBytes(), null), is(new byte[0]));
+
+        byte[] input = "abc".getBytes();
+        assertThat(pattern.replace(input, "+".getBytes()) == input, is(true));
+    }
+
+    @Test
+    public void compileCopiesTest() {
+        byte[] needle = "abc".getBytes();
+        BytePattern pattern = BytePattern.compile(needle);
+        needle[0] = 'x';
+
+        assertThat(pattern.get(), is("abc".getBytes()));
+        assertThat(pattern.length(), is(3));
+        assertThat(pattern.matchesAt("xabc".getBytes(), 1), is(true));
+        assertThat(pattern.matchesAt("xabc".getBytes(), 2), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileNullTest() {
+        BytePattern.compile(null);
+    }
+
+    static boolean naiveMatchesAt(byte[] input, byte[] needle, int offset) {
+        return Arrays.equals(input, offset, offset + needle.length, needle, 0, needle.length);
+    }
+
+    static int naiveIndexOf(byte[] input, byte[] needle, int from) {
+        for (int i = Math.max(from, 0); i <= input.length - needle.length; i++) {
+            if (naiveMatchesAt(input, needle, i)) return i;
+        }
+        return -1;
+    }
+
+    static int naiveLastIndexOf(byte[] input, byte[] needle, int from) {
+        for (int i = Math.min(from, input.length - needle.length); i >= 0; i--) {
+            if (naiveMatchesAt(input, needle, i)) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes;
+
+import org.junit.Test;
+import org.lable.oss.bitsandbytes.ByteConversion.InstantFormat;
+import org.lable.oss.bitsandbytes.ByteConversion.SortOrder;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT;
+import static org.lable.oss.bitsandbytes.ByteConversion.NumberRepresentation.LEXICOGRAPHIC_SORT_DESCENDING;
+
+public class ByteWriterTest {
+    @Test
+    public void writeTest() {
+        byte[] bytes = new byte[32];
+        ByteWriter writer = new ByteWriter(bytes, 1, 30)
+                .writeByte((byte) 0x7f)
+                .writeShort((short) 1)
+                .writeInt(-1, LEXICOGRAPHIC_SORT)
+                .writeVarLong(2160)
+                .writeLeb128(300)
+                .writeString("é")
+                .writeTerminatedString("a", SortOrder.DESCENDING)
+                .writeIPAddress(IPAddress.parse("192.168.0.1"));
+
+        assertThat(writer.position(), is(22));
+        assertThat(writer.remaining(), is(9));
+        assertThat(Arrays.copyOf(bytes, 22),
+                is(Hex.decode("00 7f 0001 7fffffff f80000 ac02 c3a9 9efffe c0a80001")));
+    }
+
+    @Test
+    public void writeBufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        buffer.position(2);
+        Instant instant = Instant.ofEpochSecond(1456759960L, 1002003);
+
+        ByteWriter writer = new ByteWriter(buffer)
+                .writeLong(5L, LEXICOGRAPHIC_SORT_DESCENDING)
+                .writeDouble(-1.0d, LEXICOGRAPHIC_SORT)
+                .writeFloat(1.0f)
+                .writeZigZag(-1)
+                .writeUnsignedVarLong(241)
+                .writeInstant(instant, InstantFormat.EPOCH_MICROS_8)
+                .writeTerminatedString("\u0000", SortOrder.ASCENDING)
+                .writeIPAddress(IPAddress.parse("::1"));
+
+        assertThat(buffer.position(), is(2));
+        byte[] bytes = new byte[writer.position() - 2];
+        buffer.get(2, bytes);
+        byte[] expected = ByteArray.startWithEmpty()
+                .appendLong(5L, LEXICOGRAPHIC_SORT_DESCENDING)
+                .appendDouble(-1.0d, LEXICOGRAPHIC_SORT)
+                .appendFloat(1.0f)
+                .appendZigZag(-1)
+                .appendUnsignedVarLong(241)
+                .append(instant, InstantFormat.EPOCH_MICROS_8)
+                .appendTerminated("\u0000")
+                .append(Hex.decode("00000000000000000000000000000001"))
+                .toArray();
+        assertThat(bytes, is(expected));
+    }
+
+    @Test
+    public void overflowTest() {
+        ByteWriter writer = new ByteWriter(new byte[10], 2, 6).writeInt(1);
+        try {
+            writer.writeLong(1L);
+            throw new AssertionError("Expected an IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException e) {
+            // Expected.
+        }
+        // The failed write left the position alone.
+        assertThat(writer.position(), is(6));
+        assertThat(writer.writeShort((short) 1).remaining(), is(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void overflowIPv6Test() {
+        new ByteWriter(new byte[12]).writeIPAddress(IPAddress.parse("::1"));
+    }
+}
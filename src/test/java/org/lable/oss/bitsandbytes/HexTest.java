@@ -17,6 +17,10 @@ package org.lable.oss.bitsandbytes;
 
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.lable.oss.bitsandbytes.Hex.decode;
@@ -62,4 +66,138 @@ public class HexTest {
         assertThat(encode(new byte[]{18, 52, 86, 120, (byte) 144}), is("1234567890"));
         assertThat(encode(new byte[]{-54, -2, -70, -66}), is("CAFEBABE"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void encodeAllValuesTest() {
+        byte[] all = new byte[256];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 256; i++) {
+            all[i] = (byte) i;
+            expected.append(String.format("%02X", i));
+        }
+
+        assertThat(encode(all), is(expected.toString()));
+        assertThat(encode(all, true), is(expected.toString().toLowerCase()));
+        assertThat(decode(encode(all)), is(all));
+    }
+
+    @Test
+    public void encodeNullTest() {
+        assertThat(encode(null), is("NULL"));
+        assertThat(encode(null, true), is("NULL"));
+    }
+
+    @Test
+    public void encodeByteTest() {
+        assertThat(encode((byte) 0), is("00"));
+        assertThat(encode((byte) -2), is("FE"));
+        assertThat(encode((byte) -2, true), is("fe"));
+    }
+
+    @Test
+    public void encodeToCharArrayTest() {
+        char[] out = new char[]{'x', 'x', 'x', 'x', 'x', 'x'};
+        int written = Hex.encodeTo(new byte[]{1, -54, -2, 3}, 1, 2, out, 1);
+
+        assertThat(written, is(4));
+        assertThat(new String(out), is("xCAFEx"));
+
+        Hex.encodeTo(new byte[]{-54, -2}, 0, 2, out, 2, true);
+        assertThat(new String(out), is("xCcafe"));
+    }
+
+    @Test
+    public void encodeToByteArrayTest() {
+        byte[] out = new byte[6];
+        int written = Hex.encodeTo(new byte[]{1, -54, -2, 3}, 1, 2, out, 1);
+
+        assertThat(written, is(4));
+        assertThat(new String(out, 1, 4, StandardCharsets.US_ASCII), is("CAFE"));
+
+        Hex.encodeTo(new byte[]{-70, -66}, 0, 2, out, 0, true);
+        assertThat(new String(out, 0, 4, StandardCharsets.US_ASCII), is("babe"));
+    }
+
+    @Test
+    public void encodeToAppendableTest() throws IOException {
+        StringBuilder builder = new StringBuilder("0x");
+        Hex.encodeTo(new byte[]{-54, -2, -70, -66}, 0, 4, builder);
+        assertThat(builder.toString(), is("0xCAFEBABE"));
+
+        // Larger than a single chunk.
+        byte[] large = new byte[2000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) i;
+        }
+        StringWriter writer = new StringWriter();
+        Hex.encodeTo(large, 0, large.length, writer, true);
+        assertThat(writer.toString(), is(encode(large, true)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void encodeToTooSmallTest() {
+        Hex.encodeTo(new byte[4], 0, 4, new char[7], 0);
+    }
+
+    @Test
+    public void decodeOddLengthTest() {
+        assertThat(decode("fff"), is(new byte[]{15, -1}));
+        assertThat(decode("0x f ff"), is(new byte[]{15, -1}));
+        assertThat(decode(""), is(new byte[0]));
+        assertThat(decode((String) null), is(new byte[0]));
+    }
+
+    @Test
+    public void decodeStrictTest() {
+        assertThat(decode("CAFEbabe", true), is(new byte[]{-54, -2, -70, -66}));
+        assertThat(decode("0xCAFEBABE", true), is(new byte[]{-54, -2, -70, -66}));
+        assertThat(decode(new StringBuilder("0Xff"), true), is(new byte[]{-1}));
+        assertThat(decode("", true), is(new byte[0]));
+        assertThat(decode("0x", true), is(new byte[0]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeStrictOddTest() {
+        decode("fff", true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeStrictSeparatorTest() {
+        decode("CAFE BABE", true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeStrictNonAsciiTest() {
+        decode("ff\u00ff", true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeStrictNullTest() {
+        decode(null, true);
+    }
+
+    @Test
+    public void decodeIntoBufferTest() {
+        byte[] buffer = new byte[6];
+        String input = "key=0xCAFE BABE;";
+
+        // Decode "0xCAFE BABE" only.
+        int written = Hex.decode(input, 4, 11, buffer, 1);
+        assertThat(written, is(4));
+        assertThat(buffer, is(new byte[]{0, -54, -2, -70, -66, 0}));
+
+        written = Hex.decode(input, 6, 4, buffer, 4, true);
+        assertThat(written, is(2));
+        assertThat(buffer, is(new byte[]{0, -54, -2, -70, -54, -2}));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void decodeIntoBufferTooSmallTest() {
+        Hex.decode("CAFEBABE", 0, 8, new byte[3], 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void decodeIntoBufferRangeTest() {
+        Hex.decode("CAFEBABE", 4, 8, new byte[4], 0);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2015 Lable (info@lable.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lable.oss.bitsandbytes;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.lable.oss.bitsandbytes.TupleKey.FieldType.*;
+import static org.lable.oss.bitsandbytes.ByteConversion.SortOrder.DESCENDING;
+
+public class TupleKeyTest {
+    private final TupleKey schema = TupleKey.builder()
+            .field("tenant", STRING)
+            .field("timestamp", LONG, DESCENDING)
+            .field("day", LOCAL_DATE)
+            .field("payload", BYTES, DESCENDING)
+            .field("sequence", VAR_LONG, DESCENDING)
+            .field("score", DOUBLE)
+            .build();
+
+    @Test
+    public void encodeTest() {
+        TupleKey simple = TupleKey.builder().field("a", STRING).field("b", INT).build();
+
+        assertThat(simple.encode("ab", 1), is(Hex.decode("6162 0001 80000001")));
+        assertThat(simple.encode("a\u0000", -1), is(Hex.decode("61 00ff 0001 7fffffff")));
+        assertThat(simple.encode(""), is(Hex.decode("0001")));
+
+        TupleKey descending = TupleKey.builder().field("a", STRING, DESCENDING).build();
+        assertThat(descending.encode("a\u0000"), is(Hex.decode("9e ff00 fffe")));
+    }
+
+    @Test
+    public void roundTripTest() {
+        Instant now = Instant.ofEpochSecond(1456759960L, 123);
+        TupleKey all = TupleKey.builder()
+                .field("string", STRING)
+                .field("bytes", BYTES)
+                .field("int", INT, DESCENDING)
+                .field("long", LONG)
+                .field("varLong", VAR_LONG)
+                .field("float", FLOAT, DESCENDING)
+                .field("double", DOUBLE)
+                .field("instant", INSTANT, DESCENDING)
+                .field("date", LOCAL_DATE)
+                .field("unicode", STRING, DESCENDING)
+                .build();
+
+        Object[] values = new Object[]{
+                "\u0000zero\u0000", new byte[]{0, 1, 0, (byte) 0xff}, -5, Long.MIN_VALUE, -300L, 1.5f, -0.0d, now,
+                LocalDate.of(1999, 12, 31), "héllo € 😀 \ud800"
+        };
+        byte[] key = all.encode(values);
+        assertThat(key.length, is(all.encodedSize(values)));
+
+        TupleKey.Tuple tuple = all.decode(key);
+        // Read out of order.
+        assertThat(tuple.getLocalDate("date"), is(LocalDate.of(1999, 12, 31)));
+        assertThat(tuple.getString(0), is("\u0000zero\u0000"));
+        assertThat(tuple.getBytes("bytes"), is(new byte[]{0, 1, 0, (byte) 0xff}));
+        assertThat(tuple.getInt("int"), is(-5));
+        assertThat(tuple.getLong("long"), is(Long.MIN_VALUE));
+        assertThat(tuple.getLong("varLong"), is(-300L));
+        assertThat(tuple.getFloat("float"), is(1.5f));
+        assertThat(Double.doubleToLongBits(tuple.getDouble("double")), is(Double.doubleToLongBits(-0.0d)));
+        assertThat(tuple.getInstant("instant"), is(now));
+        assertThat(tuple.getString("unicode"), is("héllo € 😀 ?"));
+        assertThat(tuple.get(2), is((Object) (-5)));
+
+        int offset = 0;
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(tuple.fieldOffset(i), is(offset));
+            offset += tuple.fieldLength(i);
+        }
+        assertThat(offset, is(key.length));
+    }
+
+    @Test
+    public void decimalTest() {
+        TupleKey amounts = TupleKey.builder()
+                .field("amount", DECIMAL, DESCENDING)
+                .field("id", STRING)
+                .build();
+
+        byte[] large = amounts.encode(new BigDecimal("100.50"), "x");
+        byte[] small = amounts.encode(new BigDecimal("-3"), "a");
+        byte[] middle = amounts.encode(new BigDecimal("99.999999999999999999999"), "b");
+        assertThat(ByteComparison.compare(large, middle) < 0, is(true));
+        assertThat(ByteComparison.compare(middle, small) < 0, is(true));
+
+        TupleKey.Tuple tuple = amounts.decode(middle);
+        assertThat(tuple.getString("id"), is("b"));
+        assertThat(tuple.getBigDecimal("amount"), is(new BigDecimal("99.999999999999999999999")));
+        assertThat(amounts.decode(large).get(0), is((Object) new BigDecimal("100.5")));
+    }
+
+    @Test
+    public void encodeIntoBufferTest() {
+        TupleKey simple = TupleKey.builder().field("a", STRING).field("b", INT).build();
+        byte[] buffer = new byte[10];
+        assertThat(simple.encodeTo(buffer, 1, "ab", 1), is(8));
+        assertThat(buffer, is(Hex.decode("00 6162 0001 80000001 00")));
+        assertThat(simple.decode(buffer, 1, 8).getInt(1), is(1));
+    }
+
+    @Test
+    public void orderTest() {
+        List<Object[]> rows = Arrays.asList(
+                new Object[]{"a", 20L, LocalDate.of(2020, 1, 1), new byte[0], 5L, 0.0d},
+                new Object[]{"a", 10L, LocalDate.of(2019, 1, 1), new byte[]{1}, 5L, 0.0d},
+                new Object[]{"a", 10L, LocalDate.of(2020, 1, 1), new byte[]{1}, 5L, 0.0d},
+                new Object[]{"a", 10L, LocalDate.of(2020, 1, 1), new byte[]{0}, 5L, 0.0d},
+                new Object[]{"a", 10L, LocalDate.of(2020, 1, 1), new byte[0], 500L, 0.0d},
+                new Object[]{"a", 10L, LocalDate.of(2020, 1, 1), new byte[0], -5L, -1.0d},
+                new Object[]{"a", 10L, LocalDate.of(2020, 1, 1), new byte[0], -5L, 1.0d},
+                new Object[]{"a", -10L, LocalDate.of(2020, 1, 1), new byte[0], 5L, 0.0d},
+                new Object[]{"a\u0000", 30L, LocalDate.of(2020, 1, 1), new byte[0], 5L, 0.0d},
+                new Object[]{"ab", 30L, LocalDate.of(2020, 1, 1), new byte[0], 5L, 0.0d},
+                new Object[]{"b", 30L, LocalDate.of(2020, 1, 1), new byte[0], 5L, 0.0d}
+        );
+        List<byte[]> keys = new ArrayList<>();
+        for (Object[] row : rows) {
+            keys.add(schema.encode(row));
+        }
+        for (int i = 1; i < keys.size(); i++) {
+            assertThat("Row " + i, ByteComparison.compare(keys.get(i - 1), keys.get(i)) < 0, is(true));
+        }
+    }
+
+    @Test
+    public void prefixTest() {
+        byte[] prefix = schema.encode("a", 10L);
+        byte[] key = schema.encode("a", 10L, LocalDate.of(2020, 1, 1), new byte[0], 5L, 0.0d);
+        assertThat(ByteComparison.startsWith(key, prefix), is(true));
+
+        TupleKey.Tuple tuple = schema.decode(prefix);
+        assertThat(tuple.has(1), is(true));
+        assertThat(tuple.has(2), is(false));
+        assertThat(tuple.has(6), is(false));
+        assertThat(tuple.getLong(1), is(10L));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void absentFieldTest() {
+        schema.decode(schema.encode("a")).getBytes(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongTypeTest() {
+        schema.encode("a", 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullValueTest() {
+        schema.encode("a", null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooManyValuesTest() {
+        TupleKey.builder().field("a", INT).build().encode(1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongFieldTypeDecodeTest() {
+        schema.decode(schema.encode("a")).getLong(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unterminatedTest() {
+        schema.decode(Hex.decode("6162")).getLong(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateFieldTest() {
+        TupleKey.builder().field("a", INT).field("a", LONG);
+    }
+
+    @Test
+    public void toStringTest() {
+        assertThat(TupleKey.builder().field("a", INT).field("b", STRING, DESCENDING).build().toString(),
+                is("TupleKey(a INT, b STRING DESC)"));
+    }
+}